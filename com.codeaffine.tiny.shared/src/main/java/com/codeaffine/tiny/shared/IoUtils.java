@@ -60,6 +60,28 @@ public class IoUtils {
         }
     }
 
+    /**
+     * Creates a temporary directory with the specified prefix within the given parent directory.
+     *
+     * @param parentDirectory The directory in which the temporary directory gets created. Must not be null.
+     * @param directoryNamePrefix The prefix for the temporary directory name. Must not be null or empty.
+     * @return The created temporary directory as a {@link File} object.
+     * @throws IllegalArgumentException If the provided prefix is empty or if an error occurs during directory creation.
+     */
+    public static File createTemporaryDirectory(@NonNull File parentDirectory, @NonNull String directoryNamePrefix)
+        throws IllegalArgumentException
+    {
+        if(directoryNamePrefix.isEmpty()) {
+            throw new IllegalArgumentException(ERROR_DIRECTORY_NAME_PREFIX_IS_EMPTY);
+        }
+        try {
+            return createTempDirectory(parentDirectory.toPath(), directoryNamePrefix + "-") // NOSONAR: creation of temporary directory is intended
+                .toFile();
+        } catch (Exception cause) {
+            throw new IllegalArgumentException(format(ERROR_UNABLE_TO_CREATE_TEMPORARY_DIRECTORY, directoryNamePrefix), cause);
+        }
+    }
+
     /**
      * Deletes the specified directory and all its contents.
      *
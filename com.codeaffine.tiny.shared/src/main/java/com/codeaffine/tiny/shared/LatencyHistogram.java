@@ -0,0 +1,284 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.shared;
+
+import lombok.NonNull;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import static java.lang.Long.numberOfLeadingZeros;
+import static java.lang.Math.ceil;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.lang.Runtime.getRuntime;
+import static java.lang.String.format;
+
+/**
+ * <p>A concurrent, fixed-memory histogram of latency values, typically measured in nanoseconds. Values are assigned to log-linear
+ * buckets: values below {@code 64} are counted exactly, above that each power of two is divided into {@code 32} buckets, which
+ * bounds the relative error of reported values to about three percent. Values up to {@link #HIGHEST_TRACKABLE_VALUE}, i.e. more than
+ * an hour if measured in nanoseconds, are tracked. Larger values are counted in the highest bucket, negative values are counted as
+ * zero.</p>
+ *
+ * <p>Recording neither allocates nor locks. The buckets are striped, i.e. each stripe holds its own set of counters and recording
+ * threads are spread over the stripes by their thread id. The memory footprint is fixed at construction time and amounts to roughly
+ * ten kilobytes per stripe.</p>
+ *
+ * <p>Evaluation works on immutable {@link Snapshot}s, which may be taken with or without resetting the histogram and can be merged,
+ * e.g. to aggregate the histograms of several entry points.</p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * The highest value that is tracked with bucket resolution. Larger values are counted in the highest bucket.
+     */
+    public static final long HIGHEST_TRACKABLE_VALUE = (1L << 42) - 1L;
+
+    static final int SUB_BUCKET_BITS = 6;
+    static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    static final int SUB_BUCKET_HALF_COUNT = SUB_BUCKET_COUNT >> 1;
+    static final int BUCKET_COUNT = bucketIndexOf(HIGHEST_TRACKABLE_VALUE) + 1;
+    static final int MAXIMUM_STRIPE_COUNT = 64;
+    static final String ERROR_INVALID_STRIPE_COUNT = "Stripe count must be positive, but was %s.";
+    static final String ERROR_INVALID_PERCENTILE = "Percentile must be within [0, 100], but was %s.";
+
+    private static final int SUM_SLOT = BUCKET_COUNT;
+    private static final int MAX_SLOT = BUCKET_COUNT + 1;
+    private static final int STRIPE_LENGTH = BUCKET_COUNT + 2;
+    private static final long THREAD_ID_MIXER = 0x9E3779B97F4A7C15L;
+
+    private final AtomicLongArray slots;
+    private final int stripeMask;
+
+    /**
+     * <p>An immutable view of the values recorded by a {@link LatencyHistogram}.</p>
+     */
+    public static final class Snapshot {
+
+        /**
+         * A snapshot without any recorded values. Merging a snapshot with this one yields an equivalent snapshot.
+         */
+        public static final Snapshot EMPTY = new Snapshot(new long[BUCKET_COUNT], 0L, 0L);
+
+        private final long[] counts;
+        private final long count;
+        private final long sum;
+        private final long max;
+
+        Snapshot(long[] counts, long sum, long max) {
+            this.counts = counts;
+            this.sum = sum;
+            this.max = max;
+            long total = 0L;
+            for (long bucketCount : counts) {
+                total += bucketCount;
+            }
+            this.count = total;
+        }
+
+        /**
+         * provides the number of recorded values.
+         *
+         * @return the number of recorded values.
+         */
+        public long getCount() {
+            return count;
+        }
+
+        /**
+         * provides the sum of all recorded values.
+         *
+         * @return the sum of all recorded values.
+         */
+        public long getSum() {
+            return sum;
+        }
+
+        /**
+         * provides the largest recorded value.
+         *
+         * @return the largest recorded value or {@code 0} if no value has been recorded.
+         */
+        public long getMax() {
+            return max;
+        }
+
+        /**
+         * provides the arithmetic mean of all recorded values.
+         *
+         * @return the arithmetic mean of all recorded values or {@code 0} if no value has been recorded.
+         */
+        public double getMean() {
+            return count == 0L ? 0.0 : (double) sum / count;
+        }
+
+        /**
+         * provides the value below or at which the given percentage of recorded values fall. The result is the highest value of the
+         * bucket the percentile falls into, but never exceeds {@link #getMax()}.
+         *
+         * @param percentile the percentile in the range of {@code 0} to {@code 100}, e.g. {@code 99.9}.
+         * @return the value at the given percentile or {@code 0} if no value has been recorded.
+         * @throws IllegalArgumentException if the percentile is out of range.
+         */
+        public long getValueAtPercentile(double percentile) {
+            if (percentile < 0.0 || percentile > 100.0 || Double.isNaN(percentile)) {
+                throw new IllegalArgumentException(format(ERROR_INVALID_PERCENTILE, percentile));
+            }
+            if (count == 0L) {
+                return 0L;
+            }
+            long rank = max(1L, (long) ceil(percentile / 100.0 * count));
+            long seen = 0L;
+            for (int index = 0; index < counts.length; index++) {
+                seen += counts[index];
+                if (seen >= rank) {
+                    return min(highestValueOf(index), max);
+                }
+            }
+            return max;
+        }
+
+        /**
+         * provides the number of recorded values that are less than or equal to the given value, within bucket resolution. This is
+         * what cumulative histogram formats like the one of Prometheus expect per bucket boundary.
+         *
+         * @param value the upper bound of the values to count.
+         * @return the number of recorded values less than or equal to the given value.
+         */
+        public long getCountAtOrBelow(long value) {
+            if (value < 0L) {
+                return 0L;
+            }
+            int limit = bucketIndexOf(min(value, HIGHEST_TRACKABLE_VALUE));
+            long result = 0L;
+            for (int index = 0; index <= limit; index++) {
+                result += counts[index];
+            }
+            return result;
+        }
+
+        /**
+         * merges this snapshot with the given one.
+         *
+         * @param other the snapshot to merge with. Must not be {@code null}.
+         * @return a new snapshot that contains the values of both snapshots.
+         */
+        public Snapshot merge(@NonNull Snapshot other) {
+            long[] mergedCounts = new long[BUCKET_COUNT];
+            for (int index = 0; index < BUCKET_COUNT; index++) {
+                mergedCounts[index] = counts[index] + other.counts[index];
+            }
+            return new Snapshot(mergedCounts, sum + other.sum, max(max, other.max));
+        }
+    }
+
+    /**
+     * Creates a new instance with one stripe per available processor, rounded up to the next power of two.
+     */
+    public LatencyHistogram() {
+        this(getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new instance with the given number of stripes, rounded up to the next power of two and limited to
+     * {@value #MAXIMUM_STRIPE_COUNT}.
+     *
+     * @param stripeCount the number of stripes to spread recording threads over. Must be positive.
+     * @throws IllegalArgumentException if the stripe count is not positive.
+     */
+    public LatencyHistogram(int stripeCount) {
+        if (stripeCount < 1) {
+            throw new IllegalArgumentException(format(ERROR_INVALID_STRIPE_COUNT, stripeCount));
+        }
+        int limitedStripeCount = min(stripeCount, MAXIMUM_STRIPE_COUNT);
+        int stripes = Integer.highestOneBit(limitedStripeCount);
+        if (stripes < limitedStripeCount) {
+            stripes <<= 1;
+        }
+        this.slots = new AtomicLongArray(stripes * STRIPE_LENGTH);
+        this.stripeMask = stripes - 1;
+    }
+
+    /**
+     * records the given value.
+     *
+     * @param value the value to record, typically a duration in nanoseconds.
+     */
+    public void record(long value) {
+        long normalized = max(value, 0L);
+        int offset = stripeOffset();
+        slots.getAndIncrement(offset + bucketIndexOf(min(normalized, HIGHEST_TRACKABLE_VALUE)));
+        slots.getAndAdd(offset + SUM_SLOT, normalized);
+        if (normalized > slots.get(offset + MAX_SLOT)) {
+            slots.accumulateAndGet(offset + MAX_SLOT, normalized, Math::max);
+        }
+    }
+
+    /**
+     * takes a snapshot of the values recorded so far.
+     *
+     * @return a snapshot of the values recorded so far. Never {@code null}.
+     */
+    public Snapshot snapshot() {
+        return createSnapshot(false);
+    }
+
+    /**
+     * takes a snapshot of the values recorded so far and resets the histogram. Each value recorded concurrently is contained either in
+     * the returned snapshot or in the next one.
+     *
+     * @return a snapshot of the values recorded since the last reset. Never {@code null}.
+     */
+    public Snapshot snapshotAndReset() {
+        return createSnapshot(true);
+    }
+
+    int getStripeCount() {
+        return stripeMask + 1;
+    }
+
+    static int bucketIndexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        int shift = Long.SIZE - numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return shift * SUB_BUCKET_HALF_COUNT + (int) (value >>> shift);
+    }
+
+    static long highestValueOf(int bucketIndex) {
+        if (bucketIndex < SUB_BUCKET_COUNT) {
+            return bucketIndex;
+        }
+        int shift = bucketIndex / SUB_BUCKET_HALF_COUNT - 1;
+        long subBucket = bucketIndex - (long) shift * SUB_BUCKET_HALF_COUNT;
+        return ((subBucket + 1L) << shift) - 1L;
+    }
+
+    private int stripeOffset() {
+        long mixed = Thread.currentThread().threadId() * THREAD_ID_MIXER;
+        return (int) (mixed >>> 32 & stripeMask) * STRIPE_LENGTH;
+    }
+
+    private Snapshot createSnapshot(boolean reset) {
+        long[] counts = new long[BUCKET_COUNT];
+        long sum = 0L;
+        long max = 0L;
+        for (int offset = 0; offset < slots.length(); offset += STRIPE_LENGTH) {
+            for (int index = 0; index < BUCKET_COUNT; index++) {
+                counts[index] += read(offset + index, reset);
+            }
+            sum += read(offset + SUM_SLOT, reset);
+            max = max(max, read(offset + MAX_SLOT, reset));
+        }
+        return new Snapshot(counts, sum, max);
+    }
+
+    private long read(int slot, boolean reset) {
+        return reset ? slots.getAndSet(slot, 0L) : slots.get(slot);
+    }
+}
@@ -75,6 +75,46 @@ class IoUtilsTest {
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void createTemporaryDirectoryInParentDirectory() {
+        File parentDirectory = IoUtils.createTemporaryDirectory(directoryNamePrefix);
+
+        File actual = IoUtils.createTemporaryDirectory(parentDirectory, directoryNamePrefix);
+
+        assertThat(actual)
+            .exists()
+            .hasParent(parentDirectory)
+            .isDirectory();
+        assertThat(actual.getName())
+            .startsWith(directoryNamePrefix);
+        IoUtils.deleteDirectory(parentDirectory); // housekeeping only, not part of the test
+    }
+
+    @Test
+    void createTemporaryDirectoryInNonExistingParentDirectory() {
+        File parentDirectory = new File(tmpDir, directoryNamePrefix);
+
+        Exception actual = catchException(() -> IoUtils.createTemporaryDirectory(parentDirectory, directoryNamePrefix));
+
+        assertThat(actual)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(directoryNamePrefix);
+    }
+
+    @Test
+    void createTemporaryDirectoryInParentDirectoryWithEmptyDirectoryNamePrefix() {
+        Exception actual = catchException(() -> IoUtils.createTemporaryDirectory(tmpDir, ""));
+
+        assertThat(actual)
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void createTemporaryDirectoryWithNullAsParentDirectoryArgument() {
+        assertThatThrownBy(() -> IoUtils.createTemporaryDirectory(null, directoryNamePrefix))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     void deleteDirectory() {
         File directoryToDelete = IoUtils.createTemporaryDirectory(directoryNamePrefix);
@@ -0,0 +1,239 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.shared;
+
+import com.codeaffine.tiny.shared.LatencyHistogram.Snapshot;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.stream.LongStream;
+
+import static com.codeaffine.tiny.shared.LatencyHistogram.*;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.*;
+
+class LatencyHistogramTest {
+
+    private static final double RELATIVE_ERROR = 1.0 / SUB_BUCKET_HALF_COUNT;
+
+    private LatencyHistogram histogram;
+
+    @BeforeEach
+    void setUp() {
+        histogram = new LatencyHistogram();
+    }
+
+    @Test
+    void record() {
+        histogram.record(10L);
+        histogram.record(20L);
+        histogram.record(30L);
+
+        Snapshot actual = histogram.snapshot();
+
+        assertThat(actual.getCount()).isEqualTo(3L);
+        assertThat(actual.getSum()).isEqualTo(60L);
+        assertThat(actual.getMax()).isEqualTo(30L);
+        assertThat(actual.getMean()).isEqualTo(20.0);
+    }
+
+    @Test
+    void recordNegativeValue() {
+        histogram.record(-5L);
+
+        Snapshot actual = histogram.snapshot();
+
+        assertThat(actual.getCount()).isOne();
+        assertThat(actual.getSum()).isZero();
+        assertThat(actual.getValueAtPercentile(100.0)).isZero();
+    }
+
+    @Test
+    void recordValueAboveHighestTrackableValue() {
+        long value = HIGHEST_TRACKABLE_VALUE * 2L;
+
+        histogram.record(value);
+
+        Snapshot actual = histogram.snapshot();
+        assertThat(actual.getCount()).isOne();
+        assertThat(actual.getMax()).isEqualTo(value);
+        assertThat(actual.getCountAtOrBelow(HIGHEST_TRACKABLE_VALUE)).isOne();
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "50.0, 500000",
+        "90.0, 900000",
+        "99.0, 990000",
+        "99.9, 999000",
+        "100.0, 1000000"
+    })
+    void getValueAtPercentile(double percentile, long expected) {
+        LongStream.rangeClosed(1L, 1000L).forEach(value -> histogram.record(value * 1000L));
+
+        long actual = histogram.snapshot().getValueAtPercentile(percentile);
+
+        assertThat(actual).isCloseTo(expected, withinPercentage(RELATIVE_ERROR * 100.0));
+    }
+
+    @Test
+    void getValueAtPercentileOfExactlyTrackedValues() {
+        LongStream.range(0L, SUB_BUCKET_COUNT).forEach(histogram::record);
+
+        long actual = histogram.snapshot().getValueAtPercentile(50.0);
+
+        assertThat(actual).isEqualTo(SUB_BUCKET_COUNT / 2 - 1);
+    }
+
+    @Test
+    void getValueAtPercentileWithoutRecordedValues() {
+        long actual = histogram.snapshot().getValueAtPercentile(99.0);
+
+        assertThat(actual).isZero();
+    }
+
+    @ParameterizedTest
+    @ValueSource(doubles = { -1.0, 100.1, Double.NaN })
+    void getValueAtPercentileWithInvalidPercentile(double percentile) {
+        Snapshot snapshot = histogram.snapshot();
+
+        assertThatThrownBy(() -> snapshot.getValueAtPercentile(percentile))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(format(ERROR_INVALID_PERCENTILE, percentile));
+    }
+
+    @Test
+    void getCountAtOrBelow() {
+        LongStream.rangeClosed(1L, 100L).forEach(histogram::record);
+        Snapshot snapshot = histogram.snapshot();
+
+        assertThat(snapshot.getCountAtOrBelow(-1L)).isZero();
+        assertThat(snapshot.getCountAtOrBelow(10L)).isEqualTo(10L);
+        assertThat(snapshot.getCountAtOrBelow(Long.MAX_VALUE)).isEqualTo(100L);
+    }
+
+    @Test
+    void snapshotAndReset() {
+        histogram.record(42L);
+
+        Snapshot actual = histogram.snapshotAndReset();
+
+        assertThat(actual.getCount()).isOne();
+        assertThat(actual.getMax()).isEqualTo(42L);
+        assertThat(histogram.snapshot().getCount()).isZero();
+        assertThat(histogram.snapshot().getMax()).isZero();
+        assertThat(histogram.snapshot().getSum()).isZero();
+    }
+
+    @Test
+    void merge() {
+        LatencyHistogram other = new LatencyHistogram();
+        histogram.record(10L);
+        other.record(1000L);
+        other.record(2000L);
+
+        Snapshot actual = histogram.snapshot().merge(other.snapshot());
+
+        assertThat(actual.getCount()).isEqualTo(3L);
+        assertThat(actual.getSum()).isEqualTo(3010L);
+        assertThat(actual.getMax()).isEqualTo(2000L);
+        assertThat(actual.getValueAtPercentile(0.0)).isEqualTo(10L);
+    }
+
+    @Test
+    void mergeWithEmptySnapshot() {
+        histogram.record(10L);
+        Snapshot snapshot = histogram.snapshot();
+
+        Snapshot actual = Snapshot.EMPTY.merge(snapshot);
+
+        assertThat(actual.getCount()).isEqualTo(snapshot.getCount());
+        assertThat(actual.getSum()).isEqualTo(snapshot.getSum());
+        assertThat(actual.getMax()).isEqualTo(snapshot.getMax());
+    }
+
+    @Test
+    void mergeWithNullAsOtherArgument() {
+        Snapshot snapshot = histogram.snapshot();
+
+        assertThatThrownBy(() -> snapshot.merge(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void recordConcurrently() throws InterruptedException {
+        int threadCount = 8;
+        int recordsPerThread = 10_000;
+        LatencyHistogram concurrentHistogram = new LatencyHistogram(threadCount);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int i = 0; i < threadCount; i++) {
+            threads.add(Thread.ofPlatform().start(() -> {
+                awaitQuietly(start);
+                for (int value = 1; value <= recordsPerThread; value++) {
+                    concurrentHistogram.record(value);
+                }
+            }));
+        }
+
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        Snapshot actual = concurrentHistogram.snapshot();
+        assertThat(actual.getCount()).isEqualTo((long) threadCount * recordsPerThread);
+        assertThat(actual.getMax()).isEqualTo(recordsPerThread);
+    }
+
+    @Test
+    void bucketBoundaries() {
+        for (int index = 0; index < BUCKET_COUNT - 1; index++) {
+            long highestValue = highestValueOf(index);
+
+            assertThat(bucketIndexOf(highestValue)).isEqualTo(index);
+            assertThat(bucketIndexOf(highestValue + 1L)).isEqualTo(index + 1);
+        }
+        assertThat(highestValueOf(BUCKET_COUNT - 1)).isEqualTo(HIGHEST_TRACKABLE_VALUE);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "1, 1",
+        "3, 4",
+        "8, 8",
+        "1000, 64"
+    })
+    void construct(int stripeCount, int expectedStripeCount) {
+        LatencyHistogram actual = new LatencyHistogram(stripeCount);
+
+        assertThat(actual.getStripeCount()).isEqualTo(expectedStripeCount);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = { 0, -1 })
+    void constructWithInvalidStripeCount(int stripeCount) {
+        assertThatThrownBy(() -> new LatencyHistogram(stripeCount))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(format(ERROR_INVALID_STRIPE_COUNT, stripeCount));
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException cause) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -12,13 +12,17 @@ import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
 
+import static java.lang.Boolean.TRUE;
 import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PACKAGE;
 
 @RequiredArgsConstructor(access = PACKAGE)
 class ConnectorRegistrar {
 
+    static final String PROPERTY_USE_VIRTUAL_THREADS = "useVirtualThreads";
+
     @NonNull
     private final Tomcat tomcat;
     @NonNull
@@ -34,9 +38,15 @@ class ConnectorRegistrar {
         Connector connector = new Connector();
         connector.setPort(configuration.getPort());
         tomcat.getHost().setName(configuration.getHost());
+        if (configuration.isVirtualThreadsEnabled()) {
+            connector.setProperty(PROPERTY_USE_VIRTUAL_THREADS, TRUE.toString());
+        }
         if (nonNull(configuration.getSecureSocketLayerConfiguration())) {
             sslConnectorConfigurator.configureSsl(connector);
         }
+        if (configuration.isHttp2Enabled()) {
+            connector.addUpgradeProtocol(new Http2Protocol());
+        }
         tomcat.getService().addConnector(connector);
     }
 }
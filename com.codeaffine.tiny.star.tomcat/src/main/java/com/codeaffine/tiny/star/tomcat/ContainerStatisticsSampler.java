@@ -0,0 +1,62 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.Context;
+import org.apache.catalina.Manager;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+
+import java.util.function.ToLongFunction;
+
+import static com.codeaffine.tiny.star.spi.ContainerStatistics.UNAVAILABLE;
+import static java.lang.Math.max;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ContainerStatisticsSampler {
+
+    @NonNull
+    private final Tomcat tomcat;
+
+    ContainerStatistics sample(@NonNull Context context) {
+        Manager manager = context.getManager();
+        Connector[] connectors = tomcat.getService().findConnectors();
+        return new ContainerStatistics(
+            isNull(manager) ? UNAVAILABLE : manager.getActiveSessions(),
+            isNull(manager) ? UNAVAILABLE : manager.getSessionCounter(),
+            sum(connectors, ContainerStatisticsSampler::countConnections),
+            sum(connectors, handler -> handler.getExecutor() instanceof ThreadPoolExecutor pool ? pool.getActiveCount() : UNAVAILABLE),
+            sum(connectors, handler -> handler.getExecutor() instanceof ThreadPoolExecutor pool ? pool.getPoolSize() : UNAVAILABLE),
+            sum(connectors, handler -> handler.getExecutor() instanceof ThreadPoolExecutor pool ? pool.getMaximumPoolSize() : UNAVAILABLE),
+            sum(connectors, handler -> handler.getExecutor() instanceof ThreadPoolExecutor pool ? pool.getQueue().size() : UNAVAILABLE)
+        );
+    }
+
+    private static long countConnections(ProtocolHandler handler) {
+        return handler instanceof AbstractProtocol<?> protocol ? protocol.getConnectionCount() : UNAVAILABLE;
+    }
+
+    private static long sum(Connector[] connectors, ToLongFunction<ProtocolHandler> statistic) {
+        long result = UNAVAILABLE;
+        for (Connector connector : connectors) {
+            long value = statistic.applyAsLong(connector.getProtocolHandler());
+            if (value != UNAVAILABLE) {
+                result = max(result, 0L) + value;
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,85 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.apache.catalina.Context;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static com.codeaffine.tiny.star.tomcat.Texts.ERROR_TOMCAT_NOT_STARTED;
+import static com.codeaffine.tiny.star.tomcat.Texts.ERROR_WORKER_POOL_NOT_TUNABLE;
+import static java.lang.Math.max;
+import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ContainerTunables implements RuntimeTunables {
+
+    @NonNull
+    private final Tomcat tomcat;
+
+    private final AtomicReference<Context> contextHolder = new AtomicReference<>();
+
+    void bind(@NonNull Context context) {
+        contextHolder.set(context);
+    }
+
+    void unbind() {
+        contextHolder.set(null);
+    }
+
+    @Override
+    public int getMaximumWorkerPoolSize() {
+        int result = UNSUPPORTED;
+        for (AbstractProtocol<?> protocol : findTunableProtocols()) {
+            result = max(result, protocol.getMaxThreads());
+        }
+        return result;
+    }
+
+    @Override
+    public void setMaximumWorkerPoolSize(int maximumWorkerPoolSize) {
+        List<AbstractProtocol<?>> protocols = findTunableProtocols();
+        if (protocols.isEmpty()) {
+            throw new UnsupportedOperationException(ERROR_WORKER_POOL_NOT_TUNABLE);
+        }
+        protocols.forEach(protocol -> protocol.setMaxThreads(maximumWorkerPoolSize));
+    }
+
+    @Override
+    public int getSessionTimeout() {
+        Context context = contextHolder.get();
+        return isNull(context) ? UNSUPPORTED : context.getSessionTimeout();
+    }
+
+    @Override
+    public void setSessionTimeout(int sessionTimeout) {
+        Context context = contextHolder.get();
+        if (isNull(context)) {
+            throw new IllegalStateException(ERROR_TOMCAT_NOT_STARTED);
+        }
+        context.setSessionTimeout(sessionTimeout);
+    }
+
+    private List<AbstractProtocol<?>> findTunableProtocols() {
+        return stream(tomcat.getService().findConnectors())
+            .map(Connector::getProtocolHandler)
+            .filter(AbstractProtocol.class::isInstance)
+            .<AbstractProtocol<?>>map(AbstractProtocol.class::cast)
+            .filter(protocol -> protocol.getMaxThreads() != UNSUPPORTED)
+            .toList();
+    }
+}
@@ -11,7 +11,9 @@ import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.catalina.Context;
+import org.apache.catalina.WebResourceRoot;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.catalina.webresources.StandardRoot;
 
 import java.io.File;
 
@@ -23,6 +25,8 @@ class ContextRegistrar {
 
     static final String CONTEXT_PATH = "";
     static final String DOC_BASE = "doc-base";
+    static final int RESOURCE_CACHE_OBJECT_SIZE_RATIO = 20; // tomcat limits the size of cacheable objects to a twentieth of the cache size
+    static final long RESOURCE_CACHE_TTL = 5000L;
 
     @NonNull
     private final ServerConfiguration configuration;
@@ -37,6 +41,19 @@ class ContextRegistrar {
         tomcat.setBaseDir(configuration.getWorkingDirectory().getAbsolutePath());
         Context result = tomcat.addContext(CONTEXT_PATH, docBase.getAbsolutePath());
         result.setSessionTimeout(configuration.getSessionTimeout());
+        if (configuration.getResourceCacheSize() > 0) {
+            result.setResources(createResources(result));
+        }
+        return result;
+    }
+
+    private WebResourceRoot createResources(Context context) {
+        StandardRoot result = new StandardRoot(context);
+        int resourceCacheSize = configuration.getResourceCacheSize();
+        result.setCachingAllowed(true);
+        result.setCacheMaxSize(resourceCacheSize);
+        result.setCacheObjectMaxSize(resourceCacheSize / RESOURCE_CACHE_OBJECT_SIZE_RATIO);
+        result.setCacheTtl(RESOURCE_CACHE_TTL);
         return result;
     }
 }
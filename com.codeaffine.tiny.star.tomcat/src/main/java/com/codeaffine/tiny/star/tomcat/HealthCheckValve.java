@@ -0,0 +1,46 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import jakarta.servlet.ServletException;
+import lombok.NonNull;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+import java.io.IOException;
+
+import static com.codeaffine.tiny.star.spi.HealthCheck.CONTENT_TYPE;
+import static java.util.Objects.isNull;
+
+class HealthCheckValve extends ValveBase {
+
+    static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    static final String CACHE_CONTROL_NO_STORE = "no-store";
+
+    private final HealthCheck healthCheck;
+
+    HealthCheckValve(@NonNull HealthCheck healthCheck) {
+        super(true);
+        this.healthCheck = healthCheck;
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        HealthCheck.Response healthCheckResponse = healthCheck.check(request.getDecodedRequestURI());
+        if (isNull(healthCheckResponse)) {
+            getNext().invoke(request, response);
+            return;
+        }
+        response.setStatus(healthCheckResponse.statusCode());
+        response.setContentType(CONTENT_TYPE);
+        response.setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_NO_STORE);
+        response.getWriter().write(healthCheckResponse.body());
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import jakarta.servlet.ServletException;
+import lombok.NonNull;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static jakarta.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+
+class RequestDrainValve extends ValveBase {
+
+    static final String HEADER_CONNECTION = "Connection";
+    static final String CONNECTION_CLOSE = "close";
+
+    private final AtomicInteger activeRequests;
+    private final Object monitor;
+
+    private volatile boolean draining;
+
+    RequestDrainValve() {
+        super(true);
+        this.activeRequests = new AtomicInteger();
+        this.monitor = new Object();
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        if (draining) {
+            response.setHeader(HEADER_CONNECTION, CONNECTION_CLOSE);
+            response.sendError(SC_SERVICE_UNAVAILABLE);
+            return;
+        }
+        activeRequests.incrementAndGet();
+        try {
+            getNext().invoke(request, response);
+        } finally {
+            onRequestCompleted();
+        }
+    }
+
+    int drain(@NonNull Duration timeout) {
+        draining = true;
+        long deadline = nanoTime() + timeout.toNanos();
+        synchronized (monitor) {
+            long remaining = deadline - nanoTime();
+            while (activeRequests.get() > 0 && remaining > 0) {
+                awaitRequestCompletion(remaining);
+                remaining = deadline - nanoTime();
+            }
+        }
+        return activeRequests.get();
+    }
+
+    void resume() {
+        draining = false;
+    }
+
+    int getActiveRequests() {
+        return activeRequests.get();
+    }
+
+    private void awaitRequestCompletion(long remainingNanos) {
+        try {
+            monitor.wait(max(1L, NANOSECONDS.toMillis(remainingNanos)));
+        } catch (InterruptedException cause) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void onRequestCompleted() {
+        if (activeRequests.decrementAndGet() == 0) {
+            synchronized (monitor) {
+                monitor.notifyAll();
+            }
+        }
+    }
+}
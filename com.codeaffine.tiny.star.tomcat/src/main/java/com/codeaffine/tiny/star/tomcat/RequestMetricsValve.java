@@ -0,0 +1,49 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import jakarta.servlet.ServletException;
+import lombok.NonNull;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.apache.catalina.valves.ValveBase;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import static com.codeaffine.tiny.star.spi.MetricsCollector.OTHER_PATHS;
+import static java.lang.System.nanoTime;
+
+class RequestMetricsValve extends ValveBase {
+
+    private final MetricsCollector metricsCollector;
+    private final Set<String> entryPointPaths;
+
+    RequestMetricsValve(@NonNull MetricsCollector metricsCollector, @NonNull Set<String> entryPointPaths) {
+        super(true);
+        this.metricsCollector = metricsCollector;
+        this.entryPointPaths = entryPointPaths;
+    }
+
+    @Override
+    public void invoke(Request request, Response response) throws IOException, ServletException {
+        long start = nanoTime();
+        try {
+            getNext().invoke(request, response);
+        } finally {
+            String entryPointPath = resolveEntryPointPath(request.getDecodedRequestURI());
+            metricsCollector.requestCompleted(entryPointPath, response.getStatus(), Duration.ofNanos(nanoTime() - start));
+        }
+    }
+
+    private String resolveEntryPointPath(String requestPath) {
+        return entryPointPaths.contains(requestPath) ? requestPath : OTHER_PATHS;
+    }
+}
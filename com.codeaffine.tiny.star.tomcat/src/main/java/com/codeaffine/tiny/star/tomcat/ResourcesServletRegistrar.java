@@ -7,10 +7,16 @@
  */
 package com.codeaffine.tiny.star.tomcat;
 
+import com.codeaffine.tiny.star.spi.ServerConfiguration;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
 import org.apache.catalina.Context;
 import org.apache.catalina.Wrapper;
 import org.apache.catalina.servlets.DefaultServlet;
 
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
 class ResourcesServletRegistrar {
 
     static final String SERVLET_NAME = "default";
@@ -20,17 +26,24 @@ class ResourcesServletRegistrar {
     static final String INIT_PARAMETER_LISTINGS = "listings";
     static final String INIT_VALUE_DEBUG = "0";
     static final String INIT_VALUE_LISTINGS = "false";
+    static final String INIT_PARAMETER_PRECOMPRESSED = "precompressed";
+    static final String INIT_VALUE_PRECOMPRESSED = "gzip=.gz";
     static final String PATTERN = "/";
 
-    void addResourcesServlet(Context context) {
+    @NonNull
+    private final ServerConfiguration configuration;
+
+    void addResourcesServlet(@NonNull Context context) {
         Wrapper defaultServlet = context.createWrapper();
         defaultServlet.setName(SERVLET_NAME);
         defaultServlet.setServletClass(SERVLET_CLASS_NAME);
         defaultServlet.addInitParameter(INIT_PARAMETER_DEBUG, INIT_VALUE_DEBUG);
         defaultServlet.addInitParameter(INIT_PARAMETER_LISTINGS, INIT_VALUE_LISTINGS);
+        if (configuration.isResourcePrecompressionEnabled()) {
+            defaultServlet.addInitParameter(INIT_PARAMETER_PRECOMPRESSED, INIT_VALUE_PRECOMPRESSED);
+        }
         defaultServlet.setLoadOnStartup(LOAD_ON_STARTUP);
         context.addChild(defaultServlet);
         context.addServletMappingDecoded(PATTERN, SERVLET_NAME);
     }
-
 }
@@ -7,6 +7,8 @@
  */
 package com.codeaffine.tiny.star.tomcat;
 
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
 import com.codeaffine.tiny.star.spi.Server;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import jakarta.servlet.ServletContext;
@@ -16,7 +18,10 @@ import lombok.RequiredArgsConstructor;
 import org.apache.catalina.Context;
 import org.apache.catalina.startup.Tomcat;
 
+import java.time.Duration;
+
 import static com.codeaffine.tiny.star.tomcat.Texts.SERVER_NAME;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 import static java.util.logging.Level.SEVERE;
 import static java.util.logging.Logger.getLogger;
@@ -38,6 +43,12 @@ class ServerImpl implements Server {
     @NonNull
     private final TomcatLifeCycleControl tomcatLifeCycleControl;
     @NonNull
+    private final RequestDrainValve requestDrainValve;
+    @NonNull
+    private final ContainerStatisticsSampler containerStatisticsSampler;
+    @NonNull
+    private final ContainerTunables containerTunables;
+    @NonNull
     private final ServerConfiguration configuration;
 
     private Context context;
@@ -51,10 +62,13 @@ class ServerImpl implements Server {
         this(
             new ContextRegistrar(configuration, tomcat),
             new ConnectorRegistrar(tomcat, configuration),
-            new ResourcesServletRegistrar(),
+            new ResourcesServletRegistrar(configuration),
             new RwtServletRegistrar(tomcat, configuration),
             new FilterRegistrar(configuration),
             new TomcatLifeCycleControl(tomcat),
+            new RequestDrainValve(),
+            new ContainerStatisticsSampler(tomcat),
+            new ContainerTunables(tomcat),
             configuration
         );
     }
@@ -71,12 +85,54 @@ class ServerImpl implements Server {
         resourcesServletRegistrar.addResourcesServlet(context);
         rwtServletRegistrar.addRwtServlet(context);
         filterRegistrar.addFilters(context);
+        if (nonNull(configuration.getHealthCheck())) {
+            context.getPipeline().addValve(new HealthCheckValve(configuration.getHealthCheck()));
+        }
+        MetricsCollector metricsCollector = configuration.getMetricsCollector();
+        if (nonNull(metricsCollector)) {
+            context.getPipeline().addValve(new RequestMetricsValve(metricsCollector, configuration.getEntryPointPaths()));
+        }
+        context.getPipeline().addValve(requestDrainValve);
         tomcatLifeCycleControl.startTomcat();
+        containerTunables.bind(context);
+        if (nonNull(metricsCollector)) {
+            Context startedContext = context;
+            metricsCollector.bindContainerStatistics(() -> containerStatisticsSampler.sample(startedContext));
+        }
+    }
+
+    @Override
+    public int drain(Duration timeout) {
+        if (isNull(context)) {
+            return 0;
+        }
+        if (isNull(configuration.getHealthCheck())) {
+            // health probes are answered ahead of the drain valve, so connectors are only paused if there are no probes to serve
+            tomcatLifeCycleControl.pauseTomcat();
+        }
+        return requestDrainValve.drain(timeout);
+    }
+
+    @Override
+    public void resume() {
+        if (nonNull(context)) {
+            requestDrainValve.resume();
+            tomcatLifeCycleControl.resumeTomcat();
+        }
+    }
+
+    @Override
+    public RuntimeTunables getRuntimeTunables() {
+        return containerTunables;
     }
 
     @Override
     public void stop() {
+        containerTunables.unbind();
         if (nonNull(context)) {
+            if (nonNull(configuration.getMetricsCollector())) {
+                configuration.getMetricsCollector().unbindContainerStatistics();
+            }
             // is it really necessary to destroy the context manually? Could not find a better way to do it.
             ServletContext servletContext = context.getServletContext();
             configuration.getContextListener().contextDestroyed(new ServletContextEvent(servletContext));
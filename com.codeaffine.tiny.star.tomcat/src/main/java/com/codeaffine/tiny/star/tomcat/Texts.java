@@ -17,5 +17,7 @@ class Texts {
     static final String ERROR_CREATE_DOC_BASE = "Could not create doc base: %s.";
     static final String ERROR_STARTING_TOMCAT = "Unable to start embedded tomcat.";
     static final String ERROR_STOPPING_TOMCAT = "Unable to stop embedded tomcat.";
+    static final String ERROR_WORKER_POOL_NOT_TUNABLE = "The worker pool of the embedded tomcat cannot be resized at runtime.";
+    static final String ERROR_TOMCAT_NOT_STARTED = "Embedded tomcat has not been started.";
     static final String SERVER_NAME = "Tomcat";
 }
@@ -10,6 +10,7 @@ package com.codeaffine.tiny.star.tomcat;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 import org.apache.catalina.LifecycleException;
+import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
 
 import static com.codeaffine.tiny.star.tomcat.Texts.ERROR_STARTING_TOMCAT;
@@ -30,6 +31,18 @@ class TomcatLifeCycleControl {
         }
     }
 
+    void pauseTomcat() {
+        for (Connector connector : tomcat.getService().findConnectors()) {
+            connector.pause();
+        }
+    }
+
+    void resumeTomcat() {
+        for (Connector connector : tomcat.getService().findConnectors()) {
+            connector.resume();
+        }
+    }
+
     void stopTomcat() {
         try {
             tomcat.stop();
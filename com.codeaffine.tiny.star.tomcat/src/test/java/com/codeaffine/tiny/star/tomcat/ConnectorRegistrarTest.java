@@ -12,6 +12,7 @@ import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import org.apache.catalina.Service;
 import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.http2.Http2Protocol;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 
@@ -19,6 +20,7 @@ import java.io.InputStream;
 import java.util.function.Supplier;
 
 import static com.codeaffine.tiny.star.test.fixtures.ApplicationServerTestHelper.*;
+import static com.codeaffine.tiny.star.tomcat.ConnectorRegistrar.PROPERTY_USE_VIRTUAL_THREADS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentCaptor.forClass;
@@ -37,6 +39,22 @@ class ConnectorRegistrarTest {
         verify(tomcat.getService()).addConnector(captor.capture());
         assertThat(captor.getValue().getPort()).isEqualTo(PORT);
         assertThat(captor.getValue().getScheme()).isEqualTo("http");
+        assertThat(captor.getValue().getProperty(PROPERTY_USE_VIRTUAL_THREADS)).isEqualTo(false);
+        assertThat(captor.getValue().findUpgradeProtocols()).isEmpty();
+    }
+
+    @Test
+    void addConnectorWithVirtualThreadsEnabled() {
+        Tomcat tomcat = stubTomcatWithServiceSpy(Tomcat::new);
+        ServerConfiguration configuration = stubServerConfiguration(HOST, PORT);
+        when(configuration.isVirtualThreadsEnabled()).thenReturn(true);
+        ConnectorRegistrar connectorRegistrar = new ConnectorRegistrar(tomcat, configuration);
+
+        connectorRegistrar.addConnector();
+
+        ArgumentCaptor<Connector> captor = forClass(Connector.class);
+        verify(tomcat.getService()).addConnector(captor.capture());
+        assertThat(captor.getValue().getProperty(PROPERTY_USE_VIRTUAL_THREADS)).isEqualTo(true);
     }
 
     @Test
@@ -55,6 +73,41 @@ class ConnectorRegistrarTest {
         assertThat(captor.getValue().getScheme()).isEqualTo(SslConnectorConfigurator.SCHEME);
     }
 
+    @Test
+    void addConnectorWithHttp2Enabled() {
+        Tomcat tomcat = stubTomcatWithServiceSpy(Tomcat::new);
+        ServerConfiguration configuration = stubServerConfiguration(HOST, PORT);
+        when(configuration.isHttp2Enabled()).thenReturn(true);
+        ConnectorRegistrar connectorRegistrar = new ConnectorRegistrar(tomcat, configuration);
+
+        connectorRegistrar.addConnector();
+
+        ArgumentCaptor<Connector> captor = forClass(Connector.class);
+        verify(tomcat.getService()).addConnector(captor.capture());
+        assertThat(captor.getValue().findUpgradeProtocols())
+            .hasSize(1)
+            .allSatisfy(upgradeProtocol -> assertThat(upgradeProtocol).isInstanceOf(Http2Protocol.class));
+    }
+
+    @Test
+    void addConnectorWithSslAndHttp2Enabled() {
+        Tomcat tomcat = stubTomcatWithServiceSpy(Tomcat::new);
+        InputStream keyStore = getClass().getClassLoader().getResourceAsStream("tiny.jks");
+        SecureSocketLayerConfiguration sslConfiguration = new SecureSocketLayerConfiguration(keyStore, KEY_STORE_PASSWORD, KEY_ALIAS, KEY_PASSWORD);
+        ServerConfiguration configuration = stubServerConfiguration(HOST, PORT, sslConfiguration);
+        when(configuration.isHttp2Enabled()).thenReturn(true);
+        ConnectorRegistrar connectorRegistrar = new ConnectorRegistrar(tomcat, configuration);
+
+        connectorRegistrar.addConnector();
+
+        ArgumentCaptor<Connector> captor = forClass(Connector.class);
+        verify(tomcat.getService()).addConnector(captor.capture());
+        assertThat(captor.getValue().getScheme()).isEqualTo(SslConnectorConfigurator.SCHEME);
+        assertThat(captor.getValue().findUpgradeProtocols())
+            .hasSize(1)
+            .allSatisfy(upgradeProtocol -> assertThat(upgradeProtocol).isInstanceOf(Http2Protocol.class));
+    }
+
     @Test
     void constructWithNullAsTomcatArgument() {
         assertThatThrownBy(() -> new ConnectorRegistrar(null, CONFIGURATION))
@@ -0,0 +1,141 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import org.apache.catalina.Context;
+import org.apache.catalina.Manager;
+import org.apache.catalina.Service;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.apache.tomcat.util.threads.ThreadPoolExecutor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+
+import static com.codeaffine.tiny.star.spi.ContainerStatistics.UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContainerStatisticsSamplerTest {
+
+    private ContainerStatisticsSampler sampler;
+    private Context context;
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        Tomcat tomcat = mock(Tomcat.class);
+        service = mock(Service.class);
+        when(tomcat.getService()).thenReturn(service);
+        context = mock(Context.class);
+        sampler = new ContainerStatisticsSampler(tomcat);
+    }
+
+    @Test
+    void sample() {
+        stubManager(3, 7L);
+        ThreadPoolExecutor pool = stubThreadPoolExecutor();
+        stubConnectors(stubProtocolHandler(12L, pool));
+
+        ContainerStatistics actual = sampler.sample(context);
+
+        assertThat(actual).isEqualTo(new ContainerStatistics(3L, 7L, 12L, 4L, 10L, 200L, 2L));
+    }
+
+    @Test
+    void sampleWithoutThreadPoolExecutor() {
+        stubManager(3, 7L);
+        stubConnectors(stubProtocolHandler(12L, mock(Executor.class)));
+
+        ContainerStatistics actual = sampler.sample(context);
+
+        assertThat(actual).isEqualTo(new ContainerStatistics(3L, 7L, 12L, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE));
+    }
+
+    @Test
+    void sampleWithoutManager() {
+        stubConnectors(stubProtocolHandler(12L, stubThreadPoolExecutor()));
+
+        ContainerStatistics actual = sampler.sample(context);
+
+        assertThat(actual.activeSessions()).isEqualTo(UNAVAILABLE);
+        assertThat(actual.createdSessions()).isEqualTo(UNAVAILABLE);
+    }
+
+    @Test
+    void sampleWithoutConnectors() {
+        stubManager(3, 7L);
+        stubConnectors();
+
+        ContainerStatistics actual = sampler.sample(context);
+
+        assertThat(actual).isEqualTo(new ContainerStatistics(3L, 7L, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE));
+    }
+
+    @Test
+    void sampleWithNonAbstractProtocolHandler() {
+        stubConnectors(mock(ProtocolHandler.class));
+
+        ContainerStatistics actual = sampler.sample(context);
+
+        assertThat(actual.activeConnections()).isEqualTo(UNAVAILABLE);
+    }
+
+    @Test
+    void sampleWithNullAsContextArgument() {
+        assertThatThrownBy(() -> sampler.sample(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsTomcatArgument() {
+        assertThatThrownBy(() -> new ContainerStatisticsSampler(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private void stubManager(int activeSessions, long sessionCounter) {
+        Manager manager = mock(Manager.class);
+        when(manager.getActiveSessions()).thenReturn(activeSessions);
+        when(manager.getSessionCounter()).thenReturn(sessionCounter);
+        when(context.getManager()).thenReturn(manager);
+    }
+
+    private void stubConnectors(ProtocolHandler... protocolHandlers) {
+        Connector[] connectors = new Connector[protocolHandlers.length];
+        for (int i = 0; i < protocolHandlers.length; i++) {
+            connectors[i] = mock(Connector.class);
+            when(connectors[i].getProtocolHandler()).thenReturn(protocolHandlers[i]);
+        }
+        when(service.findConnectors()).thenReturn(connectors);
+    }
+
+    @SuppressWarnings("rawtypes")
+    private static ProtocolHandler stubProtocolHandler(long connectionCount, Executor executor) {
+        AbstractProtocol result = mock(AbstractProtocol.class);
+        when(result.getConnectionCount()).thenReturn(connectionCount);
+        when(result.getExecutor()).thenReturn(executor);
+        return result;
+    }
+
+    private static ThreadPoolExecutor stubThreadPoolExecutor() {
+        ThreadPoolExecutor result = mock(ThreadPoolExecutor.class);
+        when(result.getActiveCount()).thenReturn(4);
+        when(result.getPoolSize()).thenReturn(10);
+        when(result.getMaximumPoolSize()).thenReturn(200);
+        when(result.getQueue()).thenReturn(new LinkedBlockingQueue<>(List.of(() -> {}, () -> {})));
+        return result;
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import org.apache.catalina.Context;
+import org.apache.catalina.Service;
+import org.apache.catalina.connector.Connector;
+import org.apache.catalina.startup.Tomcat;
+import org.apache.coyote.AbstractProtocol;
+import org.apache.coyote.ProtocolHandler;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.codeaffine.tiny.star.spi.RuntimeTunables.UNSUPPORTED;
+import static com.codeaffine.tiny.star.tomcat.Texts.ERROR_TOMCAT_NOT_STARTED;
+import static com.codeaffine.tiny.star.tomcat.Texts.ERROR_WORKER_POOL_NOT_TUNABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ContainerTunablesTest {
+
+    private ContainerTunables tunables;
+    private Service service;
+
+    @BeforeEach
+    void setUp() {
+        Tomcat tomcat = mock(Tomcat.class);
+        service = mock(Service.class);
+        when(tomcat.getService()).thenReturn(service);
+        tunables = new ContainerTunables(tomcat);
+    }
+
+    @Test
+    void getMaximumWorkerPoolSize() {
+        stubConnectors(stubProtocol(200), stubProtocol(UNSUPPORTED));
+
+        int actual = tunables.getMaximumWorkerPoolSize();
+
+        assertThat(actual).isEqualTo(200);
+    }
+
+    @Test
+    void getMaximumWorkerPoolSizeWithoutTunableProtocol() {
+        stubConnectors(stubProtocol(UNSUPPORTED), mock(ProtocolHandler.class));
+
+        int actual = tunables.getMaximumWorkerPoolSize();
+
+        assertThat(actual).isEqualTo(UNSUPPORTED);
+    }
+
+    @Test
+    void setMaximumWorkerPoolSize() {
+        AbstractProtocol<?> tunable = stubProtocol(200);
+        AbstractProtocol<?> untunable = stubProtocol(UNSUPPORTED);
+        stubConnectors(tunable, untunable);
+
+        tunables.setMaximumWorkerPoolSize(100);
+
+        verify(tunable).setMaxThreads(100);
+        verify(untunable, never()).setMaxThreads(anyInt());
+    }
+
+    @Test
+    void setMaximumWorkerPoolSizeWithoutTunableProtocol() {
+        stubConnectors(stubProtocol(UNSUPPORTED));
+
+        assertThatThrownBy(() -> tunables.setMaximumWorkerPoolSize(100))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage(ERROR_WORKER_POOL_NOT_TUNABLE);
+    }
+
+    @Test
+    void getSessionTimeout() {
+        Context context = mock(Context.class);
+        when(context.getSessionTimeout()).thenReturn(15);
+        tunables.bind(context);
+
+        int actual = tunables.getSessionTimeout();
+
+        assertThat(actual).isEqualTo(15);
+    }
+
+    @Test
+    void getSessionTimeoutIfNotBound() {
+        int actual = tunables.getSessionTimeout();
+
+        assertThat(actual).isEqualTo(UNSUPPORTED);
+    }
+
+    @Test
+    void setSessionTimeout() {
+        Context context = mock(Context.class);
+        tunables.bind(context);
+
+        tunables.setSessionTimeout(30);
+
+        verify(context).setSessionTimeout(30);
+    }
+
+    @Test
+    void setSessionTimeoutIfUnbound() {
+        Context context = mock(Context.class);
+        tunables.bind(context);
+        tunables.unbind();
+
+        assertThatThrownBy(() -> tunables.setSessionTimeout(30))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(ERROR_TOMCAT_NOT_STARTED);
+        verify(context, never()).setSessionTimeout(anyInt());
+    }
+
+    @Test
+    void bindWithNullAsContextArgument() {
+        assertThatThrownBy(() -> tunables.bind(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsTomcatArgument() {
+        assertThatThrownBy(() -> new ContainerTunables(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private void stubConnectors(ProtocolHandler... protocolHandlers) {
+        Connector[] connectors = new Connector[protocolHandlers.length];
+        for (int i = 0; i < protocolHandlers.length; i++) {
+            connectors[i] = mock(Connector.class);
+            when(connectors[i].getProtocolHandler()).thenReturn(protocolHandlers[i]);
+        }
+        when(service.findConnectors()).thenReturn(connectors);
+    }
+
+    private static AbstractProtocol<?> stubProtocol(int maxThreads) {
+        AbstractProtocol<?> result = mock(AbstractProtocol.class);
+        when(result.getMaxThreads()).thenReturn(maxThreads);
+        return result;
+    }
+}
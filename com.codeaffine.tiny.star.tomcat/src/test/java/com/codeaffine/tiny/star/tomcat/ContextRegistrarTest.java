@@ -9,6 +9,7 @@ package com.codeaffine.tiny.star.tomcat;
 
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import org.apache.catalina.Context;
+import org.apache.catalina.WebResourceRoot;
 import org.apache.catalina.startup.Tomcat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -18,11 +19,15 @@ import java.io.File;
 
 import static com.codeaffine.tiny.star.ApplicationServer.DEFAULT_SESSION_TIMEOUT;
 import static com.codeaffine.tiny.star.test.fixtures.ApplicationServerTestHelper.stubServerConfiguration;
+import static com.codeaffine.tiny.star.tomcat.ContextRegistrar.RESOURCE_CACHE_OBJECT_SIZE_RATIO;
+import static com.codeaffine.tiny.star.tomcat.ContextRegistrar.RESOURCE_CACHE_TTL;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class ContextRegistrarTest {
 
+    private static final int RESOURCE_CACHE_SIZE = 20480;
+
     @TempDir
     private File workingDirectory;
     private Tomcat tomcat;
@@ -43,9 +48,25 @@ class ContextRegistrarTest {
         assertThat(actual.getDocBase()).isEqualTo(expectedDocBasePath());
         assertThat(new File(actual.getDocBase())).exists();
         assertThat(actual.getSessionTimeout()).isEqualTo(DEFAULT_SESSION_TIMEOUT);
+        assertThat(actual.getResources()).isNull();
             verify(tomcat).setBaseDir(workingDirectory.getAbsolutePath());
     }
 
+    @Test
+    void addContextWithResourceCacheEnabled() {
+        ServerConfiguration configuration = stubServerConfiguration(workingDirectory);
+        when(configuration.getResourceCacheSize()).thenReturn(RESOURCE_CACHE_SIZE);
+        ContextRegistrar registrar = new ContextRegistrar(configuration, tomcat);
+
+        Context actual = registrar.addContext();
+
+        WebResourceRoot resources = actual.getResources();
+        assertThat(resources.isCachingAllowed()).isTrue();
+        assertThat(resources.getCacheMaxSize()).isEqualTo(RESOURCE_CACHE_SIZE);
+        assertThat(resources.getCacheObjectMaxSize()).isEqualTo(RESOURCE_CACHE_SIZE / RESOURCE_CACHE_OBJECT_SIZE_RATIO);
+        assertThat(resources.getCacheTtl()).isEqualTo(RESOURCE_CACHE_TTL);
+    }
+
     @Test
     void addContextIfDocBaseAlreadyExists() {
         boolean successCreatingDocBase = expectedDocBase().mkdirs();
@@ -0,0 +1,95 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.PrintWriter;
+import java.io.StringWriter;
+
+import static com.codeaffine.tiny.star.spi.HealthCheck.CONTENT_TYPE;
+import static com.codeaffine.tiny.star.spi.HealthCheck.READINESS_PATH;
+import static com.codeaffine.tiny.star.tomcat.HealthCheckValve.CACHE_CONTROL_NO_STORE;
+import static com.codeaffine.tiny.star.tomcat.HealthCheckValve.HEADER_CACHE_CONTROL;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class HealthCheckValveTest {
+
+    private static final String BODY = "{\"status\":\"UP\"}";
+    private static final String ENTRY_POINT_PATH = "/ui";
+
+    private HealthCheck healthCheck;
+    private HealthCheckValve valve;
+    private StringWriter body;
+    private Response response;
+    private Request request;
+    private Valve next;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        healthCheck = mock(HealthCheck.class);
+        next = mock(Valve.class);
+        request = mock(Request.class);
+        response = mock(Response.class);
+        body = new StringWriter();
+        when(response.getWriter()).thenReturn(new PrintWriter(body, true));
+        valve = new HealthCheckValve(healthCheck);
+        valve.setNext(next);
+    }
+
+    @Test
+    void invoke() throws Exception {
+        when(request.getDecodedRequestURI()).thenReturn(READINESS_PATH);
+        when(healthCheck.check(READINESS_PATH)).thenReturn(new HealthCheck.Response(200, BODY));
+
+        valve.invoke(request, response);
+
+        verify(response).setStatus(200);
+        verify(response).setContentType(CONTENT_TYPE);
+        verify(response).setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_NO_STORE);
+        assertThat(body.toString()).isEqualTo(BODY);
+        verifyNoInteractions(next);
+    }
+
+    @Test
+    void invokeWithNonHealthCheckPath() throws Exception {
+        when(request.getDecodedRequestURI()).thenReturn(ENTRY_POINT_PATH);
+
+        valve.invoke(request, response);
+
+        verify(next).invoke(request, response);
+        verifyNoInteractions(response);
+    }
+
+    @Test
+    void getNext() {
+        Valve actual = valve.getNext();
+
+        assertThat(actual).isSameAs(next);
+    }
+
+    @Test
+    void isAsyncSupported() {
+        boolean actual = valve.isAsyncSupported();
+
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void constructWithNullAsHealthCheckArgument() {
+        assertThatThrownBy(() -> new HealthCheckValve(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
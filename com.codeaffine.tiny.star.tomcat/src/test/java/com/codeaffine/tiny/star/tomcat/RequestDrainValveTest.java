@@ -0,0 +1,153 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+
+import static com.codeaffine.tiny.star.tomcat.RequestDrainValve.CONNECTION_CLOSE;
+import static com.codeaffine.tiny.star.tomcat.RequestDrainValve.HEADER_CONNECTION;
+import static jakarta.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static java.time.Duration.ofMillis;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class RequestDrainValveTest {
+
+    private RequestDrainValve valve;
+    private Response response;
+    private Request request;
+    private Valve next;
+
+    @BeforeEach
+    void setUp() {
+        next = mock(Valve.class);
+        request = mock(Request.class);
+        response = mock(Response.class);
+        valve = new RequestDrainValve();
+        valve.setNext(next);
+    }
+
+    @Test
+    void invoke() throws Exception {
+        valve.invoke(request, response);
+
+        verify(next).invoke(request, response);
+        assertThat(valve.getActiveRequests()).isZero();
+    }
+
+    @Test
+    void invokeWithProblem() throws Exception {
+        RuntimeException expected = new RuntimeException();
+        doThrow(expected).when(next).invoke(request, response);
+
+        Exception actual = catchException(() -> valve.invoke(request, response));
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(valve.getActiveRequests()).isZero();
+    }
+
+    @Test
+    void invokeWhileDraining() throws Exception {
+        valve.drain(ofMillis(0L));
+
+        valve.invoke(request, response);
+
+        verify(response).setHeader(HEADER_CONNECTION, CONNECTION_CLOSE);
+        verify(response).sendError(SC_SERVICE_UNAVAILABLE);
+        verifyNoInteractions(next);
+    }
+
+    @Test
+    void invokeAfterResume() throws Exception {
+        valve.drain(ofMillis(0L));
+        valve.resume();
+
+        valve.invoke(request, response);
+
+        verify(next).invoke(request, response);
+        verify(response, never()).sendError(anyInt());
+    }
+
+    @Test
+    void drain() {
+        int actual = valve.drain(ofSeconds(1L));
+
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void drainWaitsForActiveRequests() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            requestStarted.countDown();
+            Thread.sleep(50L);
+            return null;
+        }).when(next).invoke(request, response);
+        Thread requestThread = Thread.ofVirtual().start(() -> invokeQuietly(request, response));
+        requestStarted.await();
+
+        int actual = valve.drain(ofSeconds(10L));
+
+        assertThat(actual).isZero();
+        requestThread.join();
+    }
+
+    @Test
+    void drainReturnsNumberOfRequestsExceedingTimeout() throws Exception {
+        CountDownLatch requestStarted = new CountDownLatch(1);
+        CountDownLatch requestReleased = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            requestStarted.countDown();
+            requestReleased.await();
+            return null;
+        }).when(next).invoke(request, response);
+        Thread requestThread = Thread.ofVirtual().start(() -> invokeQuietly(request, response));
+        requestStarted.await();
+
+        int actual = valve.drain(ofMillis(10L));
+        requestReleased.countDown();
+
+        assertThat(actual).isOne();
+        requestThread.join();
+    }
+
+    @Test
+    void drainWithNullAsTimeoutArgument() {
+        assertThatThrownBy(() -> valve.drain(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getNext() {
+        Valve actual = valve.getNext();
+
+        assertThat(actual).isSameAs(next);
+    }
+
+    @Test
+    void isAsyncSupported() {
+        boolean actual = valve.isAsyncSupported();
+
+        assertThat(actual).isTrue();
+    }
+
+    private void invokeQuietly(Request request, Response response) {
+        try {
+            valve.invoke(request, response);
+        } catch (Exception cause) {
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.tomcat;
+
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import org.apache.catalina.Valve;
+import org.apache.catalina.connector.Request;
+import org.apache.catalina.connector.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+
+import static com.codeaffine.tiny.star.spi.MetricsCollector.OTHER_PATHS;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class RequestMetricsValveTest {
+
+    private static final String ENTRY_POINT_PATH = "/ui";
+    private static final String RESOURCE_PATH = "/rwt-resources/rap-client.js";
+
+    private MetricsCollector metricsCollector;
+    private RequestMetricsValve valve;
+    private Response response;
+    private Request request;
+    private Valve next;
+
+    @BeforeEach
+    void setUp() {
+        metricsCollector = mock(MetricsCollector.class);
+        next = mock(Valve.class);
+        request = mock(Request.class);
+        response = mock(Response.class);
+        valve = new RequestMetricsValve(metricsCollector, Set.of(ENTRY_POINT_PATH));
+        valve.setNext(next);
+    }
+
+    @Test
+    void invoke() throws Exception {
+        when(request.getDecodedRequestURI()).thenReturn(ENTRY_POINT_PATH);
+        when(response.getStatus()).thenReturn(200);
+
+        valve.invoke(request, response);
+
+        verify(next).invoke(request, response);
+        verify(metricsCollector).requestCompleted(eq(ENTRY_POINT_PATH), eq(200), any(Duration.class));
+    }
+
+    @Test
+    void invokeWithNonEntryPointPath() throws Exception {
+        when(request.getDecodedRequestURI()).thenReturn(RESOURCE_PATH);
+        when(response.getStatus()).thenReturn(304);
+
+        valve.invoke(request, response);
+
+        verify(metricsCollector).requestCompleted(eq(OTHER_PATHS), eq(304), any(Duration.class));
+    }
+
+    @Test
+    void invokeIfNextValveFails() throws Exception {
+        IOException expected = new IOException();
+        doThrow(expected).when(next).invoke(request, response);
+        when(request.getDecodedRequestURI()).thenReturn(ENTRY_POINT_PATH);
+        when(response.getStatus()).thenReturn(500);
+
+        Exception actual = catchException(() -> valve.invoke(request, response));
+
+        assertThat(actual).isSameAs(expected);
+        verify(metricsCollector).requestCompleted(eq(ENTRY_POINT_PATH), eq(500), any(Duration.class));
+    }
+
+    @Test
+    void getNext() {
+        Valve actual = valve.getNext();
+
+        assertThat(actual).isSameAs(next);
+    }
+
+    @Test
+    void isAsyncSupported() {
+        boolean actual = valve.isAsyncSupported();
+
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void constructWithNullAsMetricsCollectorArgument() {
+        Set<String> entryPointPaths = Set.of(ENTRY_POINT_PATH);
+
+        assertThatThrownBy(() -> new RequestMetricsValve(null, entryPointPaths))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsEntryPointPathsArgument() {
+        assertThatThrownBy(() -> new RequestMetricsValve(metricsCollector, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
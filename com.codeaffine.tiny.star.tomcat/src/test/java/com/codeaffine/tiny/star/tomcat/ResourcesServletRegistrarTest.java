@@ -7,6 +7,7 @@
  */
 package com.codeaffine.tiny.star.tomcat;
 
+import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import org.apache.catalina.Context;
 import org.apache.catalina.Wrapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,11 +18,13 @@ import static org.mockito.Mockito.*;
 
 class ResourcesServletRegistrarTest {
 
+    private ServerConfiguration configuration;
     private ResourcesServletRegistrar registrar;
 
     @BeforeEach
     void setUp() {
-        registrar = new ResourcesServletRegistrar();
+        configuration = mock(ServerConfiguration.class);
+        registrar = new ResourcesServletRegistrar(configuration);
     }
 
     @Test
@@ -38,6 +41,18 @@ class ResourcesServletRegistrarTest {
         verify(wrapper).setLoadOnStartup(ResourcesServletRegistrar.LOAD_ON_STARTUP);
         verify(context).addChild(wrapper);
         verify(context).addServletMappingDecoded(ResourcesServletRegistrar.PATTERN, ResourcesServletRegistrar.SERVLET_NAME);
+        verify(wrapper, never()).addInitParameter(eq(ResourcesServletRegistrar.INIT_PARAMETER_PRECOMPRESSED), anyString());
+    }
+
+    @Test
+    void addResourcesServletWithResourcePrecompressionEnabled() {
+        when(configuration.isResourcePrecompressionEnabled()).thenReturn(true);
+        Wrapper wrapper = mock(Wrapper.class);
+        Context context = stubContext(wrapper);
+
+        registrar.addResourcesServlet(context);
+
+        verify(wrapper).addInitParameter(ResourcesServletRegistrar.INIT_PARAMETER_PRECOMPRESSED, ResourcesServletRegistrar.INIT_VALUE_PRECOMPRESSED);
     }
 
     @Test
@@ -46,6 +61,12 @@ class ResourcesServletRegistrarTest {
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void constructWithNullAsConfigurationArgument() {
+        assertThatThrownBy(() -> new ResourcesServletRegistrar(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     private static Context stubContext(Wrapper wrapper) {
         Context result = mock(Context.class);
         when(result.createWrapper()).thenReturn(wrapper);
@@ -7,18 +7,28 @@
  */
 package com.codeaffine.tiny.star.tomcat;
 
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import jakarta.servlet.ServletContext;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletContextListener;
 import org.apache.catalina.Context;
+import org.apache.catalina.Pipeline;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
+import java.time.Duration;
+import java.util.Set;
+import java.util.function.Supplier;
+
 import static com.codeaffine.tiny.star.tomcat.Texts.SERVER_NAME;
 import static org.assertj.core.api.Assertions.assertThat;
+import static java.time.Duration.ofSeconds;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.Mockito.*;
 
@@ -31,6 +41,9 @@ class ServerImplTest {
     private ContextRegistrar contextRegistrar;
     private ServerConfiguration configuration;
     private FilterRegistrar filterRegistrar;
+    private RequestDrainValve requestDrainValve;
+    private ContainerStatisticsSampler containerStatisticsSampler;
+    private ContainerTunables containerTunables;
     private ServerImpl server;
 
     @BeforeEach
@@ -41,6 +54,9 @@ class ServerImplTest {
         rwtServletRegistrar = mock(RwtServletRegistrar.class);
         lifeCycleControl = mock(TomcatLifeCycleControl.class);
         filterRegistrar = mock(FilterRegistrar.class);
+        requestDrainValve = mock(RequestDrainValve.class);
+        containerStatisticsSampler = mock(ContainerStatisticsSampler.class);
+        containerTunables = mock(ContainerTunables.class);
         configuration = stubConfiguration();
         server = new ServerImpl(
             contextRegistrar,
@@ -49,6 +65,9 @@ class ServerImplTest {
             rwtServletRegistrar,
             filterRegistrar,
             lifeCycleControl,
+            requestDrainValve,
+            containerStatisticsSampler,
+            containerTunables,
             configuration
         );
     }
@@ -60,14 +79,71 @@ class ServerImplTest {
 
         server.start();
 
-        InOrder order = inOrder(contextRegistrar, connectorRegistrar, resourcesServletRegistrar, rwtServletRegistrar, filterRegistrar, lifeCycleControl);
+        Pipeline pipeline = context.getPipeline();
+        InOrder order = inOrder(contextRegistrar, connectorRegistrar, resourcesServletRegistrar, rwtServletRegistrar, filterRegistrar, pipeline, lifeCycleControl);
         order.verify(contextRegistrar).addContext();
         order.verify(connectorRegistrar).addConnector();
         order.verify(resourcesServletRegistrar).addResourcesServlet(context);
         order.verify(rwtServletRegistrar).addRwtServlet(context);
         order.verify(filterRegistrar).addFilters(context);
+        order.verify(pipeline).addValve(requestDrainValve);
         order.verify(lifeCycleControl).startTomcat();
         order.verifyNoMoreInteractions();
+        verify(containerTunables).bind(context);
+    }
+
+    @Test
+    void startWithHealthCheck() {
+        when(configuration.getHealthCheck()).thenReturn(mock(HealthCheck.class));
+        Context context = stubContext();
+        stubContextRegistrarAddContext(context);
+
+        server.start();
+
+        Pipeline pipeline = context.getPipeline();
+        InOrder order = inOrder(filterRegistrar, pipeline, lifeCycleControl);
+        order.verify(filterRegistrar).addFilters(context);
+        order.verify(pipeline).addValve(any(HealthCheckValve.class));
+        order.verify(pipeline).addValve(requestDrainValve);
+        order.verify(lifeCycleControl).startTomcat();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void startWithMetricsCollector() {
+        MetricsCollector metricsCollector = mock(MetricsCollector.class);
+        when(configuration.getMetricsCollector()).thenReturn(metricsCollector);
+        when(configuration.getEntryPointPaths()).thenReturn(Set.of("/ui"));
+        ContainerStatistics expected = new ContainerStatistics(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+        Context context = stubContext();
+        when(containerStatisticsSampler.sample(context)).thenReturn(expected);
+        stubContextRegistrarAddContext(context);
+
+        server.start();
+
+        Pipeline pipeline = context.getPipeline();
+        InOrder order = inOrder(filterRegistrar, pipeline, lifeCycleControl, metricsCollector);
+        order.verify(filterRegistrar).addFilters(context);
+        order.verify(pipeline).addValve(any(RequestMetricsValve.class));
+        order.verify(pipeline).addValve(requestDrainValve);
+        order.verify(lifeCycleControl).startTomcat();
+        ArgumentCaptor<Supplier<ContainerStatistics>> captor = forClass(Supplier.class);
+        order.verify(metricsCollector).bindContainerStatistics(captor.capture());
+        assertThat(captor.getValue().get()).isSameAs(expected);
+    }
+
+    @Test
+    void stopWithMetricsCollector() {
+        MetricsCollector metricsCollector = mock(MetricsCollector.class);
+        when(configuration.getMetricsCollector()).thenReturn(metricsCollector);
+        stubContextRegistrarAddContext(stubContext());
+        server.start();
+
+        server.stop();
+
+        InOrder order = inOrder(metricsCollector, lifeCycleControl);
+        order.verify(metricsCollector).unbindContainerStatistics();
+        order.verify(lifeCycleControl).stopTomcat();
     }
 
     @Test
@@ -79,11 +155,75 @@ class ServerImplTest {
         server.stop();
 
         verify(lifeCycleControl).stopTomcat();
+        verify(containerTunables).unbind();
         ArgumentCaptor<ServletContextEvent> eventCaptor = forClass(ServletContextEvent.class);
         verify(configuration.getContextListener()).contextDestroyed(eventCaptor.capture());
         assertThat(eventCaptor.getValue().getServletContext()).isSameAs(context.getServletContext());
     }
 
+    @Test
+    void drain() {
+        Duration timeout = ofSeconds(5L);
+        when(requestDrainValve.drain(timeout)).thenReturn(2);
+        stubContextRegistrarAddContext(stubContext());
+        server.start();
+
+        int actual = server.drain(timeout);
+
+        assertThat(actual).isEqualTo(2);
+        InOrder order = inOrder(lifeCycleControl, requestDrainValve);
+        order.verify(lifeCycleControl).pauseTomcat();
+        order.verify(requestDrainValve).drain(timeout);
+    }
+
+    @Test
+    void drainWithHealthCheck() {
+        Duration timeout = ofSeconds(5L);
+        when(configuration.getHealthCheck()).thenReturn(mock(HealthCheck.class));
+        stubContextRegistrarAddContext(stubContext());
+        server.start();
+
+        server.drain(timeout);
+
+        verify(lifeCycleControl, never()).pauseTomcat();
+        verify(requestDrainValve).drain(timeout);
+    }
+
+    @Test
+    void drainIfNotStarted() {
+        int actual = server.drain(ofSeconds(5L));
+
+        assertThat(actual).isZero();
+        verifyNoInteractions(lifeCycleControl, requestDrainValve);
+    }
+
+    @Test
+    void resume() {
+        stubContextRegistrarAddContext(stubContext());
+        server.start();
+        server.drain(ofSeconds(5L));
+
+        server.resume();
+
+        InOrder order = inOrder(lifeCycleControl, requestDrainValve);
+        order.verify(requestDrainValve).resume();
+        order.verify(lifeCycleControl).resumeTomcat();
+    }
+
+    @Test
+    void resumeIfNotStarted() {
+        server.resume();
+
+        verifyNoInteractions(lifeCycleControl, requestDrainValve);
+    }
+
+    @Test
+    void getRuntimeTunables() {
+        RuntimeTunables actual = server.getRuntimeTunables();
+
+        assertThat(actual).isSameAs(containerTunables);
+    }
+
     @Test
     void getName() {
         String actual = server.getName();
@@ -104,8 +244,10 @@ class ServerImplTest {
 
     private static Context stubContext() {
         ServletContext servletContext = mock(ServletContext.class);
+        Pipeline pipeline = mock(Pipeline.class);
         Context result = mock(Context.class);
         when(result.getServletContext()).thenReturn(servletContext);
+        when(result.getPipeline()).thenReturn(pipeline);
         return result;
     }
 }
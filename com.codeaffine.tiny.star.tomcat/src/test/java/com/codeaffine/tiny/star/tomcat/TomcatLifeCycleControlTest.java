@@ -8,6 +8,8 @@
 package com.codeaffine.tiny.star.tomcat;
 
 import org.apache.catalina.LifecycleException;
+import org.apache.catalina.Service;
+import org.apache.catalina.connector.Connector;
 import org.apache.catalina.startup.Tomcat;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +38,30 @@ class TomcatLifeCycleControlTest {
         verify(tomcat).start();
     }
 
+    @Test
+    void pauseTomcat() {
+        Connector connector = mock(Connector.class);
+        Service service = mock(Service.class);
+        when(service.findConnectors()).thenReturn(new Connector[] { connector });
+        when(tomcat.getService()).thenReturn(service);
+
+        control.pauseTomcat();
+
+        verify(connector).pause();
+    }
+
+    @Test
+    void resumeTomcat() {
+        Connector connector = mock(Connector.class);
+        Service service = mock(Service.class);
+        when(service.findConnectors()).thenReturn(new Connector[] { connector });
+        when(tomcat.getService()).thenReturn(service);
+
+        control.resumeTomcat();
+
+        verify(connector).resume();
+    }
+
     @Test
     void stopTomcat() throws LifecycleException {
         control.stopTomcat();
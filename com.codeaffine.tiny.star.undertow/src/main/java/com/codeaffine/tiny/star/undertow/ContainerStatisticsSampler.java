@@ -0,0 +1,59 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import io.undertow.Undertow;
+import io.undertow.server.ConnectorStatistics;
+import io.undertow.server.session.SessionManagerStatistics;
+import io.undertow.servlet.api.Deployment;
+import lombok.NonNull;
+import org.xnio.XnioWorker;
+import org.xnio.management.XnioWorkerMXBean;
+
+import static com.codeaffine.tiny.star.spi.ContainerStatistics.UNAVAILABLE;
+import static java.lang.Math.max;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class ContainerStatisticsSampler {
+
+    ContainerStatistics sample(@NonNull Undertow undertow, @NonNull Deployment deployment) {
+        SessionManagerStatistics sessionStatistics = deployment.getSessionManager().getStatistics();
+        XnioWorkerMXBean workerStatistics = getWorkerStatistics(undertow, deployment);
+        return new ContainerStatistics(
+            isNull(sessionStatistics) ? UNAVAILABLE : sessionStatistics.getActiveSessionCount(),
+            isNull(sessionStatistics) ? UNAVAILABLE : sessionStatistics.getCreatedSessionCount(),
+            countActiveConnections(undertow),
+            isNull(workerStatistics) ? UNAVAILABLE : workerStatistics.getBusyWorkerThreadCount(),
+            isNull(workerStatistics) ? UNAVAILABLE : workerStatistics.getWorkerPoolSize(),
+            isNull(workerStatistics) ? UNAVAILABLE : workerStatistics.getMaxWorkerPoolSize(),
+            isNull(workerStatistics) ? UNAVAILABLE : workerStatistics.getWorkerQueueSize()
+        );
+    }
+
+    private static XnioWorkerMXBean getWorkerStatistics(Undertow undertow, Deployment deployment) {
+        // requests dispatched to a dedicated executor, e.g. virtual threads, do not occupy the threads of the XNIO worker pool
+        XnioWorker worker = undertow.getWorker();
+        if (isNull(worker) || nonNull(deployment.getDeploymentInfo().getExecutor())) {
+            return null;
+        }
+        return worker.getMXBean();
+    }
+
+    private static long countActiveConnections(Undertow undertow) {
+        long result = UNAVAILABLE;
+        for (Undertow.ListenerInfo listenerInfo : undertow.getListenerInfo()) {
+            ConnectorStatistics connectorStatistics = listenerInfo.getConnectorStatistics();
+            if (nonNull(connectorStatistics)) {
+                result = max(result, 0L) + connectorStatistics.getActiveConnections();
+            }
+        }
+        return result;
+    }
+}
@@ -0,0 +1,86 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
+import io.undertow.Undertow;
+import io.undertow.servlet.api.Deployment;
+import io.undertow.servlet.api.DeploymentInfo;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.xnio.XnioWorker;
+
+import java.io.IOException;
+
+import static com.codeaffine.tiny.star.undertow.Texts.ERROR_ACCESSING_WORKER_POOL;
+import static com.codeaffine.tiny.star.undertow.Texts.ERROR_WORKER_POOL_NOT_TUNABLE;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static lombok.AccessLevel.PACKAGE;
+import static org.xnio.Options.WORKER_TASK_CORE_THREADS;
+import static org.xnio.Options.WORKER_TASK_MAX_THREADS;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ContainerTunables implements RuntimeTunables {
+
+    static final int SECONDS_PER_MINUTE = 60;
+
+    @NonNull
+    private final Undertow undertow;
+    @NonNull
+    private final Deployment deployment;
+
+    @Override
+    public int getMaximumWorkerPoolSize() {
+        if (isDispatchingToDedicatedExecutor()) {
+            return UNSUPPORTED;
+        }
+        try {
+            Integer result = undertow.getWorker().getOption(WORKER_TASK_MAX_THREADS);
+            return isNull(result) ? UNSUPPORTED : result;
+        } catch (IOException cause) {
+            throw new IllegalStateException(ERROR_ACCESSING_WORKER_POOL, cause);
+        }
+    }
+
+    @Override
+    public void setMaximumWorkerPoolSize(int maximumWorkerPoolSize) {
+        if (isDispatchingToDedicatedExecutor()) {
+            throw new UnsupportedOperationException(ERROR_WORKER_POOL_NOT_TUNABLE);
+        }
+        // undertow runs the worker pool with equal core and maximum size, the order of the updates keeps core <= max at any time
+        XnioWorker worker = undertow.getWorker();
+        try {
+            if (maximumWorkerPoolSize < getMaximumWorkerPoolSize()) {
+                worker.setOption(WORKER_TASK_CORE_THREADS, maximumWorkerPoolSize);
+                worker.setOption(WORKER_TASK_MAX_THREADS, maximumWorkerPoolSize);
+            } else {
+                worker.setOption(WORKER_TASK_MAX_THREADS, maximumWorkerPoolSize);
+                worker.setOption(WORKER_TASK_CORE_THREADS, maximumWorkerPoolSize);
+            }
+        } catch (IOException cause) {
+            throw new IllegalStateException(ERROR_ACCESSING_WORKER_POOL, cause);
+        }
+    }
+
+    @Override
+    public int getSessionTimeout() {
+        return deployment.getDeploymentInfo().getDefaultSessionTimeout() / SECONDS_PER_MINUTE;
+    }
+
+    @Override
+    public void setSessionTimeout(int sessionTimeout) {
+        DeploymentInfo deploymentInfo = deployment.getDeploymentInfo();
+        deploymentInfo.setDefaultSessionTimeout(sessionTimeout * SECONDS_PER_MINUTE);
+        deployment.getSessionManager().setDefaultSessionTimeout(sessionTimeout * SECONDS_PER_MINUTE);
+    }
+
+    private boolean isDispatchingToDedicatedExecutor() {
+        return nonNull(deployment.getDeploymentInfo().getExecutor());
+    }
+}
@@ -9,7 +9,12 @@ package com.codeaffine.tiny.star.undertow;
 
 import com.codeaffine.tiny.star.spi.FilterDefinition;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.handlers.SetHeaderHandler;
+import io.undertow.server.handlers.cache.DirectBufferCache;
+import io.undertow.server.handlers.resource.CachingResourceManager;
 import io.undertow.server.handlers.resource.FileResourceManager;
+import io.undertow.server.handlers.resource.ResourceManager;
 import io.undertow.servlet.api.*;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
@@ -17,8 +22,13 @@ import lombok.RequiredArgsConstructor;
 import java.util.List;
 
 import static com.codeaffine.tiny.star.undertow.SessionTimeoutConfigurator.*;
+import static io.undertow.Handlers.predicate;
+import static io.undertow.predicate.Predicates.prefix;
+import static io.undertow.util.Headers.ACCEPT_ENCODING_STRING;
+import static io.undertow.util.Headers.VARY_STRING;
 import static io.undertow.servlet.Servlets.*;
 import static jakarta.servlet.DispatcherType.REQUEST;
+import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
 import static lombok.AccessLevel.PACKAGE;
 
 @RequiredArgsConstructor(access = PACKAGE)
@@ -26,6 +36,14 @@ class DeploymentOperation {
 
     static final String DEPLOYMENT_NAME = "application.war";
     static final String CONTEXT_PATH = "/";
+    static final int RESOURCE_METADATA_CACHE_SIZE = 1024;
+    static final int RESOURCE_CACHE_SLICE_SIZE = 1024;
+    static final int RESOURCE_CACHE_SLICES_PER_PAGE = 10;
+    static final int RESOURCE_CACHE_MAX_AGE = -1; // entries get invalidated by the file change listener of the underlying resource manager
+    static final int KILOBYTE = 1024;
+    static final String PRECOMPRESSED_RESOURCE_ENCODING = "gzip";
+    static final String PRECOMPRESSED_RESOURCE_EXTENSION = ".gz";
+    static final String PRECOMPRESSED_RESOURCES_PATH = "/rwt-resources";
 
     @NonNull
     private final ServerConfiguration configuration;
@@ -48,8 +66,30 @@ class DeploymentOperation {
             .addFilters(createFilterInfos());
         configuration.getFilterDefinitions()
             .forEach(filterDefinition -> addFilterMappings(filterDefinition, servletInfo, deploymentInfo));
+        if (configuration.isVirtualThreadsEnabled()) {
+            deploymentInfo.setExecutor(newVirtualThreadPerTaskExecutor());
+        }
+        if (configuration.isResourcePrecompressionEnabled()) {
+            deploymentInfo
+                .addPreCompressedResourceEncoding(PRECOMPRESSED_RESOURCE_ENCODING, PRECOMPRESSED_RESOURCE_EXTENSION)
+                .addOuterHandlerChainWrapper(DeploymentOperation::varyOnAcceptEncodingForPrecompressedResources);
+        }
         return deploymentInfo
-            .setResourceManager(new FileResourceManager(configuration.getWorkingDirectory(), 1));
+            .setResourceManager(createResourceManager());
+    }
+
+    private ResourceManager createResourceManager() {
+        FileResourceManager result = new FileResourceManager(configuration.getWorkingDirectory(), 1);
+        if (configuration.getResourceCacheSize() <= 0) {
+            return result;
+        }
+        int maxMemory = configuration.getResourceCacheSize() * KILOBYTE;
+        DirectBufferCache dataCache = new DirectBufferCache(RESOURCE_CACHE_SLICE_SIZE, RESOURCE_CACHE_SLICES_PER_PAGE, maxMemory);
+        return new CachingResourceManager(RESOURCE_METADATA_CACHE_SIZE, maxMemory, dataCache, result, RESOURCE_CACHE_MAX_AGE);
+    }
+
+    private static HttpHandler varyOnAcceptEncodingForPrecompressedResources(HttpHandler next) {
+        return predicate(prefix(PRECOMPRESSED_RESOURCES_PATH), new SetHeaderHandler(next, VARY_STRING, ACCEPT_ENCODING_STRING), next);
     }
 
     private List<FilterInfo> createFilterInfos() {
@@ -0,0 +1,43 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import static io.undertow.util.Headers.CACHE_CONTROL;
+import static io.undertow.util.Headers.CONTENT_TYPE;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class HealthCheckHandler implements HttpHandler {
+
+    static final String CACHE_CONTROL_NO_STORE = "no-store";
+
+    @NonNull
+    private final HealthCheck healthCheck;
+    @NonNull
+    private final HttpHandler next;
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        HealthCheck.Response healthCheckResponse = healthCheck.check(exchange.getRequestPath());
+        if (isNull(healthCheckResponse)) {
+            next.handleRequest(exchange);
+            return;
+        }
+        exchange.setStatusCode(healthCheckResponse.statusCode());
+        exchange.getResponseHeaders().put(CONTENT_TYPE, HealthCheck.CONTENT_TYPE);
+        exchange.getResponseHeaders().put(CACHE_CONTROL, CACHE_CONTROL_NO_STORE);
+        exchange.getResponseSender().send(healthCheckResponse.body());
+    }
+}
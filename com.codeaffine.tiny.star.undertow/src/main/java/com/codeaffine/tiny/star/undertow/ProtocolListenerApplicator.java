@@ -23,7 +23,10 @@ import java.security.NoSuchAlgorithmException;
 
 import static com.codeaffine.tiny.shared.Reflections.extractExceptionToReport;
 import static com.codeaffine.tiny.star.spi.SecureSocketLayerConfiguration.SSL_PROTOCOL;
+import static io.undertow.UndertowOptions.ENABLE_HTTP2;
+import static io.undertow.UndertowOptions.ENABLE_STATISTICS;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static javax.net.ssl.KeyManagerFactory.getDefaultAlgorithm;
 import static javax.net.ssl.KeyManagerFactory.getInstance;
 import static lombok.AccessLevel.PACKAGE;
@@ -40,6 +43,12 @@ class ProtocolListenerApplicator {
         } else {
             builder.addHttpsListener(configuration.getPort(), configuration.getHost(), createSslContext());
         }
+        if (configuration.isHttp2Enabled()) {
+            builder.setServerOption(ENABLE_HTTP2, true);
+        }
+        if (nonNull(configuration.getMetricsCollector())) {
+            builder.setServerOption(ENABLE_STATISTICS, true);
+        }
         return builder;
     }
 
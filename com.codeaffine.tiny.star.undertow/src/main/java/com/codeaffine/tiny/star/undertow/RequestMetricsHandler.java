@@ -0,0 +1,47 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static com.codeaffine.tiny.star.spi.MetricsCollector.OTHER_PATHS;
+import static java.lang.System.nanoTime;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class RequestMetricsHandler implements HttpHandler {
+
+    @NonNull
+    private final MetricsCollector metricsCollector;
+    @NonNull
+    private final Set<String> entryPointPaths;
+    @NonNull
+    private final HttpHandler next;
+
+    @Override
+    public void handleRequest(HttpServerExchange exchange) throws Exception {
+        long start = nanoTime();
+        String entryPointPath = resolveEntryPointPath(exchange.getRequestPath());
+        exchange.addExchangeCompleteListener((completedExchange, nextListener) -> {
+            metricsCollector.requestCompleted(entryPointPath, completedExchange.getStatusCode(), Duration.ofNanos(nanoTime() - start));
+            nextListener.proceed();
+        });
+        next.handleRequest(exchange);
+    }
+
+    private String resolveEntryPointPath(String requestPath) {
+        return entryPointPaths.contains(requestPath) ? requestPath : OTHER_PATHS;
+    }
+}
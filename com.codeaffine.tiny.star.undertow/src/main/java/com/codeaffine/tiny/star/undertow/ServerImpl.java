@@ -7,6 +7,7 @@
  */
 package com.codeaffine.tiny.star.undertow;
 
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
 import com.codeaffine.tiny.star.spi.Server;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import io.undertow.server.handlers.PathHandler;
@@ -15,6 +16,8 @@ import io.undertow.servlet.api.ServletInfo;
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
 
+import java.time.Duration;
+
 import static com.codeaffine.tiny.star.undertow.Texts.SERVER_NAME;
 import static lombok.AccessLevel.PACKAGE;
 
@@ -52,6 +55,21 @@ class ServerImpl implements Server {
         undertowLifecycle.startUndertow(path, manager);
     }
 
+    @Override
+    public int drain(Duration timeout) {
+        return undertowLifecycle.drainUndertow(timeout);
+    }
+
+    @Override
+    public void resume() {
+        undertowLifecycle.resumeUndertow();
+    }
+
+    @Override
+    public RuntimeTunables getRuntimeTunables() {
+        return undertowLifecycle.getRuntimeTunables();
+    }
+
     @Override
     public void stop() {
         undertowLifecycle.stopUndertow();
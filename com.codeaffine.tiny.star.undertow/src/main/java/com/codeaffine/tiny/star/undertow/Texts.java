@@ -14,5 +14,7 @@ import static lombok.AccessLevel.PRIVATE;
 @NoArgsConstructor(access = PRIVATE)
 class Texts {
 
+    static final String ERROR_WORKER_POOL_NOT_TUNABLE = "Requests are dispatched to a dedicated executor whose size cannot be changed at runtime.";
+    static final String ERROR_ACCESSING_WORKER_POOL = "Unable to access the worker pool of the embedded undertow.";
     static final String SERVER_NAME = "Undertow";
 }
@@ -7,33 +7,50 @@
  */
 package com.codeaffine.tiny.star.undertow;
 
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import io.undertow.Undertow;
+import io.undertow.Undertow.ListenerInfo;
+import io.undertow.server.ConnectorStatistics;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.handlers.GracefulShutdownHandler;
 import io.undertow.server.handlers.PathHandler;
 import io.undertow.servlet.api.Deployment;
+import io.undertow.servlet.api.DeploymentInfo;
 import io.undertow.servlet.api.DeploymentManager;
 import io.undertow.servlet.spec.ServletContextImpl;
 import jakarta.servlet.ServletContextEvent;
 import jakarta.servlet.ServletException;
 import lombok.NonNull;
 
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.ExecutorService;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.codeaffine.tiny.shared.Reflections.extractExceptionToReport;
+import static java.lang.Math.max;
+import static java.lang.Thread.currentThread;
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 class UndertowLifecycle {
 
     private final ProtocolListenerApplicator protocolListenerApplicator;
+    private final ContainerStatisticsSampler containerStatisticsSampler;
     private final AtomicReference<UndertowInstance> serverHolder;
     private final ServerConfiguration configuration;
 
-    record UndertowInstance(Undertow undertow, DeploymentManager manager) {}
+    record UndertowInstance(Undertow undertow, DeploymentManager manager, GracefulShutdownHandler shutdownHandler) {}
 
     UndertowLifecycle(@NonNull ServerConfiguration configuration) {
         this.configuration = configuration;
         this.serverHolder = new AtomicReference<>();
         this.protocolListenerApplicator = new ProtocolListenerApplicator(configuration);
+        this.containerStatisticsSampler = new ContainerStatisticsSampler();
     }
 
     void startUndertow(@NonNull PathHandler path, DeploymentManager manager) {
@@ -44,6 +61,35 @@ class UndertowLifecycle {
         serverHolder.getAndUpdate(this::doStop);
     }
 
+    int drainUndertow(@NonNull Duration timeout) {
+        UndertowInstance current = serverHolder.get();
+        if (isNull(current)) {
+            return 0;
+        }
+        if (isNull(configuration.getHealthCheck())) {
+            // health probes are answered outside the shutdown handler, so connections are only refused if there are no probes to serve
+            current.undertow().getListenerInfo().forEach(ListenerInfo::suspend);
+        }
+        current.shutdownHandler().shutdown();
+        return awaitShutdown(current, timeout);
+    }
+
+    void resumeUndertow() {
+        UndertowInstance current = serverHolder.get();
+        if (nonNull(current)) {
+            current.shutdownHandler().start();
+            current.undertow().getListenerInfo().forEach(ListenerInfo::resume);
+        }
+    }
+
+    RuntimeTunables getRuntimeTunables() {
+        UndertowInstance current = serverHolder.get();
+        if (isNull(current)) {
+            return RuntimeTunables.NONE;
+        }
+        return new ContainerTunables(current.undertow(), current.manager().getDeployment());
+    }
+
     private UndertowInstance doStart(PathHandler path, DeploymentManager manager, UndertowInstance current) {
         if(nonNull(current)) {
             return current;
@@ -52,16 +98,55 @@ class UndertowLifecycle {
     }
 
     private UndertowInstance doStart(PathHandler path, DeploymentManager manager) {
+        GracefulShutdownHandler shutdownHandler = new GracefulShutdownHandler(path);
+        MetricsCollector metricsCollector = configuration.getMetricsCollector();
+        HttpHandler handler = shutdownHandler;
+        if (nonNull(metricsCollector)) {
+            handler = new RequestMetricsHandler(metricsCollector, configuration.getEntryPointPaths(), handler);
+        }
+        HealthCheck healthCheck = configuration.getHealthCheck();
+        if (nonNull(healthCheck)) {
+            handler = new HealthCheckHandler(healthCheck, handler);
+        }
         Undertow undertow = protocolListenerApplicator.addListener(Undertow.builder())
-            .setHandler(path)
+            .setHandler(handler)
             .build();
         undertow.start();
-        return new UndertowInstance(undertow, manager);
+        if (nonNull(metricsCollector)) {
+            metricsCollector.bindContainerStatistics(() -> containerStatisticsSampler.sample(undertow, manager.getDeployment()));
+        }
+        return new UndertowInstance(undertow, manager, shutdownHandler);
+    }
+
+    private static int awaitShutdown(UndertowInstance instance, Duration timeout) {
+        try {
+            if (instance.shutdownHandler().awaitShutdown(timeout.toMillis())) {
+                return 0;
+            }
+            return countActiveRequests(instance.undertow());
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private static int countActiveRequests(Undertow undertow) {
+        // without connector statistics the exact number is unknown, but at least one request is still in progress
+        long result = undertow.getListenerInfo()
+            .stream()
+            .map(ListenerInfo::getConnectorStatistics)
+            .filter(Objects::nonNull)
+            .mapToLong(ConnectorStatistics::getActiveRequests)
+            .sum();
+        return (int) max(result, 1L);
     }
 
     @SuppressWarnings("SameReturnValue")
     private UndertowInstance doStop(UndertowInstance current) {
         if(nonNull(current)) {
+            if (nonNull(configuration.getMetricsCollector())) {
+                configuration.getMetricsCollector().unbindContainerStatistics();
+            }
             stopManager(current);
             current.undertow().stop();
         }
@@ -73,8 +158,23 @@ class UndertowLifecycle {
             DeploymentManager manager = current.manager();
             destroyContext(manager);
             manager.stop();
-        } catch (ServletException servletException) {
-            throw extractExceptionToReport(servletException, IllegalStateException::new);
+            DeploymentInfo deploymentInfo = manager.getDeployment().getDeploymentInfo();
+            closeResourceManager(deploymentInfo);
+            shutdownRequestExecutor(deploymentInfo);
+        } catch (ServletException | IOException cause) {
+            throw extractExceptionToReport(cause, IllegalStateException::new);
+        }
+    }
+
+    private static void closeResourceManager(DeploymentInfo deploymentInfo) throws IOException {
+        if (nonNull(deploymentInfo) && nonNull(deploymentInfo.getResourceManager())) {
+            deploymentInfo.getResourceManager().close();
+        }
+    }
+
+    private static void shutdownRequestExecutor(DeploymentInfo deploymentInfo) {
+        if (nonNull(deploymentInfo) && deploymentInfo.getExecutor() instanceof ExecutorService requestExecutor) {
+            requestExecutor.shutdown();
         }
     }
 
@@ -16,6 +16,7 @@ module com.codeaffine.tiny.star.undertow {
     requires org.eclipse.rap.rwt;
     requires undertow.core;
     requires undertow.servlet;
+    requires xnio.api;
 
     provides com.codeaffine.tiny.star.spi.ServerFactory
         with com.codeaffine.tiny.star.undertow.ServerFactoryImpl;
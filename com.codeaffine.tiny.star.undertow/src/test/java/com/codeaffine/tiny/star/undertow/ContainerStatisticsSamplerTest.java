@@ -0,0 +1,129 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import io.undertow.Undertow;
+import io.undertow.server.ConnectorStatistics;
+import io.undertow.server.session.SessionManager;
+import io.undertow.server.session.SessionManagerStatistics;
+import io.undertow.servlet.api.Deployment;
+import io.undertow.servlet.api.DeploymentInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.xnio.XnioWorker;
+import org.xnio.management.XnioWorkerMXBean;
+
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.codeaffine.tiny.star.spi.ContainerStatistics.UNAVAILABLE;
+import static java.util.Objects.nonNull;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ContainerStatisticsSamplerTest {
+
+    private ContainerStatisticsSampler sampler;
+    private SessionManager sessionManager;
+    private DeploymentInfo deploymentInfo;
+    private Deployment deployment;
+    private Undertow undertow;
+
+    @BeforeEach
+    void setUp() {
+        undertow = mock(Undertow.class);
+        sessionManager = mock(SessionManager.class);
+        deploymentInfo = mock(DeploymentInfo.class);
+        deployment = mock(Deployment.class);
+        when(deployment.getSessionManager()).thenReturn(sessionManager);
+        when(deployment.getDeploymentInfo()).thenReturn(deploymentInfo);
+        sampler = new ContainerStatisticsSampler();
+    }
+
+    @Test
+    void sample() {
+        stubSessionManagerStatistics();
+        stubListenerInfos(stubListenerInfo(5L), stubListenerInfo(7L));
+        stubWorker();
+
+        ContainerStatistics actual = sampler.sample(undertow, deployment);
+
+        assertThat(actual).isEqualTo(new ContainerStatistics(3L, 11L, 12L, 4L, 10L, 64L, 2L));
+    }
+
+    @Test
+    void sampleWithoutStatistics() {
+        stubListenerInfos(stubListenerInfo(null));
+
+        ContainerStatistics actual = sampler.sample(undertow, deployment);
+
+        assertThat(actual)
+            .isEqualTo(new ContainerStatistics(UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE, UNAVAILABLE));
+    }
+
+    @Test
+    void sampleWithDedicatedRequestExecutor() {
+        stubListenerInfos();
+        stubWorker();
+        when(deploymentInfo.getExecutor()).thenReturn(mock(Executor.class));
+
+        ContainerStatistics actual = sampler.sample(undertow, deployment);
+
+        assertThat(actual.busyWorkerThreads()).isEqualTo(UNAVAILABLE);
+        assertThat(actual.workerPoolSize()).isEqualTo(UNAVAILABLE);
+        assertThat(actual.maximumWorkerPoolSize()).isEqualTo(UNAVAILABLE);
+        assertThat(actual.workerQueueDepth()).isEqualTo(UNAVAILABLE);
+    }
+
+    @Test
+    void sampleWithNullAsUndertowArgument() {
+        assertThatThrownBy(() -> sampler.sample(null, deployment))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void sampleWithNullAsDeploymentArgument() {
+        assertThatThrownBy(() -> sampler.sample(undertow, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private void stubSessionManagerStatistics() {
+        SessionManagerStatistics statistics = mock(SessionManagerStatistics.class);
+        when(statistics.getActiveSessionCount()).thenReturn(3L);
+        when(statistics.getCreatedSessionCount()).thenReturn(11L);
+        when(sessionManager.getStatistics()).thenReturn(statistics);
+    }
+
+    private void stubListenerInfos(Undertow.ListenerInfo... listenerInfos) {
+        when(undertow.getListenerInfo()).thenReturn(List.of(listenerInfos));
+    }
+
+    private static Undertow.ListenerInfo stubListenerInfo(Long activeConnections) {
+        Undertow.ListenerInfo result = mock(Undertow.ListenerInfo.class);
+        if (nonNull(activeConnections)) {
+            ConnectorStatistics connectorStatistics = mock(ConnectorStatistics.class);
+            when(connectorStatistics.getActiveConnections()).thenReturn(activeConnections);
+            when(result.getConnectorStatistics()).thenReturn(connectorStatistics);
+        }
+        return result;
+    }
+
+    private void stubWorker() {
+        XnioWorkerMXBean workerStatistics = mock(XnioWorkerMXBean.class);
+        when(workerStatistics.getBusyWorkerThreadCount()).thenReturn(4);
+        when(workerStatistics.getWorkerPoolSize()).thenReturn(10);
+        when(workerStatistics.getMaxWorkerPoolSize()).thenReturn(64);
+        when(workerStatistics.getWorkerQueueSize()).thenReturn(2);
+        XnioWorker worker = mock(XnioWorker.class);
+        when(worker.getMXBean()).thenReturn(workerStatistics);
+        when(undertow.getWorker()).thenReturn(worker);
+    }
+}
@@ -0,0 +1,165 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import io.undertow.Undertow;
+import io.undertow.server.session.SessionManager;
+import io.undertow.servlet.api.Deployment;
+import io.undertow.servlet.api.DeploymentInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+import org.xnio.XnioWorker;
+
+import java.io.IOException;
+import java.util.concurrent.Executor;
+
+import static com.codeaffine.tiny.star.spi.RuntimeTunables.UNSUPPORTED;
+import static com.codeaffine.tiny.star.undertow.ContainerTunables.SECONDS_PER_MINUTE;
+import static com.codeaffine.tiny.star.undertow.Texts.ERROR_ACCESSING_WORKER_POOL;
+import static com.codeaffine.tiny.star.undertow.Texts.ERROR_WORKER_POOL_NOT_TUNABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+import static org.xnio.Options.WORKER_TASK_CORE_THREADS;
+import static org.xnio.Options.WORKER_TASK_MAX_THREADS;
+
+class ContainerTunablesTest {
+
+    private ContainerTunables tunables;
+    private DeploymentInfo deploymentInfo;
+    private SessionManager sessionManager;
+    private XnioWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        worker = mock(XnioWorker.class);
+        Undertow undertow = mock(Undertow.class);
+        when(undertow.getWorker()).thenReturn(worker);
+        deploymentInfo = mock(DeploymentInfo.class);
+        sessionManager = mock(SessionManager.class);
+        Deployment deployment = mock(Deployment.class);
+        when(deployment.getDeploymentInfo()).thenReturn(deploymentInfo);
+        when(deployment.getSessionManager()).thenReturn(sessionManager);
+        tunables = new ContainerTunables(undertow, deployment);
+    }
+
+    @Test
+    void getMaximumWorkerPoolSize() throws IOException {
+        when(worker.getOption(WORKER_TASK_MAX_THREADS)).thenReturn(64);
+
+        int actual = tunables.getMaximumWorkerPoolSize();
+
+        assertThat(actual).isEqualTo(64);
+    }
+
+    @Test
+    void getMaximumWorkerPoolSizeIfOptionIsNotAvailable() {
+        int actual = tunables.getMaximumWorkerPoolSize();
+
+        assertThat(actual).isEqualTo(UNSUPPORTED);
+    }
+
+    @Test
+    void getMaximumWorkerPoolSizeWithDedicatedExecutor() {
+        when(deploymentInfo.getExecutor()).thenReturn(mock(Executor.class));
+
+        int actual = tunables.getMaximumWorkerPoolSize();
+
+        assertThat(actual).isEqualTo(UNSUPPORTED);
+        verifyNoInteractions(worker);
+    }
+
+    @Test
+    void getMaximumWorkerPoolSizeIfWorkerFails() throws IOException {
+        IOException problem = new IOException();
+        when(worker.getOption(WORKER_TASK_MAX_THREADS)).thenThrow(problem);
+
+        assertThatThrownBy(() -> tunables.getMaximumWorkerPoolSize())
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(ERROR_ACCESSING_WORKER_POOL)
+            .hasCause(problem);
+    }
+
+    @Test
+    void increaseMaximumWorkerPoolSize() throws IOException {
+        when(worker.getOption(WORKER_TASK_MAX_THREADS)).thenReturn(64);
+
+        tunables.setMaximumWorkerPoolSize(128);
+
+        InOrder order = inOrder(worker);
+        order.verify(worker).setOption(WORKER_TASK_MAX_THREADS, 128);
+        order.verify(worker).setOption(WORKER_TASK_CORE_THREADS, 128);
+    }
+
+    @Test
+    void decreaseMaximumWorkerPoolSize() throws IOException {
+        when(worker.getOption(WORKER_TASK_MAX_THREADS)).thenReturn(64);
+
+        tunables.setMaximumWorkerPoolSize(32);
+
+        InOrder order = inOrder(worker);
+        order.verify(worker).setOption(WORKER_TASK_CORE_THREADS, 32);
+        order.verify(worker).setOption(WORKER_TASK_MAX_THREADS, 32);
+    }
+
+    @Test
+    void setMaximumWorkerPoolSizeIfWorkerFails() throws IOException {
+        IOException problem = new IOException();
+        when(worker.getOption(WORKER_TASK_MAX_THREADS)).thenReturn(64);
+        when(worker.setOption(WORKER_TASK_MAX_THREADS, 128)).thenThrow(problem);
+
+        assertThatThrownBy(() -> tunables.setMaximumWorkerPoolSize(128))
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(ERROR_ACCESSING_WORKER_POOL)
+            .hasCause(problem);
+    }
+
+    @Test
+    void setMaximumWorkerPoolSizeWithDedicatedExecutor() {
+        when(deploymentInfo.getExecutor()).thenReturn(mock(Executor.class));
+
+        assertThatThrownBy(() -> tunables.setMaximumWorkerPoolSize(128))
+            .isInstanceOf(UnsupportedOperationException.class)
+            .hasMessage(ERROR_WORKER_POOL_NOT_TUNABLE);
+        verifyNoInteractions(worker);
+    }
+
+    @Test
+    void getSessionTimeout() {
+        when(deploymentInfo.getDefaultSessionTimeout()).thenReturn(15 * SECONDS_PER_MINUTE);
+
+        int actual = tunables.getSessionTimeout();
+
+        assertThat(actual).isEqualTo(15);
+    }
+
+    @Test
+    void setSessionTimeout() {
+        tunables.setSessionTimeout(30);
+
+        verify(deploymentInfo).setDefaultSessionTimeout(30 * SECONDS_PER_MINUTE);
+        verify(sessionManager).setDefaultSessionTimeout(30 * SECONDS_PER_MINUTE);
+    }
+
+    @Test
+    void constructWithNullAsUndertowArgument() {
+        Deployment deployment = mock(Deployment.class);
+
+        assertThatThrownBy(() -> new ContainerTunables(null, deployment))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsDeploymentArgument() {
+        Undertow undertow = mock(Undertow.class);
+
+        assertThatThrownBy(() -> new ContainerTunables(undertow, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
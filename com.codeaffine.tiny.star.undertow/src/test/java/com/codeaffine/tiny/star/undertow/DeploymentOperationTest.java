@@ -7,6 +7,8 @@
  */
 package com.codeaffine.tiny.star.undertow;
 
+import com.codeaffine.tiny.star.spi.ServerConfiguration;
+import io.undertow.server.handlers.resource.CachingResourceManager;
 import io.undertow.server.handlers.resource.FileResourceManager;
 import io.undertow.servlet.api.DeploymentInfo;
 import io.undertow.servlet.api.DeploymentManager;
@@ -16,16 +18,26 @@ import org.junit.jupiter.api.io.TempDir;
 
 import java.io.File;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 import static com.codeaffine.tiny.star.test.fixtures.ApplicationServerTestHelper.*;
 import static com.codeaffine.tiny.star.undertow.DeploymentOperation.CONTEXT_PATH;
 import static com.codeaffine.tiny.star.undertow.DeploymentOperation.DEPLOYMENT_NAME;
+import static com.codeaffine.tiny.star.undertow.DeploymentOperation.KILOBYTE;
+import static com.codeaffine.tiny.star.undertow.DeploymentOperation.PRECOMPRESSED_RESOURCE_ENCODING;
+import static com.codeaffine.tiny.star.undertow.DeploymentOperation.PRECOMPRESSED_RESOURCE_EXTENSION;
 import static jakarta.servlet.DispatcherType.REQUEST;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.mockito.Mockito.when;
 
 class DeploymentOperationTest {
 
+    private static final int RESOURCE_CACHE_SIZE = 64;
+
     @TempDir
     private File workingDirectory;
 
@@ -53,6 +65,56 @@ class DeploymentOperationTest {
             .hasSize(1)
             .allSatisfy(initializer -> assertThat(initializer.getServletContainerInitializerClass()).isSameAs(SessionTimeoutConfigurator.class));
         assertThat(resourceManager.getBase()).isEqualTo(workingDirectory);
+        assertThat(deploymentInfo.getExecutor()).isNull();
+        assertThat(deploymentInfo.getPreCompressedResources()).isEmpty();
+        assertThat(deploymentInfo.getOuterHandlerChainWrappers()).isEmpty();
+    }
+
+    @Test
+    void deployRwtApplicationWithResourcePrecompressionEnabled() {
+        ServerConfiguration configuration = stubServerConfiguration(workingDirectory, ENTRYPOINT_PATH_1, ENTRYPOINT_PATH_2);
+        when(configuration.isResourcePrecompressionEnabled()).thenReturn(true);
+        DeploymentOperation deploymentOperation = new DeploymentOperation(configuration);
+        ServletInfoFactory servletInfoFactory = new ServletInfoFactory(MULTI_ENTRYPOINT_CONFIGURATION);
+        ServletInfo servletInfo = servletInfoFactory.createRwtServletInfo();
+
+        DeploymentManager actual = deploymentOperation.deployRwtApplication(servletInfo);
+
+        DeploymentInfo deploymentInfo = actual.getDeployment().getDeploymentInfo();
+        assertThat(deploymentInfo.getPreCompressedResources())
+            .containsExactly(entry(PRECOMPRESSED_RESOURCE_ENCODING, PRECOMPRESSED_RESOURCE_EXTENSION));
+        assertThat(deploymentInfo.getOuterHandlerChainWrappers()).hasSize(1);
+    }
+
+    @Test
+    void deployRwtApplicationWithResourceCacheEnabled() {
+        ServerConfiguration configuration = stubServerConfiguration(workingDirectory, ENTRYPOINT_PATH_1, ENTRYPOINT_PATH_2);
+        when(configuration.getResourceCacheSize()).thenReturn(RESOURCE_CACHE_SIZE);
+        DeploymentOperation deploymentOperation = new DeploymentOperation(configuration);
+        ServletInfoFactory servletInfoFactory = new ServletInfoFactory(MULTI_ENTRYPOINT_CONFIGURATION);
+        ServletInfo servletInfo = servletInfoFactory.createRwtServletInfo();
+
+        DeploymentManager actual = deploymentOperation.deployRwtApplication(servletInfo);
+
+        CachingResourceManager resourceManager = (CachingResourceManager) actual.getDeployment().getDeploymentInfo().getResourceManager();
+        assertThat(resourceManager.getMaxFileSize()).isEqualTo(RESOURCE_CACHE_SIZE * KILOBYTE);
+        assertThat(resourceManager.isResourceChangeListenerSupported()).isTrue();
+    }
+
+    @Test
+    void deployRwtApplicationWithVirtualThreadsEnabled() throws Exception {
+        ServerConfiguration configuration = stubServerConfiguration(workingDirectory, ENTRYPOINT_PATH_1, ENTRYPOINT_PATH_2);
+        when(configuration.isVirtualThreadsEnabled()).thenReturn(true);
+        DeploymentOperation deploymentOperation = new DeploymentOperation(configuration);
+        ServletInfoFactory servletInfoFactory = new ServletInfoFactory(MULTI_ENTRYPOINT_CONFIGURATION);
+        ServletInfo servletInfo = servletInfoFactory.createRwtServletInfo();
+
+        DeploymentManager actual = deploymentOperation.deployRwtApplication(servletInfo);
+
+        Executor executor = actual.getDeployment().getDeploymentInfo().getExecutor();
+        CompletableFuture<Boolean> isVirtual = new CompletableFuture<>();
+        executor.execute(() -> isVirtual.complete(Thread.currentThread().isVirtual()));
+        assertThat(isVirtual.get(2, SECONDS)).isTrue();
     }
 
     @Test
@@ -0,0 +1,89 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import io.undertow.io.Sender;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import io.undertow.util.HeaderMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static com.codeaffine.tiny.star.spi.HealthCheck.LIVENESS_PATH;
+import static com.codeaffine.tiny.star.undertow.HealthCheckHandler.CACHE_CONTROL_NO_STORE;
+import static io.undertow.util.Headers.CACHE_CONTROL;
+import static io.undertow.util.Headers.CONTENT_TYPE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class HealthCheckHandlerTest {
+
+    private static final String BODY = "{\"status\":\"UP\"}";
+    private static final String ENTRY_POINT_PATH = "/ui";
+
+    private HealthCheckHandler handler;
+    private HttpServerExchange exchange;
+    private HealthCheck healthCheck;
+    private HttpHandler next;
+    private Sender sender;
+
+    @BeforeEach
+    void setUp() {
+        healthCheck = mock(HealthCheck.class);
+        next = mock(HttpHandler.class);
+        sender = mock(Sender.class);
+        exchange = stubExchange(sender);
+        handler = new HealthCheckHandler(healthCheck, next);
+    }
+
+    @Test
+    void handleRequest() throws Exception {
+        when(exchange.getRequestPath()).thenReturn(LIVENESS_PATH);
+        when(healthCheck.check(LIVENESS_PATH)).thenReturn(new HealthCheck.Response(200, BODY));
+
+        handler.handleRequest(exchange);
+
+        verify(exchange).setStatusCode(200);
+        verify(sender).send(BODY);
+        assertThat(exchange.getResponseHeaders().getFirst(CONTENT_TYPE)).isEqualTo(HealthCheck.CONTENT_TYPE);
+        assertThat(exchange.getResponseHeaders().getFirst(CACHE_CONTROL)).isEqualTo(CACHE_CONTROL_NO_STORE);
+        verifyNoInteractions(next);
+    }
+
+    @Test
+    void handleRequestWithNonHealthCheckPath() throws Exception {
+        when(exchange.getRequestPath()).thenReturn(ENTRY_POINT_PATH);
+
+        handler.handleRequest(exchange);
+
+        verify(next).handleRequest(exchange);
+        verify(exchange, never()).setStatusCode(anyInt());
+        verifyNoInteractions(sender);
+    }
+
+    @Test
+    void constructWithNullAsHealthCheckArgument() {
+        assertThatThrownBy(() -> new HealthCheckHandler(null, next))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsNextArgument() {
+        assertThatThrownBy(() -> new HealthCheckHandler(healthCheck, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private static HttpServerExchange stubExchange(Sender sender) {
+        HttpServerExchange result = mock(HttpServerExchange.class);
+        when(result.getResponseHeaders()).thenReturn(new HeaderMap());
+        when(result.getResponseSender()).thenReturn(sender);
+        return result;
+    }
+}
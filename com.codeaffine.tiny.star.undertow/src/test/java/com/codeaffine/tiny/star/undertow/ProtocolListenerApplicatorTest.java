@@ -7,7 +7,9 @@
  */
 package com.codeaffine.tiny.star.undertow;
 
+import com.codeaffine.tiny.star.spi.MetricsCollector;
 import com.codeaffine.tiny.star.spi.SecureSocketLayerConfiguration;
+import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import io.undertow.Undertow;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -19,6 +21,8 @@ import java.io.InputStream;
 
 import static com.codeaffine.tiny.star.spi.SecureSocketLayerConfiguration.SSL_PROTOCOL;
 import static com.codeaffine.tiny.star.test.fixtures.ApplicationServerTestHelper.*;
+import static io.undertow.UndertowOptions.ENABLE_HTTP2;
+import static io.undertow.UndertowOptions.ENABLE_STATISTICS;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentCaptor.forClass;
@@ -34,6 +38,34 @@ class ProtocolListenerApplicatorTest {
         protocolListenerApplicator.addListener(builder);
 
         verify(builder).addHttpListener(PORT, HOST);
+        verify(builder, never()).setServerOption(eq(ENABLE_HTTP2), anyBoolean());
+        verify(builder, never()).setServerOption(eq(ENABLE_STATISTICS), anyBoolean());
+    }
+
+    @Test
+    void addListenerWithHttp2Enabled() {
+        ServerConfiguration configuration = stubServerConfiguration(HOST, PORT);
+        when(configuration.isHttp2Enabled()).thenReturn(true);
+        ProtocolListenerApplicator protocolListenerApplicator = new ProtocolListenerApplicator(configuration);
+        Undertow.Builder builder = mock(Undertow.Builder.class);
+
+        protocolListenerApplicator.addListener(builder);
+
+        verify(builder).addHttpListener(PORT, HOST);
+        verify(builder).setServerOption(ENABLE_HTTP2, true);
+    }
+
+    @Test
+    void addListenerWithMetricsCollector() {
+        ServerConfiguration configuration = stubServerConfiguration(HOST, PORT);
+        when(configuration.getMetricsCollector()).thenReturn(mock(MetricsCollector.class));
+        ProtocolListenerApplicator protocolListenerApplicator = new ProtocolListenerApplicator(configuration);
+        Undertow.Builder builder = mock(Undertow.Builder.class);
+
+        protocolListenerApplicator.addListener(builder);
+
+        verify(builder).addHttpListener(PORT, HOST);
+        verify(builder).setServerOption(ENABLE_STATISTICS, true);
     }
 
     @ParameterizedTest
@@ -0,0 +1,104 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.undertow;
+
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import io.undertow.server.ExchangeCompletionListener;
+import io.undertow.server.HttpHandler;
+import io.undertow.server.HttpServerExchange;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.time.Duration;
+import java.util.Set;
+
+import static com.codeaffine.tiny.star.spi.MetricsCollector.OTHER_PATHS;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Mockito.*;
+
+class RequestMetricsHandlerTest {
+
+    private static final String ENTRY_POINT_PATH = "/ui";
+    private static final String RESOURCE_PATH = "/rwt-resources/rap-client.js";
+
+    private MetricsCollector metricsCollector;
+    private RequestMetricsHandler handler;
+    private HttpServerExchange exchange;
+    private HttpHandler next;
+
+    @BeforeEach
+    void setUp() {
+        metricsCollector = mock(MetricsCollector.class);
+        next = mock(HttpHandler.class);
+        exchange = mock(HttpServerExchange.class);
+        handler = new RequestMetricsHandler(metricsCollector, Set.of(ENTRY_POINT_PATH), next);
+    }
+
+    @Test
+    void handleRequest() throws Exception {
+        when(exchange.getRequestPath()).thenReturn(ENTRY_POINT_PATH);
+        when(exchange.getStatusCode()).thenReturn(200);
+
+        handler.handleRequest(exchange);
+        completeExchange();
+
+        verify(next).handleRequest(exchange);
+        verify(metricsCollector).requestCompleted(eq(ENTRY_POINT_PATH), eq(200), any(Duration.class));
+    }
+
+    @Test
+    void handleRequestWithNonEntryPointPath() throws Exception {
+        when(exchange.getRequestPath()).thenReturn(RESOURCE_PATH);
+        when(exchange.getStatusCode()).thenReturn(304);
+
+        handler.handleRequest(exchange);
+        completeExchange();
+
+        verify(metricsCollector).requestCompleted(eq(OTHER_PATHS), eq(304), any(Duration.class));
+    }
+
+    @Test
+    void handleRequestBeforeExchangeCompletion() throws Exception {
+        when(exchange.getRequestPath()).thenReturn(ENTRY_POINT_PATH);
+
+        handler.handleRequest(exchange);
+
+        verify(next).handleRequest(exchange);
+        verifyNoInteractions(metricsCollector);
+    }
+
+    @Test
+    void constructWithNullAsMetricsCollectorArgument() {
+        Set<String> entryPointPaths = Set.of(ENTRY_POINT_PATH);
+
+        assertThatThrownBy(() -> new RequestMetricsHandler(null, entryPointPaths, next))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsEntryPointPathsArgument() {
+        assertThatThrownBy(() -> new RequestMetricsHandler(metricsCollector, null, next))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsNextArgument() {
+        Set<String> entryPointPaths = Set.of(ENTRY_POINT_PATH);
+
+        assertThatThrownBy(() -> new RequestMetricsHandler(metricsCollector, entryPointPaths, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private void completeExchange() {
+        ArgumentCaptor<ExchangeCompletionListener> captor = forClass(ExchangeCompletionListener.class);
+        verify(exchange).addExchangeCompleteListener(captor.capture());
+        captor.getValue().exchangeEvent(exchange, mock(ExchangeCompletionListener.NextListener.class));
+    }
+}
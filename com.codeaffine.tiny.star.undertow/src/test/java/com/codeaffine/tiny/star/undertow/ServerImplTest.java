@@ -7,12 +7,16 @@
  */
 package com.codeaffine.tiny.star.undertow;
 
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
 import io.undertow.server.handlers.PathHandler;
 import io.undertow.servlet.api.DeploymentManager;
 import io.undertow.servlet.api.ServletInfo;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.time.Duration;
+
+import static java.time.Duration.ofSeconds;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
 
@@ -54,6 +58,33 @@ class ServerImplTest {
         verify(undertowLifecycle).startUndertow(PATH_HANDLER, DEPLOYMENT_MANAGER);
     }
 
+    @Test
+    void drain() {
+        Duration timeout = ofSeconds(5L);
+        when(undertowLifecycle.drainUndertow(timeout)).thenReturn(2);
+
+        int actual = server.drain(timeout);
+
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @Test
+    void resume() {
+        server.resume();
+
+        verify(undertowLifecycle).resumeUndertow();
+    }
+
+    @Test
+    void getRuntimeTunables() {
+        RuntimeTunables expected = mock(RuntimeTunables.class);
+        when(undertowLifecycle.getRuntimeTunables()).thenReturn(expected);
+
+        RuntimeTunables actual = server.getRuntimeTunables();
+
+        assertThat(actual).isSameAs(expected);
+    }
+
     @Test
     void stop() {
         server.stop();
@@ -7,6 +7,9 @@
  */
 package com.codeaffine.tiny.star.undertow;
 
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import io.undertow.server.HttpHandler;
 import io.undertow.server.handlers.PathHandler;
@@ -28,11 +31,19 @@ import org.mockito.ArgumentCaptor;
 
 import java.io.File;
 import java.net.ConnectException;
+import java.net.HttpURLConnection;
+import java.net.SocketTimeoutException;
 import java.net.URI;
 import java.net.URLConnection;
+import java.time.Duration;
 import java.util.Scanner;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
 
 import static com.codeaffine.tiny.shared.IoUtils.findFreePort;
+import static com.codeaffine.tiny.star.spi.HealthCheck.LIVENESS_PATH;
+import static com.codeaffine.tiny.star.spi.HealthCheck.READINESS_PATH;
+import static com.codeaffine.tiny.star.spi.MetricsCollector.OTHER_PATHS;
 import static com.codeaffine.tiny.star.test.fixtures.ApplicationServerTestHelper.stubServerConfiguration;
 import static com.codeaffine.tiny.star.undertow.DeploymentOperation.CONTEXT_PATH;
 import static com.codeaffine.tiny.star.undertow.HttpHandlerStarter.PREFIX_PATH;
@@ -41,6 +52,7 @@ import static io.undertow.servlet.Servlets.defaultContainer;
 import static io.undertow.servlet.Servlets.deployment;
 import static java.lang.String.format;
 import static java.nio.file.Files.writeString;
+import static java.time.Duration.ofSeconds;
 import static java.util.Objects.nonNull;
 import static org.assertj.core.api.Assertions.*;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
@@ -53,6 +65,8 @@ class UndertowLifecycleTest {
     private static final String INDEX_CONTENT = "content";
     private static final String HOST = "localhost";
     private static final String INDEX = "index";
+    private static final String HEALTH_CHECK_BODY = "{\"status\":\"DOWN\"}";
+    private static final int RESPONSE_TIMEOUT = 2000;
 
     @TempDir
     private File workingDirectory;
@@ -90,6 +104,32 @@ class UndertowLifecycleTest {
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void drainUndertowIfNotStarted() {
+        lifecycle = new UndertowLifecycle(stubServerConfiguration(HOST, port));
+
+        int actual = lifecycle.drainUndertow(ofSeconds(1L));
+
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void getRuntimeTunablesIfNotStarted() {
+        lifecycle = new UndertowLifecycle(stubServerConfiguration(HOST, port));
+
+        RuntimeTunables actual = lifecycle.getRuntimeTunables();
+
+        assertThat(actual).isSameAs(RuntimeTunables.NONE);
+    }
+
+    @Test
+    void drainUndertowWithNullAsTimeoutArgument() {
+        lifecycle = new UndertowLifecycle(stubServerConfiguration(HOST, port));
+
+        assertThatThrownBy(() -> lifecycle.drainUndertow(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     @Nested
     class Started {
 
@@ -121,6 +161,60 @@ class UndertowLifecycleTest {
             verify(manager).stop();
         }
 
+        @Test
+        void stopUndertowShutsDownRequestExecutor() {
+            ExecutorService requestExecutor = mock(ExecutorService.class);
+            DeploymentInfo deploymentInfo = new DeploymentInfo().setExecutor(requestExecutor);
+            when(manager.getDeployment().getDeploymentInfo()).thenReturn(deploymentInfo);
+
+            lifecycle.stopUndertow();
+
+            verify(requestExecutor).shutdown();
+        }
+
+        @Test
+        void requestServerAfterDrained() {
+            int drained = lifecycle.drainUndertow(ofSeconds(1L));
+
+            Exception actual = catchException(UndertowLifecycleTest.this::readIndexResponseCode);
+
+            assertThat(drained).isZero();
+            assertThat(actual).isInstanceOf(SocketTimeoutException.class);
+        }
+
+        @Test
+        void requestServerAfterResumed() {
+            lifecycle.drainUndertow(ofSeconds(1L));
+
+            lifecycle.resumeUndertow();
+            String actual = readIndexContent();
+
+            assertThat(actual).isEqualTo(INDEX_CONTENT);
+        }
+
+        @Test
+        void requestHealthCheckWithoutHealthCheckConfigured() {
+            int actual = readResponseCode(READINESS_PATH);
+
+            assertThat(actual).isEqualTo(404);
+        }
+
+        @Test
+        void getRuntimeTunables() {
+            RuntimeTunables actual = lifecycle.getRuntimeTunables();
+
+            assertThat(actual).isInstanceOf(ContainerTunables.class);
+        }
+
+        @Test
+        void getRuntimeTunablesAfterStopped() {
+            lifecycle.stopUndertow();
+
+            RuntimeTunables actual = lifecycle.getRuntimeTunables();
+
+            assertThat(actual).isSameAs(RuntimeTunables.NONE);
+        }
+
         @Test
         void requestServerAfterRestartAlreadyRunningServer() {
             lifecycle.startUndertow(setupBasicPathHandler(), manager);
@@ -131,6 +225,99 @@ class UndertowLifecycleTest {
         }
     }
 
+    @Nested
+    class StartedWithHealthCheck {
+
+        private HealthCheck healthCheck;
+
+        @BeforeEach
+        void setUp() {
+            healthCheck = mock(HealthCheck.class);
+            when(healthCheck.check(READINESS_PATH)).thenReturn(new HealthCheck.Response(503, HEALTH_CHECK_BODY));
+            ServerConfiguration configuration = stubServerConfiguration(HOST, port);
+            when(configuration.getHealthCheck()).thenReturn(healthCheck);
+            lifecycle = new UndertowLifecycle(configuration);
+            lifecycle.startUndertow(setupBasicPathHandler(), stubDeploymentManager());
+        }
+
+        @Test
+        void requestHealthCheck() {
+            int actual = readResponseCode(READINESS_PATH);
+
+            assertThat(actual).isEqualTo(503);
+        }
+
+        @Test
+        void requestServer() {
+            String actual = readIndexContent();
+
+            assertThat(actual).isEqualTo(INDEX_CONTENT);
+        }
+
+        @Test
+        void requestHealthCheckAfterDrained() {
+            when(healthCheck.check(LIVENESS_PATH)).thenReturn(new HealthCheck.Response(200, HEALTH_CHECK_BODY));
+            lifecycle.drainUndertow(ofSeconds(1L));
+
+            int actual = readResponseCode(LIVENESS_PATH);
+
+            assertThat(actual).isEqualTo(200);
+        }
+
+        @Test
+        void requestServerAfterDrained() {
+            lifecycle.drainUndertow(ofSeconds(1L));
+
+            int actual = readIndexResponseCode();
+
+            assertThat(actual).isEqualTo(503);
+        }
+    }
+
+    @Nested
+    class StartedWithMetricsCollector {
+
+        private MetricsCollector metricsCollector;
+
+        @BeforeEach
+        void setUp() {
+            metricsCollector = mock(MetricsCollector.class);
+            ServerConfiguration configuration = stubServerConfiguration(HOST, port);
+            when(configuration.getMetricsCollector()).thenReturn(metricsCollector);
+            when(configuration.getEntryPointPaths()).thenReturn(Set.of(CONTEXT_PATH + INDEX));
+            lifecycle = new UndertowLifecycle(configuration);
+            lifecycle.startUndertow(setupBasicPathHandler(), stubDeploymentManager());
+        }
+
+        @Test
+        void requestServer() {
+            String actual = readIndexContent();
+
+            assertThat(actual).isEqualTo(INDEX_CONTENT);
+            verify(metricsCollector, timeout(1000L)).requestCompleted(eq(CONTEXT_PATH + INDEX), eq(200), any(Duration.class));
+        }
+
+        @Test
+        void requestNonEntryPointPath() {
+            int actual = readResponseCode("/unknown");
+
+            assertThat(actual).isEqualTo(404);
+            verify(metricsCollector, timeout(1000L)).requestCompleted(eq(OTHER_PATHS), eq(404), any(Duration.class));
+        }
+
+        @Test
+        void bindContainerStatistics() {
+            verify(metricsCollector).bindContainerStatistics(any());
+        }
+
+        @Test
+        void unbindContainerStatisticsOnStop() {
+            lifecycle.stopUndertow();
+
+            verify(metricsCollector).unbindContainerStatistics();
+        }
+    }
+
     @Nested
     class Stopped {
 
@@ -205,6 +392,23 @@ class UndertowLifecycleTest {
         return result;
     }
 
+    private int readIndexResponseCode() {
+        return readResponseCode(CONTEXT_PATH + INDEX);
+    }
+
+    @SneakyThrows
+    private int readResponseCode(String path) {
+        URI uri = new URI("http", null, HOST, port, path, null, null);
+        HttpURLConnection connection = (HttpURLConnection) uri.toURL().openConnection();
+        connection.setConnectTimeout(RESPONSE_TIMEOUT);
+        connection.setReadTimeout(RESPONSE_TIMEOUT);
+        try {
+            return connection.getResponseCode();
+        } finally {
+            connection.disconnect();
+        }
+    }
+
     private static DeploymentManager stubDeploymentManager() {
         Deployment deployment = mock(Deployment.class);
         ServletContextImpl servletContext = mock(ServletContextImpl.class);
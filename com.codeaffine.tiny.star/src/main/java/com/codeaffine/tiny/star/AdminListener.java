@@ -0,0 +1,171 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.shared.DaemonThreadFactory;
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
+import com.codeaffine.tiny.star.spi.Server;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.concurrent.ExecutorService;
+
+import static com.codeaffine.tiny.star.ApplicationServer.ADMIN_METRICS_PATH;
+import static com.codeaffine.tiny.star.Texts.*;
+import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.Executors.newSingleThreadExecutor;
+import static lombok.AccessLevel.PACKAGE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class AdminListener implements Server {
+
+    static final String ROOT_PATH = "/";
+    static final String HEADER_CONTENT_TYPE = "Content-Type";
+    static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    static final String NO_STORE = "no-store";
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(AdminListener.class);
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+    @NonNull
+    private final Server server;
+    @NonNull
+    private final HealthCheck healthCheck;
+    @NonNull
+    private final PrometheusTextFormat prometheusTextFormat;
+
+    private HttpServer httpServer;
+    private ExecutorService executor;
+
+    AdminListener(ApplicationServer applicationServer, Server server) {
+        this(
+            applicationServer,
+            server,
+            new ApplicationServerHealthCheck(applicationServer),
+            new PrometheusTextFormat(applicationServer, applicationServer.metricsRegistry)
+        );
+    }
+
+    @Override
+    public void start() {
+        startAdminListener();
+        try {
+            server.start();
+        } catch (RuntimeException cause) {
+            stopAdminListener();
+            throw cause;
+        }
+    }
+
+    @Override
+    public int drain(Duration timeout) {
+        return server.drain(timeout);
+    }
+
+    @Override
+    public void resume() {
+        server.resume();
+    }
+
+    @Override
+    public void stop() {
+        try {
+            server.stop();
+        } finally {
+            stopAdminListener();
+        }
+    }
+
+    @Override
+    public RuntimeTunables getRuntimeTunables() {
+        return server.getRuntimeTunables();
+    }
+
+    @Override
+    public String getName() {
+        return server.getName();
+    }
+
+    int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    private void startAdminListener() {
+        try {
+            httpServer = HttpServer.create(new InetSocketAddress(applicationServer.adminHost, applicationServer.adminPort), 0);
+        } catch (IOException cause) {
+            throw new IllegalStateException(format(ERROR_STARTING_ADMIN_LISTENER, applicationServer.adminHost, applicationServer.adminPort), cause);
+        }
+        executor = newSingleThreadExecutor(new DaemonThreadFactory(THREAD_NAME_ADMIN_LISTENER));
+        httpServer.setExecutor(executor);
+        httpServer.createContext(ROOT_PATH, this::handle);
+        httpServer.start();
+        logger.info(INFO_ADMIN_LISTENER, applicationServer.getIdentifier(), getMetricsUrl());
+    }
+
+    private void stopAdminListener() {
+        if (nonNull(httpServer)) {
+            httpServer.stop(0);
+            executor.shutdownNow();
+            httpServer = null;
+            executor = null;
+        }
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try {
+            String path = exchange.getRequestURI().getPath();
+            if (ADMIN_METRICS_PATH.equals(path)) {
+                respond(exchange, HTTP_OK, PrometheusTextFormat.CONTENT_TYPE, prometheusTextFormat.render());
+            } else {
+                HealthCheck.Response response = healthCheck.check(path);
+                if (isNull(response)) {
+                    respond(exchange, HTTP_NOT_FOUND, null, null);
+                } else {
+                    respond(exchange, response.statusCode(), HealthCheck.CONTENT_TYPE, response.body());
+                }
+            }
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void respond(HttpExchange exchange, int statusCode, String contentType, String body) throws IOException {
+        exchange.getResponseHeaders().set(HEADER_CACHE_CONTROL, NO_STORE);
+        if (isNull(body)) {
+            exchange.sendResponseHeaders(statusCode, -1L);
+            return;
+        }
+        byte[] content = body.getBytes(UTF_8);
+        exchange.getResponseHeaders().set(HEADER_CONTENT_TYPE, contentType);
+        exchange.sendResponseHeaders(statusCode, content.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(content);
+        }
+    }
+
+    private String getMetricsUrl() {
+        return format("http://%s:%s%s", applicationServer.adminHost, getPort(), ADMIN_METRICS_PATH);
+    }
+}
@@ -0,0 +1,33 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import lombok.NonNull;
+import org.eclipse.rap.rwt.application.Application.OperationMode;
+import org.eclipse.swt.widgets.Widget;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+record ApplicationModel(
+    @NonNull OperationMode operationMode,
+    @NonNull Map<String, Map<String, String>> entryPoints,
+    @NonNull List<StyleSheet> styleSheets,
+    @NonNull Set<String> resourceNames,
+    @NonNull Set<String> serviceHandlerIds,
+    @NonNull Set<Class<? extends Widget>> themeableWidgets,
+    @NonNull Map<String, Object> attributes)
+{
+
+    record StyleSheet(String themeId, String location) {}
+
+    Set<String> entryPointPaths() {
+        return entryPoints.keySet();
+    }
+}
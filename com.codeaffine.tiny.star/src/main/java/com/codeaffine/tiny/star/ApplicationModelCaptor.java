@@ -0,0 +1,116 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.ApplicationModel.StyleSheet;
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.eclipse.rap.rwt.application.*;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+import org.eclipse.rap.rwt.service.ServiceHandler;
+import org.eclipse.rap.rwt.service.SettingStoreFactory;
+import org.eclipse.swt.widgets.Widget;
+
+import java.util.*;
+
+import static java.util.Collections.*;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PRIVATE;
+import static org.eclipse.rap.rwt.application.Application.OperationMode.JEE_COMPATIBILITY;
+
+@NoArgsConstructor(access = PRIVATE)
+class ApplicationModelCaptor {
+
+    static class RecordingApplication implements Application {
+
+        private final Map<String, Map<String, String>> entryPoints = new LinkedHashMap<>();
+        private final List<StyleSheet> styleSheets = new ArrayList<>();
+        private final Set<String> resourceNames = new LinkedHashSet<>();
+        private final Set<String> serviceHandlerIds = new LinkedHashSet<>();
+        private final Set<Class<? extends Widget>> themeableWidgets = new LinkedHashSet<>();
+        private final Map<String, Object> attributes = new LinkedHashMap<>();
+        private OperationMode operationMode = JEE_COMPATIBILITY;
+
+        @Override
+        public void setOperationMode(OperationMode operationMode) {
+            this.operationMode = operationMode;
+        }
+
+        @Override
+        public void addEntryPoint(String path, Class<? extends EntryPoint> entryPointType, Map<String, String> properties) {
+            entryPoints.put(path, copyOf(properties));
+        }
+
+        @Override
+        public void addEntryPoint(String path, EntryPointFactory entryPointFactory, Map<String, String> properties) {
+            entryPoints.put(path, copyOf(properties));
+        }
+
+        @Override
+        public void addStyleSheet(String themeId, String styleSheetLocation) {
+            styleSheets.add(new StyleSheet(themeId, styleSheetLocation));
+        }
+
+        @Override
+        public void addStyleSheet(String themeId, String styleSheetLocation, ResourceLoader resourceLoader) {
+            styleSheets.add(new StyleSheet(themeId, styleSheetLocation));
+        }
+
+        @Override
+        public void setAttribute(String name, Object value) {
+            attributes.put(name, value);
+        }
+
+        @Override
+        public void setSettingStoreFactory(SettingStoreFactory settingStoreFactory) {
+            // not needed yet
+        }
+
+        @Override
+        public void setExceptionHandler(ExceptionHandler exceptionHandler) {
+            // not needed yet
+        }
+
+        @Override
+        public void addThemeableWidget(Class<? extends Widget> widget) {
+            themeableWidgets.add(widget);
+        }
+
+        @Override
+        public void addServiceHandler(String serviceHandlerId, ServiceHandler serviceHandler) {
+            serviceHandlerIds.add(serviceHandlerId);
+        }
+
+        @Override
+        public void addResource(String resourceName, ResourceLoader resourceLoader) {
+            resourceNames.add(resourceName);
+        }
+
+        ApplicationModel toApplicationModel() {
+            return new ApplicationModel(
+                operationMode,
+                unmodifiableMap(new LinkedHashMap<>(entryPoints)),
+                List.copyOf(styleSheets),
+                unmodifiableSet(new LinkedHashSet<>(resourceNames)),
+                unmodifiableSet(new LinkedHashSet<>(serviceHandlerIds)),
+                unmodifiableSet(new LinkedHashSet<>(themeableWidgets)),
+                unmodifiableMap(new LinkedHashMap<>(attributes))
+            );
+        }
+
+        private static Map<String, String> copyOf(Map<String, String> properties) {
+            return isNull(properties) ? emptyMap() : unmodifiableMap(new LinkedHashMap<>(properties));
+        }
+    }
+
+    static ApplicationModel captureApplicationModel(@NonNull ApplicationConfiguration applicationConfiguration) {
+        RecordingApplication application = new RecordingApplication();
+        applicationConfiguration.configure(application);
+        return application.toApplicationModel();
+    }
+}
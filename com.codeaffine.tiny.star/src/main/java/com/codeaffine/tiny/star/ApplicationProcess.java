@@ -19,7 +19,12 @@ import static com.codeaffine.tiny.star.ApplicationProcess.StopMode.ENFORCED;
 import static com.codeaffine.tiny.star.ApplicationProcess.StopMode.NORMAL;
 import static com.codeaffine.tiny.star.ApplicationServer.*;
 import static com.codeaffine.tiny.star.ApplicationServer.State.*;
+import static com.codeaffine.tiny.star.ObserverRegistry.NotificationMode.CONCURRENT;
+import static com.codeaffine.tiny.star.ObserverRegistry.NotificationMode.SEQUENTIAL;
 import static com.codeaffine.tiny.star.Texts.*;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.slf4j.LoggerFactory.getLogger;
 
 class ApplicationProcess {
@@ -30,26 +35,63 @@ class ApplicationProcess {
     private static final long OBSERVER_NOTIFICATION_TIMEOUT = 5000;
 
     private final ObserverRegistry<ApplicationServer> observerRegistry;
-    private final AtomicReference<State> state;
+    private final AtomicReference<CurrentState> state;
+    private final AtomicBoolean drained = new AtomicBoolean();
+    private final String applicationIdentifier;
     private final Runnable terminator;
+    private final Runnable drainer;
     private final Runnable starter;
 
     enum StopMode { NORMAL, ENFORCED }
 
+    // the transition event travels with the state, so that both get replaced by a single atomic operation
+    private record CurrentState(State state, LifecycleTransitionEvent transitionEvent) {
+
+        static CurrentState enter(State state) {
+            LifecycleTransitionEvent transitionEvent = new LifecycleTransitionEvent();
+            transitionEvent.fromState = state.name();
+            transitionEvent.begin();
+            return new CurrentState(state, transitionEvent);
+        }
+    }
+
     static class LifecycleException extends RuntimeException {
         LifecycleException(@SuppressWarnings("SameParameterValue") String message) { super(message); }
         LifecycleException(Throwable cause) { super(cause); }
     }
 
     ApplicationProcess(@NonNull ApplicationServer applicationServer, @NonNull Runnable starter, @NonNull Runnable terminator) {
+        this(applicationServer, starter, () -> {}, terminator);
+    }
+
+    ApplicationProcess(
+        @NonNull ApplicationServer applicationServer,
+        @NonNull Runnable starter,
+        @NonNull Runnable drainer,
+        @NonNull Runnable terminator)
+    {
+        this(applicationServer, starter, drainer, terminator, new StartupProfiler());
+    }
+
+    ApplicationProcess(
+        @NonNull ApplicationServer applicationServer,
+        @NonNull Runnable starter,
+        @NonNull Runnable drainer,
+        @NonNull Runnable terminator,
+        @NonNull StartupProfiler startupProfiler)
+    {
         this.observerRegistry = new ObserverRegistry<>(
             applicationServer,
             ApplicationServer.class,
             OBSERVER_NOTIFICATION_TIMEOUT,
+            startupProfiler,
+            applicationServer.concurrentLifecycleNotification ? CONCURRENT : SEQUENTIAL,
             Starting.class, Started.class, Stopping.class, Stopped.class
         );
-        this.state = new AtomicReference<>(HALTED);
+        this.state = new AtomicReference<>(CurrentState.enter(HALTED));
+        this.applicationIdentifier = applicationServer.getIdentifier();
         this.terminator = terminator;
+        this.drainer = drainer;
         this.starter = starter;
     }
 
@@ -62,7 +104,7 @@ class ApplicationProcess {
     }
 
     void start() {
-        if(state.compareAndSet(HALTED, STARTING)) {
+        if(compareAndSetState(HALTED, STARTING)) {
             doStart();
         } else {
             logger.debug(DEBUG_APPLICATION_NOT_HALTED);
@@ -74,7 +116,7 @@ class ApplicationProcess {
             throw extractExceptionToReport(exception, LifecycleException::new, FORWARD_RUNTIME_EXCEPTIONS);
         });
         starter.run();
-        state.set(RUNNING);
+        setState(RUNNING);
         observerRegistry.notifyObservers(Started.class, exception -> {
             throw handleExceptionOnStartedListener(exception);
         });
@@ -84,13 +126,76 @@ class ApplicationProcess {
         RuntimeException toRethrow = extractExceptionToReport(exception, LifecycleException::new, FORWARD_RUNTIME_EXCEPTIONS);
         logger.error(ERROR_NOTIFYING_STARTED_LISTENER, toRethrow);
         logger.error(ENFORCING_APPLICATION_TERMINATION);
-        state.set(RUNNING);
+        setState(RUNNING);
         stopInternal(ENFORCED);
         return toRethrow;
     }
 
     State getState() {
-        return state.get();
+        return state.get().state();
+    }
+
+    void setDrained(boolean drained) {
+        this.drained.set(drained);
+    }
+
+    boolean isDrained() {
+        return drained.get();
+    }
+
+    boolean awaitState(@NonNull State expected, long deadline) {
+        synchronized (state) {
+            while (expected != state.get().state()) {
+                long remaining = deadline - nanoTime();
+                if (remaining <= 0) {
+                    return false;
+                }
+                awaitStateChange(remaining);
+            }
+            return true;
+        }
+    }
+
+    private void awaitStateChange(long remaining) {
+        try {
+            NANOSECONDS.timedWait(state, remaining);
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    private void setState(State newState) {
+        CurrentState previous = state.getAndUpdate(current -> newState == current.state() ? current : CurrentState.enter(newState));
+        if (previous.state() != newState) {
+            recordTransition(previous.transitionEvent(), newState);
+        }
+        signalStateChange();
+    }
+
+    private boolean compareAndSetState(State expected, State newState) {
+        CurrentState previous = state.getAndUpdate(current -> expected == current.state() ? CurrentState.enter(newState) : current);
+        boolean result = expected == previous.state();
+        if (result) {
+            recordTransition(previous.transitionEvent(), newState);
+            signalStateChange();
+        }
+        return result;
+    }
+
+    private void recordTransition(LifecycleTransitionEvent event, State newState) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.applicationServer = applicationIdentifier;
+            event.toState = newState.name();
+            event.commit();
+        }
+    }
+
+    private void signalStateChange() {
+        synchronized (state) {
+            state.notifyAll();
+        }
     }
 
     void stop() {
@@ -98,7 +203,7 @@ class ApplicationProcess {
     }
 
     private void stopInternal(StopMode stopMode) {
-        if (state.compareAndSet(RUNNING, STOPPING)) {
+        if (compareAndSetState(RUNNING, STOPPING)) {
             doStop(stopMode);
         } else {
             logger.debug(DEBUG_APPLICATION_NOT_RUNNING);
@@ -107,10 +212,11 @@ class ApplicationProcess {
 
     private void doStop(StopMode stopMode) {
         AtomicBoolean soundShutdown = new AtomicBoolean(true);
-        state.set(STOPPING);
+        setState(STOPPING);
         observerRegistry.notifyObservers(Stopping.class, exception -> handleExceptionOnShutdown(soundShutdown, ERROR_NOTIFYING_STOPPING_LISTENER, exception));
+        drainer.run();
         terminator.run();
-        state.set(HALTED);
+        setState(HALTED);
         observerRegistry.notifyObservers(Stopped.class, exception -> handleExceptionOnShutdown(soundShutdown, ERROR_NOTIFYING_STOPPED_LISTENER, exception));
         if (NORMAL == stopMode && !soundShutdown.get()) {
             throw new LifecycleException(ERROR_TERMINATING_APPLICATION);
@@ -18,6 +18,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
 import static com.codeaffine.tiny.star.ShutdownHookHandler.beforeProcessShutdown;
+import static com.codeaffine.tiny.star.StartupProfile.*;
 import static com.codeaffine.tiny.star.Texts.INFO_SERVER_USAGE;
 import static com.codeaffine.tiny.star.Texts.INFO_WORKING_DIRECTORY;
 import static lombok.AccessLevel.PACKAGE;
@@ -32,6 +33,8 @@ class ApplicationProcessFactory {
     @SuppressWarnings("CanBeFinal")
     static Logger logger = getLogger(ApplicationProcessFactory.class);
 
+    record ProcessComponents(@NonNull File workingDirectory, @NonNull LoggingFrameworkControl loggingFrameworkControl, @NonNull Server server) {}
+
     @NonNull
     private final ApplicationServer applicationServer;
     @NonNull
@@ -50,6 +53,8 @@ class ApplicationProcessFactory {
     private final BiConsumer<ApplicationServer, ApplicationProcess> lifecycleListenerRegistrar;
     @NonNull
     private final StartInfoPrinter startInfoPrinter;
+    @NonNull
+    private final ManagementBeanRegistrar managementBeanRegistrar;
 
     ApplicationProcessFactory(ApplicationServer applicationServer) {
         this(applicationServer,
@@ -57,25 +62,58 @@ class ApplicationProcessFactory {
              new LoggingFrameworkConfigurator(applicationServer),
              new DelegatingServerFactory(applicationServer),
              new TerminatorFactory(applicationServer),
-             new ShutdownHookHandler(),
+             applicationServer.getShutdownHookHandler(),
              new AtomicReference<>(),
              LIFECYCLE_LISTENER_REGISTRAR,
-             new StartInfoPrinter(applicationServer));
+             new StartInfoPrinter(applicationServer),
+             new ManagementBeanRegistrar(applicationServer));
     }
 
     ApplicationProcess createProcess() {
-        File applicationWorkingDirectory = workingDirectoryPreparer.prepareWorkingDirectory();
-        LoggingFrameworkControl loggingFrameworkControl = loggingFrameworkConfigurator.configureLoggingFramework();
-        Server server = delegatingServerFactory.create(applicationWorkingDirectory);
+        StartupProfiler startupProfiler = applicationServer.startupProfiler;
+        ProcessComponents processComponents = applicationServer.concurrentStartup
+            ? new ConcurrentStartup(applicationServer, workingDirectoryPreparer, loggingFrameworkConfigurator, delegatingServerFactory).createProcessComponents()
+            : createProcessComponents(startupProfiler);
+        File applicationWorkingDirectory = processComponents.workingDirectory();
+        LoggingFrameworkControl loggingFrameworkControl = processComponents.loggingFrameworkControl();
+        Server server = applicationServer.adminPort > 0 ? new AdminListener(applicationServer, processComponents.server()) : processComponents.server();
         Runnable shutdownHookRemover = new ShutdownHookRemover(applicationServer, loggingFrameworkControl, shutdownHookHandler, shutdownHookOperation);
-        Terminator terminator = terminatorFactory.create(applicationWorkingDirectory, server, loggingFrameworkControl, shutdownHookRemover);
-        ApplicationProcess result = new ApplicationProcess(applicationServer, server::start, terminator);
+        Terminator terminator = terminatorFactory.create(
+            applicationWorkingDirectory,
+            server,
+            loggingFrameworkControl,
+            shutdownHookRemover,
+            managementBeanRegistrar
+        );
+        ApplicationProcess result = new ApplicationProcess(
+            applicationServer,
+            () -> startServer(startupProfiler, server),
+            new RequestDrainer(server, applicationServer),
+            terminator,
+            startupProfiler
+        );
         shutdownHookOperation.set(() -> beforeProcessShutdown(terminator, result));
-        shutdownHookHandler.register(shutdownHookOperation.get());
+        shutdownHookHandler.register(applicationServer.getIdentifier(), shutdownHookOperation.get());
         lifecycleListenerRegistrar.accept(applicationServer, result);
         startInfoPrinter.printStartText();
         logger.info(INFO_WORKING_DIRECTORY, applicationWorkingDirectory.getAbsolutePath());
         logger.info(INFO_SERVER_USAGE, applicationServer.getIdentifier(), server.getName());
         return result;
     }
+
+    private void startServer(StartupProfiler startupProfiler, Server server) {
+        startupProfiler.profile(PHASE_CONTAINER_START, server::start);
+        managementBeanRegistrar.register(server);
+        if (applicationServer.warmUpRequests > 0) {
+            startupProfiler.profile(PHASE_WARM_UP, new WarmUp(applicationServer));
+        }
+    }
+
+    private ProcessComponents createProcessComponents(StartupProfiler startupProfiler) {
+        File applicationWorkingDirectory = startupProfiler.profile(PHASE_WORKING_DIRECTORY_PREPARATION, workingDirectoryPreparer::prepareWorkingDirectory);
+        LoggingFrameworkControl loggingFrameworkControl
+            = startupProfiler.profile(PHASE_LOGGING_FRAMEWORK_CONFIGURATION, loggingFrameworkConfigurator::configureLoggingFramework);
+        Server server = delegatingServerFactory.create(applicationWorkingDirectory);
+        return new ProcessComponents(applicationWorkingDirectory, loggingFrameworkControl, server);
+    }
 }
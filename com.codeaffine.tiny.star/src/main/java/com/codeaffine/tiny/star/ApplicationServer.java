@@ -8,7 +8,9 @@
 package com.codeaffine.tiny.star;
 
 import com.codeaffine.tiny.star.spi.FilterDefinition;
+import com.codeaffine.tiny.star.spi.HealthCheck;
 import com.codeaffine.tiny.star.spi.SecureSocketLayerConfiguration;
+import com.codeaffine.tiny.star.spi.Server;
 import jakarta.servlet.ServletContextListener;
 import lombok.Builder;
 import lombok.NonNull;
@@ -26,25 +28,38 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.util.List;
+import java.time.Duration;
 import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Function;
 
 import static com.codeaffine.tiny.shared.IoUtils.findFreePort;
 import static com.codeaffine.tiny.shared.Metric.measureDuration;
 import static com.codeaffine.tiny.star.ApplicationServer.State.HALTED;
-import static com.codeaffine.tiny.star.EntrypointPathCaptor.captureEntrypointPaths;
+import static com.codeaffine.tiny.star.ApplicationModelCaptor.captureApplicationModel;
+import static com.codeaffine.tiny.star.ObserverRegistry.LIFECYCLE_EXECUTOR;
+import static com.codeaffine.tiny.star.ShutdownHookHandler.ExecutionMode.PARALLEL;
 import static com.codeaffine.tiny.star.Texts.*;
+import static com.codeaffine.tiny.star.spi.MetricsCollector.*;
 import static java.lang.Boolean.TRUE;
 import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
+import static java.lang.System.nanoTime;
+import static java.lang.Thread.currentThread;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static java.time.LocalDate.now;
 import static java.util.Arrays.stream;
+import static java.util.Collections.emptyList;
 import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.zip.Deflater.BEST_COMPRESSION;
+import static java.util.zip.Deflater.BEST_SPEED;
 import static lombok.AccessLevel.PRIVATE;
 import static org.slf4j.LoggerFactory.getLogger;
 
@@ -234,6 +249,288 @@ public class ApplicationServer {
      */
     public static final String CONFIGURATION_ATTRIBUTE_SECURE_SOCKET_LAYER_KEY_PASSWORD = "key-password";
 
+    /**
+     * The attribute name used for the virtual-threads flag definition in the application server's configuration json. The attribute value is
+     * expected to be a boolean. If set to {@code true} the underlying servlet engine dispatches servlet requests onto virtual threads instead
+     * of the platform threads of its worker pool. Default is {@link #DEFAULT_VIRTUAL_THREADS}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#useVirtualThreads()
+     * @see ApplicationServerBuilder#usePlatformThreads()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_VIRTUAL_THREADS = "virtual-threads";
+
+    /**
+     * The attribute name used for the http2 flag definition in the application server's configuration json. The attribute value is expected to be
+     * a boolean. If set to {@code true} the underlying servlet engine negotiates HTTP/2 via ALPN on secure connections (h2) and accepts HTTP/2 over
+     * clear text connections (h2c), e.g. behind a TLS terminating proxy. Default is {@link #DEFAULT_HTTP2}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableHttp2()
+     * @see ApplicationServerBuilder#disableHttp2()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_HTTP2 = "http2";
+
+    /**
+     * The attribute name used for the resource-cache-size definition in the application server's configuration json. Attribute values are
+     * expected to be integers that denote the maximum size in kilobytes of the in-memory cache the underlying servlet engine uses to serve static
+     * resources like the RWT client library, theme CSS and images. Least recently used entries are evicted if the cache is full and entries are
+     * invalidated if the corresponding file is rewritten. Zero or negative values leave the servlet engine's default resource handling in place.
+     * Default is {@link #DEFAULT_RESOURCE_CACHE_SIZE}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withResourceCacheSize(int)
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_SIZE = "resource-cache-size";
+
+    /**
+     * The attribute name used for the precompress-resources flag definition in the application server's configuration json. The attribute value is
+     * expected to be a boolean. If set to {@code true} gzip compressed siblings of compressible static resources are written into the working
+     * directory at startup. The underlying servlet engine serves those files to clients accepting the gzip content encoding.
+     * Default is {@link #DEFAULT_PRECOMPRESS_RESOURCES}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableResourcePrecompression()
+     * @see ApplicationServerBuilder#disableResourcePrecompression()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_PRECOMPRESS_RESOURCES = "precompress-resources";
+
+    /**
+     * The attribute name used for the response-compression flag definition in the application server's configuration json. The attribute value is
+     * expected to be a boolean. If set to {@code true} responses of the RWT servlet, e.g. the JSON protocol messages answering UI interactions, are
+     * gzip compressed for clients accepting the gzip content encoding. Default is {@link #DEFAULT_RESPONSE_COMPRESSION}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableResponseCompression(String...)
+     * @see ApplicationServerBuilder#disableResponseCompression()
+     * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_MINIMUM_SIZE
+     * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_LEVEL
+     * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_ENTRYPOINTS
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION = "response-compression";
+
+    /**
+     * The attribute name used for the response-compression-minimum-size definition in the application server's configuration json. Attribute values
+     * are expected to be integers that denote the minimum size in bytes of a response body to get compressed. Smaller responses are sent
+     * uncompressed, since compression would not pay off. Default is {@link #DEFAULT_RESPONSE_COMPRESSION_MINIMUM_SIZE}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withResponseCompressionMinimumSize(int)
+     * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_MINIMUM_SIZE = "response-compression-minimum-size";
+
+    /**
+     * The attribute name used for the response-compression-level definition in the application server's configuration json. Attribute values are
+     * expected to be integers between {@code 1} (best speed) and {@code 9} (best compression). Values outside of this range are adjusted to the
+     * nearest bound. Default is {@link #DEFAULT_RESPONSE_COMPRESSION_LEVEL}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withResponseCompressionLevel(int)
+     * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_LEVEL = "response-compression-level";
+
+    /**
+     * The attribute name used for the response-compression-entrypoints definition in the application server's configuration json. The attribute value
+     * is expected to be an array of entry point paths whose responses get compressed, e.g. {@code ["/app", "/admin"]}. If omitted or empty, responses
+     * of all entry points get compressed.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableResponseCompression(String...)
+     * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_ENTRYPOINTS = "response-compression-entrypoints";
+
+    /**
+     * The attribute name used for the resource-max-age definition in the application server's configuration json. Attribute values are expected to
+     * be integers that denote the number of seconds browsers may cache static resources whose file name ends with an eight digit hexadecimal
+     * content hash followed by the file extension, e.g. RWT theme images. Those resources are sent with an {@code immutable} cache control directive. All other static resources are sent with a strong entity tag,
+     * so that browsers can revalidate them with a conditional request answered by {@code 304 Not Modified}. Zero or negative values disable the
+     * cache policy. Default is {@link #DEFAULT_RESOURCE_MAX_AGE}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withResourceMaxAge(int)
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_RESOURCE_MAX_AGE = "resource-max-age";
+
+    /**
+     * The attribute name used for the drain-timeout definition in the application server's configuration json. Attribute values are expected to
+     * be integers that denote the maximum number of seconds the application server waits on shutdown for requests in progress to complete.
+     * Draining starts after the {@link Stopping} observers have been notified. New requests are rejected during draining and requests
+     * still in progress after the timeout has elapsed get aborted. Zero or negative values disable draining. Default is {@link #DEFAULT_DRAIN_TIMEOUT}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withDrainTimeout(int)
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_DRAIN_TIMEOUT = "drain-timeout";
+
+    /**
+     * The attribute name used for the concurrent-startup flag definition in the application server's configuration json. The attribute value is
+     * expected to be a boolean. If set to {@code true} independent startup phases run in parallel: the working directory preparation runs alongside
+     * the server factory lookup, and the logging framework configuration runs alongside the server creation. If a phase fails, the first problem
+     * is reported and a temporary working directory gets removed again. Default is {@link #DEFAULT_CONCURRENT_STARTUP}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableConcurrentStartup()
+     * @see ApplicationServerBuilder#disableConcurrentStartup()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_CONCURRENT_STARTUP = "concurrent-startup";
+
+    /**
+     * The attribute name used for the concurrent-lifecycle-notification flag definition in the application server's configuration json. The attribute
+     * value is expected to be a boolean. If set to {@code true} all lifecycle listeners of a lifecycle phase get notified in parallel and the server
+     * waits for them under one common deadline instead of notifying them one after another. Problems reported by the listeners are handled the same
+     * way as in sequential mode. Default is {@link #DEFAULT_CONCURRENT_LIFECYCLE_NOTIFICATION}.
+     * <p>Independent of this setting a lifecycle listener method may return a {@link java.util.concurrent.CompletionStage}. The server then waits
+     * for its completion before the lifecycle phase is considered to be finished.</p>
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableConcurrentLifecycleNotification()
+     * @see ApplicationServerBuilder#disableConcurrentLifecycleNotification()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_CONCURRENT_LIFECYCLE_NOTIFICATION = "concurrent-lifecycle-notification";
+
+    /**
+     * The attribute name used for the shutdown-timeout definition in the application server's configuration json. Attribute values are expected
+     * to be integers that denote the maximum number of seconds the JVM shutdown hook waits for the application server to stop. Shutdown operations
+     * that exceed the deadline get reported on the standard error stream and abandoned, so that the JVM termination time stays bounded. Zero or
+     * negative values let the shutdown hook wait without a deadline. Default is {@link #DEFAULT_SHUTDOWN_TIMEOUT}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withShutdownTimeout(int)
+     * @see ApplicationServerGroup
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_SHUTDOWN_TIMEOUT = "shutdown-timeout";
+
+    /**
+     * The attribute name used for the background-working-directory-deletion flag definition in the application server's configuration json. The
+     * attribute value is expected to be a boolean. If set to {@code true} the working directory is renamed to a tombstone on shutdown and deleted
+     * by a background job, so that the shutdown duration does not depend on the number of files written to the working directory. Tombstones left
+     * over by a previous run, e.g. because the JVM terminated before the background job has finished, are removed on the next start. Only
+     * applies if the working directory gets deleted on shutdown. Default is {@link #DEFAULT_BACKGROUND_WORKING_DIRECTORY_DELETION}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableBackgroundWorkingDirectoryDeletion()
+     * @see ApplicationServerBuilder#disableBackgroundWorkingDirectoryDeletion()
+     * @see #CONFIGURATION_ATTRIBUTE_DELETE_WORKING_DIRECTORY_ON_SHUTDOWN
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_BACKGROUND_WORKING_DIRECTORY_DELETION = "background-working-directory-deletion";
+
+    /**
+     * The attribute name used for the memory-backed-working-directory flag definition in the application server's configuration json. The
+     * attribute value is expected to be a boolean. If set to {@code true} the temporary working directory gets created within the shared memory
+     * file system ({@code /dev/shm}), so that generated RWT resources are written to and served from memory instead of disk. If
+     * the shared memory file system is not available the server falls back to a disk-backed temporary directory. Does not apply if a working
+     * directory is specified explicitly. Default is {@link #DEFAULT_MEMORY_BACKED_WORKING_DIRECTORY}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableMemoryBackedWorkingDirectory()
+     * @see ApplicationServerBuilder#disableMemoryBackedWorkingDirectory()
+     * @see #CONFIGURATION_ATTRIBUTE_WORKING_DIRECTORY
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_MEMORY_BACKED_WORKING_DIRECTORY = "memory-backed-working-directory";
+
+    /**
+     * The attribute name used for the resource-cache-directory definition in the application server's configuration json. Attribute values are
+     * expected to denote a directory on disk, which gets created if it does not exist. If specified and no working directory is defined
+     * explicitly, the server uses a subdirectory keyed by the application version and a hash of the captured {@link ApplicationConfiguration}
+     * as working directory and keeps it on shutdown, so that a restart of the same application uses the same, stable location. Note that RWT
+     * still registers, and therefore rewrites, its resources on every start, but precompressed variants of resources with a content hash in
+     * their names get reused. A running server locks its subdirectory, so that another instance with the same key falls back to a numbered
+     * sibling. Unlocked subdirectories of the same identifier but with an outdated key get removed on start.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withResourceCacheDirectory(File)
+     * @see #CONFIGURATION_ATTRIBUTE_WORKING_DIRECTORY
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_DIRECTORY = "resource-cache-directory";
+
+    /**
+     * The attribute name used for the warm-up-requests definition in the application server's configuration json. The attribute value is
+     * expected to be an integer denoting the number of simulated sessions per entry point that warm up the application after the servlet
+     * container has been started. Each simulated session loads the startup page, performs a few UI protocol round-trips and ends its UI session
+     * afterwards. The server reports {@link State#RUNNING} and notifies {@link Started} observers only after the warm-up has finished. A
+     * value of {@code 0} disables the warm-up. The warm-up is skipped if a secure socket layer is configured. Default is {@link #DEFAULT_WARM_UP_REQUESTS}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withWarmUpRequests(int)
+     * @see StartupProfile#PHASE_WARM_UP
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_WARM_UP_REQUESTS = "warm-up-requests";
+
+    /**
+     * The attribute name used for the health-endpoints flag definition in the application server's configuration json. The attribute value is
+     * expected to be a boolean. If set to {@code true} the server answers requests to {@value HealthCheck#LIVENESS_PATH} and
+     * {@value HealthCheck#READINESS_PATH} in front of the RWT servlet and its filter chain, so that health checks never create a UI session.
+     * Liveness is reported while the server is not {@link State#HALTED}, readiness only while the server is {@link State#RUNNING}, i.e.
+     * after a configured warm-up has finished and before draining starts, and has not been taken out of service by the drain operation of
+     * its {@link ApplicationServerMXBean}. While draining, the server keeps accepting connections so that probes get answered, but rejects all
+     * other requests. Default is {@link #DEFAULT_HEALTH_ENDPOINTS}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableHealthEndpoints()
+     * @see ApplicationServerBuilder#disableHealthEndpoints()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_HEALTH_ENDPOINTS = "health-endpoints";
+
+    /**
+     * The attribute name used for the admin-port definition in the application server's configuration json. The attribute value is expected to be
+     * an integer denoting the port of an optional admin listener. The admin listener serves the server's metrics in Prometheus text exposition
+     * format at {@value #ADMIN_METRICS_PATH} as well as the liveness and readiness endpoints {@value HealthCheck#LIVENESS_PATH} and
+     * {@value HealthCheck#READINESS_PATH}. It runs independently of the servlet container's connector and worker pool, so that scrapes and
+     * health checks never queue behind UI traffic and never create a UI session. A value of {@code 0} disables the admin listener. Default is
+     * {@link #DEFAULT_ADMIN_PORT}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withAdminPort(int)
+     * @see #CONFIGURATION_ATTRIBUTE_ADMIN_HOST
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_ADMIN_PORT = "admin-port";
+
+    /**
+     * The attribute name used for the admin-host definition in the application server's configuration json. The attribute value is expected to
+     * be a string representing a valid host name the admin listener binds to. Default is {@link #DEFAULT_ADMIN_HOST}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#withAdminHost(String)
+     * @see #CONFIGURATION_ATTRIBUTE_ADMIN_PORT
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_ADMIN_HOST = "admin-host";
+
+    /**
+     * The request path of the admin listener's metrics endpoint.
+     *
+     * @see #CONFIGURATION_ATTRIBUTE_ADMIN_PORT
+     */
+    public static final String ADMIN_METRICS_PATH = "/metrics";
+
+    /**
+     * The attribute name used for the jmx flag definition in the application server's configuration json. The attribute value is expected to
+     * be a boolean. If set to {@code true} the server registers an {@link ApplicationServerMXBean} with the platform MBean server while the
+     * servlet container is running. The MBean reports state, URLs, lifecycle durations, session counts and request statistics, offers stop,
+     * drain and resume operations and exposes the runtime tunables of the embedded servlet container as writable attributes. Default is
+     * {@link #DEFAULT_JMX}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableJmx()
+     * @see ApplicationServerBuilder#disableJmx()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_JMX = "jmx";
+
+    /**
+     * The attribute name used for the flight recorder events flag definition in the application server's configuration json. The attribute
+     * value is expected to be a boolean. If set to {@code true} the server installs filters that emit Java Flight Recorder events for each
+     * request to an entry point of the RWT application and for each execution of a registered {@link FilterDefinition}. Lifecycle
+     * transitions and lifecycle listener notifications are emitted regardless of this flag. Events are only recorded while a flight
+     * recording with the respective event types enabled is running. Default is {@link #DEFAULT_FLIGHT_RECORDER_EVENTS}.
+     *
+     * @see ApplicationServerBuilder
+     * @see ApplicationServerBuilder#enableFlightRecorderEvents()
+     * @see ApplicationServerBuilder#disableFlightRecorderEvents()
+     */
+    public static final String CONFIGURATION_ATTRIBUTE_FLIGHT_RECORDER_EVENTS = "flight-recorder-events";
+
     /**
      * Default value for {@link #CONFIGURATION_ATTRIBUTE_HOST}
      */
@@ -254,12 +551,114 @@ public class ApplicationServer {
      */
     public static final boolean DEFAULT_SHOW_START_INFO = true;
 
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_VIRTUAL_THREADS}
+     */
+    public static final boolean DEFAULT_VIRTUAL_THREADS = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_HTTP2}
+     */
+    public static final boolean DEFAULT_HTTP2 = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_SIZE}
+     */
+    public static final int DEFAULT_RESOURCE_CACHE_SIZE = 0;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_PRECOMPRESS_RESOURCES}
+     */
+    public static final boolean DEFAULT_PRECOMPRESS_RESOURCES = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION}
+     */
+    public static final boolean DEFAULT_RESPONSE_COMPRESSION = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_MINIMUM_SIZE}
+     */
+    public static final int DEFAULT_RESPONSE_COMPRESSION_MINIMUM_SIZE = 1024;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_LEVEL}
+     */
+    public static final int DEFAULT_RESPONSE_COMPRESSION_LEVEL = 6;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_RESOURCE_MAX_AGE}
+     */
+    public static final int DEFAULT_RESOURCE_MAX_AGE = 0;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_DRAIN_TIMEOUT}
+     */
+    public static final int DEFAULT_DRAIN_TIMEOUT = 0;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_CONCURRENT_STARTUP}
+     */
+    public static final boolean DEFAULT_CONCURRENT_STARTUP = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_CONCURRENT_LIFECYCLE_NOTIFICATION}
+     */
+    public static final boolean DEFAULT_CONCURRENT_LIFECYCLE_NOTIFICATION = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_SHUTDOWN_TIMEOUT}
+     */
+    public static final int DEFAULT_SHUTDOWN_TIMEOUT = 0;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_BACKGROUND_WORKING_DIRECTORY_DELETION}
+     */
+    public static final boolean DEFAULT_BACKGROUND_WORKING_DIRECTORY_DELETION = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_MEMORY_BACKED_WORKING_DIRECTORY}
+     */
+    public static final boolean DEFAULT_MEMORY_BACKED_WORKING_DIRECTORY = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_WARM_UP_REQUESTS}
+     */
+    public static final int DEFAULT_WARM_UP_REQUESTS = 0;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_HEALTH_ENDPOINTS}
+     */
+    public static final boolean DEFAULT_HEALTH_ENDPOINTS = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_ADMIN_PORT}
+     */
+    public static final int DEFAULT_ADMIN_PORT = 0;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_ADMIN_HOST}
+     */
+    public static final String DEFAULT_ADMIN_HOST = DEFAULT_HOST;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_JMX}
+     */
+    public static final boolean DEFAULT_JMX = false;
+
+    /**
+     * Default value for {@link #CONFIGURATION_ATTRIBUTE_FLIGHT_RECORDER_EVENTS}
+     */
+    public static final boolean DEFAULT_FLIGHT_RECORDER_EVENTS = false;
+
     /**
      * Value returned by {@link #getIdentifier()} if not specified otherwise by using the {@link #newApplicationServerBuilder(ApplicationConfiguration, String)}
      * builder factory method.
      */
     public static final String DEFAULT_APPLICATION_IDENTIFIER = ApplicationServer.class.getName().toLowerCase();
 
+    static final File SHARED_MEMORY_DIRECTORY = new File("/dev/shm");
+
     @SuppressWarnings("CanBeFinal")
     static Logger logger = getLogger(ApplicationServer.class);
 
@@ -279,8 +678,40 @@ public class ApplicationServer {
     @Singular
     List<ServletContextListener> servletContextListeners;
     Class<? extends RWTServlet> rwtServletExtension;
+    boolean virtualThreads;
+    boolean http2;
+    int resourceCacheSize;
+    boolean precompressResources;
+    boolean responseCompression;
+    int responseCompressionMinimumSize;
+    int responseCompressionLevel;
+    @Singular
+    List<String> responseCompressionEntryPointPaths;
+    int resourceMaxAge;
+    int drainTimeout;
+    boolean concurrentStartup;
+    boolean concurrentLifecycleNotification;
+    int shutdownTimeout;
+    boolean backgroundWorkingDirectoryDeletion;
+    boolean memoryBackedWorkingDirectory;
+    File resourceCacheDirectory;
+    int warmUpRequests;
+    boolean healthEndpoints;
+    int adminPort;
+    String adminHost;
+    boolean jmx;
+    boolean flightRecorderEvents;
 
     private final AtomicReference<ApplicationProcess> processHolder = new AtomicReference<>();
+    private final Object lifecycleLock = new Object();
+    private final AtomicReference<ApplicationModel> applicationModelHolder = new AtomicReference<>();
+    private final AtomicReference<ShutdownHookHandler> shutdownHookHandlerHolder = new AtomicReference<>();
+    private final AtomicReference<StartupProfile> startupProfileHolder = new AtomicReference<>(StartupProfiler.EMPTY_PROFILE);
+    private final AtomicReference<DelegatingMetricsCollector> metricsCollectorHolder = new AtomicReference<>();
+    private final AtomicReference<ResourceCacheLock> resourceCacheLockHolder = new AtomicReference<>();
+    private final StartupProfileWriter startupProfileWriter = new StartupProfileWriter();
+    final MetricsRegistry metricsRegistry = new MetricsRegistry();
+    final StartupProfiler startupProfiler = new StartupProfiler();
 
     /**
      * Configuration possibilities of the {@link #CONFIGURATION_ATTRIBUTE_SECURE_SOCKET_LAYER_KEYSTORE_LOCATION} attribute. The attribute value
@@ -592,6 +1023,375 @@ public class ApplicationServer {
             return new ApplicationServerBuilder(delegate.withDeleteWorkingDirectoryOnShutdown(true));
         }
 
+        /**
+         * Dispatch servlet requests onto virtual threads instead of the platform threads of the underlying servlet engine's worker pool. This allows
+         * to serve many more concurrent blocking requests without tuning pool sizes. If not specified the server uses platform threads.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the virtual threads flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_VIRTUAL_THREADS
+         */
+        public ApplicationServerBuilder useVirtualThreads() {
+            return new ApplicationServerBuilder(delegate.withVirtualThreads(true));
+        }
+
+        /**
+         * Dispatch servlet requests onto the platform threads of the underlying servlet engine's worker pool. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the virtual threads flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_VIRTUAL_THREADS
+         */
+        public ApplicationServerBuilder usePlatformThreads() {
+            return new ApplicationServerBuilder(delegate.withVirtualThreads(false));
+        }
+
+        /**
+         * Enable HTTP/2 support. Secure connections negotiate HTTP/2 via ALPN (h2), clear text connections accept HTTP/2 via upgrade or prior
+         * knowledge (h2c). The latter allows to run the server behind a TLS terminating proxy. If not specified the server only supports HTTP/1.1.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the http2 flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_HTTP2
+         */
+        public ApplicationServerBuilder enableHttp2() {
+            return new ApplicationServerBuilder(delegate.withHttp2(true));
+        }
+
+        /**
+         * Disable HTTP/2 support. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the http2 flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_HTTP2
+         */
+        public ApplicationServerBuilder disableHttp2() {
+            return new ApplicationServerBuilder(delegate.withHttp2(false));
+        }
+
+        /**
+         * Define the maximum size of the in-memory static resource cache in kilobytes. If not specified the server will use the
+         * {@link #DEFAULT_RESOURCE_CACHE_SIZE} value. Zero or negative values leave the servlet engine's default resource handling in place. The
+         * cache evicts least recently used entries if it is full and invalidates entries if the corresponding file in the working directory is
+         * rewritten.
+         *
+         * @param resourceCacheSize the maximum size of the in-memory static resource cache in kilobytes.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified resource cache size set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_SIZE
+         */
+        public ApplicationServerBuilder withResourceCacheSize(int resourceCacheSize) {
+            return new ApplicationServerBuilder(delegate.withResourceCacheSize(max(resourceCacheSize, 0)));
+        }
+
+        /**
+         * Write gzip compressed siblings of compressible static resources into the working directory at startup and let the underlying servlet
+         * engine serve those to clients accepting the gzip content encoding.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the precompress resources flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_PRECOMPRESS_RESOURCES
+         */
+        public ApplicationServerBuilder enableResourcePrecompression() {
+            return new ApplicationServerBuilder(delegate.withPrecompressResources(true));
+        }
+
+        /**
+         * Serve static resources uncompressed as written by RWT into the working directory. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the precompress resources flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_PRECOMPRESS_RESOURCES
+         */
+        public ApplicationServerBuilder disableResourcePrecompression() {
+            return new ApplicationServerBuilder(delegate.withPrecompressResources(false));
+        }
+
+        /**
+         * Compress responses of the RWT servlet with gzip for clients accepting the gzip content encoding. This reduces the size of the JSON protocol
+         * messages answering UI interactions considerably, which lowers latency over slow links.
+         *
+         * @param entryPointPaths the paths of the entry points whose responses get compressed. If none are given, responses of all entry points
+         *                        get compressed.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having response compression enabled. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION
+         * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_ENTRYPOINTS
+         */
+        public ApplicationServerBuilder enableResponseCompression(String ... entryPointPaths) {
+            return new ApplicationServerBuilder(delegate
+                .withResponseCompression(true)
+                .clearResponseCompressionEntryPointPaths()
+                .withResponseCompressionEntryPointPaths(stream(entryPointPaths)
+                    .filter(Objects::nonNull)
+                    .toList()));
+        }
+
+        /**
+         * Send responses of the RWT servlet uncompressed. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having response compression disabled. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION
+         */
+        public ApplicationServerBuilder disableResponseCompression() {
+            return new ApplicationServerBuilder(delegate.withResponseCompression(false));
+        }
+
+        /**
+         * Define the minimum size in bytes of a response body to get compressed. If not specified the server will use the
+         * {@link #DEFAULT_RESPONSE_COMPRESSION_MINIMUM_SIZE} value. Negative values are treated as zero.
+         *
+         * @param minimumSize the minimum size in bytes of a response body to get compressed.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified minimum size set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_MINIMUM_SIZE
+         */
+        public ApplicationServerBuilder withResponseCompressionMinimumSize(int minimumSize) {
+            return new ApplicationServerBuilder(delegate.withResponseCompressionMinimumSize(max(minimumSize, 0)));
+        }
+
+        /**
+         * Define the compression level between {@code 1} (best speed) and {@code 9} (best compression). If not specified the server will use the
+         * {@link #DEFAULT_RESPONSE_COMPRESSION_LEVEL} value. Values outside of this range are adjusted to the nearest bound.
+         *
+         * @param level the compression level to use.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified compression level set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_LEVEL
+         */
+        public ApplicationServerBuilder withResponseCompressionLevel(int level) {
+            return new ApplicationServerBuilder(delegate.withResponseCompressionLevel(normalizeResponseCompressionLevel(level)));
+        }
+
+        /**
+         * Define the number of seconds browsers may cache static resources whose file name carries a content hash. If not specified the server will
+         * use the {@link #DEFAULT_RESOURCE_MAX_AGE} value. Other static resources get revalidated by means of strong entity tags. Zero or negative
+         * values disable the cache policy.
+         *
+         * @param resourceMaxAge the number of seconds browsers may cache content hashed static resources.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified resource max age set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_RESOURCE_MAX_AGE
+         */
+        public ApplicationServerBuilder withResourceMaxAge(int resourceMaxAge) {
+            return new ApplicationServerBuilder(delegate.withResourceMaxAge(max(resourceMaxAge, 0)));
+        }
+
+        /**
+         * Define the maximum number of seconds the application server waits on shutdown for requests in progress to complete. If not specified
+         * the server will use the {@link #DEFAULT_DRAIN_TIMEOUT} value. Zero or negative values disable draining.
+         *
+         * @param drainTimeout the maximum number of seconds to wait for requests in progress on shutdown.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified drain timeout set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_DRAIN_TIMEOUT
+         */
+        public ApplicationServerBuilder withDrainTimeout(int drainTimeout) {
+            return new ApplicationServerBuilder(delegate.withDrainTimeout(max(drainTimeout, 0)));
+        }
+
+        /**
+         * Enable the concurrent startup mode. Independent startup phases like the working directory preparation and the server factory lookup
+         * run in parallel, which reduces the cold start time of the application server.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the concurrent startup flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_CONCURRENT_STARTUP
+         */
+        public ApplicationServerBuilder enableConcurrentStartup() {
+            return new ApplicationServerBuilder(delegate.withConcurrentStartup(true));
+        }
+
+        /**
+         * Disable the concurrent startup mode, i.e. all startup phases run one after another. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the concurrent startup flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_CONCURRENT_STARTUP
+         */
+        public ApplicationServerBuilder disableConcurrentStartup() {
+            return new ApplicationServerBuilder(delegate.withConcurrentStartup(false));
+        }
+
+        /**
+         * Enable the concurrent lifecycle notification mode. All lifecycle listeners of a lifecycle phase get notified in parallel under one common
+         * deadline, so that slow listeners no longer add up their notification times.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the concurrent lifecycle notification flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_CONCURRENT_LIFECYCLE_NOTIFICATION
+         */
+        public ApplicationServerBuilder enableConcurrentLifecycleNotification() {
+            return new ApplicationServerBuilder(delegate.withConcurrentLifecycleNotification(true));
+        }
+
+        /**
+         * Disable the concurrent lifecycle notification mode, i.e. lifecycle listeners get notified one after another in registration order.
+         * Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the concurrent lifecycle notification flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_CONCURRENT_LIFECYCLE_NOTIFICATION
+         */
+        public ApplicationServerBuilder disableConcurrentLifecycleNotification() {
+            return new ApplicationServerBuilder(delegate.withConcurrentLifecycleNotification(false));
+        }
+
+        /**
+         * Define the maximum number of seconds the JVM shutdown hook waits for the application server to stop. If not specified the shutdown hook
+         * waits without a deadline. Zero or negative values denote that there is no deadline.
+         *
+         * @param shutdownTimeout the shutdown timeout to use in seconds.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified shutdown timeout set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_SHUTDOWN_TIMEOUT
+         */
+        public ApplicationServerBuilder withShutdownTimeout(int shutdownTimeout) {
+            return new ApplicationServerBuilder(delegate.withShutdownTimeout(max(shutdownTimeout, 0)));
+        }
+
+        /**
+         * Enable the background deletion of the working directory. On shutdown the working directory is renamed to a tombstone and deleted by a
+         * background job. Orphaned tombstones of previous runs are removed on the next start.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the background working directory deletion flag set. Never
+         *         {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_BACKGROUND_WORKING_DIRECTORY_DELETION
+         */
+        public ApplicationServerBuilder enableBackgroundWorkingDirectoryDeletion() {
+            return new ApplicationServerBuilder(delegate.withBackgroundWorkingDirectoryDeletion(true));
+        }
+
+        /**
+         * Disable the background deletion of the working directory, i.e. the working directory gets deleted synchronously on shutdown. Default
+         * setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the background working directory deletion flag reset. Never
+         *         {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_BACKGROUND_WORKING_DIRECTORY_DELETION
+         */
+        public ApplicationServerBuilder disableBackgroundWorkingDirectoryDeletion() {
+            return new ApplicationServerBuilder(delegate.withBackgroundWorkingDirectoryDeletion(false));
+        }
+
+        /**
+         * Enable the memory-backed working directory. If no working directory is specified explicitly, the temporary working directory gets
+         * created within the shared memory file system, if available.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the memory-backed working directory flag set. Never
+         *         {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_MEMORY_BACKED_WORKING_DIRECTORY
+         */
+        public ApplicationServerBuilder enableMemoryBackedWorkingDirectory() {
+            return new ApplicationServerBuilder(delegate.withMemoryBackedWorkingDirectory(true));
+        }
+
+        /**
+         * Disable the memory-backed working directory, i.e. the temporary working directory gets created on disk. Default setting if not
+         * specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the memory-backed working directory flag reset. Never
+         *         {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_MEMORY_BACKED_WORKING_DIRECTORY
+         */
+        public ApplicationServerBuilder disableMemoryBackedWorkingDirectory() {
+            return new ApplicationServerBuilder(delegate.withMemoryBackedWorkingDirectory(false));
+        }
+
+        /**
+         * Define a persistent resource cache directory. If no working directory is specified, the server uses a subdirectory keyed by the
+         * application version and a hash of the application configuration as working directory and keeps it on shutdown. RWT still rewrites its
+         * resources on every start. Subdirectories of outdated keys get removed on start.
+         *
+         * @param resourceCacheDirectory the resource cache directory to use. Must not be {@code null}.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified resource cache directory set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_DIRECTORY
+         */
+        public ApplicationServerBuilder withResourceCacheDirectory(@NonNull File resourceCacheDirectory) {
+            return new ApplicationServerBuilder(delegate.withResourceCacheDirectory(resourceCacheDirectory));
+        }
+
+        /**
+         * Define the number of simulated sessions per entry point that warm up the application before the server reports
+         * {@link State#RUNNING}. Negative values are treated as {@code 0}, which disables the warm-up.
+         *
+         * @param warmUpRequests the number of simulated sessions per entry point.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the specified number of warm-up requests set. Never
+         *         {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_WARM_UP_REQUESTS
+         */
+        public ApplicationServerBuilder withWarmUpRequests(int warmUpRequests) {
+            return new ApplicationServerBuilder(delegate.withWarmUpRequests(max(warmUpRequests, 0)));
+        }
+
+        /**
+         * Enable the liveness and readiness endpoints {@value HealthCheck#LIVENESS_PATH} and {@value HealthCheck#READINESS_PATH}.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the health endpoints flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_HEALTH_ENDPOINTS
+         */
+        public ApplicationServerBuilder enableHealthEndpoints() {
+            return new ApplicationServerBuilder(delegate.withHealthEndpoints(true));
+        }
+
+        /**
+         * Disable the liveness and readiness endpoints. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the health endpoints flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_HEALTH_ENDPOINTS
+         */
+        public ApplicationServerBuilder disableHealthEndpoints() {
+            return new ApplicationServerBuilder(delegate.withHealthEndpoints(false));
+        }
+
+        /**
+         * Define the port of the admin listener that serves metrics and health endpoints independently of the application's connector.
+         *
+         * @param adminPort the port of the admin listener. A value of {@code 0} disables the admin listener. Negative values are treated as
+         *                  {@code 0}.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the admin port set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_ADMIN_PORT
+         */
+        public ApplicationServerBuilder withAdminPort(int adminPort) {
+            return new ApplicationServerBuilder(delegate.withAdminPort(max(adminPort, 0)));
+        }
+
+        /**
+         * Define the host name the admin listener binds to. If not specified the admin listener uses the {@link ApplicationServer#DEFAULT_ADMIN_HOST}
+         * value.
+         *
+         * @param adminHost the host name of the admin listener. Must not be {@code null}.
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the admin host set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_ADMIN_HOST
+         */
+        public ApplicationServerBuilder withAdminHost(@NonNull String adminHost) {
+            return new ApplicationServerBuilder(delegate.withAdminHost(adminHost));
+        }
+
+        /**
+         * Enable the registration of an {@link ApplicationServerMXBean} with the platform MBean server.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the jmx flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_JMX
+         */
+        public ApplicationServerBuilder enableJmx() {
+            return new ApplicationServerBuilder(delegate.withJmx(true));
+        }
+
+        /**
+         * Disable the registration of an {@link ApplicationServerMXBean}. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the jmx flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_JMX
+         */
+        public ApplicationServerBuilder disableJmx() {
+            return new ApplicationServerBuilder(delegate.withJmx(false));
+        }
+
+        /**
+         * Enable the Java Flight Recorder events for requests to the entry points of the RWT application and for the executions of
+         * registered filters.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the flight recorder events flag set. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_FLIGHT_RECORDER_EVENTS
+         */
+        public ApplicationServerBuilder enableFlightRecorderEvents() {
+            return new ApplicationServerBuilder(delegate.withFlightRecorderEvents(true));
+        }
+
+        /**
+         * Disable the Java Flight Recorder events for requests and filter executions. Default setting if not specified otherwise.
+         *
+         * @return a clone of this {@link ApplicationServerBuilder} instance having the flight recorder events flag reset. Never {@code null}.
+         * @see #CONFIGURATION_ATTRIBUTE_FLIGHT_RECORDER_EVENTS
+         */
+        public ApplicationServerBuilder disableFlightRecorderEvents() {
+            return new ApplicationServerBuilder(delegate.withFlightRecorderEvents(false));
+        }
+
         /**
          * Define a provider function for an info message shown on the console before the application server starts. If not specified the server will
          * show a default about message.
@@ -752,7 +1552,64 @@ public class ApplicationServer {
                     Boolean.class))
             .withSessionTimeout(normalizeSessionTimeout(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_SESSION_TIMEOUT,
                 DEFAULT_SESSION_TIMEOUT,
-                Integer.class)));
+                Integer.class)))
+            .withVirtualThreads(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_VIRTUAL_THREADS,
+                DEFAULT_VIRTUAL_THREADS,
+                Boolean.class))
+            .withHttp2(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_HTTP2, DEFAULT_HTTP2, Boolean.class))
+            .withResourceCacheSize(max(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_SIZE,
+                DEFAULT_RESOURCE_CACHE_SIZE,
+                Integer.class), 0))
+            .withPrecompressResources(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_PRECOMPRESS_RESOURCES,
+                DEFAULT_PRECOMPRESS_RESOURCES,
+                Boolean.class))
+            .withResponseCompression(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION,
+                DEFAULT_RESPONSE_COMPRESSION,
+                Boolean.class))
+            .withResponseCompressionMinimumSize(max(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_MINIMUM_SIZE,
+                DEFAULT_RESPONSE_COMPRESSION_MINIMUM_SIZE,
+                Integer.class), 0))
+            .withResponseCompressionLevel(normalizeResponseCompressionLevel(configurator.readEnvironmentConfigurationAttribute(
+                CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_LEVEL,
+                DEFAULT_RESPONSE_COMPRESSION_LEVEL,
+                Integer.class)))
+            .withResponseCompressionEntryPointPaths(readResponseCompressionEntryPointPaths(configurator))
+            .withResourceMaxAge(max(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_RESOURCE_MAX_AGE,
+                DEFAULT_RESOURCE_MAX_AGE,
+                Integer.class), 0))
+            .withDrainTimeout(max(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_DRAIN_TIMEOUT,
+                DEFAULT_DRAIN_TIMEOUT,
+                Integer.class), 0))
+            .withConcurrentStartup(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_CONCURRENT_STARTUP,
+                DEFAULT_CONCURRENT_STARTUP,
+                Boolean.class))
+            .withConcurrentLifecycleNotification(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_CONCURRENT_LIFECYCLE_NOTIFICATION,
+                DEFAULT_CONCURRENT_LIFECYCLE_NOTIFICATION,
+                Boolean.class))
+            .withShutdownTimeout(max(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_SHUTDOWN_TIMEOUT,
+                DEFAULT_SHUTDOWN_TIMEOUT,
+                Integer.class), 0))
+            .withBackgroundWorkingDirectoryDeletion(configurator.readEnvironmentConfigurationAttribute(
+                CONFIGURATION_ATTRIBUTE_BACKGROUND_WORKING_DIRECTORY_DELETION,
+                DEFAULT_BACKGROUND_WORKING_DIRECTORY_DELETION,
+                Boolean.class))
+            .withMemoryBackedWorkingDirectory(configurator.readEnvironmentConfigurationAttribute(
+                CONFIGURATION_ATTRIBUTE_MEMORY_BACKED_WORKING_DIRECTORY,
+                DEFAULT_MEMORY_BACKED_WORKING_DIRECTORY,
+                Boolean.class))
+            .withResourceCacheDirectory(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_DIRECTORY, null, File::new))
+            .withWarmUpRequests(max(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_WARM_UP_REQUESTS,
+                DEFAULT_WARM_UP_REQUESTS,
+                Integer.class), 0))
+            .withHealthEndpoints(configurator.readEnvironmentConfigurationAttribute(
+                CONFIGURATION_ATTRIBUTE_HEALTH_ENDPOINTS,
+                DEFAULT_HEALTH_ENDPOINTS,
+                Boolean.class))
+            .withAdminPort(max(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_ADMIN_PORT, DEFAULT_ADMIN_PORT, Integer.class), 0))
+            .withAdminHost(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_ADMIN_HOST, DEFAULT_ADMIN_HOST, String.class))
+            .withJmx(configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_JMX, DEFAULT_JMX, Boolean.class))
+            .withFlightRecorderEvents(configurator.readEnvironmentConfigurationAttribute(
+                CONFIGURATION_ATTRIBUTE_FLIGHT_RECORDER_EVENTS, DEFAULT_FLIGHT_RECORDER_EVENTS, Boolean.class));
     }
 
     /**
@@ -797,12 +1654,24 @@ public class ApplicationServer {
      * @return the {@link URL}s to the RWT application's entry points. Never {@code null}.
      */
     public URL[] getUrls() {
-        return captureEntrypointPaths(applicationConfiguration)
+        return getApplicationModel()
+            .entryPointPaths()
             .stream()
             .map(this::toUrl)
             .toArray(URL[]::new);
     }
 
+    /**
+     * returns the {@link StartupProfile} of the latest start of this application server. The profile breaks down the startup time into its phases
+     * and is also written as JSON report to the application server's working directory.
+     *
+     * @return the {@link StartupProfile} of the latest start. A profile without phases if the application server has not been started yet.
+     *         Never {@code null}.
+     */
+    public StartupProfile getStartupProfile() {
+        return startupProfileHolder.get();
+    }
+
     /**
      * start this {@link ApplicationServer} instance with the {@link ApplicationConfiguration} implementation and configuration settings specified by the
      * {@link ApplicationServerBuilder} instance that has been used to create this {@link ApplicationServer} instance. Does nothing if the application
@@ -815,7 +1684,8 @@ public class ApplicationServer {
     }
 
     /**
-     * stop this {@link ApplicationServer} instance. Does nothing if the application server is already stopped.
+     * stop this {@link ApplicationServer} instance. Does nothing if the application server is already stopped. A stop that is requested while
+     * another thread is starting the application server waits until the start procedure has finished and stops the server afterwards.
      *
      * @return this {@link ApplicationServer} instance. Never {@code null}.
      */
@@ -823,41 +1693,228 @@ public class ApplicationServer {
         return stopInternal();
     }
 
+    /**
+     * start this {@link ApplicationServer} instance asynchronously. The start procedure is the same as described by {@link #start()}, but runs on a
+     * lifecycle thread, so that the caller is not blocked. This allows to start several application server instances at once.
+     *
+     * @return a {@link CompletableFuture} that completes with this {@link ApplicationServer} instance once the start procedure has finished or
+     *         completes exceptionally if the start procedure fails. Never {@code null}.
+     */
+    public CompletableFuture<ApplicationServer> startAsync() {
+        return supplyAsync(this::start, LIFECYCLE_EXECUTOR);
+    }
+
+    /**
+     * stop this {@link ApplicationServer} instance asynchronously. The stop procedure is the same as described by {@link #stop()}, but runs on a
+     * lifecycle thread, so that the caller is not blocked.
+     *
+     * @return a {@link CompletableFuture} that completes with this {@link ApplicationServer} instance once the stop procedure has finished or
+     *         completes exceptionally if the stop procedure fails. Never {@code null}.
+     */
+    public CompletableFuture<ApplicationServer> stopAsync() {
+        return supplyAsync(this::stop, LIFECYCLE_EXECUTOR);
+    }
+
+    /**
+     * wait until this {@link ApplicationServer} instance has entered the given lifecycle {@link State} or the given timeout has elapsed. The
+     * calling thread gets notified on each state change, so no polling of {@link #getState()} is needed. The state is evaluated the same way as
+     * {@link #getState()} does, i.e. an application server that has not been started yet is considered to be {@link State#HALTED}. An
+     * application server that is shutting down is {@link State#STOPPING} until its servlet container has been stopped.
+     *
+     * @param state the lifecycle {@link State} to wait for. Must not be {@code null}.
+     * @param timeout the maximum time to wait. Must not be {@code null}.
+     * @return {@code true} if the application server has entered the given state within the timeout, {@code false} otherwise.
+     * @throws IllegalStateException if the calling thread gets interrupted while waiting.
+     */
+    public boolean awaitState(@NonNull State state, @NonNull Duration timeout) {
+        long deadline = nanoTime() + timeout.toNanos();
+        ApplicationProcess process = awaitProcess(state, deadline);
+        if (isNull(process)) {
+            return HALTED == state;
+        }
+        return process.awaitState(state, deadline);
+    }
+
+    boolean isUsingResourceCache() {
+        return isNull(workingDirectory) && nonNull(resourceCacheDirectory);
+    }
+
+    void setResourceCacheLock(ResourceCacheLock resourceCacheLock) {
+        resourceCacheLockHolder.set(resourceCacheLock);
+    }
+
+    void releaseResourceCacheLock() {
+        ResourceCacheLock resourceCacheLock = resourceCacheLockHolder.getAndSet(null);
+        if (nonNull(resourceCacheLock)) {
+            resourceCacheLock.release();
+        }
+    }
+
+    ApplicationModel getApplicationModel() {
+        ApplicationModel result = applicationModelHolder.get();
+        if (isNull(result)) {
+            synchronized (applicationModelHolder) {
+                result = applicationModelHolder.get();
+                if (isNull(result)) {
+                    result = captureApplicationModel(applicationConfiguration);
+                    applicationModelHolder.set(result);
+                }
+            }
+        }
+        return result;
+    }
+
+    ShutdownHookHandler getShutdownHookHandler() {
+        ShutdownHookHandler result = shutdownHookHandlerHolder.get();
+        if (isNull(result)) {
+            result = shutdownTimeout > 0 ? new ShutdownHookHandler(PARALLEL, Duration.ofSeconds(shutdownTimeout)) : new ShutdownHookHandler();
+        }
+        return result;
+    }
+
+    void setShutdownHookHandler(ShutdownHookHandler shutdownHookHandler) {
+        shutdownHookHandlerHolder.set(shutdownHookHandler);
+    }
+
+    DelegatingMetricsCollector getMetricsCollector() {
+        DelegatingMetricsCollector result = metricsCollectorHolder.get();
+        if (isNull(result)) {
+            synchronized (metricsCollectorHolder) {
+                result = metricsCollectorHolder.get();
+                if (isNull(result)) {
+                    result = createMetricsCollector();
+                    metricsCollectorHolder.set(result);
+                }
+            }
+        }
+        return result;
+    }
+
+    private DelegatingMetricsCollector createMetricsCollector() {
+        DelegatingMetricsCollector result = new DelegatingMetricsCollectorFactory().create(getIdentifier());
+        return adminPort > 0 || jmx ? result.with(metricsRegistry) : result;
+    }
+
+    void setMetricsCollector(DelegatingMetricsCollector metricsCollector) {
+        metricsCollectorHolder.set(metricsCollector);
+    }
+
+    int drain(Server server, Duration timeout) {
+        setDrained(true);
+        return server.drain(timeout);
+    }
+
+    void resume(Server server) {
+        server.resume();
+        setDrained(false);
+    }
+
+    boolean isDrained() {
+        ApplicationProcess process = processHolder.get();
+        return nonNull(process) && process.isDrained();
+    }
+
+    private void setDrained(boolean drained) {
+        ApplicationProcess process = processHolder.get();
+        if (nonNull(process)) {
+            process.setDrained(drained);
+        }
+    }
+
     String getWorkingDirectorSystemProperty() {
         return getIdentifier() + "." + CONFIGURATION_ATTRIBUTE_WORKING_DIRECTORY;
     }
 
     ApplicationServer stopInternal() {
-        ApplicationProcess process = processHolder.getAndUpdate(currentProcess -> null);
-        if (nonNull(process)) {
-            logger.info(INFO_SHUTDOWN_START, getIdentifier());
-            measureDuration(process::stop)
-                .report(duration -> logger.info(INFO_SHUTDOWN_CONFIRMATION, getIdentifier(), duration));
+        synchronized (lifecycleLock) {
+            ApplicationProcess process = processHolder.get();
+            if (nonNull(process)) {
+                try {
+                    logger.info(INFO_SHUTDOWN_START, getIdentifier());
+                    measureDuration(process::stop)
+                        .report(duration -> {
+                            logger.info(INFO_SHUTDOWN_CONFIRMATION, getIdentifier(), duration);
+                            getMetricsCollector().lifecyclePhaseCompleted(LIFECYCLE_PHASE_STOP, Duration.ofMillis(duration));
+                        });
+                } finally {
+                    processHolder.set(null);
+                    signalProcessChange();
+                }
+            }
+            return this;
         }
-        return this;
     }
 
     ApplicationServer startInternal(ApplicationProcessFactory applicationProcessFactory) {
-        ApplicationProcess process = processHolder.updateAndGet(currentProcess -> createProcess(currentProcess, applicationProcessFactory));
-        if (process.getState().equals(HALTED)) {
-            measureDuration(process::start)
-                .report(this::logStartupInfos);
+        synchronized (lifecycleLock) {
+            ApplicationProcess process = processHolder.get();
+            if (isNull(process)) {
+                process = createProcess(applicationProcessFactory);
+                processHolder.set(process);
+                signalProcessChange();
+            }
+            if (process.getState().equals(HALTED)) {
+                measureDuration(process::start)
+                    .report(this::logStartupInfos);
+                reportStartupProfile();
+            }
+            return this;
+        }
+    }
+
+    private ApplicationProcess awaitProcess(State state, long deadline) {
+        synchronized (processHolder) {
+            long remaining = deadline - nanoTime();
+            while (HALTED != state && isNull(processHolder.get()) && remaining > 0) {
+                awaitProcessChange(remaining);
+                remaining = deadline - nanoTime();
+            }
+            return processHolder.get();
+        }
+    }
+
+    private void awaitProcessChange(long remaining) {
+        try {
+            NANOSECONDS.timedWait(processHolder, remaining);
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            throw new IllegalStateException(cause);
         }
-        return this;
     }
 
-    private ApplicationProcess createProcess(ApplicationProcess currentProcess, ApplicationProcessFactory applicationProcessFactory) {
-        if (nonNull(currentProcess)) {
-            return currentProcess;
+    private void signalProcessChange() {
+        synchronized (processHolder) {
+            processHolder.notifyAll();
         }
+    }
+
+    private ApplicationProcess createProcess(ApplicationProcessFactory applicationProcessFactory) {
+        startupProfiler.startRecording();
         return measureDuration(applicationProcessFactory::createProcess)
-            .report((value, duration) -> logger.info(INFO_CREATION_CONFIRMATION, getIdentifier(), duration));
+            .report((value, duration) -> {
+                logger.info(INFO_CREATION_CONFIRMATION, getIdentifier(), duration);
+                getMetricsCollector().lifecyclePhaseCompleted(LIFECYCLE_PHASE_CREATE, Duration.ofMillis(duration));
+            });
+    }
+
+    private void reportStartupProfile() {
+        if (startupProfiler.isRecording()) {
+            StartupProfile startupProfile = startupProfiler.stopRecording();
+            startupProfileHolder.set(startupProfile);
+            startupProfile.getPhases()
+                .forEach(phase -> getMetricsCollector().lifecyclePhaseCompleted(phase.getName(), Duration.ofNanos(phase.getDuration())));
+            String workingDirectory = System.getProperty(getWorkingDirectorSystemProperty());
+            if (nonNull(workingDirectory)) {
+                startupProfileWriter.write(getIdentifier(), startupProfile, new File(workingDirectory));
+            }
+        }
     }
 
     private void logStartupInfos(long duration) {
         stream(getUrls())
             .forEach(url -> logger.info(INFO_ENTRYPOINT_URL, url.toString()));
         logger.info(INFO_STARTUP_CONFIRMATION, getIdentifier(), duration);
+        getMetricsCollector().lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, Duration.ofMillis(duration));
     }
 
     private URL toUrl(String path) {
@@ -873,4 +1930,13 @@ public class ApplicationServer {
     private static int normalizeSessionTimeout(Integer sessionTimeout) {
         return max(sessionTimeout, 0);
     }
+
+    private static int normalizeResponseCompressionLevel(Integer level) {
+        return min(max(level, BEST_SPEED), BEST_COMPRESSION);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static List<String> readResponseCompressionEntryPointPaths(ServerConfigurationReader configurator) {
+        return configurator.readEnvironmentConfigurationAttribute(CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_ENTRYPOINTS, emptyList(), List.class);
+    }
 }
@@ -8,6 +8,8 @@
 package com.codeaffine.tiny.star;
 
 import com.codeaffine.tiny.star.spi.FilterDefinition;
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
 import com.codeaffine.tiny.star.spi.SecureSocketLayerConfiguration;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import jakarta.servlet.ServletContextListener;
@@ -17,23 +19,29 @@ import lombok.RequiredArgsConstructor;
 import org.eclipse.rap.rwt.engine.RWTServlet;
 
 import java.io.File;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 
-import static com.codeaffine.tiny.star.EntrypointPathCaptor.captureEntrypointPaths;
+import static java.util.Collections.unmodifiableList;
 import static java.util.Objects.isNull;
 import static lombok.AccessLevel.PACKAGE;
 
 @RequiredArgsConstructor(access = PACKAGE)
 class ApplicationServerConfiguration implements ServerConfiguration {
 
+    static final String ALL_SUB_PATHS_PATTERN = "/*";
+    static final String RESOURCES_PATTERN = "/" + ResourcePrecompressor.RESOURCES_DIRECTORY + ALL_SUB_PATHS_PATTERN;
+
     @NonNull
     private final File workingDirectory;
     @NonNull
     private final ApplicationServer applicationServer;
 
     private ServletContextListenerAdapter servletContextListenerAdapter;
+    private volatile List<FilterDefinition> filterDefinitions;
+    private volatile HealthCheck healthCheck;
 
     @Override
     public SecureSocketLayerConfiguration getSecureSocketLayerConfiguration() {
@@ -63,12 +71,22 @@ class ApplicationServerConfiguration implements ServerConfiguration {
         if (isNull(servletContextListenerAdapter)) {
             servletContextListenerAdapter = new ServletContextListenerAdapter(
                 new TinyStarServletContextListener(applicationServer.applicationConfiguration),
-                applicationServer.servletContextListeners
+                collectApplicationServletContextListeners(),
+                applicationServer.startupProfiler
             );
         }
         return servletContextListenerAdapter;
     }
 
+    private List<ServletContextListener> collectApplicationServletContextListeners() {
+        List<ServletContextListener> result = new ArrayList<>();
+        if (applicationServer.precompressResources) {
+            result.add(new ResourcePrecompressor());
+        }
+        result.addAll(applicationServer.servletContextListeners);
+        return result;
+    }
+
     @Override
     public @NonNull File getWorkingDirectory() {
         return workingDirectory;
@@ -76,12 +94,66 @@ class ApplicationServerConfiguration implements ServerConfiguration {
 
     @Override
     public Set<String> getEntryPointPaths() {
-        return captureEntrypointPaths(applicationServer.applicationConfiguration);
+        return applicationServer.getApplicationModel().entryPointPaths();
     }
 
     @Override
     public List<FilterDefinition> getFilterDefinitions() {
-        return applicationServer.filterDefinitions;
+        List<FilterDefinition> result = filterDefinitions;
+        if (isNull(result)) {
+            synchronized (this) {
+                result = filterDefinitions;
+                if (isNull(result)) {
+                    result = collectFilterDefinitions();
+                    filterDefinitions = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    private List<FilterDefinition> collectFilterDefinitions() {
+        List<FilterDefinition> result = new ArrayList<>();
+        if (applicationServer.responseCompression) {
+            result.add(createResponseCompressionFilterDefinition());
+        }
+        if (applicationServer.resourceMaxAge > 0) {
+            result.add(createResourceCachePolicyFilterDefinition());
+        }
+        result.addAll(applicationServer.filterDefinitions);
+        if (applicationServer.flightRecorderEvents) {
+            return decorateWithFlightRecorderEvents(result);
+        }
+        return unmodifiableList(result);
+    }
+
+    private static List<FilterDefinition> decorateWithFlightRecorderEvents(List<FilterDefinition> filterDefinitions) {
+        List<FilterDefinition> result = new ArrayList<>();
+        result.add(FilterDefinition.of(RequestEventFilter.FILTER_NAME, new RequestEventFilter()));
+        filterDefinitions.stream()
+            .map(FilterEventFilter::decorate)
+            .forEach(result::add);
+        return unmodifiableList(result);
+    }
+
+    private FilterDefinition createResourceCachePolicyFilterDefinition() {
+        return FilterDefinition.of(
+            ResourceCachePolicyFilter.FILTER_NAME,
+            new ResourceCachePolicyFilter(applicationServer.resourceMaxAge),
+            RESOURCES_PATTERN
+        );
+    }
+
+    private FilterDefinition createResponseCompressionFilterDefinition() {
+        ResponseCompressionFilter filter = new ResponseCompressionFilter(
+            applicationServer.responseCompressionMinimumSize,
+            applicationServer.responseCompressionLevel
+        );
+        List<String> urlPatterns = applicationServer.responseCompressionEntryPointPaths
+            .stream()
+            .map(entryPointPath -> entryPointPath + ALL_SUB_PATHS_PATTERN)
+            .toList();
+        return FilterDefinition.of(ResponseCompressionFilter.FILTER_NAME, filter, urlPatterns);
     }
 
     @Override
@@ -89,6 +161,50 @@ class ApplicationServerConfiguration implements ServerConfiguration {
         return applicationServer.sessionTimeout;
     }
 
+    @Override
+    public boolean isVirtualThreadsEnabled() {
+        return applicationServer.virtualThreads;
+    }
+
+    @Override
+    public boolean isHttp2Enabled() {
+        return applicationServer.http2;
+    }
+
+    @Override
+    public int getResourceCacheSize() {
+        return applicationServer.resourceCacheSize;
+    }
+
+    @Override
+    public boolean isResourcePrecompressionEnabled() {
+        return applicationServer.precompressResources;
+    }
+
+    @Override
+    public HealthCheck getHealthCheck() {
+        HealthCheck result = healthCheck;
+        if (applicationServer.healthEndpoints && isNull(result)) {
+            synchronized (this) {
+                result = healthCheck;
+                if (isNull(result)) {
+                    result = new ApplicationServerHealthCheck(applicationServer);
+                    healthCheck = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MetricsCollector getMetricsCollector() {
+        DelegatingMetricsCollector result = applicationServer.getMetricsCollector();
+        if (isNull(result) || result.isEmpty()) {
+            return null;
+        }
+        return result;
+    }
+
     @Override
     @SuppressWarnings("unchecked")
     public <T extends HttpServlet> Class<T> getHttpServletClass() {
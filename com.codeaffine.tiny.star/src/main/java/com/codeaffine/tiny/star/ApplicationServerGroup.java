@@ -0,0 +1,203 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import lombok.NonNull;
+import org.slf4j.Logger;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import static com.codeaffine.tiny.shared.Metric.measureDuration;
+import static com.codeaffine.tiny.shared.Reflections.ExceptionExtractionMode.FORWARD_RUNTIME_EXCEPTIONS;
+import static com.codeaffine.tiny.shared.Reflections.extractExceptionToReport;
+import static com.codeaffine.tiny.star.ShutdownHookHandler.ExecutionMode.PARALLEL;
+import static com.codeaffine.tiny.star.Texts.*;
+import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
+import static java.util.Arrays.asList;
+import static java.util.Arrays.stream;
+import static java.util.concurrent.CompletableFuture.allOf;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.slf4j.LoggerFactory.getLogger;
+
+/**
+ * <p>Orchestrates a set of {@link ApplicationServer} instances that run within the same JVM. The servers of a group get started and stopped
+ * in parallel under a common deadline, and the aggregate time needed to do so gets logged.</p>
+ * <p>All servers of a group share a single shutdown hook that stops them concurrently on JVM termination, instead of one shutdown hook
+ * per server. Add the servers to a group before starting them, since a server that is already running keeps the shutdown hook it was
+ * started with. The largest {@link ApplicationServer#CONFIGURATION_ATTRIBUTE_SHUTDOWN_TIMEOUT} of the group's servers bounds the time the shared
+ * shutdown hook waits for the servers to stop.</p>
+ * <p>Example:</p>
+ * <pre>
+ *     ApplicationServerGroup group = newApplicationServerGroup(
+ *         newApplicationServerBuilder(new FirstConfiguration(), "first").build(),
+ *         newApplicationServerBuilder(new SecondConfiguration(), "second").build()
+ *     );
+ *     group.start();
+ * </pre>
+ *
+ * @see ApplicationServer#startAsync()
+ * @see ApplicationServer#stopAsync()
+ */
+public class ApplicationServerGroup {
+
+    /**
+     * Default deadline used by {@link #start()} and {@link #stop()}.
+     */
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+
+    static final String OPERATION_START = "start";
+    static final String OPERATION_STOP = "stop";
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(ApplicationServerGroup.class);
+
+    private final List<ApplicationServer> applicationServers;
+
+    ApplicationServerGroup(@NonNull List<ApplicationServer> applicationServers, @NonNull ShutdownHookHandler shutdownHookHandler) {
+        this.applicationServers = List.copyOf(applicationServers);
+        this.applicationServers.forEach(applicationServer -> applicationServer.setShutdownHookHandler(shutdownHookHandler));
+    }
+
+    /**
+     * create a new {@link ApplicationServerGroup} for the given {@link ApplicationServer} instances.
+     *
+     * @param applicationServers the application servers of the group. Must not be {@code null} and must not contain {@code null} elements.
+     * @return the new {@link ApplicationServerGroup} instance. Never {@code null}.
+     */
+    public static ApplicationServerGroup newApplicationServerGroup(@NonNull ApplicationServer... applicationServers) {
+        return newApplicationServerGroup(asList(applicationServers));
+    }
+
+    /**
+     * create a new {@link ApplicationServerGroup} for the given {@link ApplicationServer} instances.
+     *
+     * @param applicationServers the application servers of the group. Must not be {@code null} and must not contain {@code null} elements.
+     * @return the new {@link ApplicationServerGroup} instance. Never {@code null}.
+     */
+    public static ApplicationServerGroup newApplicationServerGroup(@NonNull List<ApplicationServer> applicationServers) {
+        Duration shutdownTimeout = Duration.ofSeconds(applicationServers.stream()
+            .mapToInt(applicationServer -> applicationServer.shutdownTimeout)
+            .max()
+            .orElse(0));
+        return new ApplicationServerGroup(applicationServers, new ShutdownHookHandler(PARALLEL, shutdownTimeout));
+    }
+
+    /**
+     * returns the {@link ApplicationServer} instances of this group.
+     *
+     * @return an unmodifiable list of the application servers of this group. Never {@code null}.
+     */
+    public List<ApplicationServer> getApplicationServers() {
+        return applicationServers;
+    }
+
+    /**
+     * start all {@link ApplicationServer} instances of this group in parallel and wait at most {@link #DEFAULT_TIMEOUT} for them to be started.
+     *
+     * @return this {@link ApplicationServerGroup} instance. Never {@code null}.
+     * @throws IllegalStateException if the servers could not be started within the deadline.
+     * @see #start(Duration)
+     */
+    public ApplicationServerGroup start() {
+        return start(DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * start all {@link ApplicationServer} instances of this group in parallel and wait at most the given time for them to be started. If a server
+     * fails to start, the group gets stopped once all other servers have finished their start procedure, and the problem is rethrown
+     * afterwards. If the deadline elapses, all servers
+     * of the group get stopped, including those whose start procedure is still in progress. The latter are stopped as soon as their start
+     * procedure has finished.
+     *
+     * @param timeout the deadline for starting all servers of the group. Must not be {@code null}.
+     * @return this {@link ApplicationServerGroup} instance. Never {@code null}.
+     * @throws IllegalStateException if the servers could not be started within the deadline.
+     */
+    public ApplicationServerGroup start(@NonNull Duration timeout) {
+        measureDuration(() -> awaitAll(
+            ApplicationServer::startAsync,
+            OPERATION_START,
+            timeout,
+            this::stopAfterStartTimeout,
+            problem -> stopAfterStartFailure(problem, timeout)))
+            .report(duration -> logger.info(INFO_GROUP_STARTUP_CONFIRMATION, applicationServers.size(), duration));
+        return this;
+    }
+
+    /**
+     * stop all {@link ApplicationServer} instances of this group in parallel and wait at most {@link #DEFAULT_TIMEOUT} for them to be stopped.
+     *
+     * @return this {@link ApplicationServerGroup} instance. Never {@code null}.
+     * @throws IllegalStateException if the servers could not be stopped within the deadline.
+     * @see #stop(Duration)
+     */
+    public ApplicationServerGroup stop() {
+        return stop(DEFAULT_TIMEOUT);
+    }
+
+    /**
+     * stop all {@link ApplicationServer} instances of this group in parallel and wait at most the given time for them to be stopped. If a server
+     * fails to stop, the problem is rethrown once all other servers have finished their stop procedure.
+     *
+     * @param timeout the deadline for stopping all servers of the group. Must not be {@code null}.
+     * @return this {@link ApplicationServerGroup} instance. Never {@code null}.
+     * @throws IllegalStateException if the servers could not be stopped within the deadline.
+     */
+    public ApplicationServerGroup stop(@NonNull Duration timeout) {
+        measureDuration(() -> awaitAll(ApplicationServer::stopAsync, OPERATION_STOP, timeout, () -> {}, problem -> {}))
+            .report(duration -> logger.info(INFO_GROUP_SHUTDOWN_CONFIRMATION, applicationServers.size(), duration));
+        return this;
+    }
+
+    private void awaitAll(
+        Function<ApplicationServer, CompletableFuture<ApplicationServer>> operation,
+        String operationName,
+        Duration timeout,
+        Runnable timeoutHandler,
+        Consumer<RuntimeException> failureHandler)
+    {
+        CompletableFuture<?>[] operations = applicationServers.stream()
+            .map(operation)
+            .toArray(CompletableFuture[]::new);
+        try {
+            allOf(operations).get(timeout.toNanos(), NANOSECONDS);
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            throw new IllegalStateException(cause);
+        } catch (TimeoutException cause) {
+            stream(operations).forEach(pending -> pending.cancel(false));
+            timeoutHandler.run();
+            throw new IllegalStateException(format(ERROR_GROUP_TIMEOUT, operationName, timeout.toMillis()), cause);
+        } catch (ExecutionException cause) {
+            RuntimeException problem = extractExceptionToReport(cause, IllegalStateException::new, FORWARD_RUNTIME_EXCEPTIONS);
+            failureHandler.accept(problem);
+            throw problem;
+        }
+    }
+
+    private void stopAfterStartTimeout() {
+        // a stop requested during the start procedure of a server waits until the latter has finished
+        applicationServers.forEach(ApplicationServer::stopAsync);
+    }
+
+    private void stopAfterStartFailure(RuntimeException problem, Duration timeout) {
+        // all start procedures have finished at this point, so the servers that came up get stopped right away
+        try {
+            stop(timeout);
+        } catch (RuntimeException stopProblem) {
+            problem.addSuppressed(stopProblem);
+        }
+    }
+}
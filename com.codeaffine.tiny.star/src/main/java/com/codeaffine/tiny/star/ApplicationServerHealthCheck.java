@@ -0,0 +1,47 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.ApplicationServer.State;
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.function.Predicate;
+
+import static com.codeaffine.tiny.star.ApplicationServer.State.HALTED;
+import static com.codeaffine.tiny.star.ApplicationServer.State.RUNNING;
+import static jakarta.servlet.http.HttpServletResponse.SC_OK;
+import static jakarta.servlet.http.HttpServletResponse.SC_SERVICE_UNAVAILABLE;
+import static java.lang.String.format;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ApplicationServerHealthCheck implements HealthCheck {
+
+    static final String STATUS_UP = "UP";
+    static final String STATUS_DOWN = "DOWN";
+    static final String BODY_PATTERN = "{\"status\":\"%s\",\"state\":\"%s\"}";
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+
+    @Override
+    public Response check(@NonNull String requestPath) {
+        return switch (requestPath) {
+            case LIVENESS_PATH -> createResponse(applicationServer.getState(), state -> state != HALTED);
+            case READINESS_PATH -> createResponse(applicationServer.getState(), state -> state == RUNNING && !applicationServer.isDrained());
+            default -> null;
+        };
+    }
+
+    private static Response createResponse(State state, Predicate<State> healthy) {
+        boolean up = healthy.test(state);
+        return new Response(up ? SC_OK : SC_SERVICE_UNAVAILABLE, format(BODY_PATTERN, up ? STATUS_UP : STATUS_DOWN, state));
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.ApplicationServer.State;
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
+
+/**
+ * <p>The management interface of an {@link ApplicationServer} instance. If enabled by {@link ApplicationServer#CONFIGURATION_ATTRIBUTE_JMX},
+ * an MBean implementing this interface gets registered with the platform MBean server under the object name {@link #OBJECT_NAME_PATTERN},
+ * formatted with the quoted {@link ApplicationServer#getIdentifier() identifier} of the server. The MBean is registered once the servlet
+ * container has been started and gets unregistered when the server stops.</p>
+ *
+ * <p>Durations are given in milliseconds. Values that are not known yet or not provided by the embedded servlet container are reported
+ * as {@link #UNAVAILABLE}.</p>
+ */
+public interface ApplicationServerMXBean {
+
+    /**
+     * The pattern of the object name an application server's MBean gets registered with.
+     */
+    String OBJECT_NAME_PATTERN = "com.codeaffine.tiny.star:type=ApplicationServer,name=%s";
+
+    /**
+     * The value of attributes that are not known yet or not provided by the embedded servlet container.
+     */
+    long UNAVAILABLE = ContainerStatistics.UNAVAILABLE;
+
+    /**
+     * @return the identifier of the application server.
+     */
+    String getIdentifier();
+
+    /**
+     * @return the name of the current {@link State} of the application server.
+     */
+    String getState();
+
+    /**
+     * @return the URLs of the application's entry points.
+     */
+    String[] getUrls();
+
+    /**
+     * @return the duration of the most recent application process creation.
+     */
+    long getCreateDuration();
+
+    /**
+     * @return the duration of the most recent server start.
+     */
+    long getStartDuration();
+
+    /**
+     * @return the duration of the most recent server stop. As the MBean gets unregistered on stop, this reports the stop preceding the
+     * current run.
+     */
+    long getStopDuration();
+
+    /**
+     * @return the number of currently active HTTP sessions.
+     */
+    long getActiveSessions();
+
+    /**
+     * @return the number of HTTP sessions created since the servlet container has been started.
+     */
+    long getCreatedSessions();
+
+    /**
+     * @return the number of completed requests.
+     */
+    long getRequestCount();
+
+    /**
+     * @return the number of completed requests answered with a server error status code.
+     */
+    long getServerErrorCount();
+
+    /**
+     * @return the mean duration of completed requests.
+     */
+    double getMeanRequestDuration();
+
+    /**
+     * @return the 99th percentile of the duration of completed requests.
+     */
+    double getRequestDuration99thPercentile();
+
+    /**
+     * @return the maximum number of threads the servlet container's worker pool may grow to.
+     * @see RuntimeTunables#getMaximumWorkerPoolSize()
+     */
+    int getMaximumWorkerPoolSize();
+
+    /**
+     * @param maximumWorkerPoolSize the new maximum worker pool size. Must be positive.
+     * @see RuntimeTunables#setMaximumWorkerPoolSize(int)
+     */
+    void setMaximumWorkerPoolSize(int maximumWorkerPoolSize);
+
+    /**
+     * @return the timeout in minutes applied to newly created HTTP sessions.
+     * @see RuntimeTunables#getSessionTimeout()
+     */
+    int getSessionTimeout();
+
+    /**
+     * @param sessionTimeout the new session timeout in minutes. Must be positive.
+     * @see RuntimeTunables#setSessionTimeout(int)
+     */
+    void setSessionTimeout(int sessionTimeout);
+
+    /**
+     * stops the application server.
+     *
+     * @see ApplicationServer#stop()
+     */
+    void stop();
+
+    /**
+     * stops accepting new requests and waits until the requests in progress have been completed or the given timeout has elapsed. Use this
+     * operation to take a node out of service before stopping it. The server remains in its current {@link State} but reports readiness as down
+     * and does not accept new requests until either {@link #resume()} or {@link #stop()} is invoked.
+     *
+     * @param timeout the maximum time to wait for requests in progress to complete.
+     * @return the number of requests still in progress after the timeout has elapsed.
+     */
+    int drain(long timeout);
+
+    /**
+     * accepts new requests again after a {@link #drain(long)} invocation. This puts a node that was taken out of service back into service.
+     */
+    void resume();
+}
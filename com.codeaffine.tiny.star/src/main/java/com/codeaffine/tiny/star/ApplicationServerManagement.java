@@ -0,0 +1,167 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.shared.LatencyHistogram.Snapshot;
+import com.codeaffine.tiny.star.MetricsRegistry.RequestMetrics;
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import com.codeaffine.tiny.star.spi.Server;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.net.URL;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.function.ToLongFunction;
+
+import static com.codeaffine.tiny.star.Texts.ERROR_INVALID_TUNABLE_VALUE;
+import static com.codeaffine.tiny.star.spi.MetricsCollector.*;
+import static java.lang.Math.max;
+import static java.lang.String.format;
+import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ApplicationServerManagement implements ApplicationServerMXBean {
+
+    static final String SERVER_ERROR_STATUS_CLASS = "5xx";
+    static final double NANOS_PER_MILLISECOND = 1_000_000D;
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+    @NonNull
+    private final Server server;
+
+    @Override
+    public String getIdentifier() {
+        return applicationServer.getIdentifier();
+    }
+
+    @Override
+    public String getState() {
+        return applicationServer.getState().name();
+    }
+
+    @Override
+    public String[] getUrls() {
+        return stream(applicationServer.getUrls())
+            .map(URL::toString)
+            .toArray(String[]::new);
+    }
+
+    @Override
+    public long getCreateDuration() {
+        return getLifecyclePhaseDuration(LIFECYCLE_PHASE_CREATE);
+    }
+
+    @Override
+    public long getStartDuration() {
+        return getLifecyclePhaseDuration(LIFECYCLE_PHASE_START);
+    }
+
+    @Override
+    public long getStopDuration() {
+        return getLifecyclePhaseDuration(LIFECYCLE_PHASE_STOP);
+    }
+
+    @Override
+    public long getActiveSessions() {
+        return getContainerStatistic(ContainerStatistics::activeSessions);
+    }
+
+    @Override
+    public long getCreatedSessions() {
+        return getContainerStatistic(ContainerStatistics::createdSessions);
+    }
+
+    @Override
+    public long getRequestCount() {
+        return getLatencies().getCount();
+    }
+
+    @Override
+    public long getServerErrorCount() {
+        return getRequestMetrics().stream()
+            .mapToLong(metrics -> metrics.getCount(SERVER_ERROR_STATUS_CLASS))
+            .sum();
+    }
+
+    @Override
+    public double getMeanRequestDuration() {
+        return getLatencies().getMean() / NANOS_PER_MILLISECOND;
+    }
+
+    @Override
+    public double getRequestDuration99thPercentile() {
+        return getLatencies().getValueAtPercentile(99.0) / NANOS_PER_MILLISECOND;
+    }
+
+    @Override
+    public int getMaximumWorkerPoolSize() {
+        return server.getRuntimeTunables().getMaximumWorkerPoolSize();
+    }
+
+    @Override
+    public void setMaximumWorkerPoolSize(int maximumWorkerPoolSize) {
+        verifyPositive("MaximumWorkerPoolSize", maximumWorkerPoolSize);
+        server.getRuntimeTunables().setMaximumWorkerPoolSize(maximumWorkerPoolSize);
+    }
+
+    @Override
+    public int getSessionTimeout() {
+        return server.getRuntimeTunables().getSessionTimeout();
+    }
+
+    @Override
+    public void setSessionTimeout(int sessionTimeout) {
+        verifyPositive("SessionTimeout", sessionTimeout);
+        server.getRuntimeTunables().setSessionTimeout(sessionTimeout);
+    }
+
+    @Override
+    public void stop() {
+        applicationServer.stop();
+    }
+
+    @Override
+    public int drain(long timeout) {
+        return applicationServer.drain(server, Duration.ofMillis(max(timeout, 0L)));
+    }
+
+    @Override
+    public void resume() {
+        applicationServer.resume(server);
+    }
+
+    private long getLifecyclePhaseDuration(String phase) {
+        Duration result = applicationServer.metricsRegistry.getLifecyclePhaseDurations().get(phase);
+        return isNull(result) ? UNAVAILABLE : result.toMillis();
+    }
+
+    private long getContainerStatistic(ToLongFunction<ContainerStatistics> statistic) {
+        ContainerStatistics containerStatistics = applicationServer.metricsRegistry.getContainerStatistics();
+        return isNull(containerStatistics) ? UNAVAILABLE : statistic.applyAsLong(containerStatistics);
+    }
+
+    private Snapshot getLatencies() {
+        return getRequestMetrics().stream()
+            .map(RequestMetrics::getLatencies)
+            .reduce(Snapshot.EMPTY, Snapshot::merge);
+    }
+
+    private Collection<RequestMetrics> getRequestMetrics() {
+        return applicationServer.metricsRegistry.getRequestMetrics().values();
+    }
+
+    private static void verifyPositive(String attribute, int value) {
+        if (value <= 0) {
+            throw new IllegalArgumentException(format(ERROR_INVALID_TUNABLE_VALUE, attribute, value));
+        }
+    }
+}
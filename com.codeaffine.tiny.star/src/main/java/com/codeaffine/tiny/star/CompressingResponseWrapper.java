@@ -0,0 +1,123 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+
+import static java.util.Objects.nonNull;
+
+class CompressingResponseWrapper extends HttpServletResponseWrapper {
+
+    static final String HEADER_CONTENT_LENGTH = "Content-Length";
+
+    private final CompressingServletOutputStream outputStream;
+
+    private PrintWriter writer;
+    private boolean outputStreamUsed;
+
+    CompressingResponseWrapper(HttpServletResponse response, int minimumSize, int level) {
+        super(response);
+        this.outputStream = new CompressingServletOutputStream(response, minimumSize, level);
+    }
+
+    @Override
+    public ServletOutputStream getOutputStream() {
+        if (nonNull(writer)) {
+            throw new IllegalStateException("getWriter() has already been called for this response");
+        }
+        outputStreamUsed = true;
+        return outputStream;
+    }
+
+    @Override
+    public PrintWriter getWriter() {
+        if (outputStreamUsed) {
+            throw new IllegalStateException("getOutputStream() has already been called for this response");
+        }
+        if (nonNull(writer)) {
+            return writer;
+        }
+        writer = new PrintWriter(new OutputStreamWriter(outputStream, getCharacterEncoding()));
+        return writer;
+    }
+
+    @Override
+    public void setContentLength(int length) {
+        // the length of the response body is determined on completion
+    }
+
+    @Override
+    public void setContentLengthLong(long length) {
+        // the length of the response body is determined on completion
+    }
+
+    @Override
+    public void setHeader(String name, String value) {
+        if (!HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            super.setHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addHeader(String name, String value) {
+        if (!HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            super.addHeader(name, value);
+        }
+    }
+
+    @Override
+    public void setIntHeader(String name, int value) {
+        if (!HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            super.setIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void addIntHeader(String name, int value) {
+        if (!HEADER_CONTENT_LENGTH.equalsIgnoreCase(name)) {
+            super.addIntHeader(name, value);
+        }
+    }
+
+    @Override
+    public void flushBuffer() throws IOException {
+        if (nonNull(writer)) {
+            writer.flush();
+        }
+        outputStream.flush();
+        if (outputStream.isCompressing()) {
+            super.flushBuffer();
+        }
+    }
+
+    @Override
+    public void resetBuffer() {
+        super.resetBuffer();
+        outputStream.resetBuffer();
+    }
+
+    @Override
+    public void reset() {
+        super.reset();
+        outputStream.resetBuffer();
+    }
+
+    void finishResponse() throws IOException {
+        if (nonNull(writer)) {
+            writer.close();
+        } else if (outputStreamUsed) {
+            outputStream.close();
+        }
+    }
+}
@@ -0,0 +1,141 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.NonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+class CompressingServletOutputStream extends ServletOutputStream {
+
+    static final String HEADER_CONTENT_ENCODING = "Content-Encoding";
+    static final String GZIP = "gzip";
+
+    private final HttpServletResponse response;
+    private final ByteArrayOutputStream buffer;
+    private final int minimumSize;
+    private final int level;
+
+    private OutputStream delegate;
+    private boolean nonBlocking;
+    private boolean closed;
+
+    CompressingServletOutputStream(@NonNull HttpServletResponse response, int minimumSize, int level) {
+        this.response = response;
+        this.buffer = new ByteArrayOutputStream();
+        this.minimumSize = minimumSize;
+        this.level = level;
+    }
+
+    @Override
+    public void write(int value) throws IOException {
+        write(new byte[] { (byte) value }, 0, 1);
+    }
+
+    @Override
+    public void write(byte[] bytes, int offset, int length) throws IOException {
+        if (closed) {
+            throw new IOException("Stream closed");
+        }
+        if (isNull(delegate) && buffer.size() + length < minimumSize) {
+            buffer.write(bytes, offset, length);
+            return;
+        }
+        if (isNull(delegate)) {
+            delegate = startCompression();
+        }
+        delegate.write(bytes, offset, length);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (nonNull(delegate)) {
+            delegate.flush();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (closed) {
+            return;
+        }
+        closed = true;
+        if (isNull(delegate)) {
+            writeUncompressed();
+        } else {
+            finishCompression();
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return !nonBlocking || getResponseOutputStream().isReady();
+    }
+
+    @Override
+    public void setWriteListener(@NonNull WriteListener writeListener) {
+        // buffered and compressed content ends up in the container's stream, so that stream decides when writing is possible
+        getResponseOutputStream().setWriteListener(writeListener);
+        nonBlocking = true;
+    }
+
+    boolean isCompressing() {
+        return nonNull(delegate);
+    }
+
+    void resetBuffer() {
+        buffer.reset();
+    }
+
+    private OutputStream startCompression() throws IOException {
+        if (response.containsHeader(HEADER_CONTENT_ENCODING)) {
+            return writeBufferTo(response.getOutputStream());
+        }
+        response.setHeader(HEADER_CONTENT_ENCODING, GZIP);
+        return writeBufferTo(new CompressionLevelGzipOutputStream(response.getOutputStream(), level));
+    }
+
+    private void finishCompression() throws IOException {
+        if (delegate instanceof CompressionLevelGzipOutputStream compressor) {
+            compressor.close();
+        }
+        delegate.flush();
+    }
+
+    private void writeUncompressed() throws IOException {
+        if (buffer.size() > 0) {
+            if (!response.isCommitted()) {
+                response.setContentLength(buffer.size());
+            }
+            writeBufferTo(response.getOutputStream()).flush();
+        }
+    }
+
+    private ServletOutputStream getResponseOutputStream() {
+        try {
+            return response.getOutputStream();
+        } catch (IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+
+    private OutputStream writeBufferTo(OutputStream out) throws IOException {
+        buffer.writeTo(out);
+        buffer.reset();
+        return out;
+    }
+}
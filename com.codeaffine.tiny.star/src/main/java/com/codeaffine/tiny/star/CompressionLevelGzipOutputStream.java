@@ -0,0 +1,36 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.zip.GZIPOutputStream;
+
+class CompressionLevelGzipOutputStream extends GZIPOutputStream {
+
+    private boolean ended;
+
+    CompressionLevelGzipOutputStream(OutputStream out, int level) throws IOException {
+        // sync flush makes flush() push the compressed bytes written so far, instead of keeping them in the deflater
+        super(out, true);
+        def.setLevel(level);
+    }
+
+    @Override
+    public void close() throws IOException {
+        // the target stream is owned by the caller and stays open, but the deflater's native memory gets released right away
+        if (!ended) {
+            ended = true;
+            try {
+                finish();
+            } finally {
+                def.end();
+            }
+        }
+    }
+}
@@ -0,0 +1,92 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.ApplicationProcessFactory.ProcessComponents;
+import com.codeaffine.tiny.star.spi.LoggingFrameworkControl;
+import com.codeaffine.tiny.star.spi.Server;
+import com.codeaffine.tiny.star.spi.ServerFactory;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.File;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+
+import static com.codeaffine.tiny.shared.IoUtils.deleteDirectory;
+import static com.codeaffine.tiny.shared.Reflections.ExceptionExtractionMode.FORWARD_RUNTIME_EXCEPTIONS;
+import static com.codeaffine.tiny.shared.Reflections.extractExceptionToReport;
+import static com.codeaffine.tiny.star.StartupProfile.PHASE_LOGGING_FRAMEWORK_CONFIGURATION;
+import static com.codeaffine.tiny.star.StartupProfile.PHASE_WORKING_DIRECTORY_PREPARATION;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static java.util.concurrent.Executors.newVirtualThreadPerTaskExecutor;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ConcurrentStartup {
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+    @NonNull
+    private final WorkingDirectoryPreparer workingDirectoryPreparer;
+    @NonNull
+    private final LoggingFrameworkConfigurator loggingFrameworkConfigurator;
+    @NonNull
+    private final DelegatingServerFactory delegatingServerFactory;
+
+    ProcessComponents createProcessComponents() {
+        StartupProfiler startupProfiler = applicationServer.startupProfiler;
+        File workingDirectory = null;
+        Server server = null;
+        try (ExecutorService executor = newVirtualThreadPerTaskExecutor()) {
+            Future<File> workingDirectoryFuture
+                = executor.submit(() -> startupProfiler.profile(PHASE_WORKING_DIRECTORY_PREPARATION, workingDirectoryPreparer::prepareWorkingDirectory));
+            Future<ServerFactory> serverFactoryFuture = executor.submit(delegatingServerFactory::lookupServerFactory);
+            workingDirectory = await(workingDirectoryFuture);
+            // the logging configuration may refer to the working directory by means of its system property
+            Future<LoggingFrameworkControl> loggingFrameworkControlFuture = executor.submit(
+                () -> startupProfiler.profile(PHASE_LOGGING_FRAMEWORK_CONFIGURATION, loggingFrameworkConfigurator::configureLoggingFramework)
+            );
+            server = delegatingServerFactory.create(await(serverFactoryFuture), workingDirectory);
+            return new ProcessComponents(workingDirectory, await(loggingFrameworkControlFuture), server);
+        } catch (RuntimeException problem) {
+            rollback(workingDirectory, server, problem);
+            throw problem;
+        }
+    }
+
+    private void rollback(File workingDirectory, Server server, RuntimeException problem) {
+        if (nonNull(server)) {
+            try {
+                server.stop();
+            } catch (RuntimeException stopProblem) {
+                problem.addSuppressed(stopProblem);
+            }
+        }
+        if (nonNull(workingDirectory)) {
+            System.getProperties().remove(applicationServer.getWorkingDirectorSystemProperty());
+            if (isNull(applicationServer.workingDirectory) && !applicationServer.isUsingResourceCache()) {
+                deleteDirectory(workingDirectory);
+            }
+            applicationServer.releaseResourceCacheLock();
+        }
+    }
+
+    private static <T> T await(Future<T> future) {
+        try {
+            return future.get();
+        } catch (InterruptedException cause) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(cause);
+        } catch (ExecutionException cause) {
+            throw extractExceptionToReport(cause, IllegalStateException::new, FORWARD_RUNTIME_EXCEPTIONS);
+        }
+    }
+}
@@ -0,0 +1,64 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static java.util.stream.Stream.concat;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class DelegatingMetricsCollector implements MetricsCollector {
+
+    @NonNull
+    private final List<MetricsCollector> collectors;
+
+    boolean isEmpty() {
+        return collectors.isEmpty();
+    }
+
+    DelegatingMetricsCollector with(@NonNull MetricsCollector collector) {
+        return new DelegatingMetricsCollector(concat(collectors.stream(), Stream.of(collector)).toList());
+    }
+
+    @Override
+    public void requestCompleted(String entryPointPath, int statusCode, Duration duration) {
+        for (MetricsCollector collector : collectors) {
+            collector.requestCompleted(entryPointPath, statusCode, duration);
+        }
+    }
+
+    @Override
+    public void lifecyclePhaseCompleted(String phase, Duration duration) {
+        for (MetricsCollector collector : collectors) {
+            collector.lifecyclePhaseCompleted(phase, duration);
+        }
+    }
+
+    @Override
+    public void bindContainerStatistics(Supplier<ContainerStatistics> containerStatistics) {
+        for (MetricsCollector collector : collectors) {
+            collector.bindContainerStatistics(containerStatistics);
+        }
+    }
+
+    @Override
+    public void unbindContainerStatistics() {
+        for (MetricsCollector collector : collectors) {
+            collector.unbindContainerStatistics();
+        }
+    }
+}
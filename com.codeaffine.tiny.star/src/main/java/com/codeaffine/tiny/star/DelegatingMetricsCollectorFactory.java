@@ -0,0 +1,38 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.shared.ServiceLoaderAdapter;
+import com.codeaffine.tiny.star.spi.MetricsCollectorFactory;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.util.ServiceLoader;
+
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class DelegatingMetricsCollectorFactory implements MetricsCollectorFactory {
+
+    @NonNull
+    private final ServiceLoaderAdapter<MetricsCollectorFactory> serviceLoaderAdapter;
+
+    DelegatingMetricsCollectorFactory() {
+        this(new ServiceLoaderAdapter<>(MetricsCollectorFactory.class, ServiceLoader::load));
+    }
+
+    @Override
+    public DelegatingMetricsCollector create(@NonNull String applicationIdentifier) {
+        return new DelegatingMetricsCollector(
+            serviceLoaderAdapter.collectServiceTypeImplementations()
+                .stream()
+                .map(factory -> factory.create(applicationIdentifier))
+                .toList()
+        );
+    }
+}
@@ -18,6 +18,8 @@ import java.io.File;
 import java.util.List;
 import java.util.ServiceLoader;
 
+import static com.codeaffine.tiny.star.StartupProfile.PHASE_SERVER_CREATION;
+import static com.codeaffine.tiny.star.StartupProfile.PHASE_SERVER_FACTORY_LOOKUP;
 import static com.codeaffine.tiny.star.Texts.ERROR_MORE_THAN_ONE_SERVER_FACTORY;
 import static com.codeaffine.tiny.star.Texts.ERROR_NO_SERVER_FACTORY_FOUND;
 import static java.lang.String.format;
@@ -39,17 +41,28 @@ class DelegatingServerFactory implements ServerFactory {
         return create(new ApplicationServerConfiguration(workingDirectory, applicationServer));
     }
 
+    Server create(ServerFactory serverFactory, File workingDirectory) {
+        return create(serverFactory, new ApplicationServerConfiguration(workingDirectory, applicationServer));
+    }
+
     @Override
     public Server create(ServerConfiguration configuration) {
-        List<ServerFactory> serverFactories = serviceLoaderAdapter.collectServiceTypeImplementations();
+        return create(lookupServerFactory(), configuration);
+    }
+
+    ServerFactory lookupServerFactory() {
+        List<ServerFactory> serverFactories
+            = applicationServer.startupProfiler.profile(PHASE_SERVER_FACTORY_LOOKUP, serviceLoaderAdapter::collectServiceTypeImplementations);
         if (serverFactories.isEmpty()) {
             throw new IllegalStateException(ERROR_NO_SERVER_FACTORY_FOUND);
         }
         if (serverFactories.size() > 1) {
             throw new IllegalStateException(format(ERROR_MORE_THAN_ONE_SERVER_FACTORY, serviceLoaderAdapter.collectServiceTypeImplementationClassNames()));
         }
-        return serverFactories
-            .getFirst()
-            .create(configuration);
+        return serverFactories.getFirst();
+    }
+
+    private Server create(ServerFactory serverFactory, ServerConfiguration configuration) {
+        return applicationServer.startupProfiler.profile(PHASE_SERVER_CREATION, () -> serverFactory.create(configuration));
     }
 }
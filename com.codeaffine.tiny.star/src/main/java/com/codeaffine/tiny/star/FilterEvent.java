@@ -0,0 +1,40 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name(FilterEvent.NAME)
+@Label("Filter Execution")
+@Category({ FlightRecorderEvents.CATEGORY, FlightRecorderEvents.CATEGORY_REQUESTS })
+@Description("Execution of a filter registered by a filter definition. The event duration includes the remainder of the filter chain, the filter"
+    + " duration covers the filter's own work only.")
+@StackTrace(false)
+class FilterEvent extends Event {
+
+    static final String NAME = "com.codeaffine.tiny.star.Filter";
+
+    @Label("Filter Name")
+    String filterName;
+    @Label("Request URI")
+    String requestUri;
+    @Label("Filter Duration")
+    @Description("Time spent in the filter itself, excluding the remainder of the filter chain.")
+    @Timespan(Timespan.NANOSECONDS)
+    long filterDuration;
+    @Label("Chain Duration")
+    @Description("Time spent in the remainder of the filter chain, including the servlet.")
+    @Timespan(Timespan.NANOSECONDS)
+    long chainDuration;
+}
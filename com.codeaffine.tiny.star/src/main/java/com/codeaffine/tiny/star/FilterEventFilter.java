@@ -0,0 +1,99 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.FilterDefinition;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+
+import static java.lang.Math.max;
+import static java.lang.System.nanoTime;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class FilterEventFilter implements Filter {
+
+    @NonNull
+    private final String filterName;
+    @NonNull
+    private final Filter delegate;
+
+    // measures the time spent downstream, so that the filter's own time can be told apart from the remainder of the chain
+    @RequiredArgsConstructor
+    private static class TimedFilterChain implements FilterChain {
+
+        private final FilterChain chain;
+        private long duration;
+
+        @Override
+        public void doFilter(ServletRequest request, ServletResponse response) throws IOException, ServletException {
+            long start = nanoTime();
+            try {
+                chain.doFilter(request, response);
+            } finally {
+                duration += nanoTime() - start;
+            }
+        }
+    }
+
+    static FilterDefinition decorate(@NonNull FilterDefinition filterDefinition) {
+        return FilterDefinition.of(
+            filterDefinition.getFilterName(),
+            new FilterEventFilter(filterDefinition.getFilterName(), filterDefinition.getFilter()),
+            filterDefinition.getUrlPatterns()
+        );
+    }
+
+    @Override
+    public void init(FilterConfig filterConfig) throws ServletException {
+        delegate.init(filterConfig);
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        FilterEvent event = new FilterEvent();
+        if (!event.isEnabled()) {
+            delegate.doFilter(request, response, chain);
+            return;
+        }
+        TimedFilterChain timedChain = new TimedFilterChain(chain);
+        event.begin();
+        long start = nanoTime();
+        try {
+            delegate.doFilter(request, response, timedChain);
+        } finally {
+            long duration = nanoTime() - start;
+            event.end();
+            if (event.shouldCommit()) {
+                event.filterName = filterName;
+                event.requestUri = request instanceof HttpServletRequest httpRequest ? httpRequest.getRequestURI() : null;
+                event.chainDuration = timedChain.duration;
+                event.filterDuration = max(duration - timedChain.duration, 0L);
+                event.commit();
+            }
+        }
+    }
+
+    @Override
+    public void destroy() {
+        delegate.destroy();
+    }
+
+    Filter getDelegate() {
+        return delegate;
+    }
+}
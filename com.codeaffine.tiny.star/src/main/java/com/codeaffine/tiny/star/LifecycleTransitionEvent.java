@@ -0,0 +1,30 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(LifecycleTransitionEvent.NAME)
+@Label("Lifecycle Transition")
+@Category({ FlightRecorderEvents.CATEGORY, FlightRecorderEvents.CATEGORY_LIFECYCLE })
+@Description("State transition of an application process. The duration covers the time spent in the state that has been left.")
+class LifecycleTransitionEvent extends Event {
+
+    static final String NAME = "com.codeaffine.tiny.star.LifecycleTransition";
+
+    @Label("Application Server")
+    String applicationServer;
+    @Label("From State")
+    String fromState;
+    @Label("To State")
+    String toState;
+}
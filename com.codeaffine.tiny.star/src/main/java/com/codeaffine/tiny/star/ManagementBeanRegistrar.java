@@ -0,0 +1,70 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.Server;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static com.codeaffine.tiny.star.ApplicationServerMXBean.OBJECT_NAME_PATTERN;
+import static com.codeaffine.tiny.star.Texts.WARN_REGISTERING_MANAGEMENT_BEAN;
+import static com.codeaffine.tiny.star.Texts.WARN_UNREGISTERING_MANAGEMENT_BEAN;
+import static java.lang.String.format;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
+import static javax.management.ObjectName.quote;
+import static lombok.AccessLevel.PACKAGE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ManagementBeanRegistrar {
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(ManagementBeanRegistrar.class);
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+    @NonNull
+    private final MBeanServer mBeanServer;
+    private final AtomicBoolean registered = new AtomicBoolean();
+
+    ManagementBeanRegistrar(ApplicationServer applicationServer) {
+        this(applicationServer, getPlatformMBeanServer());
+    }
+
+    void register(@NonNull Server server) {
+        if (applicationServer.jmx) {
+            try {
+                mBeanServer.registerMBean(new ApplicationServerManagement(applicationServer, server), createObjectName());
+                registered.set(true);
+            } catch (JMException cause) {
+                logger.warn(WARN_REGISTERING_MANAGEMENT_BEAN, applicationServer.getIdentifier(), cause);
+            }
+        }
+    }
+
+    void unregister() {
+        if (registered.getAndSet(false)) {
+            try {
+                mBeanServer.unregisterMBean(createObjectName());
+            } catch (JMException cause) {
+                logger.warn(WARN_UNREGISTERING_MANAGEMENT_BEAN, applicationServer.getIdentifier(), cause);
+            }
+        }
+    }
+
+    ObjectName createObjectName() throws MalformedObjectNameException {
+        return new ObjectName(format(OBJECT_NAME_PATTERN, quote(applicationServer.getIdentifier())));
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.shared.LatencyHistogram;
+import com.codeaffine.tiny.shared.LatencyHistogram.Snapshot;
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import lombok.NonNull;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.isNull;
+import static java.util.stream.IntStream.range;
+
+class MetricsRegistry implements MetricsCollector {
+
+    static final String[] STATUS_CLASSES = { "1xx", "2xx", "3xx", "4xx", "5xx" };
+
+    private final ConcurrentMap<String, RequestMetrics> requestMetrics = new ConcurrentHashMap<>();
+    private final ConcurrentMap<String, Duration> lifecyclePhaseDurations = new ConcurrentHashMap<>();
+    private final AtomicReference<Supplier<ContainerStatistics>> containerStatisticsHolder = new AtomicReference<>();
+
+    static class RequestMetrics {
+
+        private final LatencyHistogram latencies = new LatencyHistogram();
+        private final LongAdder[] statusClassCounts = range(0, STATUS_CLASSES.length)
+            .mapToObj(index -> new LongAdder())
+            .toArray(LongAdder[]::new);
+
+        void record(int statusCode, long durationInNanos) {
+            statusClassCounts[toStatusClassIndex(statusCode)].increment();
+            latencies.record(durationInNanos);
+        }
+
+        long getCount(String statusClass) {
+            for (int i = 0; i < STATUS_CLASSES.length; i++) {
+                if (STATUS_CLASSES[i].equals(statusClass)) {
+                    return statusClassCounts[i].sum();
+                }
+            }
+            return 0L;
+        }
+
+        Snapshot getLatencies() {
+            return latencies.snapshot();
+        }
+
+        private static int toStatusClassIndex(int statusCode) {
+            return min(max(statusCode / 100 - 1, 0), STATUS_CLASSES.length - 1);
+        }
+    }
+
+    @Override
+    public void requestCompleted(@NonNull String entryPointPath, int statusCode, @NonNull Duration duration) {
+        RequestMetrics metrics = requestMetrics.get(entryPointPath);
+        if (isNull(metrics)) {
+            metrics = requestMetrics.computeIfAbsent(entryPointPath, path -> new RequestMetrics());
+        }
+        metrics.record(statusCode, duration.toNanos());
+    }
+
+    @Override
+    public void lifecyclePhaseCompleted(@NonNull String phase, @NonNull Duration duration) {
+        lifecyclePhaseDurations.put(phase, duration);
+    }
+
+    @Override
+    public void bindContainerStatistics(@NonNull Supplier<ContainerStatistics> containerStatistics) {
+        containerStatisticsHolder.set(containerStatistics);
+    }
+
+    @Override
+    public void unbindContainerStatistics() {
+        containerStatisticsHolder.set(null);
+    }
+
+    Map<String, RequestMetrics> getRequestMetrics() {
+        return new TreeMap<>(requestMetrics);
+    }
+
+    Map<String, Duration> getLifecyclePhaseDurations() {
+        return new TreeMap<>(lifecyclePhaseDurations);
+    }
+
+    ContainerStatistics getContainerStatistics() {
+        Supplier<ContainerStatistics> containerStatistics = containerStatisticsHolder.get();
+        return isNull(containerStatistics) ? null : containerStatistics.get();
+    }
+}
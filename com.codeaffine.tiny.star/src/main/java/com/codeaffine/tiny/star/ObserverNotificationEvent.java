@@ -0,0 +1,32 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+@Name(ObserverNotificationEvent.NAME)
+@Label("Observer Notification")
+@Category({ FlightRecorderEvents.CATEGORY, FlightRecorderEvents.CATEGORY_LIFECYCLE })
+@Description("Notification of a single lifecycle listener method, including the completion of a returned completion stage.")
+class ObserverNotificationEvent extends Event {
+
+    static final String NAME = "com.codeaffine.tiny.star.ObserverNotification";
+
+    @Label("Notification")
+    String notification;
+    @Label("Observer")
+    String observer;
+    @Label("Method")
+    String method;
+    @Label("Successful")
+    boolean successful;
+}
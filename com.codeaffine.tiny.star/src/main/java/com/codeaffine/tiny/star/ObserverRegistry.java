@@ -7,64 +7,136 @@
  */
 package com.codeaffine.tiny.star;
 
+import static com.codeaffine.tiny.star.ObserverRegistry.NotificationMode.CONCURRENT;
+import static com.codeaffine.tiny.star.ObserverRegistry.NotificationMode.SEQUENTIAL;
+import static com.codeaffine.tiny.star.StartupProfile.PHASE_OBSERVER_NOTIFICATION_PREFIX;
 import static com.codeaffine.tiny.star.Texts.ERROR_INVALID_METHOD_SIGNATURE;
 import static com.codeaffine.tiny.star.Texts.ERROR_LISTENER_NOTIFICATION;
+import static com.codeaffine.tiny.star.Texts.ERROR_OBSERVER_NOTIFICATION_TIMEOUT;
 import static com.codeaffine.tiny.shared.Reflections.ExceptionExtractionMode.FORWARD_RUNTIME_EXCEPTIONS;
 import static com.codeaffine.tiny.shared.Reflections.extractExceptionToReport;
-import static com.codeaffine.tiny.shared.Threads.runAsyncAwaitingTermination;
 
 import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
+import static java.lang.invoke.MethodHandles.dropArguments;
+import static java.lang.invoke.MethodHandles.lookup;
+import static java.lang.invoke.MethodType.methodType;
+import static java.lang.reflect.Modifier.isStatic;
 import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+import static java.util.concurrent.Executors.newThreadPerTaskExecutor;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 
 import java.lang.annotation.Annotation;
-import java.lang.reflect.InvocationTargetException;
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Method;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeoutException;
 import java.util.function.Consumer;
 import lombok.NonNull;
 
 class ObserverRegistry<T> {
 
+    static final String LIFECYCLE_THREAD_NAME_PREFIX = "tiny-lifecycle-";
+    static final Executor LIFECYCLE_EXECUTOR = newThreadPerTaskExecutor(Thread.ofVirtual().name(LIFECYCLE_THREAD_NAME_PREFIX, 0).factory());
+
     private final Map<Class<? extends Annotation>, List<Observer>> observers;
     private final long observerNotificationTimeout;
+    private final NotificationMode notificationMode;
+    private final StartupProfiler startupProfiler;
     private final Class<T> observedType;
     private final T observedInstance;
 
-    record Observer(Object observer, Method method) {}
+    enum NotificationMode { SEQUENTIAL, CONCURRENT }
+
+    record Observer(Object observer, Method method, MethodHandle invoker) {
+
+        boolean matches(Object observer, Method method) {
+            return this.observer.equals(observer) && this.method.equals(method);
+        }
+    }
+
+    @SafeVarargs
+    ObserverRegistry(
+        @NonNull T observedInstance,
+        @NonNull Class<T> observedType,
+        long observerNotificationTimeout,
+        @NonNull Class<? extends Annotation>... observerAnnotations)
+    {
+        this(observedInstance, observedType, observerNotificationTimeout, new StartupProfiler(), observerAnnotations);
+    }
 
     @SafeVarargs
     ObserverRegistry(
         @NonNull T observedInstance,
         @NonNull Class<T> observedType,
         long observerNotificationTimeout,
+        @NonNull StartupProfiler startupProfiler,
+        @NonNull Class<? extends Annotation>... observerAnnotations)
+    {
+        this(observedInstance, observedType, observerNotificationTimeout, startupProfiler, SEQUENTIAL, observerAnnotations);
+    }
+
+    @SafeVarargs
+    ObserverRegistry(
+        @NonNull T observedInstance,
+        @NonNull Class<T> observedType,
+        long observerNotificationTimeout,
+        @NonNull StartupProfiler startupProfiler,
+        @NonNull NotificationMode notificationMode,
         @NonNull Class<? extends Annotation>... observerAnnotations)
     {
         this.observedInstance = observedInstance;
         this.observedType = observedType;
         this.observerNotificationTimeout = observerNotificationTimeout;
+        this.startupProfiler = startupProfiler;
+        this.notificationMode = notificationMode;
         this.observers = new HashMap<>();
         stream(observerAnnotations).forEach(observerType -> observers.put(observerType, new CopyOnWriteArrayList<>()));
     }
 
     void registerObserver(Object observer) {
         Method[] methods = observer.getClass().getDeclaredMethods();
-        observers.forEach((annotation, annotationObservers) -> updateRegistration(observer, methods, annotationObservers::add, annotation));
+        observers.forEach((annotation, annotationObservers) -> findObserverMethods(observer, methods, annotation)
+            .forEach(method -> annotationObservers.add(new Observer(observer, method, compileInvoker(observer, method)))));
     }
 
     void deregisterObserver(Object observer) {
         Method[] methods = observer.getClass().getDeclaredMethods();
-        observers.forEach((annotation, annotationObservers) -> updateRegistration(observer, methods, annotationObservers::remove, annotation));
+        observers.forEach((annotation, annotationObservers) -> findObserverMethods(observer, methods, annotation)
+            .forEach(method -> annotationObservers.removeIf(registered -> registered.matches(observer, method))));
     }
 
-    private void updateRegistration(Object observer, Method[] methods, Consumer<Observer> observerRegistrar, Class<? extends Annotation> annotation) {
-        stream(methods)
+    private List<Method> findObserverMethods(Object observer, Method[] methods, Class<? extends Annotation> annotation) {
+        return stream(methods)
             .filter(method -> method.isAnnotationPresent(annotation))
-            .map(method -> new Observer(observer, verifySignature(observer, method)))
-            .forEach(observerRegistrar);
+            .map(method -> verifySignature(observer, method))
+            .toList();
+    }
+
+    private MethodHandle compileInvoker(Object observer, Method method) {
+        method.setAccessible(true); // NOSONAR
+        try {
+            MethodHandle result = lookup().unreflect(method);
+            if (!isStatic(method.getModifiers())) {
+                result = result.bindTo(observer);
+            }
+            if (method.getParameterCount() == 0) {
+                result = dropArguments(result, 0, observedType);
+            }
+            return result.asType(methodType(Object.class, Object.class));
+        } catch (IllegalAccessException cause) {
+            throw extractExceptionToReport(cause, IllegalStateException::new);
+        }
     }
 
     private Method verifySignature(Object observer, Method method) {
@@ -84,16 +156,89 @@ class ObserverRegistry<T> {
     }
 
     void notifyObservers(Class<? extends Annotation> observerType, Consumer<Exception> exceptionHandler) {
-        observers.get(observerType)
-            .forEach(observer -> notifyObserverAsync(exceptionHandler, observer));
+        List<Observer> observersToNotify = observers.get(observerType);
+        if (CONCURRENT == notificationMode) {
+            startupProfiler.profile(PHASE_OBSERVER_NOTIFICATION_PREFIX + observerType.getSimpleName(),
+                () -> notifyObserversConcurrently(observerType, observersToNotify, exceptionHandler));
+        } else {
+            observersToNotify.forEach(observer -> startupProfiler.profile(toPhaseName(observerType, observer),
+                () -> awaitNotification(observer, startNotification(observerType, observer), exceptionHandler)));
+        }
+    }
+
+    private static String toPhaseName(Class<? extends Annotation> observerType, Observer observer) {
+        return PHASE_OBSERVER_NOTIFICATION_PREFIX
+            + observerType.getSimpleName()
+            + ":"
+            + observer.observer().getClass().getName()
+            + "#"
+            + observer.method().getName();
+    }
+
+    private void notifyObserversConcurrently(
+        Class<? extends Annotation> observerType,
+        List<Observer> observersToNotify,
+        Consumer<Exception> exceptionHandler)
+    {
+        List<CompletableFuture<Void>> notifications = observersToNotify.stream()
+            .map(observer -> startNotification(observerType, observer))
+            .toList();
+        for (int i = 0; i < notifications.size(); i++) {
+            awaitNotification(observersToNotify.get(i), notifications.get(i), exceptionHandler);
+        }
+    }
+
+    private CompletableFuture<Void> startNotification(Class<? extends Annotation> observerType, Observer observer) {
+        ObserverNotificationEvent event = new ObserverNotificationEvent();
+        event.begin();
+        return supplyAsync(() -> notifyObserver(observer), LIFECYCLE_EXECUTOR)
+            .thenCompose(ObserverRegistry::awaitCompletionStage)
+            .orTimeout(observerNotificationTimeout, MILLISECONDS)
+            .whenComplete((result, exception) -> recordNotification(event, observerType, observer, isNull(exception)));
+    }
+
+    private static void recordNotification(
+        ObserverNotificationEvent event,
+        Class<? extends Annotation> observerType,
+        Observer observer,
+        boolean successful)
+    {
+        event.end();
+        if (event.shouldCommit()) {
+            event.notification = observerType.getSimpleName();
+            event.observer = observer.observer().getClass().getName();
+            event.method = observer.method().getName();
+            event.successful = successful;
+            event.commit();
+        }
     }
 
-    private void notifyObserverAsync(Consumer<Exception> exceptionHandler, Observer observer) {
-        Consumer<Exception> exceptionHandlerWrapper = exception -> applyObserverMethodToMessageToException(exceptionHandler, observer, exception);
-        runAsyncAwaitingTermination(() -> notifyObserver(observer), exceptionHandlerWrapper, observerNotificationTimeout, MILLISECONDS);
+    private static CompletableFuture<Void> awaitCompletionStage(Object notificationResult) {
+        if (notificationResult instanceof CompletionStage<?> completionStage) {
+            return completionStage.toCompletableFuture().thenAccept(result -> {});
+        }
+        return completedFuture(null);
     }
 
-    private static void applyObserverMethodToMessageToException(Consumer<Exception> exceptionHandler, Observer observer, Exception exception) {
+    private void awaitNotification(Observer observer, CompletableFuture<Void> notification, Consumer<Exception> exceptionHandler) {
+        try {
+            notification.get();
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            handleException(exceptionHandler, observer, extractExceptionToReport(cause, IllegalStateException::new));
+        } catch (ExecutionException cause) {
+            handleException(exceptionHandler, observer, toExceptionToReport(cause));
+        }
+    }
+
+    private RuntimeException toExceptionToReport(ExecutionException exception) {
+        if (exception.getCause() instanceof TimeoutException cause) {
+            return new IllegalStateException(format(ERROR_OBSERVER_NOTIFICATION_TIMEOUT, observerNotificationTimeout), cause);
+        }
+        return extractExceptionToReport(exception, IllegalStateException::new, FORWARD_RUNTIME_EXCEPTIONS);
+    }
+
+    private static void handleException(Consumer<Exception> exceptionHandler, Observer observer, Exception exception) {
         Exception exceptionToHandle = exception;
         if(exception instanceof IllegalStateException ise) {
             String message = ise.getMessage();
@@ -104,21 +249,13 @@ class ObserverRegistry<T> {
         exceptionHandler.accept(exceptionToHandle);
     }
 
-    private void notifyObserver(Observer observer) {
-        observer.method().setAccessible(true); // NOSONAR
-        Class<?>[] parameterTypes = observer.method().getParameterTypes();
+    private Object notifyObserver(Observer observer) {
         try {
-            doNotifyObserver(observer, parameterTypes);
-        } catch (IllegalAccessException | InvocationTargetException cause) {
+            return observer.invoker().invokeExact((Object) observedInstance);
+        } catch (Exception cause) {
             throw extractExceptionToReport(cause, IllegalStateException::new, FORWARD_RUNTIME_EXCEPTIONS);
-        }
-    }
-
-    private void doNotifyObserver(Observer observer, Class<?>[] parameterTypes) throws IllegalAccessException, InvocationTargetException {
-        if (parameterTypes.length == 0) {
-            observer.method().invoke(observer.observer());
-        } else {
-            observer.method().invoke(observer.observer(), observedInstance);
+        } catch (Throwable cause) { // NOSONAR: errors raised by observers are reported like any other notification problem
+            throw new IllegalStateException(cause);
         }
     }
 }
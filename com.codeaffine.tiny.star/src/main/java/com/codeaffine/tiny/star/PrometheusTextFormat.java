@@ -0,0 +1,158 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.shared.LatencyHistogram.Snapshot;
+import com.codeaffine.tiny.star.ApplicationServer.State;
+import com.codeaffine.tiny.star.MetricsRegistry.RequestMetrics;
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.codeaffine.tiny.star.MetricsRegistry.STATUS_CLASSES;
+import static com.codeaffine.tiny.star.spi.ContainerStatistics.UNAVAILABLE;
+import static java.util.Objects.nonNull;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class PrometheusTextFormat {
+
+    static final String CONTENT_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+    static final double[] LATENCY_BUCKETS = { 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1.0, 2.5, 5.0, 10.0 };
+    static final String METRIC_STATE = "tiny_star_state";
+    static final String METRIC_REQUESTS = "tiny_star_requests_total";
+    static final String METRIC_REQUEST_DURATION = "tiny_star_request_duration_seconds";
+    static final String METRIC_LIFECYCLE_PHASE_DURATION = "tiny_star_lifecycle_phase_duration_seconds";
+    static final String METRIC_ACTIVE_SESSIONS = "tiny_star_sessions_active";
+    static final String METRIC_CREATED_SESSIONS = "tiny_star_sessions_created_total";
+    static final String METRIC_ACTIVE_CONNECTIONS = "tiny_star_connections_active";
+    static final String METRIC_BUSY_WORKER_THREADS = "tiny_star_worker_threads_busy";
+    static final String METRIC_WORKER_POOL_SIZE = "tiny_star_worker_threads";
+    static final String METRIC_MAXIMUM_WORKER_POOL_SIZE = "tiny_star_worker_threads_max";
+    static final String METRIC_WORKER_QUEUE_DEPTH = "tiny_star_worker_queue_depth";
+
+    private static final String TYPE_GAUGE = "gauge";
+    private static final String TYPE_COUNTER = "counter";
+    private static final String TYPE_HISTOGRAM = "histogram";
+    private static final double NANOS_PER_SECOND = 1_000_000_000D;
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+    @NonNull
+    private final MetricsRegistry metricsRegistry;
+
+    String render() {
+        StringBuilder result = new StringBuilder();
+        String application = label("application", applicationServer.getIdentifier());
+        renderState(result, application);
+        Map<String, RequestMetrics> requestMetrics = metricsRegistry.getRequestMetrics();
+        if (!requestMetrics.isEmpty()) {
+            renderRequests(result, application, requestMetrics);
+            renderRequestDurations(result, application, requestMetrics);
+        }
+        renderLifecyclePhaseDurations(result, application, metricsRegistry.getLifecyclePhaseDurations());
+        ContainerStatistics containerStatistics = metricsRegistry.getContainerStatistics();
+        if (nonNull(containerStatistics)) {
+            renderContainerStatistics(result, application, containerStatistics);
+        }
+        return result.toString();
+    }
+
+    private void renderState(StringBuilder out, String application) {
+        State currentState = applicationServer.getState();
+        appendHeader(out, METRIC_STATE, TYPE_GAUGE, "Lifecycle state of the application server, 1 for the current state.");
+        for (State state : State.values()) {
+            appendSample(out, METRIC_STATE, labels(application, label("state", state.name())), state == currentState ? 1 : 0);
+        }
+    }
+
+    private static void renderRequests(StringBuilder out, String application, Map<String, RequestMetrics> requestMetrics) {
+        appendHeader(out, METRIC_REQUESTS, TYPE_COUNTER, "Completed requests by entry point and status class.");
+        requestMetrics.forEach((entryPointPath, metrics) -> {
+            for (String statusClass : STATUS_CLASSES) {
+                String labels = labels(application, label("entry_point", entryPointPath), label("status", statusClass));
+                appendSample(out, METRIC_REQUESTS, labels, metrics.getCount(statusClass));
+            }
+        });
+    }
+
+    private static void renderRequestDurations(StringBuilder out, String application, Map<String, RequestMetrics> requestMetrics) {
+        appendHeader(out, METRIC_REQUEST_DURATION, TYPE_HISTOGRAM, "Request durations by entry point.");
+        requestMetrics.forEach((entryPointPath, metrics) -> {
+            Snapshot latencies = metrics.getLatencies();
+            String entryPoint = label("entry_point", entryPointPath);
+            for (double bucket : LATENCY_BUCKETS) {
+                long count = latencies.getCountAtOrBelow((long) (bucket * NANOS_PER_SECOND));
+                appendSample(out, METRIC_REQUEST_DURATION + "_bucket", labels(application, entryPoint, label("le", Double.toString(bucket))), count);
+            }
+            appendSample(out, METRIC_REQUEST_DURATION + "_bucket", labels(application, entryPoint, label("le", "+Inf")), latencies.getCount());
+            appendSample(out, METRIC_REQUEST_DURATION + "_sum", labels(application, entryPoint), latencies.getSum() / NANOS_PER_SECOND);
+            appendSample(out, METRIC_REQUEST_DURATION + "_count", labels(application, entryPoint), latencies.getCount());
+        });
+    }
+
+    private static void renderLifecyclePhaseDurations(StringBuilder out, String application, Map<String, Duration> lifecyclePhaseDurations) {
+        if (!lifecyclePhaseDurations.isEmpty()) {
+            appendHeader(out, METRIC_LIFECYCLE_PHASE_DURATION, TYPE_GAUGE, "Duration of the most recent execution of a lifecycle phase.");
+            lifecyclePhaseDurations.forEach((phase, duration) -> appendSample(
+                out,
+                METRIC_LIFECYCLE_PHASE_DURATION,
+                labels(application, label("phase", phase)),
+                duration.toNanos() / NANOS_PER_SECOND
+            ));
+        }
+    }
+
+    private static void renderContainerStatistics(StringBuilder out, String application, ContainerStatistics statistics) {
+        appendStatistic(out, application, METRIC_ACTIVE_SESSIONS, TYPE_GAUGE, "Currently active HTTP sessions.", statistics.activeSessions());
+        appendStatistic(out, application, METRIC_CREATED_SESSIONS, TYPE_COUNTER, "HTTP sessions created since start.", statistics.createdSessions());
+        appendStatistic(out, application, METRIC_ACTIVE_CONNECTIONS, TYPE_GAUGE, "Currently open client connections.", statistics.activeConnections());
+        appendStatistic(out, application, METRIC_BUSY_WORKER_THREADS, TYPE_GAUGE, "Worker threads processing requests.", statistics.busyWorkerThreads());
+        appendStatistic(out, application, METRIC_WORKER_POOL_SIZE, TYPE_GAUGE, "Current size of the worker pool.", statistics.workerPoolSize());
+        appendStatistic(out, application, METRIC_MAXIMUM_WORKER_POOL_SIZE, TYPE_GAUGE, "Maximum size of the worker pool.", statistics.maximumWorkerPoolSize());
+        appendStatistic(out, application, METRIC_WORKER_QUEUE_DEPTH, TYPE_GAUGE, "Tasks waiting for a worker thread.", statistics.workerQueueDepth());
+    }
+
+    private static void appendStatistic(StringBuilder out, String application, String name, String type, String help, long value) {
+        if (value != UNAVAILABLE) {
+            appendHeader(out, name, type, help);
+            appendSample(out, name, labels(application), value);
+        }
+    }
+
+    private static void appendHeader(StringBuilder out, String name, String type, String help) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+    }
+
+    private static void appendSample(StringBuilder out, String name, String labels, long value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static void appendSample(StringBuilder out, String name, String labels, double value) {
+        out.append(name).append('{').append(labels).append("} ").append(value).append('\n');
+    }
+
+    private static String labels(String... labels) {
+        return String.join(",", labels);
+    }
+
+    static String label(String name, String value) {
+        return name + "=\"" + escape(value) + '"';
+    }
+
+    private static String escape(String value) {
+        return value
+            .replace("\\", "\\\\")
+            .replace("\"", "\\\"")
+            .replace("\n", "\\n");
+    }
+}
@@ -0,0 +1,52 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.Server;
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+import static com.codeaffine.tiny.shared.Metric.measureDuration;
+import static com.codeaffine.tiny.star.Texts.*;
+import static java.time.Duration.ofSeconds;
+import static lombok.AccessLevel.PACKAGE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class RequestDrainer implements Runnable {
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(RequestDrainer.class);
+
+    @NonNull
+    private final Server server;
+    @NonNull
+    private final ApplicationServer applicationServer;
+
+    @Override
+    public void run() {
+        if (applicationServer.drainTimeout <= 0) {
+            return;
+        }
+        try {
+            measureDuration(() -> server.drain(ofSeconds(applicationServer.drainTimeout)))
+                .report(this::report);
+        } catch (RuntimeException cause) {
+            logger.warn(WARN_REQUEST_DRAINING, applicationServer.getIdentifier(), cause);
+        }
+    }
+
+    private void report(int abortedRequests, long duration) {
+        if (abortedRequests > 0) {
+            logger.warn(WARN_REQUESTS_ABORTED, abortedRequests, applicationServer.getIdentifier(), duration);
+        } else {
+            logger.debug(DEBUG_REQUESTS_DRAINED, applicationServer.getIdentifier(), duration);
+        }
+    }
+}
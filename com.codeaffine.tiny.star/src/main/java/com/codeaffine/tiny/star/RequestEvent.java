@@ -0,0 +1,33 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name(RequestEvent.NAME)
+@Label("RWT Request")
+@Category({ FlightRecorderEvents.CATEGORY, FlightRecorderEvents.CATEGORY_REQUESTS })
+@Description("Request to an entry point of the RWT application.")
+@StackTrace(false)
+class RequestEvent extends Event {
+
+    static final String NAME = "com.codeaffine.tiny.star.Request";
+
+    @Label("Entry Point")
+    String entryPoint;
+    @Label("Session Id Hash")
+    @Description("Hash code of the HTTP session id, zero if the request has no session")
+    int sessionIdHash;
+    @Label("Status")
+    int status;
+}
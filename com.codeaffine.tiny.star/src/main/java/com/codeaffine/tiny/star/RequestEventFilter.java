@@ -0,0 +1,60 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+
+import java.io.IOException;
+
+import static java.util.Objects.isNull;
+
+class RequestEventFilter implements Filter {
+
+    static final String FILTER_NAME = RequestEventFilter.class.getName();
+    static final int NO_SESSION = 0;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        RequestEvent event = new RequestEvent();
+        if (!event.isEnabled()
+            || !(request instanceof HttpServletRequest httpRequest)
+            || !(response instanceof HttpServletResponse httpResponse))
+        {
+            chain.doFilter(request, response);
+            return;
+        }
+        event.begin();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            event.end();
+            if (event.shouldCommit()) {
+                event.entryPoint = httpRequest.getServletPath();
+                event.sessionIdHash = hashSessionId(httpRequest);
+                event.status = httpResponse.getStatus();
+                event.commit();
+            }
+        }
+    }
+
+    static int hashSessionId(HttpServletRequest request) {
+        try {
+            HttpSession session = request.getSession(false);
+            return isNull(session) ? NO_SESSION : session.getId().hashCode();
+        } catch (IllegalStateException sessionInvalidatedDuringRequest) {
+            return NO_SESSION;
+        }
+    }
+}
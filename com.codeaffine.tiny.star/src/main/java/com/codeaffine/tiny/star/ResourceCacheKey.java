@@ -0,0 +1,97 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import lombok.NoArgsConstructor;
+import lombok.NonNull;
+import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.TreeSet;
+
+import static com.codeaffine.tiny.star.WorkingDirectoryPreparer.encode;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Objects.isNull;
+import static java.util.stream.Collectors.toCollection;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+class ResourceCacheKey {
+
+    static final String UNKNOWN_VERSION = "unversioned";
+    static final int HASH_LENGTH = 8;
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final String LAMBDA_CLASS_NAME_MARKER = "$$Lambda";
+
+    static String computeResourceCacheKey(@NonNull ApplicationServer applicationServer) {
+        ApplicationConfiguration applicationConfiguration = applicationServer.applicationConfiguration;
+        String description = describe(applicationConfiguration, applicationServer.getApplicationModel(), applicationServer.getVersion());
+        return encode(applicationServer.getIdentifier())
+            + "-" + encode(getApplicationVersion(applicationConfiguration))
+            + "-" + hash(description);
+    }
+
+    static String getApplicationVersion(@NonNull ApplicationConfiguration applicationConfiguration) {
+        Package applicationPackage = applicationConfiguration.getClass().getPackage();
+        String result = isNull(applicationPackage) ? null : applicationPackage.getImplementationVersion();
+        return isNull(result) ? UNKNOWN_VERSION : result;
+    }
+
+    private static String describe(ApplicationConfiguration applicationConfiguration, ApplicationModel applicationModel, String serverVersion) {
+        return String.join("\n",
+            describeType(applicationConfiguration.getClass()),
+            serverVersion,
+            applicationModel.operationMode().name(),
+            applicationModel.entryPoints()
+                .entrySet()
+                .stream()
+                .collect(TreeMap<String, Object>::new, (map, entry) -> map.put(entry.getKey(), new TreeMap<>(entry.getValue())), Map::putAll)
+                .toString(),
+            applicationModel.styleSheets().toString(),
+            new TreeSet<>(applicationModel.resourceNames()).toString(),
+            new TreeSet<>(applicationModel.serviceHandlerIds()).toString(),
+            applicationModel.themeableWidgets()
+                .stream()
+                .map(Class::getName)
+                .collect(toCollection(TreeSet::new))
+                .toString(),
+            applicationModel.attributes()
+                .entrySet()
+                .stream()
+                .collect(TreeMap<String, String>::new, (map, entry) -> map.put(entry.getKey(), describeValue(entry.getValue())), Map::putAll)
+                .toString()
+        );
+    }
+
+    private static String describeValue(Object value) {
+        if (isNull(value) || value instanceof CharSequence || value instanceof Number || value instanceof Boolean || value instanceof Enum<?>) {
+            return String.valueOf(value);
+        }
+        return describeType(value.getClass());
+    }
+
+    private static String describeType(Class<?> type) {
+        String result = type.getName();
+        int lambdaMarkerIndex = result.indexOf(LAMBDA_CLASS_NAME_MARKER);
+        return lambdaMarkerIndex < 0 ? result : result.substring(0, lambdaMarkerIndex);
+    }
+
+    private static String hash(String description) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+            return HexFormat.of().formatHex(digest.digest(description.getBytes(UTF_8)), 0, HASH_LENGTH);
+        } catch (NoSuchAlgorithmException cause) {
+            throw new IllegalStateException(cause);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.OverlappingFileLockException;
+
+import static com.codeaffine.tiny.star.Texts.ERROR_UNABLE_TO_LOCK_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.WARN_RELEASING_RESOURCE_CACHE_LOCK;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PRIVATE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RequiredArgsConstructor(access = PRIVATE)
+class ResourceCacheLock {
+
+    static final String LOCK_FILE_NAME = ".lock";
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(ResourceCacheLock.class);
+
+    @NonNull
+    private final File directory;
+    @NonNull
+    private final FileChannel channel;
+
+    static ResourceCacheLock tryAcquire(@NonNull File directory) {
+        try {
+            FileChannel channel = FileChannel.open(new File(directory, LOCK_FILE_NAME).toPath(), CREATE, READ, WRITE);
+            if (isLocked(channel)) {
+                channel.close();
+                return null;
+            }
+            return new ResourceCacheLock(directory, channel);
+        } catch (IOException cause) {
+            throw new IllegalArgumentException(format(ERROR_UNABLE_TO_LOCK_RESOURCE_CACHE, directory.getAbsolutePath()), cause);
+        }
+    }
+
+    static boolean hasLockFile(@NonNull File directory) {
+        return new File(directory, LOCK_FILE_NAME).isFile();
+    }
+
+    String readOwner() {
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            channel.read(buffer, 0L);
+            return new String(buffer.array(), 0, buffer.position(), UTF_8);
+        } catch (IOException cause) {
+            throw new IllegalArgumentException(format(ERROR_UNABLE_TO_LOCK_RESOURCE_CACHE, directory.getAbsolutePath()), cause);
+        }
+    }
+
+    void writeOwner(@NonNull String owner) {
+        try {
+            channel.truncate(0L);
+            channel.write(ByteBuffer.wrap(owner.getBytes(UTF_8)), 0L);
+        } catch (IOException cause) {
+            throw new IllegalArgumentException(format(ERROR_UNABLE_TO_LOCK_RESOURCE_CACHE, directory.getAbsolutePath()), cause);
+        }
+    }
+
+    void release() {
+        try {
+            // closing the channel releases the lock
+            channel.close();
+        } catch (IOException cause) {
+            logger.warn(WARN_RELEASING_RESOURCE_CACHE_LOCK, directory, cause);
+        }
+    }
+
+    private static boolean isLocked(FileChannel channel) throws IOException {
+        try {
+            return isNull(channel.tryLock());
+        } catch (OverlappingFileLockException cause) {
+            // another application server instance of this virtual machine holds the lock
+            return true;
+        }
+    }
+}
@@ -0,0 +1,218 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Enumeration;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import static com.codeaffine.tiny.star.ResourcePrecompressor.toPrecompressedResource;
+import static com.codeaffine.tiny.star.ResponseCompressionFilter.HEADER_ACCEPT_ENCODING;
+import static com.codeaffine.tiny.star.ResponseCompressionFilter.HEADER_VARY;
+import static com.codeaffine.tiny.star.ResponseCompressionFilter.acceptsGzip;
+import static com.codeaffine.tiny.star.Texts.WARN_RESOURCE_ENTITY_TAG;
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static java.lang.String.format;
+import static java.nio.file.Files.*;
+import static java.util.Arrays.stream;
+import static java.util.Collections.list;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.slf4j.LoggerFactory.getLogger;
+
+class ResourceCachePolicyFilter implements Filter {
+
+    static final String FILTER_NAME = ResourceCachePolicyFilter.class.getName();
+    static final String HEADER_CACHE_CONTROL = "Cache-Control";
+    static final String HEADER_ETAG = "ETag";
+    static final String HEADER_IF_NONE_MATCH = "If-None-Match";
+    static final String CACHE_CONTROL_IMMUTABLE = "public, max-age=%s, immutable";
+    static final String CACHE_CONTROL_REVALIDATE = "no-cache";
+    static final String PRECOMPRESSED_ENTITY_TAG_SUFFIX = "-gzip";
+    // eight hex digits, at least one of them decimal, right before the file extension, e.g. themes/images/4d3a2e1f.png
+    static final Pattern CONTENT_HASH = Pattern.compile("(^|.*/)([^/]*[._-])?(?=\\p{XDigit}{0,7}\\d)\\p{XDigit}{8}\\.\\w+");
+
+    private static final String ALGORITHM = "SHA-256";
+    private static final int ENTITY_TAG_LENGTH = 16;
+    private static final String WEAK_ENTITY_TAG_PREFIX = "W/";
+    private static final String ANY_ENTITY_TAG = "*";
+    private static final String ANY_VARIATION = "*";
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(ResourceCachePolicyFilter.class);
+
+    private final Map<Path, EntityTag> entityTags;
+    private final int maxAge;
+
+    ResourceCachePolicyFilter(int maxAge) {
+        this.entityTags = new ConcurrentHashMap<>();
+        this.maxAge = maxAge;
+    }
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (request instanceof HttpServletRequest httpRequest && response instanceof HttpServletResponse httpResponse) {
+            doFilter(httpRequest, httpResponse, chain);
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
+        String path = getRequestPath(request);
+        if (isContentHashed(path)) {
+            response.setHeader(HEADER_CACHE_CONTROL, format(CACHE_CONTROL_IMMUTABLE, maxAge));
+            chain.doFilter(request, response);
+            return;
+        }
+        Path resource = resolveResource(request, path);
+        String entityTag = isNull(resource) ? null : getEntityTag(request, resource);
+        if (isNull(entityTag)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        response.setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_REVALIDATE);
+        response.setHeader(HEADER_ETAG, entityTag);
+        if (matches(request.getHeaders(HEADER_IF_NONE_MATCH), entityTag)) {
+            // a 304 response has to carry the Vary header of the full response it stands for
+            if (exists(toPrecompressedResource(resource))) {
+                varyOnAcceptEncoding(response);
+            }
+            response.setStatus(SC_NOT_MODIFIED);
+            return;
+        }
+        chain.doFilter(request, new EntityTagPreservingResponseWrapper(response));
+    }
+
+    static boolean isContentHashed(String path) {
+        return CONTENT_HASH.matcher(path).matches();
+    }
+
+    private static Path resolveResource(HttpServletRequest request, String path) {
+        String realPath = request.getServletContext().getRealPath(path);
+        if (isNull(realPath)) {
+            return null;
+        }
+        Path result = Path.of(realPath);
+        return isRegularFile(result) ? result : null;
+    }
+
+    private String getEntityTag(HttpServletRequest request, Path resource) {
+        try {
+            EntityTag result = entityTags.compute(resource, ResourceCachePolicyFilter::reuseOrCreate);
+            if (acceptsGzip(request) && exists(toPrecompressedResource(resource))) {
+                return result.value(PRECOMPRESSED_ENTITY_TAG_SUFFIX);
+            }
+            return result.value("");
+        } catch (IllegalStateException cause) {
+            logger.warn(WARN_RESOURCE_ENTITY_TAG, resource, cause);
+            return null;
+        }
+    }
+
+    private static EntityTag reuseOrCreate(Path resource, EntityTag current) {
+        return nonNull(current) && current.isValid(resource) ? current : EntityTag.of(resource);
+    }
+
+    private static void varyOnAcceptEncoding(HttpServletResponse response) {
+        boolean present = response.getHeaders(HEADER_VARY)
+            .stream()
+            .flatMap(value -> stream(value.split(",")))
+            .map(String::trim)
+            .anyMatch(variation -> ANY_VARIATION.equals(variation) || HEADER_ACCEPT_ENCODING.equalsIgnoreCase(variation));
+        if (!present) {
+            response.addHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+        }
+    }
+
+    private static String getRequestPath(HttpServletRequest request) {
+        String pathInfo = request.getPathInfo();
+        return isNull(pathInfo) ? request.getServletPath() : request.getServletPath() + pathInfo;
+    }
+
+    private static boolean matches(Enumeration<String> ifNoneMatch, String entityTag) {
+        if (isNull(ifNoneMatch)) {
+            return false;
+        }
+        return list(ifNoneMatch)
+            .stream()
+            .flatMap(value -> stream(value.split(",")))
+            .map(String::trim)
+            .map(candidate -> candidate.startsWith(WEAK_ENTITY_TAG_PREFIX) ? candidate.substring(WEAK_ENTITY_TAG_PREFIX.length()) : candidate)
+            .anyMatch(candidate -> ANY_ENTITY_TAG.equals(candidate) || entityTag.equals(candidate));
+    }
+
+    private record EntityTag(long lastModified, long size, String hash) {
+
+        static EntityTag of(Path resource) {
+            try {
+                long lastModified = getLastModifiedTime(resource).toMillis();
+                long size = size(resource);
+                MessageDigest digest = MessageDigest.getInstance(ALGORITHM);
+                try (InputStream in = new DigestInputStream(newInputStream(resource), digest)) {
+                    in.transferTo(OutputStream.nullOutputStream());
+                }
+                return new EntityTag(lastModified, size, HexFormat.of().formatHex(digest.digest(), 0, ENTITY_TAG_LENGTH));
+            } catch (IOException | NoSuchAlgorithmException cause) {
+                throw new IllegalStateException(cause);
+            }
+        }
+
+        boolean isValid(Path resource) {
+            try {
+                return getLastModifiedTime(resource).toMillis() == lastModified && size(resource) == size;
+            } catch (IOException cause) {
+                return false;
+            }
+        }
+
+        String value(String suffix) {
+            return "\"" + hash + suffix + "\"";
+        }
+    }
+
+    private static class EntityTagPreservingResponseWrapper extends HttpServletResponseWrapper {
+
+        EntityTagPreservingResponseWrapper(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (!HEADER_ETAG.equalsIgnoreCase(name)) {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public void addHeader(String name, String value) {
+            if (!HEADER_ETAG.equalsIgnoreCase(name)) {
+                super.addHeader(name, value);
+            }
+        }
+    }
+}
@@ -0,0 +1,119 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.ServletContextEvent;
+import jakarta.servlet.ServletContextListener;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Path;
+import java.util.Set;
+import java.util.stream.Stream;
+
+import static com.codeaffine.tiny.shared.Metric.measureDuration;
+import static com.codeaffine.tiny.star.ResourceCachePolicyFilter.CONTENT_HASH;
+import static com.codeaffine.tiny.star.Texts.DEBUG_RESOURCE_PRECOMPRESSION;
+import static com.codeaffine.tiny.star.Texts.WARN_RESOURCE_PRECOMPRESSION;
+import static java.nio.file.Files.*;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.util.Objects.nonNull;
+import static java.util.zip.Deflater.BEST_COMPRESSION;
+import static org.slf4j.LoggerFactory.getLogger;
+
+class ResourcePrecompressor implements ServletContextListener {
+
+    static final String RESOURCES_DIRECTORY = "rwt-resources";
+    static final String GZIP_EXTENSION = ".gz";
+    static final long MINIMUM_RESOURCE_SIZE = 1024L;
+    static final Set<String> COMPRESSIBLE_EXTENSIONS = Set.of(".js", ".css", ".json", ".svg", ".html", ".txt", ".xml");
+
+    private static final String TEMPORARY_FILE_SUFFIX = ".tmp";
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(ResourcePrecompressor.class);
+
+    @Override
+    public void contextInitialized(ServletContextEvent servletContextEvent) {
+        String contextDirectory = servletContextEvent.getServletContext().getRealPath("/");
+        if (nonNull(contextDirectory)) {
+            Path resourcesDirectory = Path.of(contextDirectory, RESOURCES_DIRECTORY);
+            if (isDirectory(resourcesDirectory)) {
+                measureDuration(() -> precompress(resourcesDirectory))
+                    .report((count, duration) -> logger.debug(DEBUG_RESOURCE_PRECOMPRESSION, count, resourcesDirectory, duration));
+            }
+        }
+    }
+
+    long precompress(Path resourcesDirectory) {
+        try (Stream<Path> files = walk(resourcesDirectory)) {
+            return files
+                .filter(ResourcePrecompressor::isCompressible)
+                .filter(ResourcePrecompressor::precompressResource)
+                .count();
+        } catch (IOException cause) {
+            logger.warn(WARN_RESOURCE_PRECOMPRESSION, resourcesDirectory, cause);
+            return 0L;
+        }
+    }
+
+    static Path toPrecompressedResource(Path resource) {
+        return resource.resolveSibling(resource.getFileName() + GZIP_EXTENSION);
+    }
+
+    private static boolean isCompressible(Path file) {
+        String fileName = file.getFileName().toString();
+        return isRegularFile(file)
+            && COMPRESSIBLE_EXTENSIONS.stream().anyMatch(fileName::endsWith)
+            && hasMinimumSize(file);
+    }
+
+    private static boolean hasMinimumSize(Path file) {
+        try {
+            return size(file) >= MINIMUM_RESOURCE_SIZE;
+        } catch (IOException cause) {
+            logger.warn(WARN_RESOURCE_PRECOMPRESSION, file, cause);
+            return false;
+        }
+    }
+
+    private static boolean precompressResource(Path resource) {
+        Path precompressedResource = toPrecompressedResource(resource);
+        try {
+            if (isUpToDate(precompressedResource, resource)) {
+                return false;
+            }
+            Path temporaryFile = createTempFile(resource.getParent(), resource.getFileName().toString(), TEMPORARY_FILE_SUFFIX);
+            try (
+                InputStream in = newInputStream(resource);
+                OutputStream file = newOutputStream(temporaryFile);
+                OutputStream out = new CompressionLevelGzipOutputStream(file, BEST_COMPRESSION)
+            ) {
+                in.transferTo(out);
+            }
+            move(temporaryFile, precompressedResource, REPLACE_EXISTING, ATOMIC_MOVE);
+            return true;
+        } catch (IOException cause) {
+            logger.warn(WARN_RESOURCE_PRECOMPRESSION, resource, cause);
+            return false;
+        }
+    }
+
+    private static boolean isUpToDate(Path precompressedResource, Path resource) throws IOException {
+        // RWT rewrites its resources on every start, but a content hash in the name still identifies the content a kept variant was made of
+        return exists(precompressedResource)
+            && (isContentHashed(resource) || getLastModifiedTime(precompressedResource).compareTo(getLastModifiedTime(resource)) >= 0);
+    }
+
+    private static boolean isContentHashed(Path resource) {
+        return CONTENT_HASH.matcher(resource.getFileName().toString()).matches();
+    }
+}
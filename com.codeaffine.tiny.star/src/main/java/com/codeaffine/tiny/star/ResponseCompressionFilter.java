@@ -0,0 +1,88 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+import java.io.IOException;
+import java.util.Enumeration;
+import java.util.regex.Pattern;
+
+import static com.codeaffine.tiny.star.CompressingServletOutputStream.GZIP;
+import static java.util.Arrays.stream;
+import static java.util.Collections.list;
+import static java.util.Objects.isNull;
+import static lombok.AccessLevel.PACKAGE;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class ResponseCompressionFilter implements Filter {
+
+    static final String FILTER_NAME = ResponseCompressionFilter.class.getName();
+    static final String HEADER_ACCEPT_ENCODING = "Accept-Encoding";
+    static final String HEADER_VARY = "Vary";
+    static final String METHOD_HEAD = "HEAD";
+    static final String ANY_ENCODING = "*";
+
+    private static final Pattern ZERO_QUALITY = Pattern.compile("q\\s*=\\s*0(\\.0{0,3})?");
+
+    private final int minimumSize;
+    private final int level;
+
+    @Override
+    public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
+        if (request instanceof HttpServletRequest httpRequest && response instanceof HttpServletResponse httpResponse) {
+            doFilter(httpRequest, httpResponse, chain);
+        } else {
+            chain.doFilter(request, response);
+        }
+    }
+
+    private void doFilter(HttpServletRequest request, HttpServletResponse response, FilterChain chain) throws IOException, ServletException {
+        response.addHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+        if (METHOD_HEAD.equals(request.getMethod()) || !acceptsGzip(request)) {
+            chain.doFilter(request, response);
+            return;
+        }
+        CompressingResponseWrapper compressingResponse = new CompressingResponseWrapper(response, minimumSize, level);
+        try {
+            chain.doFilter(request, compressingResponse);
+        } finally {
+            compressingResponse.finishResponse();
+        }
+    }
+
+    static boolean acceptsGzip(HttpServletRequest request) {
+        Enumeration<String> acceptEncodings = request.getHeaders(HEADER_ACCEPT_ENCODING);
+        if (isNull(acceptEncodings)) {
+            return false;
+        }
+        return list(acceptEncodings)
+            .stream()
+            .flatMap(acceptEncoding -> stream(acceptEncoding.split(",")))
+            .anyMatch(ResponseCompressionFilter::isGzipAccepted);
+    }
+
+    private static boolean isGzipAccepted(String contentCoding) {
+        String[] parts = contentCoding.split(";");
+        String name = parts[0].trim();
+        if (!GZIP.equalsIgnoreCase(name) && !ANY_ENCODING.equals(name)) {
+            return false;
+        }
+        return stream(parts)
+            .skip(1)
+            .map(String::trim)
+            .noneMatch(parameter -> ZERO_QUALITY.matcher(parameter).matches());
+    }
+}
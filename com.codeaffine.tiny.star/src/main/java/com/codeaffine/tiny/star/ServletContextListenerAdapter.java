@@ -13,16 +13,25 @@ import lombok.NonNull;
 
 import java.util.List;
 
+import static com.codeaffine.tiny.star.StartupProfile.PHASE_SERVLET_DEPLOYMENT;
+
 record ServletContextListenerAdapter(
     @NonNull TinyStarServletContextListener tinyStarServletContextListener,
-    @NonNull List<ServletContextListener> applicationServletContextListeners)
+    @NonNull List<ServletContextListener> applicationServletContextListeners,
+    @NonNull StartupProfiler startupProfiler)
     implements ServletContextListener
 {
 
+    ServletContextListenerAdapter(TinyStarServletContextListener tinyStarServletContextListener, List<ServletContextListener> applicationServletContextListeners) {
+        this(tinyStarServletContextListener, applicationServletContextListeners, new StartupProfiler());
+    }
+
     @Override
     public void contextInitialized(ServletContextEvent servletContextEvent) {
-        tinyStarServletContextListener.contextInitialized(servletContextEvent);
-        applicationServletContextListeners.forEach(listener -> listener.contextInitialized(servletContextEvent));
+        startupProfiler.profile(PHASE_SERVLET_DEPLOYMENT, () -> {
+            tinyStarServletContextListener.contextInitialized(servletContextEvent);
+            applicationServletContextListeners.forEach(listener -> listener.contextInitialized(servletContextEvent));
+        });
     }
 
     @Override
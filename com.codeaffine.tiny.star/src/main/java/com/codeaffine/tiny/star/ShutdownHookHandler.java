@@ -12,24 +12,42 @@ import com.codeaffine.tiny.shared.Threads;
 import lombok.Getter;
 import lombok.NonNull;
 
-import java.util.ArrayList;
-import java.util.HashSet;
+import java.time.Duration;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
 import java.util.concurrent.atomic.AtomicBoolean;
 
+import static com.codeaffine.tiny.shared.Threads.saveRunWithoutLogger;
 import static com.codeaffine.tiny.star.ApplicationServer.State.RUNNING;
+import static com.codeaffine.tiny.star.ShutdownHookHandler.ExecutionMode.PARALLEL;
+import static com.codeaffine.tiny.star.ShutdownHookHandler.ExecutionMode.SEQUENTIAL;
+import static com.codeaffine.tiny.star.Texts.ERROR_SHUTDOWN_OPERATION_TIMEOUT;
 import static com.codeaffine.tiny.star.Texts.THREAD_NAME_APPLICATION_SERVER_SHUTDOWN_HOOK;
+import static com.codeaffine.tiny.star.Texts.THREAD_NAME_APPLICATION_SERVER_SHUTDOWN_OPERATION;
+import static java.lang.String.format;
 import static java.lang.Thread.currentThread;
+import static java.util.Map.entry;
+import static java.util.concurrent.Executors.newThreadPerTaskExecutor;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 
 class ShutdownHookHandler {
 
-    private final Set<Runnable> shutdownOperations;
+    private final Map<Runnable, String> shutdownOperations;
     private final RuntimeSupplier runtimeSupplier;
     @Getter
     private final Thread shutdownHookThread;
     private final Synchronizer synchronizer;
     private final AtomicBoolean concluded;
+    @Getter
+    private final ExecutionMode executionMode;
+    @Getter
+    private final Duration shutdownTimeout;
+
+    enum ExecutionMode { SEQUENTIAL, PARALLEL }
 
     static class RuntimeSupplier {
         Runtime getRuntime() {
@@ -38,15 +56,34 @@ class ShutdownHookHandler {
     }
 
     ShutdownHookHandler() {
-        this(new RuntimeSupplier(), new Synchronizer());
+        this(SEQUENTIAL, Duration.ZERO);
+    }
+
+    ShutdownHookHandler(@NonNull ExecutionMode executionMode, @NonNull Duration shutdownTimeout) {
+        this(new RuntimeSupplier(), new Synchronizer(), executionMode, shutdownTimeout);
     }
 
     ShutdownHookHandler(@NonNull RuntimeSupplier runtimeSupplier, @NonNull Synchronizer synchronizer) {
-        this.shutdownOperations = new HashSet<>();
+        this(runtimeSupplier, synchronizer, SEQUENTIAL);
+    }
+
+    ShutdownHookHandler(@NonNull RuntimeSupplier runtimeSupplier, @NonNull Synchronizer synchronizer, @NonNull ExecutionMode executionMode) {
+        this(runtimeSupplier, synchronizer, executionMode, Duration.ZERO);
+    }
+
+    ShutdownHookHandler(
+        @NonNull RuntimeSupplier runtimeSupplier,
+        @NonNull Synchronizer synchronizer,
+        @NonNull ExecutionMode executionMode,
+        @NonNull Duration shutdownTimeout)
+    {
+        this.shutdownOperations = new HashMap<>();
         this.shutdownHookThread = new Thread(this::executeRegisteredShutdownOperations, THREAD_NAME_APPLICATION_SERVER_SHUTDOWN_HOOK);
         this.runtimeSupplier = runtimeSupplier;
         this.synchronizer = synchronizer;
         this.concluded = new AtomicBoolean(false);
+        this.executionMode = executionMode;
+        this.shutdownTimeout = shutdownTimeout;
     }
 
     static void beforeProcessShutdown(@NonNull Terminator terminator, @NonNull ApplicationProcess process) {
@@ -58,16 +95,16 @@ class ShutdownHookHandler {
         }
     }
 
-    void register(@NonNull Runnable shutdownOperation) {
-        synchronizer.execute(() -> doRegister(shutdownOperation));
+    void register(@NonNull String identifier, @NonNull Runnable shutdownOperation) {
+        synchronizer.execute(() -> doRegister(identifier, shutdownOperation));
     }
 
     void deregister(@NonNull Runnable shutdownOperation) {
         synchronizer.execute(() -> doDeregister(shutdownOperation));
     }
 
-    private void doRegister(Runnable shutdownOperation) {
-        shutdownOperations.add(shutdownOperation);
+    private void doRegister(String identifier, Runnable shutdownOperation) {
+        shutdownOperations.put(shutdownOperation, identifier);
         if(shutdownOperations.size() == 1) {
             runtimeSupplier.getRuntime().addShutdownHook(shutdownHookThread);
         }
@@ -85,12 +122,57 @@ class ShutdownHookHandler {
     }
 
     private void executeRegisteredShutdownOperations() {
-        synchronizer.execute(this::cloneFinalShutdownOperationsList)
-            .forEach(Threads::saveRunWithoutLogger);
+        List<Entry<Runnable, String>> operations = synchronizer.execute(this::cloneFinalShutdownOperationsList);
+        if (PARALLEL == executionMode) {
+            executeInParallel(operations);
+        } else {
+            operations.stream()
+                .map(Entry::getKey)
+                .forEach(Threads::saveRunWithoutLogger);
+        }
+    }
+
+    private void executeInParallel(List<Entry<Runnable, String>> operations) {
+        ExecutorService executor = newThreadPerTaskExecutor(Thread.ofVirtual().name(THREAD_NAME_APPLICATION_SERVER_SHUTDOWN_OPERATION, 0).factory());
+        List<Future<?>> executions = operations.stream()
+            .<Future<?>>map(operation -> executor.submit(() -> saveRunWithoutLogger(operation.getKey())))
+            .toList();
+        executor.shutdown();
+        if (!awaitTermination(executor)) {
+            for (int i = 0; i < executions.size(); i++) {
+                if (!executions.get(i).isDone()) {
+                    reportExceededShutdownTimeout(operations.get(i).getValue());
+                }
+            }
+            executor.shutdownNow();
+        }
+    }
+
+    private boolean awaitTermination(ExecutorService executor) {
+        if (shutdownTimeout.isZero() || shutdownTimeout.isNegative()) {
+            executor.close();
+            return true;
+        }
+        try {
+            return executor.awaitTermination(shutdownTimeout.toNanos(), NANOSECONDS);
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            return false;
+        }
+    }
+
+    private void reportExceededShutdownTimeout(String identifier) {
+        String message = format(ERROR_SHUTDOWN_OPERATION_TIMEOUT, identifier, shutdownTimeout.toMillis());
+        saveRunWithoutLogger(() -> {
+            throw new IllegalStateException(message);
+        });
     }
 
-    private List<Runnable> cloneFinalShutdownOperationsList() {
+    private List<Entry<Runnable, String>> cloneFinalShutdownOperationsList() {
         concluded.set(true);
-        return new ArrayList<>(shutdownOperations);
+        return shutdownOperations.entrySet()
+            .stream()
+            .map(operation -> entry(operation.getKey(), operation.getValue()))
+            .toList();
     }
 }
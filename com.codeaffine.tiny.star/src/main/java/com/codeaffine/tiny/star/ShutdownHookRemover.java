@@ -29,7 +29,8 @@ class ShutdownHookRemover implements Runnable {
 
     @Override
     public void run() {
-        if (!loggingFrameworkControl.isBlockingWorkingDirectory() || !applicationServer.deleteWorkingDirectoryOnShutdown) {
+        boolean deletesWorkingDirectory = applicationServer.deleteWorkingDirectoryOnShutdown && !applicationServer.isUsingResourceCache();
+        if (!loggingFrameworkControl.isBlockingWorkingDirectory() || !deletesWorkingDirectory) {
             shutdownHookHandler.deregister(shutdownHookOperation.get());
         }
     }
@@ -0,0 +1,125 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import lombok.NonNull;
+import lombok.Value;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <p>Breakdown of the time spent in the phases of the latest {@link ApplicationServer#start()} call. All durations are measured
+ * in nanoseconds by means of {@link System#nanoTime()}.</p>
+ * <p>Phases may be nested, e.g. the {@link #PHASE_SERVLET_DEPLOYMENT} phase runs within the {@link #PHASE_CONTAINER_START} phase. The
+ * {@link Phase#getOffset()} of a phase denotes its start relative to the beginning of the startup.</p>
+ *
+ * @see ApplicationServer#getStartupProfile()
+ */
+@Value
+public class StartupProfile {
+
+    /**
+     * Name of the phase that prepares the application server's working directory.
+     */
+    public static final String PHASE_WORKING_DIRECTORY_PREPARATION = "working-directory-preparation";
+
+    /**
+     * Name of the phase that configures the logging framework.
+     */
+    public static final String PHASE_LOGGING_FRAMEWORK_CONFIGURATION = "logging-framework-configuration";
+
+    /**
+     * Name of the phase that looks up the {@link com.codeaffine.tiny.star.spi.ServerFactory} implementation by means of the
+     * {@link java.util.ServiceLoader}.
+     */
+    public static final String PHASE_SERVER_FACTORY_LOOKUP = "server-factory-lookup";
+
+    /**
+     * Name of the phase that creates the {@link com.codeaffine.tiny.star.spi.Server} instance of the embedded servlet container.
+     */
+    public static final String PHASE_SERVER_CREATION = "server-creation";
+
+    /**
+     * Name of the phase that starts the embedded servlet container including the servlet deployment.
+     */
+    public static final String PHASE_CONTAINER_START = "container-start";
+
+    /**
+     * Name of the phase that deploys the RWT application, i.e. the initialization of the servlet context.
+     */
+    public static final String PHASE_SERVLET_DEPLOYMENT = "servlet-deployment";
+
+    /**
+     * Name of the phase that warms up the application by simulated sessions against its entry points before the server reports
+     * {@link ApplicationServer.State#RUNNING}.
+     *
+     * @see ApplicationServer#CONFIGURATION_ATTRIBUTE_WARM_UP_REQUESTS
+     */
+    public static final String PHASE_WARM_UP = "warm-up";
+
+    /**
+     * Prefix of the phase names of {@link ApplicationServer.Starting} and {@link ApplicationServer.Started} observer notifications. The prefix is followed
+     * by the simple name of the observer annotation, the observer's class name and its method name, e.g.
+     * {@code observer:Started:com.example.Listener#started}.
+     */
+    public static final String PHASE_OBSERVER_NOTIFICATION_PREFIX = "observer:";
+
+    /**
+     * <p>A single phase of the application server startup.</p>
+     */
+    @Value
+    public static class Phase {
+
+        /**
+         * <p>The name of the phase.</p>
+         * @return the name of the phase. Never {@code null}.
+         */
+        @SuppressWarnings("JavadocDeclaration")
+        @NonNull
+        String name;
+        /**
+         * <p>The start of the phase in nanoseconds relative to the beginning of the startup.</p>
+         * @return the start of the phase in nanoseconds relative to the beginning of the startup.
+         */
+        @SuppressWarnings("JavadocDeclaration")
+        long offset;
+        /**
+         * <p>The duration of the phase in nanoseconds.</p>
+         * @return the duration of the phase in nanoseconds.
+         */
+        @SuppressWarnings("JavadocDeclaration")
+        long duration;
+    }
+
+    /**
+     * <p>The recorded phases in the order of their completion.</p>
+     * @return the recorded phases. Never {@code null}.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    @NonNull
+    List<Phase> phases;
+    /**
+     * <p>The total duration of the startup in nanoseconds.</p>
+     * @return the total duration of the startup in nanoseconds.
+     */
+    @SuppressWarnings("JavadocDeclaration")
+    long totalDuration;
+
+    /**
+     * <p>Returns the first recorded phase with the given name.</p>
+     *
+     * @param name the name of the phase. Must not be {@code null}.
+     * @return the phase with the given name or an empty {@link Optional} if no such phase has been recorded.
+     */
+    public Optional<Phase> getPhase(@NonNull String name) {
+        return phases.stream()
+            .filter(phase -> phase.getName().equals(name))
+            .findFirst();
+    }
+}
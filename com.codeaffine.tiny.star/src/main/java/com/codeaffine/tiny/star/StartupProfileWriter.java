@@ -0,0 +1,71 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.StartupProfile.Phase;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.NonNull;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.codeaffine.tiny.star.Texts.DEBUG_STARTUP_PROFILE_WRITTEN;
+import static com.codeaffine.tiny.star.Texts.WARN_WRITING_STARTUP_PROFILE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+class StartupProfileWriter {
+
+    static final String STARTUP_PROFILE_FILE_NAME = "startup-profile.json";
+    static final String ATTRIBUTE_IDENTIFIER = "identifier";
+    static final String ATTRIBUTE_TOTAL_DURATION = "totalDurationNanos";
+    static final String ATTRIBUTE_PHASES = "phases";
+    static final String ATTRIBUTE_NAME = "name";
+    static final String ATTRIBUTE_OFFSET = "offsetNanos";
+    static final String ATTRIBUTE_DURATION = "durationNanos";
+
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(StartupProfileWriter.class);
+
+    void write(@NonNull String identifier, @NonNull StartupProfile profile, @NonNull File directory) {
+        File reportFile = new File(directory, STARTUP_PROFILE_FILE_NAME);
+        try {
+            OBJECT_MAPPER.writerWithDefaultPrettyPrinter().writeValue(reportFile, toReport(identifier, profile));
+            logger.debug(DEBUG_STARTUP_PROFILE_WRITTEN, reportFile.getAbsolutePath());
+        } catch (IOException cause) {
+            logger.warn(WARN_WRITING_STARTUP_PROFILE, reportFile.getAbsolutePath(), cause);
+        }
+    }
+
+    private static Map<String, Object> toReport(String identifier, StartupProfile profile) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(ATTRIBUTE_IDENTIFIER, identifier);
+        result.put(ATTRIBUTE_TOTAL_DURATION, profile.getTotalDuration());
+        result.put(ATTRIBUTE_PHASES, toPhaseReports(profile.getPhases()));
+        return result;
+    }
+
+    private static List<Map<String, Object>> toPhaseReports(List<Phase> phases) {
+        return phases.stream()
+            .map(StartupProfileWriter::toPhaseReport)
+            .toList();
+    }
+
+    private static Map<String, Object> toPhaseReport(Phase phase) {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put(ATTRIBUTE_NAME, phase.getName());
+        result.put(ATTRIBUTE_OFFSET, phase.getOffset());
+        result.put(ATTRIBUTE_DURATION, phase.getDuration());
+        return result;
+    }
+}
@@ -0,0 +1,70 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.StartupProfile.Phase;
+import lombok.NonNull;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Supplier;
+
+import static java.lang.System.nanoTime;
+import static java.util.Collections.emptyList;
+
+class StartupProfiler {
+
+    static final StartupProfile EMPTY_PROFILE = new StartupProfile(emptyList(), 0L);
+
+    private final List<Phase> phases;
+
+    private volatile boolean recording;
+    private volatile long origin;
+
+    StartupProfiler() {
+        this.phases = new CopyOnWriteArrayList<>();
+    }
+
+    void startRecording() {
+        phases.clear();
+        origin = nanoTime();
+        recording = true;
+    }
+
+    StartupProfile stopRecording() {
+        if (!recording) {
+            return EMPTY_PROFILE;
+        }
+        recording = false;
+        return new StartupProfile(List.copyOf(phases), nanoTime() - origin);
+    }
+
+    boolean isRecording() {
+        return recording;
+    }
+
+    void profile(@NonNull String phase, @NonNull Runnable operation) {
+        profile(phase, () -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    <T> T profile(@NonNull String phase, @NonNull Supplier<T> operation) {
+        if (!recording) {
+            return operation.get();
+        }
+        long start = nanoTime();
+        try {
+            return operation.get();
+        } finally {
+            long end = nanoTime();
+            phases.add(new Phase(phase, start - origin, end - start));
+        }
+    }
+}
@@ -33,29 +33,65 @@ class Terminator implements Runnable {
     private final Runnable shutdownHookRemover;
     @NonNull
     private final ApplicationServer applicationServer;
+    @NonNull
+    private final WorkingDirectoryCleaner workingDirectoryCleaner;
+    @NonNull
+    private final ManagementBeanRegistrar managementBeanRegistrar;
 
     @Getter
     @Setter
     private boolean shutdownHookExecution;
 
+    Terminator(
+        File applicationWorkingDirectory,
+        Server server,
+        LoggingFrameworkControl loggingFrameworkControl,
+        Runnable shutdownHookRemover,
+        ApplicationServer applicationServer,
+        ManagementBeanRegistrar managementBeanRegistrar)
+    {
+        this(
+            applicationWorkingDirectory,
+            server,
+            loggingFrameworkControl,
+            shutdownHookRemover,
+            applicationServer,
+            new WorkingDirectoryCleaner(applicationServer),
+            managementBeanRegistrar
+        );
+    }
+
     @Override
     public void run() {
+        managementBeanRegistrar.unregister();
         server.stop();
         System.getProperties().remove(applicationServer.getWorkingDirectorSystemProperty());
         deleteWorkingDirectory();
+        applicationServer.releaseResourceCacheLock();
         shutdownHookRemover.run();
     }
 
     void deleteWorkingDirectory() {
-        if (applicationServer.deleteWorkingDirectoryOnShutdown) {
+        if (applicationServer.deleteWorkingDirectoryOnShutdown && !applicationServer.isUsingResourceCache()) {
             if (isShutdownHookExecution()) {
                 saveRunWithoutLogger(loggingFrameworkControl::halt);
-                deleteDirectory(applicationWorkingDirectory);
+                doDeleteWorkingDirectory(true);
             } else {
                 if(!loggingFrameworkControl.isBlockingWorkingDirectory()) {
-                    deleteDirectory(applicationWorkingDirectory);
+                    doDeleteWorkingDirectory(false);
                 }
             }
         }
     }
+
+    private void doDeleteWorkingDirectory(boolean awaitTermination) {
+        if (applicationServer.backgroundWorkingDirectoryDeletion && awaitTermination) {
+            // background threads are daemon threads, which would not keep the JVM alive until the deletion has finished
+            workingDirectoryCleaner.deleteAwaitingTermination(applicationWorkingDirectory);
+        } else if (applicationServer.backgroundWorkingDirectoryDeletion) {
+            workingDirectoryCleaner.delete(applicationWorkingDirectory);
+        } else {
+            deleteDirectory(applicationWorkingDirectory);
+        }
+    }
 }
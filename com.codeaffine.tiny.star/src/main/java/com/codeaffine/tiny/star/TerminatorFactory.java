@@ -22,7 +22,13 @@ class TerminatorFactory {
     @NonNull
     private final ApplicationServer applicationServer;
 
-    Terminator create(File workingDirectory, Server server, LoggingFrameworkControl loggingFrameworkControl, Runnable shutdownHookRemover) {
-        return new Terminator(workingDirectory, server, loggingFrameworkControl, shutdownHookRemover, applicationServer);
+    Terminator create(
+        File workingDirectory,
+        Server server,
+        LoggingFrameworkControl loggingFrameworkControl,
+        Runnable shutdownHookRemover,
+        ManagementBeanRegistrar managementBeanRegistrar)
+    {
+        return new Terminator(workingDirectory, server, loggingFrameworkControl, shutdownHookRemover, applicationServer, managementBeanRegistrar);
     }
 }
@@ -38,6 +38,7 @@ class Texts {
     static final String ERROR_NOTIFYING_STOPPING_LISTENER = "Error while notifying stopping listener:";
     static final String ERROR_NOTIFYING_STOPPED_LISTENER = "Error while notifying stopped listener:";
     static final String ERROR_LISTENER_NOTIFICATION = "%s notifying %s#%s";
+    static final String ERROR_OBSERVER_NOTIFICATION_TIMEOUT = "Timeout of %d ms exceeded";
     static final String ERROR_TERMINATING_APPLICATION = "Problems occurred during application server shutdown. For details see log messages.";
     static final String ENFORCING_APPLICATION_TERMINATION = "Enforcing application server shutdown.";
     static final String DEBUG_APPLICATION_NOT_HALTED = "Application process is not halted.";
@@ -49,11 +50,50 @@ class Texts {
     static final String INFO_ENTRYPOINT_URL = "Application Entrypoint URL: {}";
     static final String INFO_SERVER_USAGE = "Starting {} with embedded {}.";
     static final String INFO_WORKING_DIRECTORY = "Application server working directory: {}";
+    static final String DEBUG_RESOURCE_PRECOMPRESSION = "Precompressed {} resources of {} in {} ms.";
+    static final String WARN_RESOURCE_PRECOMPRESSION = "Unable to precompress resource {}.";
+    static final String DEBUG_REQUESTS_DRAINED = "Drained requests in progress of {} application server instance in {} ms.";
+    static final String WARN_REQUESTS_ABORTED = "Aborting {} requests in progress of {} application server instance after draining for {} ms.";
+    static final String WARN_REQUEST_DRAINING = "Unable to drain requests in progress of {} application server instance.";
+    static final String DEBUG_STARTUP_PROFILE_WRITTEN = "Startup profile written to {}.";
+    static final String WARN_WRITING_STARTUP_PROFILE = "Unable to write startup profile to {}.";
+    static final String WARN_RESOURCE_ENTITY_TAG = "Unable to compute entity tag of resource {}.";
+    static final String INFO_GROUP_STARTUP_CONFIRMATION = "Starting {} application servers of group took {} ms.";
+    static final String INFO_GROUP_SHUTDOWN_CONFIRMATION = "Stopping {} application servers of group took {} ms.";
+    static final String ERROR_SHUTDOWN_OPERATION_TIMEOUT
+        = "Shutdown operation of application server %s did not complete within %d ms and gets abandoned.";
+    static final String ERROR_GROUP_TIMEOUT = "Application server group did not complete %s within %d ms.";
+    static final String DEBUG_SWEEPING_ORPHANED_TOMBSTONES = "Removing {} orphaned working directory tombstones in {}.";
+    static final String WARN_DELETING_ORPHANED_TOMBSTONE = "Unable to remove orphaned working directory tombstone {}.";
+    static final String DEBUG_MEMORY_BACKED_WORKING_DIRECTORY = "Using memory-backed working directory {}.";
+    static final String WARN_SHARED_MEMORY_DIRECTORY_NOT_AVAILABLE
+        = "Shared memory directory {} is not available, falling back to disk-backed working directory.";
+    static final String DEBUG_REUSING_RESOURCE_CACHE = "Reusing resource cache directory {} as working directory.";
+    static final String DEBUG_CREATING_RESOURCE_CACHE = "Created resource cache directory {} as working directory.";
+    static final String ERROR_UNABLE_TO_CREATE_RESOURCE_CACHE = "Unable to create resource cache directory %s.";
+    static final String ERROR_UNABLE_TO_LOCK_RESOURCE_CACHE = "Unable to lock resource cache directory %s.";
+    static final String WARN_RELEASING_RESOURCE_CACHE_LOCK = "Unable to release lock of resource cache directory {}.";
+    static final String DEBUG_RESOURCE_CACHE_IN_USE = "Resource cache directory {} is in use by another application server instance.";
+    static final String DEBUG_PRUNING_RESOURCE_CACHE = "Removing stale resource cache directory {}.";
+    static final String WARN_PRUNING_RESOURCE_CACHE = "Unable to remove stale resource cache directory {}.";
+    static final String DEBUG_WARM_UP = "Warm-up with {} simulated sessions per entry point on {} entry points took {} ms.";
+    static final String WARN_WARM_UP_REQUEST = "Warm-up request {} {} failed.";
+    static final String WARN_WARM_UP_RESPONSE = "Warm-up request {} {} responded with status {}.";
+    static final String WARN_WARM_UP_CONNECTION_ID = "Warm-up session initialization of {} did not provide a connection id.";
+    static final String INFO_WARM_UP_SKIPPED
+        = "Skipped warm-up of {} application server instance, as it is not supported with secure socket layer.";
+    static final String INFO_ADMIN_LISTENER = "Admin listener of {} application server instance serves metrics at {}";
+    static final String ERROR_STARTING_ADMIN_LISTENER = "Unable to start admin listener on %s:%s.";
+    static final String WARN_REGISTERING_MANAGEMENT_BEAN = "Unable to register management bean of {} application server instance.";
+    static final String WARN_UNREGISTERING_MANAGEMENT_BEAN = "Unable to unregister management bean of {} application server instance.";
+    static final String ERROR_INVALID_TUNABLE_VALUE = "%s must be positive, but was %s.";
     static final String ERROR_GIVEN_WORKING_DIRECTORY_DOES_NOT_EXIST = "Given working directory %s does not exist.";
     static final String ERROR_GIVEN_WORKING_DIRECTORY_FILE_IS_NOT_A_DIRECTORY = "Given working directory file %s is not a directory.";
     static final String ERROR_MORE_THAN_ONE_SERVER_FACTORY = "More than one ServerFactory implementation found on classpath: %s";
     static final String ERROR_NO_SERVER_FACTORY_FOUND = "No server factory found.";
     static final String THREAD_NAME_APPLICATION_SERVER_SHUTDOWN_HOOK = "Application Server Shutdown Hook";
+    static final String THREAD_NAME_APPLICATION_SERVER_SHUTDOWN_OPERATION = "Application Server Shutdown Operation ";
+    static final String THREAD_NAME_ADMIN_LISTENER = "Application Server Admin Listener";
     static final String ERROR_READING_SERVER_CONFIGURATION = "unable to read configuration for application server with id '%s' from environment configuration '%s'";
     static final String ERROR_READING_ATTRIBUTE = "unable to read attribute '%s' from environment configuration '%s'.";
     static final String ERROR_MORE_THAN_ONE_LOGGING_FRAMEWORK_CONTROL_FACTORY
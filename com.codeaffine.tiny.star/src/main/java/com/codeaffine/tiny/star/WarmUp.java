@@ -0,0 +1,171 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+import java.io.IOException;
+import java.net.CookieManager;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.net.http.HttpResponse.BodyHandler;
+import java.time.Duration;
+import java.util.function.Supplier;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.codeaffine.tiny.shared.Metric.measureDuration;
+import static com.codeaffine.tiny.star.Texts.DEBUG_WARM_UP;
+import static com.codeaffine.tiny.star.Texts.INFO_WARM_UP_SKIPPED;
+import static com.codeaffine.tiny.star.Texts.WARN_WARM_UP_CONNECTION_ID;
+import static com.codeaffine.tiny.star.Texts.WARN_WARM_UP_REQUEST;
+import static com.codeaffine.tiny.star.Texts.WARN_WARM_UP_RESPONSE;
+import static java.lang.String.format;
+import static java.lang.Thread.currentThread;
+import static java.net.HttpURLConnection.HTTP_BAD_REQUEST;
+import static java.net.http.HttpRequest.BodyPublishers.ofString;
+import static java.net.http.HttpResponse.BodyHandlers.discarding;
+import static java.time.Duration.ofSeconds;
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static lombok.AccessLevel.PACKAGE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class WarmUp implements Runnable {
+
+    static final String HEADER_CONTENT_TYPE = "Content-Type";
+    static final String CONTENT_TYPE_JSON = "application/json; charset=UTF-8";
+    static final String PROTOCOL_INITIALIZE_MESSAGE
+        = "{\"head\":{\"requestCounter\":0},\"operations\":[[\"set\",\"w1\",{\"cursorLocation\":[0,0],\"bounds\":[0,0,1024,768]}]]}";
+    static final String PROTOCOL_ROUND_TRIP_MESSAGE = "{\"head\":{\"requestCounter\":%d},\"operations\":[]}";
+    static final String PROTOCOL_SHUTDOWN_MESSAGE = "{\"head\":{\"requestCounter\":%d,\"shutdown\":true},\"operations\":[]}";
+    static final String CONNECTION_ID_PARAMETER = "cid=";
+    static final Pattern CONNECTION_ID = Pattern.compile("\"cid\"\\s*:\\s*\"([^\"]+)\"");
+    static final int PROTOCOL_ROUND_TRIPS = 3;
+    static final Duration REQUEST_TIMEOUT = ofSeconds(30);
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(WarmUp.class);
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+    @NonNull
+    private final Supplier<HttpClient> httpClientFactory;
+
+    WarmUp(ApplicationServer applicationServer) {
+        this(applicationServer, () -> HttpClient.newBuilder().cookieHandler(new CookieManager()).connectTimeout(REQUEST_TIMEOUT).build());
+    }
+
+    @Override
+    public void run() {
+        if (nonNull(applicationServer.secureSocketLayerConfiguration)) {
+            // the simulated sessions would have to trust the server certificate, which is typically self-signed in such setups
+            logger.info(INFO_WARM_UP_SKIPPED, applicationServer.getIdentifier());
+            return;
+        }
+        URL[] urls = applicationServer.getUrls();
+        measureDuration(() -> warmUp(urls))
+            .report(duration -> logger.debug(DEBUG_WARM_UP, applicationServer.warmUpRequests, urls.length, duration));
+    }
+
+    private void warmUp(URL[] urls) {
+        for (URL url : urls) {
+            for (int i = 0; i < applicationServer.warmUpRequests && !currentThread().isInterrupted(); i++) {
+                simulateSession(url);
+            }
+        }
+    }
+
+    private void simulateSession(URL url) {
+        try (HttpClient httpClient = httpClientFactory.get()) {
+            if (send(httpClient, newRequestBuilder(toUri(url, null)).GET().build())) {
+                String connectionId = initializeUiSession(httpClient, url);
+                if (nonNull(connectionId)) {
+                    simulateInteraction(httpClient, toUri(url, connectionId));
+                }
+            }
+        }
+    }
+
+    private static void simulateInteraction(HttpClient httpClient, URI uri) {
+        int requestCounter = 1;
+        while (requestCounter <= PROTOCOL_ROUND_TRIPS && sendRoundTrip(httpClient, uri, requestCounter)) {
+            requestCounter++;
+        }
+        // ends the UI session, which would otherwise stay alive until the session timeout expires
+        send(httpClient, newProtocolRequest(uri, format(PROTOCOL_SHUTDOWN_MESSAGE, requestCounter)));
+    }
+
+    private static boolean sendRoundTrip(HttpClient httpClient, URI uri, int requestCounter) {
+        return send(httpClient, newProtocolRequest(uri, format(PROTOCOL_ROUND_TRIP_MESSAGE, requestCounter)));
+    }
+
+    private static String initializeUiSession(HttpClient httpClient, URL url) {
+        HttpRequest request = newProtocolRequest(toUri(url, null), PROTOCOL_INITIALIZE_MESSAGE);
+        HttpResponse<String> response = send(httpClient, request, HttpResponse.BodyHandlers.ofString());
+        if (isNull(response)) {
+            return null;
+        }
+        Matcher matcher = CONNECTION_ID.matcher(String.valueOf(response.body()));
+        if (!matcher.find()) {
+            logger.warn(WARN_WARM_UP_CONNECTION_ID, url);
+            return null;
+        }
+        return matcher.group(1);
+    }
+
+    private static HttpRequest newProtocolRequest(URI uri, String message) {
+        return newRequestBuilder(uri)
+            .header(HEADER_CONTENT_TYPE, CONTENT_TYPE_JSON)
+            .POST(ofString(message))
+            .build();
+    }
+
+    private static HttpRequest.Builder newRequestBuilder(URI uri) {
+        return HttpRequest.newBuilder(uri).timeout(REQUEST_TIMEOUT);
+    }
+
+    private static URI toUri(URL url, String connectionId) {
+        try {
+            if (isNull(connectionId)) {
+                return url.toURI();
+            }
+            return new URI(url.getProtocol(), null, url.getHost(), url.getPort(), url.getPath(), CONNECTION_ID_PARAMETER + connectionId, null);
+        } catch (URISyntaxException cause) {
+            throw new IllegalArgumentException(cause);
+        }
+    }
+
+    private static boolean send(HttpClient httpClient, HttpRequest request) {
+        return nonNull(send(httpClient, request, discarding()));
+    }
+
+    private static <T> HttpResponse<T> send(HttpClient httpClient, HttpRequest request, BodyHandler<T> bodyHandler) {
+        try {
+            HttpResponse<T> response = httpClient.send(request, bodyHandler);
+            if (response.statusCode() >= HTTP_BAD_REQUEST) {
+                logger.warn(WARN_WARM_UP_RESPONSE, request.method(), request.uri(), response.statusCode());
+                return null;
+            }
+            return response;
+        } catch (IOException cause) {
+            logger.warn(WARN_WARM_UP_REQUEST, request.method(), request.uri(), cause);
+            return null;
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            return null;
+        }
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import lombok.NonNull;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.stream.Stream;
+
+import static com.codeaffine.tiny.shared.IoUtils.deleteDirectory;
+import static com.codeaffine.tiny.shared.Threads.saveRunWithoutLogger;
+import static com.codeaffine.tiny.star.Texts.DEBUG_SWEEPING_ORPHANED_TOMBSTONES;
+import static com.codeaffine.tiny.star.Texts.WARN_DELETING_ORPHANED_TOMBSTONE;
+import static com.codeaffine.tiny.star.WorkingDirectoryPreparer.encode;
+import static java.lang.Math.min;
+import static java.nio.file.Files.deleteIfExists;
+import static java.nio.file.Files.isDirectory;
+import static java.nio.file.Files.move;
+import static java.nio.file.Files.walk;
+import static java.nio.file.LinkOption.NOFOLLOW_LINKS;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.util.Arrays.stream;
+import static java.util.Objects.isNull;
+import static java.util.UUID.randomUUID;
+import static java.util.concurrent.Executors.newThreadPerTaskExecutor;
+import static lombok.AccessLevel.PACKAGE;
+import static org.slf4j.LoggerFactory.getLogger;
+
+@RequiredArgsConstructor(access = PACKAGE)
+class WorkingDirectoryCleaner {
+
+    static final String TOMBSTONE_MARKER = ".tombstone-";
+    static final String CLEANUP_THREAD_NAME_PREFIX = "tiny-working-directory-cleanup-";
+    static final int FILES_PER_DELETION_TASK = 64;
+
+    private static final Executor CLEANUP_EXECUTOR = newThreadPerTaskExecutor(Thread.ofVirtual().name(CLEANUP_THREAD_NAME_PREFIX, 0).factory());
+    private static final Set<File> TOMBSTONES_IN_DELETION = ConcurrentHashMap.newKeySet();
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(WorkingDirectoryCleaner.class);
+
+    @NonNull
+    private final ApplicationServer applicationServer;
+    @NonNull
+    private final Executor executor;
+
+    WorkingDirectoryCleaner(ApplicationServer applicationServer) {
+        this(applicationServer, CLEANUP_EXECUTOR);
+    }
+
+    void delete(@NonNull File workingDirectory) {
+        if (workingDirectory.exists()) {
+            File tombstone = new File(workingDirectory.getAbsoluteFile().getParentFile(), getTombstonePrefix() + randomUUID());
+            try {
+                move(workingDirectory.toPath(), tombstone.toPath(), ATOMIC_MOVE);
+            } catch (IOException | UnsupportedOperationException cause) {
+                deleteDirectory(workingDirectory);
+                return;
+            }
+            TOMBSTONES_IN_DELETION.add(tombstone);
+            executor.execute(() -> saveRunWithoutLogger(() -> deleteTombstone(tombstone)));
+        }
+    }
+
+    void deleteAwaitingTermination(@NonNull File workingDirectory) {
+        if (workingDirectory.exists()) {
+            deleteFilesInParallel(workingDirectory);
+            deleteDirectory(workingDirectory);
+        }
+    }
+
+    void sweepOrphanedTombstones(@NonNull File workingDirectory) {
+        File parent = workingDirectory.getAbsoluteFile().getParentFile();
+        String tombstonePrefix = getTombstonePrefix();
+        File[] orphans = isNull(parent) ? null : parent.listFiles((directory, name) -> name.startsWith(tombstonePrefix));
+        if (!isNull(orphans) && orphans.length > 0) {
+            logger.debug(DEBUG_SWEEPING_ORPHANED_TOMBSTONES, orphans.length, parent);
+            stream(orphans)
+                .filter(TOMBSTONES_IN_DELETION::add)
+                .forEach(orphan -> executor.execute(() -> deleteOrphanedTombstone(orphan)));
+        }
+    }
+
+    String getTombstonePrefix() {
+        return "." + encode(applicationServer.getIdentifier()) + TOMBSTONE_MARKER;
+    }
+
+    private static void deleteOrphanedTombstone(File orphan) {
+        try {
+            deleteTombstone(orphan);
+        } catch (RuntimeException cause) {
+            logger.warn(WARN_DELETING_ORPHANED_TOMBSTONE, orphan, cause);
+        }
+    }
+
+    private static void deleteTombstone(File tombstone) {
+        try {
+            deleteFilesInParallel(tombstone);
+            deleteDirectory(tombstone);
+        } finally {
+            TOMBSTONES_IN_DELETION.remove(tombstone);
+        }
+    }
+
+    private static void deleteFilesInParallel(File directory) {
+        List<Path> files = collectFiles(directory);
+        if (files.size() > FILES_PER_DELETION_TASK) {
+            // problems are ignored here, since the final deletion of the directory reports what could not be removed
+            try (ExecutorService fileDeletion = newThreadPerTaskExecutor(Thread.ofVirtual().name(CLEANUP_THREAD_NAME_PREFIX, 0).factory())) {
+                for (int index = 0; index < files.size(); index += FILES_PER_DELETION_TASK) {
+                    List<Path> batch = files.subList(index, min(index + FILES_PER_DELETION_TASK, files.size()));
+                    fileDeletion.execute(() -> saveRunWithoutLogger(() -> batch.forEach(WorkingDirectoryCleaner::deleteFile)));
+                }
+            }
+        }
+    }
+
+    private static List<Path> collectFiles(File directory) {
+        try (Stream<Path> paths = walk(directory.toPath())) {
+            return paths
+                .filter(path -> !isDirectory(path, NOFOLLOW_LINKS))
+                .toList();
+        } catch (IOException | UncheckedIOException cause) {
+            return List.of();
+        }
+    }
+
+    private static void deleteFile(Path file) {
+        try {
+            deleteIfExists(file);
+        } catch (IOException cause) {
+            throw new UncheckedIOException(cause);
+        }
+    }
+}
@@ -9,38 +9,133 @@ package com.codeaffine.tiny.star;
 
 import lombok.NonNull;
 import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
 
 import java.io.File;
+import java.util.regex.Pattern;
 
 import static com.codeaffine.tiny.shared.IoUtils.createTemporaryDirectory;
+import static com.codeaffine.tiny.shared.IoUtils.deleteDirectory;
+import static com.codeaffine.tiny.star.ApplicationServer.SHARED_MEMORY_DIRECTORY;
+import static com.codeaffine.tiny.star.ResourceCacheKey.computeResourceCacheKey;
+import static com.codeaffine.tiny.star.ResourceCacheLock.tryAcquire;
+import static com.codeaffine.tiny.star.Texts.DEBUG_CREATING_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.DEBUG_MEMORY_BACKED_WORKING_DIRECTORY;
+import static com.codeaffine.tiny.star.Texts.DEBUG_PRUNING_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.DEBUG_RESOURCE_CACHE_IN_USE;
+import static com.codeaffine.tiny.star.Texts.DEBUG_REUSING_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.ERROR_UNABLE_TO_CREATE_RESOURCE_CACHE;
 import static com.codeaffine.tiny.star.Texts.ERROR_GIVEN_WORKING_DIRECTORY_DOES_NOT_EXIST;
 import static com.codeaffine.tiny.star.Texts.ERROR_GIVEN_WORKING_DIRECTORY_FILE_IS_NOT_A_DIRECTORY;
+import static com.codeaffine.tiny.star.Texts.WARN_PRUNING_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.WARN_SHARED_MEMORY_DIRECTORY_NOT_AVAILABLE;
 import static java.lang.String.format;
+import static java.util.Arrays.stream;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static lombok.AccessLevel.PACKAGE;
+import static org.slf4j.LoggerFactory.getLogger;
 
 @RequiredArgsConstructor(access = PACKAGE)
 class WorkingDirectoryPreparer {
 
     static final String ILLEGAL_FILENAME_CHARACTERS = "[^a-zA-Z0-9.\\-]";
+    static final String SLOT_SEPARATOR = "-";
+
+    @SuppressWarnings("CanBeFinal")
+    static Logger logger = getLogger(WorkingDirectoryPreparer.class);
 
     @NonNull
     private final ApplicationServer applicationServer;
+    @NonNull
+    private final File sharedMemoryDirectory;
+
+    WorkingDirectoryPreparer(ApplicationServer applicationServer) {
+        this(applicationServer, SHARED_MEMORY_DIRECTORY);
+    }
 
     File prepareWorkingDirectory() {
         File result = applicationServer.workingDirectory;
-        if (isNull(applicationServer.workingDirectory)) {
-            result = createTemporaryDirectory(encode(applicationServer.getIdentifier()));
+        if (applicationServer.isUsingResourceCache()) {
+            result = prepareResourceCacheDirectory();
+        } else if (isNull(applicationServer.workingDirectory)) {
+            result = createTemporaryWorkingDirectory();
         } else if (!result.exists()) {
             throw new IllegalArgumentException(format(ERROR_GIVEN_WORKING_DIRECTORY_DOES_NOT_EXIST, result.getAbsolutePath()));
         } else if (!result.isDirectory()) {
             throw new IllegalArgumentException(format(ERROR_GIVEN_WORKING_DIRECTORY_FILE_IS_NOT_A_DIRECTORY, result.getAbsolutePath()));
         }
         System.setProperty(applicationServer.getWorkingDirectorSystemProperty(), result.getAbsolutePath());
+        if (applicationServer.backgroundWorkingDirectoryDeletion) {
+            new WorkingDirectoryCleaner(applicationServer).sweepOrphanedTombstones(result);
+        }
         return result;
     }
 
-    private static String encode(String name) {
+    private File prepareResourceCacheDirectory() {
+        // a lock left over by a failed start of this instance would otherwise block its own resource cache
+        applicationServer.releaseResourceCacheLock();
+        String key = computeResourceCacheKey(applicationServer);
+        pruneStaleResourceCaches(key);
+        for (int slot = 0; ; slot++) {
+            File result = new File(applicationServer.resourceCacheDirectory, slot == 0 ? key : key + SLOT_SEPARATOR + slot);
+            boolean existing = result.isDirectory();
+            if (!existing && !result.mkdirs()) {
+                throw new IllegalArgumentException(format(ERROR_UNABLE_TO_CREATE_RESOURCE_CACHE, result.getAbsolutePath()));
+            }
+            ResourceCacheLock lock = tryAcquire(result);
+            if (nonNull(lock)) {
+                lock.writeOwner(applicationServer.getIdentifier());
+                applicationServer.setResourceCacheLock(lock);
+                logger.debug(existing ? DEBUG_REUSING_RESOURCE_CACHE : DEBUG_CREATING_RESOURCE_CACHE, result);
+                return result;
+            }
+            logger.debug(DEBUG_RESOURCE_CACHE_IN_USE, result);
+        }
+    }
+
+    private void pruneStaleResourceCaches(String key) {
+        File[] candidates = applicationServer.resourceCacheDirectory.listFiles(File::isDirectory);
+        if (nonNull(candidates)) {
+            Pattern currentKey = Pattern.compile(Pattern.quote(key) + "(" + SLOT_SEPARATOR + "\\d+)?");
+            stream(candidates)
+                .filter(candidate -> !currentKey.matcher(candidate.getName()).matches())
+                .filter(ResourceCacheLock::hasLockFile)
+                .forEach(this::pruneIfStale);
+        }
+    }
+
+    private void pruneIfStale(File candidate) {
+        try {
+            ResourceCacheLock lock = tryAcquire(candidate);
+            if (nonNull(lock)) {
+                // directories of other identifiers and those in use by running instances are left alone
+                boolean stale = applicationServer.getIdentifier().equals(lock.readOwner());
+                lock.release();
+                if (stale) {
+                    logger.debug(DEBUG_PRUNING_RESOURCE_CACHE, candidate);
+                    deleteDirectory(candidate);
+                }
+            }
+        } catch (IllegalArgumentException cause) {
+            logger.warn(WARN_PRUNING_RESOURCE_CACHE, candidate, cause);
+        }
+    }
+
+    private File createTemporaryWorkingDirectory() {
+        String directoryNamePrefix = encode(applicationServer.getIdentifier());
+        if (applicationServer.memoryBackedWorkingDirectory) {
+            if (sharedMemoryDirectory.isDirectory() && sharedMemoryDirectory.canWrite()) {
+                File result = createTemporaryDirectory(sharedMemoryDirectory, directoryNamePrefix);
+                logger.debug(DEBUG_MEMORY_BACKED_WORKING_DIRECTORY, result);
+                return result;
+            }
+            logger.warn(WARN_SHARED_MEMORY_DIRECTORY_NOT_AVAILABLE, sharedMemoryDirectory);
+        }
+        return createTemporaryDirectory(directoryNamePrefix);
+    }
+
+    static String encode(String name) {
         return name.replaceAll(ILLEGAL_FILENAME_CHARACTERS, "_");
     }
 }
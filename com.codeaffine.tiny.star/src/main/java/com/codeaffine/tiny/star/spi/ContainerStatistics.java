@@ -0,0 +1,36 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.spi;
+
+/**
+ * <p>A snapshot of the statistics a servlet container provides about its sessions, connections and worker pool. Values a particular
+ * container does not provide are reported as {@link #UNAVAILABLE}.</p>
+ *
+ * @param activeSessions the number of currently active HTTP sessions. Each UI session of an RWT application is bound to an HTTP session.
+ * @param createdSessions the number of HTTP sessions created since the server has been started.
+ * @param activeConnections the number of currently open client connections.
+ * @param busyWorkerThreads the number of worker threads currently processing requests.
+ * @param workerPoolSize the current number of threads in the worker pool.
+ * @param maximumWorkerPoolSize the maximum number of threads the worker pool may grow to.
+ * @param workerQueueDepth the number of tasks waiting for a worker thread.
+ */
+public record ContainerStatistics(
+    long activeSessions,
+    long createdSessions,
+    long activeConnections,
+    long busyWorkerThreads,
+    long workerPoolSize,
+    long maximumWorkerPoolSize,
+    long workerQueueDepth
+) {
+
+    /**
+     * The value of statistics that are not provided by a particular servlet container.
+     */
+    public static final long UNAVAILABLE = -1L;
+}
@@ -0,0 +1,49 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.spi;
+
+/**
+ * <p>Provides the liveness and readiness information of an application server. Server implementations answer requests for the
+ * {@link #LIVENESS_PATH} and {@link #READINESS_PATH} with the {@link Response} provided by {@link #check(String)} before those requests
+ * reach the RWT servlet and its filter chain. Hence, health checks never create a UI session.</p>
+ *
+ * <p>Implementations of this interface must be thread-safe.</p>
+ */
+public interface HealthCheck {
+
+    /**
+     * The request path of the liveness endpoint.
+     */
+    String LIVENESS_PATH = "/health/live";
+
+    /**
+     * The request path of the readiness endpoint.
+     */
+    String READINESS_PATH = "/health/ready";
+
+    /**
+     * The content type of health check responses.
+     */
+    String CONTENT_TYPE = "application/json; charset=UTF-8";
+
+    /**
+     * <p>The response to a health check request.</p>
+     *
+     * @param statusCode the HTTP status code of the response.
+     * @param body the response body, a JSON document of content type {@link #CONTENT_TYPE}.
+     */
+    record Response(int statusCode, String body) {}
+
+    /**
+     * provides the response for a request to the given path.
+     *
+     * @param requestPath the path of the request relative to the server root. Must not be {@code null}.
+     * @return the response to send if the given path denotes a health check endpoint, {@code null} otherwise.
+     */
+    Response check(String requestPath);
+}
@@ -0,0 +1,78 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.spi;
+
+import java.time.Duration;
+import java.util.function.Supplier;
+
+/**
+ * <p>Receives the measurements of a single application server. Instances are created by {@link MetricsCollectorFactory} implementations
+ * that are registered as service providers and discovered by means of the {@link java.util.ServiceLoader} mechanism. The default
+ * implementations of all methods do nothing, so collectors only need to override the callbacks they are interested in.</p>
+ *
+ * <p>Request callbacks are issued on the request processing threads of the servlet container. Implementations of this interface must
+ * therefore be thread-safe and should return quickly.</p>
+ */
+public interface MetricsCollector {
+
+    /**
+     * The entry point path reported for requests that do not target an entry point of the RWT application, e.g. requests for
+     * static resources.
+     */
+    String OTHER_PATHS = "*";
+
+    /**
+     * The lifecycle phase that creates the application process of a server, i.e. its working directory, logging framework
+     * configuration and servlet container instance.
+     */
+    String LIFECYCLE_PHASE_CREATE = "create";
+
+    /**
+     * The lifecycle phase that starts the servlet container and deploys the RWT application.
+     */
+    String LIFECYCLE_PHASE_START = "start";
+
+    /**
+     * The lifecycle phase that drains in-flight requests, stops the servlet container and releases the server's resources.
+     */
+    String LIFECYCLE_PHASE_STOP = "stop";
+
+    /**
+     * called after a request has been processed.
+     *
+     * @param entryPointPath the path of the entry point the request targeted or {@link #OTHER_PATHS}. Never {@code null}.
+     * @param statusCode the HTTP status code of the response.
+     * @param duration the time it took to process the request. Never {@code null}.
+     */
+    default void requestCompleted(String entryPointPath, int statusCode, Duration duration) {}
+
+    /**
+     * called after a lifecycle phase of the application server has been completed. Besides the phases denoted by the
+     * {@code LIFECYCLE_PHASE_*} constants of this interface, the phases of a recorded startup profile are reported by the
+     * names of the {@code PHASE_*} constants of {@link com.codeaffine.tiny.star.StartupProfile}.
+     *
+     * @param phase the name of the phase. Never {@code null}.
+     * @param duration the duration of the phase. Never {@code null}.
+     */
+    default void lifecyclePhaseCompleted(String phase, Duration duration) {}
+
+    /**
+     * called by the servlet container after it has been started. The given supplier provides snapshots of the container's
+     * statistics until {@link #unbindContainerStatistics()} is called. Collectors may query it at their own pace, e.g. whenever
+     * they get scraped.
+     *
+     * @param containerStatistics the supplier of the container statistics. Never {@code null}.
+     */
+    default void bindContainerStatistics(Supplier<ContainerStatistics> containerStatistics) {}
+
+    /**
+     * called by the servlet container before it gets stopped. The supplier handed over by
+     * {@link #bindContainerStatistics(Supplier)} must not be used anymore.
+     */
+    default void unbindContainerStatistics() {}
+}
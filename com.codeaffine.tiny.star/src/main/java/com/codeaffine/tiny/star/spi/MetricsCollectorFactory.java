@@ -0,0 +1,25 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.spi;
+
+/**
+ * <p>Service provider interface to contribute {@link MetricsCollector}s. Implementations are discovered by means of the
+ * {@link java.util.ServiceLoader} mechanism. Contrary to {@link ServerFactory} implementations, several factories may be available at
+ * the same time, in which case each of them receives all measurements. If no factory is available, no measurements are taken.</p>
+ */
+public interface MetricsCollectorFactory {
+
+    /**
+     * Creates a new instance of {@link MetricsCollector} for the application server with the given identifier.
+     *
+     * @param applicationIdentifier the identifier of the application server. Never {@code null}.
+     * @return a new instance of {@link MetricsCollector}. Must not be {@code null}.
+     * @see com.codeaffine.tiny.star.ApplicationServer#getIdentifier()
+     */
+    MetricsCollector create(String applicationIdentifier);
+}
@@ -0,0 +1,65 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star.spi;
+
+/**
+ * <p>Provides access to the settings of a running servlet container that can be adjusted without a restart. Settings a particular container
+ * does not support report {@link #UNSUPPORTED} and reject changes with an {@link UnsupportedOperationException}.</p>
+ *
+ * <p>Implementations of this interface must be thread-safe.</p>
+ */
+public interface RuntimeTunables {
+
+    /**
+     * The value of settings that are not supported by a particular servlet container.
+     */
+    int UNSUPPORTED = -1;
+
+    /**
+     * Runtime tunables of a servlet container that does not support any setting.
+     */
+    RuntimeTunables NONE = new RuntimeTunables() {};
+
+    /**
+     * returns the maximum number of threads the worker pool may grow to.
+     *
+     * @return the maximum worker pool size or {@link #UNSUPPORTED}.
+     */
+    default int getMaximumWorkerPoolSize() {
+        return UNSUPPORTED;
+    }
+
+    /**
+     * changes the maximum number of threads the worker pool may grow to.
+     *
+     * @param maximumWorkerPoolSize the new maximum worker pool size. Must be positive.
+     * @throws UnsupportedOperationException if the servlet container does not support changing the worker pool size at runtime.
+     */
+    default void setMaximumWorkerPoolSize(int maximumWorkerPoolSize) {
+        throw new UnsupportedOperationException();
+    }
+
+    /**
+     * returns the timeout in minutes applied to newly created HTTP sessions.
+     *
+     * @return the session timeout or {@link #UNSUPPORTED}.
+     */
+    default int getSessionTimeout() {
+        return UNSUPPORTED;
+    }
+
+    /**
+     * changes the timeout in minutes applied to newly created HTTP sessions. Sessions that already exist keep their timeout.
+     *
+     * @param sessionTimeout the new session timeout in minutes. Must be positive.
+     * @throws UnsupportedOperationException if the servlet container does not support changing the session timeout at runtime.
+     */
+    default void setSessionTimeout(int sessionTimeout) {
+        throw new UnsupportedOperationException();
+    }
+}
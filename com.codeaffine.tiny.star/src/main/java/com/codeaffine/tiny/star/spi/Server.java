@@ -7,6 +7,8 @@
  */
 package com.codeaffine.tiny.star.spi;
 
+import java.time.Duration;
+
 /**
  * This interface specifies the contract for a server. A Server encapsulates an embedded
  * servlet container and controls the lifecycle of this container. This
@@ -27,6 +29,34 @@ public interface Server {
      */
   void stop();
 
+    /**
+     * Stops accepting new requests and waits until the requests in progress have been completed or the given timeout has elapsed.
+     * This method is called before {@link #stop()} to shut down the server gracefully. The default implementation does not wait at all.
+     *
+     * @param timeout the maximum time to wait for requests in progress to complete. Must not be {@code null}.
+     * @return the number of requests still in progress after the timeout has elapsed. Those get aborted by the subsequent {@link #stop()} call.
+     */
+  default int drain(Duration timeout) {
+      return 0;
+  }
+
+    /**
+     * Accepts new requests again after a {@link #drain(Duration)} call that was not followed by {@link #stop()}. This allows to put a node
+     * that was taken out of service back into service. The default implementation does nothing.
+     */
+  default void resume() {
+  }
+
+    /**
+     * Returns the settings of the running servlet container that can be adjusted without a restart. The default implementation supports
+     * none.
+     *
+     * @return the runtime tunables of the server. Never <code>null</code>.
+     */
+  default RuntimeTunables getRuntimeTunables() {
+      return RuntimeTunables.NONE;
+  }
+
     /**
      * Returns the server's name.
      *
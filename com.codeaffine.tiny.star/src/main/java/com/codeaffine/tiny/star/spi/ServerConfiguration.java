@@ -98,4 +98,52 @@ public interface ServerConfiguration {
      * @param <T> the type of the servlet class
      */
     <T extends HttpServlet> Class<T> getHttpServletClass();
+
+    /**
+     * provides whether servlet requests should be dispatched onto virtual threads instead of the platform threads
+     * of the servlet engine's worker pool.
+     *
+     * @return {@code true} if servlet requests should be dispatched onto virtual threads, {@code false} otherwise.
+     */
+    boolean isVirtualThreadsEnabled();
+
+    /**
+     * provides whether the server should support HTTP/2, i.e. h2 via ALPN on secure connections and h2c on clear text connections.
+     *
+     * @return {@code true} if the server should support HTTP/2, {@code false} otherwise.
+     */
+    boolean isHttp2Enabled();
+
+    /**
+     * provides the maximum size in kilobytes of the in-memory cache used to serve static resources from the working directory.
+     * Zero denotes that the servlet engine's default resource handling should be used.
+     *
+     * @return the maximum size in kilobytes of the in-memory cache used to serve static resources from the working directory.
+     */
+    int getResourceCacheSize();
+
+    /**
+     * provides whether gzip compressed siblings of compressible static resources are written into the working directory at startup. If so,
+     * the server should serve those files to clients that accept the gzip content encoding.
+     *
+     * @return {@code true} if precompressed static resources are available, {@code false} otherwise.
+     */
+    boolean isResourcePrecompressionEnabled();
+
+    /**
+     * provides the health check that answers requests to the {@link HealthCheck#LIVENESS_PATH} and {@link HealthCheck#READINESS_PATH}
+     * endpoints. The server should serve those requests in front of the servlet and its filter chain.
+     *
+     * @return the health check or {@code null} if health endpoints are disabled.
+     */
+    HealthCheck getHealthCheck();
+
+    /**
+     * provides the metrics collector that should be fed with the request measurements and container statistics of the server. Servers
+     * report each request with the entry point path it targeted, or {@link MetricsCollector#OTHER_PATHS}, and bind their container
+     * statistics after startup.
+     *
+     * @return the metrics collector or {@code null} if no {@link MetricsCollectorFactory} is available.
+     */
+    MetricsCollector getMetricsCollector();
 }
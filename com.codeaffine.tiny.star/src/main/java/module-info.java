@@ -12,6 +12,10 @@ module com.codeaffine.tiny.star {
     requires com.codeaffine.tiny.shared;
     requires com.fasterxml.jackson.databind;
     requires jakarta.servlet;
+    requires java.management;
+    requires jdk.jfr;
+    requires java.net.http;
+    requires jdk.httpserver;
     requires org.eclipse.rap.rwt;
     requires org.slf4j;
 
@@ -20,4 +24,5 @@ module com.codeaffine.tiny.star {
 
     uses com.codeaffine.tiny.star.spi.ServerFactory;
     uses com.codeaffine.tiny.star.spi.LoggingFrameworkControlFactory;
+    uses com.codeaffine.tiny.star.spi.MetricsCollectorFactory;
 }
@@ -0,0 +1,244 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import com.codeaffine.tiny.star.spi.HealthCheck.Response;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
+import com.codeaffine.tiny.star.spi.Server;
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+
+import static com.codeaffine.tiny.shared.IoUtils.findFreePort;
+import static com.codeaffine.tiny.star.AdminListener.*;
+import static com.codeaffine.tiny.star.ApplicationServer.ADMIN_METRICS_PATH;
+import static com.codeaffine.tiny.star.ApplicationServer.DEFAULT_ADMIN_HOST;
+import static com.codeaffine.tiny.star.Texts.INFO_ADMIN_LISTENER;
+import static com.codeaffine.tiny.star.spi.HealthCheck.READINESS_PATH;
+import static java.lang.String.format;
+import static java.net.HttpURLConnection.HTTP_NOT_FOUND;
+import static java.net.HttpURLConnection.HTTP_OK;
+import static java.net.HttpURLConnection.HTTP_UNAVAILABLE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@UseLoggerSpy(AdminListener.class)
+class AdminListenerTest {
+
+    private static final String APPLICATION_IDENTIFIER = "applicationIdentifier";
+    private static final String METRICS = "tiny_star_state{application=\"applicationIdentifier\",state=\"RUNNING\"} 1\n";
+    private static final String HEALTH_BODY = "{\"status\":\"DOWN\"}";
+
+    private ApplicationServer applicationServer;
+    private PrometheusTextFormat prometheusTextFormat;
+    private AdminListener adminListener;
+    private HealthCheck healthCheck;
+    private HttpClient httpClient;
+    private Server server;
+
+    @BeforeEach
+    void setUp() {
+        applicationServer = mock(ApplicationServer.class);
+        applicationServer.adminHost = DEFAULT_ADMIN_HOST;
+        applicationServer.adminPort = findFreePort();
+        when(applicationServer.getIdentifier()).thenReturn(APPLICATION_IDENTIFIER);
+        server = mock(Server.class);
+        healthCheck = mock(HealthCheck.class);
+        prometheusTextFormat = mock(PrometheusTextFormat.class);
+        when(prometheusTextFormat.render()).thenReturn(METRICS);
+        adminListener = new AdminListener(applicationServer, server, healthCheck, prometheusTextFormat);
+        httpClient = HttpClient.newHttpClient();
+    }
+
+    @AfterEach
+    void tearDown() {
+        adminListener.stop();
+    }
+
+    @Test
+    void start() {
+        adminListener.start();
+
+        verify(server).start();
+        verify(logger).info(
+            INFO_ADMIN_LISTENER,
+            APPLICATION_IDENTIFIER,
+            format("http://%s:%s%s", DEFAULT_ADMIN_HOST, applicationServer.adminPort, ADMIN_METRICS_PATH)
+        );
+        assertThat(adminListener.getPort()).isEqualTo(applicationServer.adminPort);
+    }
+
+    @Test
+    void startIfServerStartFails() {
+        RuntimeException expected = new RuntimeException();
+        doThrow(expected).when(server).start();
+
+        assertThatThrownBy(() -> adminListener.start())
+            .isSameAs(expected);
+        assertThatThrownBy(() -> get(ADMIN_METRICS_PATH))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void startIfPortIsAlreadyInUse() {
+        AdminListener other = new AdminListener(applicationServer, mock(Server.class), healthCheck, prometheusTextFormat);
+        other.start();
+
+        try {
+            assertThatThrownBy(() -> adminListener.start())
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(IOException.class);
+            verify(server, never()).start();
+        } finally {
+            other.stop();
+        }
+    }
+
+    @Test
+    void requestMetrics() throws Exception {
+        adminListener.start();
+
+        HttpResponse<String> actual = get(ADMIN_METRICS_PATH);
+
+        assertThat(actual.statusCode()).isEqualTo(HTTP_OK);
+        assertThat(actual.body()).isEqualTo(METRICS);
+        assertThat(actual.headers().firstValue(HEADER_CONTENT_TYPE)).hasValue(PrometheusTextFormat.CONTENT_TYPE);
+        assertThat(actual.headers().firstValue(HEADER_CACHE_CONTROL)).hasValue(NO_STORE);
+    }
+
+    @Test
+    void requestHealthCheck() throws Exception {
+        when(healthCheck.check(READINESS_PATH)).thenReturn(new Response(HTTP_UNAVAILABLE, HEALTH_BODY));
+        adminListener.start();
+
+        HttpResponse<String> actual = get(READINESS_PATH);
+
+        assertThat(actual.statusCode()).isEqualTo(HTTP_UNAVAILABLE);
+        assertThat(actual.body()).isEqualTo(HEALTH_BODY);
+        assertThat(actual.headers().firstValue(HEADER_CONTENT_TYPE)).hasValue(HealthCheck.CONTENT_TYPE);
+    }
+
+    @Test
+    void requestUnknownPath() throws Exception {
+        adminListener.start();
+
+        HttpResponse<String> actual = get("/unknown");
+
+        assertThat(actual.statusCode()).isEqualTo(HTTP_NOT_FOUND);
+        assertThat(actual.body()).isEmpty();
+        verify(prometheusTextFormat, never()).render();
+    }
+
+    @Test
+    void stop() {
+        adminListener.start();
+
+        adminListener.stop();
+
+        InOrder order = inOrder(server);
+        order.verify(server).start();
+        order.verify(server).stop();
+        assertThatThrownBy(() -> get(ADMIN_METRICS_PATH))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void stopIfServerStopFails() {
+        RuntimeException expected = new RuntimeException();
+        doThrow(expected).doNothing().when(server).stop();
+        adminListener.start();
+
+        assertThatThrownBy(() -> adminListener.stop())
+            .isSameAs(expected);
+        assertThatThrownBy(() -> get(ADMIN_METRICS_PATH))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void stopIfNotStarted() {
+        adminListener.stop();
+
+        verify(server).stop();
+    }
+
+    @Test
+    void drain() {
+        Duration timeout = Duration.ofSeconds(2L);
+        when(server.drain(timeout)).thenReturn(3);
+
+        int actual = adminListener.drain(timeout);
+
+        assertThat(actual).isEqualTo(3);
+    }
+
+    @Test
+    void resume() {
+        adminListener.resume();
+
+        verify(server).resume();
+    }
+
+    @Test
+    void getRuntimeTunables() {
+        RuntimeTunables runtimeTunables = mock(RuntimeTunables.class);
+        when(server.getRuntimeTunables()).thenReturn(runtimeTunables);
+
+        RuntimeTunables actual = adminListener.getRuntimeTunables();
+
+        assertThat(actual).isSameAs(runtimeTunables);
+    }
+
+    @Test
+    void getName() {
+        when(server.getName()).thenReturn("serverName");
+
+        String actual = adminListener.getName();
+
+        assertThat(actual).isEqualTo("serverName");
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new AdminListener(null, server, healthCheck, prometheusTextFormat))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsServerArgument() {
+        assertThatThrownBy(() -> new AdminListener(applicationServer, null, healthCheck, prometheusTextFormat))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsHealthCheckArgument() {
+        assertThatThrownBy(() -> new AdminListener(applicationServer, server, null, prometheusTextFormat))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsPrometheusTextFormatArgument() {
+        assertThatThrownBy(() -> new AdminListener(applicationServer, server, healthCheck, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private HttpResponse<String> get(String path) throws IOException, InterruptedException {
+        URI uri = URI.create(format("http://%s:%s%s", DEFAULT_ADMIN_HOST, applicationServer.adminPort, path));
+        return httpClient.send(HttpRequest.newBuilder(uri).build(), HttpResponse.BodyHandlers.ofString());
+    }
+}
@@ -0,0 +1,129 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+import static org.eclipse.rap.rwt.application.Application.OperationMode.JEE_COMPATIBILITY;
+import static org.eclipse.rap.rwt.application.Application.OperationMode.SWT_COMPATIBILITY;
+import static org.mockito.Mockito.mock;
+
+import com.codeaffine.tiny.star.ApplicationModel.StyleSheet;
+import org.eclipse.rap.rwt.application.AbstractEntryPoint;
+import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.eclipse.rap.rwt.service.ResourceLoader;
+import org.eclipse.rap.rwt.service.ServiceHandler;
+import org.eclipse.swt.widgets.Button;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Set;
+
+class ApplicationModelCaptorTest {
+
+    private static final String PATH_1 = "path1";
+    private static final String PATH_2 = "path2";
+    private static final String PATH_3 = "path3";
+    private static final String PATH_4 = "path4";
+    private static final String PROPERTY_NAME = "title";
+    private static final String PROPERTY_VALUE = "Title";
+    private static final String THEME_ID = "themeId";
+    private static final String STYLE_SHEET_1 = "theme/one.css";
+    private static final String STYLE_SHEET_2 = "theme/two.css";
+    private static final String RESOURCE_NAME = "resourceName";
+    private static final String SERVICE_HANDLER_ID = "serviceHandlerId";
+    private static final String ATTRIBUTE_NAME = "attributeName";
+
+    @Test
+    void captureApplicationModelEntryPointPaths() {
+        ApplicationConfiguration applicationConfiguration = application -> {
+            application.addEntryPoint(PATH_1, AbstractEntryPoint.class, null);
+            application.addEntryPoint(PATH_3, () -> null, null);
+            application.addEntryPoint(PATH_2, AbstractEntryPoint.class, null);
+            application.addEntryPoint(PATH_4, () -> null, null);
+        };
+
+        Set<String> actual = ApplicationModelCaptor.captureApplicationModel(applicationConfiguration).entryPointPaths();
+
+        assertThat(actual).containsExactlyInAnyOrder(PATH_1, PATH_2, PATH_3, PATH_4);
+    }
+
+    @Test
+    void captureApplicationModelEntryPointPathsWithConfigurationThatProvidesNoEntrypoint() {
+        ApplicationConfiguration applicationConfiguration = application -> {};
+
+        Set<String> actual = ApplicationModelCaptor.captureApplicationModel(applicationConfiguration).entryPointPaths();
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void captureApplicationModel() {
+        Object attributeValue = new Object();
+        ApplicationConfiguration applicationConfiguration = application -> {
+            application.setOperationMode(SWT_COMPATIBILITY);
+            application.addEntryPoint(PATH_1, AbstractEntryPoint.class, Map.of(PROPERTY_NAME, PROPERTY_VALUE));
+            application.addEntryPoint(PATH_2, () -> null, null);
+            application.addStyleSheet(THEME_ID, STYLE_SHEET_1);
+            application.addStyleSheet(THEME_ID, STYLE_SHEET_2, mock(ResourceLoader.class));
+            application.addResource(RESOURCE_NAME, mock(ResourceLoader.class));
+            application.addServiceHandler(SERVICE_HANDLER_ID, mock(ServiceHandler.class));
+            application.addThemeableWidget(Button.class);
+            application.setAttribute(ATTRIBUTE_NAME, attributeValue);
+        };
+
+        ApplicationModel actual = ApplicationModelCaptor.captureApplicationModel(applicationConfiguration);
+
+        assertThat(actual.operationMode()).isSameAs(SWT_COMPATIBILITY);
+        assertThat(actual.entryPointPaths()).containsExactly(PATH_1, PATH_2);
+        assertThat(actual.entryPoints().get(PATH_1)).containsExactly(entry(PROPERTY_NAME, PROPERTY_VALUE));
+        assertThat(actual.entryPoints().get(PATH_2)).isEmpty();
+        assertThat(actual.styleSheets())
+            .containsExactly(new StyleSheet(THEME_ID, STYLE_SHEET_1), new StyleSheet(THEME_ID, STYLE_SHEET_2));
+        assertThat(actual.resourceNames()).containsExactly(RESOURCE_NAME);
+        assertThat(actual.serviceHandlerIds()).containsExactly(SERVICE_HANDLER_ID);
+        assertThat(actual.themeableWidgets()).containsExactly(Button.class);
+        assertThat(actual.attributes()).containsExactly(entry(ATTRIBUTE_NAME, attributeValue));
+    }
+
+    @Test
+    void captureApplicationModelWithConfigurationThatProvidesNothing() {
+        ApplicationConfiguration applicationConfiguration = application -> {};
+
+        ApplicationModel actual = ApplicationModelCaptor.captureApplicationModel(applicationConfiguration);
+
+        assertThat(actual.operationMode()).isSameAs(JEE_COMPATIBILITY);
+        assertThat(actual.entryPoints()).isEmpty();
+        assertThat(actual.styleSheets()).isEmpty();
+        assertThat(actual.resourceNames()).isEmpty();
+        assertThat(actual.serviceHandlerIds()).isEmpty();
+        assertThat(actual.themeableWidgets()).isEmpty();
+        assertThat(actual.attributes()).isEmpty();
+    }
+
+    @Test
+    void captureApplicationModelReturnsImmutableModel() {
+        ApplicationConfiguration applicationConfiguration = application -> application.addEntryPoint(PATH_1, AbstractEntryPoint.class, null);
+
+        ApplicationModel actual = ApplicationModelCaptor.captureApplicationModel(applicationConfiguration);
+
+        assertThatThrownBy(() -> actual.entryPoints().put(PATH_2, Map.of()))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> actual.entryPointPaths().add(PATH_2))
+            .isInstanceOf(UnsupportedOperationException.class);
+        assertThatThrownBy(() -> actual.resourceNames().add(RESOURCE_NAME))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void captureApplicationModelWithNullAsApplicationConfigurationArgument() {
+        assertThatThrownBy(() -> ApplicationModelCaptor.captureApplicationModel(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
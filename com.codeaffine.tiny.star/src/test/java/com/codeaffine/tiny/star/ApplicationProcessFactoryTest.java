@@ -23,6 +23,7 @@ import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.BiConsumer;
 
 import static com.codeaffine.tiny.shared.IoUtils.deleteDirectory;
+import static com.codeaffine.tiny.shared.IoUtils.findFreePort;
 import static com.codeaffine.tiny.star.ApplicationProcessFactory.LIFECYCLE_LISTENER_REGISTRAR;
 import static com.codeaffine.tiny.star.ApplicationProcessFactory.logger;
 import static com.codeaffine.tiny.star.ApplicationServer.DEFAULT_APPLICATION_IDENTIFIER;
@@ -85,6 +86,25 @@ class ApplicationProcessFactoryTest {
             .isSameAs(HALTED);
     }
 
+    @Test
+    void createProcessWithConcurrentStartup() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(applicationConfiguration)
+            .enableConcurrentStartup()
+            .build();
+        ApplicationProcessFactory factory = new ApplicationProcessFactory(applicationServer);
+
+        ApplicationProcess actual = factory.createProcess();
+
+        workingDirectory = new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()));
+        verify(logger).info(INFO_WORKING_DIRECTORY, workingDirectory.getAbsolutePath());
+        verify(logger).info(INFO_SERVER_USAGE, DEFAULT_APPLICATION_IDENTIFIER, CURRENT_SERVER.get().getName());
+        assertThat(workingDirectory)
+            .exists()
+            .isDirectory();
+        assertThat(actual.getState())
+            .isSameAs(HALTED);
+    }
+
     @Test
     @SuppressWarnings("unchecked")
     void createProcessInternals() {
@@ -112,7 +132,8 @@ class ApplicationProcessFactoryTest {
             shutdownHookHandler,
             shutdownHookOperation,
             lifecycleListenerRegistrar,
-            startInfoPrinter
+            startInfoPrinter,
+            mock(ManagementBeanRegistrar.class)
         );
 
         ApplicationProcess actual = applicationProcessFactory.createProcess();
@@ -129,6 +150,40 @@ class ApplicationProcessFactoryTest {
         assertThat(shutdownHookOperation).hasValue(shutdownHookCaptor.getValue());
     }
 
+    @Test
+    void createProcessWithAdminPort() {
+        workingDirectory = new File(tempDir,"workingDirectory");
+        ApplicationServer applicationServer = newApplicationServerBuilder(applicationConfiguration, APPLICATION_IDENTIFIER)
+            .withAdminPort(findFreePort())
+            .build();
+        LoggingFrameworkControl loggingFrameworkControl = mock(LoggingFrameworkControl.class);
+        Server server = fakeServer();
+        TerminatorFactory terminatorFactory = mock(TerminatorFactory.class);
+        ManagementBeanRegistrar managementBeanRegistrar = mock(ManagementBeanRegistrar.class);
+        ApplicationProcessFactory applicationProcessFactory = new ApplicationProcessFactory(
+            applicationServer,
+            fakeWorkingDirectoryPreparer(workingDirectory),
+            fakeLoggingFrameworkConfigurator(loggingFrameworkControl),
+            fakeDelegatingServerFactory(workingDirectory, server),
+            terminatorFactory,
+            mock(ShutdownHookHandler.class),
+            new AtomicReference<>(),
+            (appServer, appProcess) -> {},
+            mock(StartInfoPrinter.class),
+            managementBeanRegistrar
+        );
+
+        applicationProcessFactory.createProcess();
+
+        ArgumentCaptor<Server> serverCaptor = forClass(Server.class);
+        verify(terminatorFactory)
+            .create(eq(workingDirectory), serverCaptor.capture(), eq(loggingFrameworkControl), any(Runnable.class), same(managementBeanRegistrar));
+        assertThat(serverCaptor.getValue())
+            .isInstanceOf(AdminListener.class)
+            .extracting(Server::getName)
+            .isEqualTo(SERVER_NAME);
+    }
+
     @Test
     void registerLifeCycleListeners() {
         Object lifecycleListener = new Object();
@@ -149,7 +204,8 @@ class ApplicationProcessFactoryTest {
         ShutdownHookHandler shutdownHookHandler)
     {
         ArgumentCaptor<Runnable> shutdownHookRemoverCaptor = forClass(Runnable.class);
-        verify(terminatorFactory).create(eq(workingDirectory), eq(server), eq(loggingFrameworkControl), shutdownHookRemoverCaptor.capture());
+        verify(terminatorFactory)
+            .create(eq(workingDirectory), eq(server), eq(loggingFrameworkControl), shutdownHookRemoverCaptor.capture(), any(ManagementBeanRegistrar.class));
         shutdownHookRemoverCaptor.getValue().run();
         ArgumentCaptor<Runnable> result = forClass(Runnable.class);
         verify(shutdownHookHandler).deregister(result.capture());
@@ -182,7 +238,7 @@ class ApplicationProcessFactoryTest {
 
     private TerminatorFactory fakeTerminatorFactory(LoggingFrameworkControl loggingFrameworkControl, Server server, Terminator terminator) {
         TerminatorFactory result = mock(TerminatorFactory.class);
-        when(result.create(eq(workingDirectory), eq(server), eq(loggingFrameworkControl), any())).thenReturn(terminator);
+        when(result.create(eq(workingDirectory), eq(server), eq(loggingFrameworkControl), any(), any())).thenReturn(terminator);
         return result;
     }
 }
@@ -8,6 +8,7 @@
 package com.codeaffine.tiny.star;
 
 import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -15,13 +16,19 @@ import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InOrder;
 import org.mockito.stubbing.Answer;
 
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Stream;
 
 import static com.codeaffine.tiny.star.ApplicationProcess.LifecycleException;
 import static com.codeaffine.tiny.star.ApplicationProcess.logger;
 import static com.codeaffine.tiny.star.ApplicationServer.*;
 import static com.codeaffine.tiny.star.ApplicationServer.State.*;
+import static com.codeaffine.tiny.star.FlightRecordingTestHelper.record;
 import static com.codeaffine.tiny.star.Texts.*;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -29,12 +36,14 @@ import static org.mockito.Mockito.*;
 class ApplicationProcessTest {
 
     private static final String IDENTIFIER = "identifier";
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(5);
 
     private LifecycleConsumerListener lifecycleConsumingListener;
     private ParameterlessListener parameterlessListener;
     private ApplicationProcess applicationProcess;
     private ApplicationServer applicationServer;
     private Runnable terminator;
+    private Runnable drainer;
     private Runnable starter;
 
     interface LifecycleConsumerListener {
@@ -62,9 +71,10 @@ class ApplicationProcessTest {
     @BeforeEach
     void setUp() {
         terminator = mock(Runnable.class);
+        drainer = mock(Runnable.class);
         starter = mock(Runnable.class);
         applicationServer = stubApplicationServer();
-        applicationProcess = new ApplicationProcess(applicationServer, starter, terminator);
+        applicationProcess = new ApplicationProcess(applicationServer, starter, drainer, terminator);
         stubApplicationServerGetState();
         lifecycleConsumingListener = mock(LifecycleConsumerListener.class);
         parameterlessListener = mock(ParameterlessListener.class);
@@ -133,7 +143,7 @@ class ApplicationProcessTest {
     @Test
     void startOnStopping() {
         applicationProcess.start();
-        reset(terminator, lifecycleConsumingListener, parameterlessListener);
+        reset(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
         startOn().stopping(applicationServer);
 
         applicationProcess.stop();
@@ -145,7 +155,7 @@ class ApplicationProcessTest {
     @Test
     void startOnStopped() {
         applicationProcess.start();
-        reset(terminator, lifecycleConsumingListener, parameterlessListener);
+        reset(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
         startOn().stopped(applicationServer);
 
         applicationProcess.stop();
@@ -211,12 +221,81 @@ class ApplicationProcessTest {
         assertThat(actual).isSameAs(expected);
     }
 
+    @Test
+    void startAndStopWithConcurrentLifecycleNotification() {
+        applicationServer.concurrentLifecycleNotification = true;
+        ApplicationProcess concurrentProcess = new ApplicationProcess(applicationServer, starter, drainer, terminator);
+        concurrentProcess.registerLifecycleListener(lifecycleConsumingListener);
+        concurrentProcess.registerLifecycleListener(parameterlessListener);
+
+        concurrentProcess.start();
+        State startedState = concurrentProcess.getState();
+        concurrentProcess.stop();
+
+        assertThat(startedState).isSameAs(RUNNING);
+        assertThat(concurrentProcess.getState()).isSameAs(HALTED);
+        verify(lifecycleConsumingListener).starting(applicationServer);
+        verify(lifecycleConsumingListener).started(applicationServer);
+        verify(lifecycleConsumingListener).stopping(applicationServer);
+        verify(lifecycleConsumingListener).stopped(applicationServer);
+        verify(parameterlessListener).starting();
+        verify(parameterlessListener).started();
+        verify(parameterlessListener).stopping();
+        verify(parameterlessListener).stopped();
+        verify(starter).run();
+        verify(terminator).run();
+    }
+
+    @Test
+    void awaitState() {
+        CompletableFuture<Boolean> awaitRunning = supplyAsync(() -> applicationProcess.awaitState(RUNNING, deadlineIn(AWAIT_TIMEOUT)));
+
+        applicationProcess.start();
+
+        assertThat(awaitRunning.join()).isTrue();
+    }
+
+    @Test
+    void awaitStateIfStateIsAlreadyEntered() {
+        boolean actual = applicationProcess.awaitState(HALTED, deadlineIn(Duration.ZERO));
+
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void awaitStateIfTimeoutElapses() {
+        boolean actual = applicationProcess.awaitState(RUNNING, deadlineIn(Duration.ofMillis(10)));
+
+        assertThat(actual).isFalse();
+        assertThat(applicationProcess.getState()).isSameAs(HALTED);
+    }
+
+    @Test
+    void awaitStateIfInterrupted() {
+        currentThread().interrupt();
+
+        Exception actual = catchException(() -> applicationProcess.awaitState(RUNNING, deadlineIn(AWAIT_TIMEOUT)));
+
+        assertThat(actual)
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(InterruptedException.class);
+        assertThat(Thread.interrupted()).isTrue();
+    }
+
+    @Test
+    void awaitStateWithNullAsStateArgument() {
+        long deadline = deadlineIn(AWAIT_TIMEOUT);
+
+        assertThatThrownBy(() -> applicationProcess.awaitState(null, deadline))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     void stop() {
         StateCaptor stateCaptor = new StateCaptor();
         applicationProcess.start();
         applicationProcess.registerLifecycleListener(stateCaptor);
-        reset(terminator, lifecycleConsumingListener, parameterlessListener);
+        reset(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
 
         State beforeState = applicationProcess.getState();
         applicationProcess.stop();
@@ -231,6 +310,21 @@ class ApplicationProcessTest {
         verifyStopProcedure();
     }
 
+    @Test
+    void startAndStopRecordsLifecycleTransitionEvents() throws Exception {
+        List<RecordedEvent> actual = record(LifecycleTransitionEvent.NAME, () -> {
+            applicationProcess.start();
+            applicationProcess.stop();
+        });
+
+        assertThat(actual)
+            .extracting(event -> event.getString("fromState") + "->" + event.getString("toState"))
+            .containsExactly("HALTED->STARTING", "STARTING->RUNNING", "RUNNING->STOPPING", "STOPPING->HALTED");
+        assertThat(actual)
+            .allSatisfy(event -> assertThat(event.getString("applicationServer")).isEqualTo(IDENTIFIER))
+            .allSatisfy(event -> assertThat(event.getDuration()).isNotNegative());
+    }
+
     @Test
     void stopIfHalted() {
         State beforeState = applicationProcess.getState();
@@ -239,6 +333,7 @@ class ApplicationProcessTest {
 
         verify(lifecycleConsumingListener, never()).stopping(applicationServer);
         verify(parameterlessListener, never()).stopping();
+        verify(drainer, never()).run();
         verify(terminator, never()).run();
         verify(lifecycleConsumingListener, never()).stopped(applicationServer);
         verify(parameterlessListener, never()).stopped();
@@ -251,7 +346,7 @@ class ApplicationProcessTest {
     @Test
     void stopOnStopping() {
         applicationProcess.start();
-        reset(terminator, lifecycleConsumingListener, parameterlessListener);
+        reset(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
         stopOn().stopping(applicationServer);
 
         applicationProcess.stop();
@@ -263,7 +358,7 @@ class ApplicationProcessTest {
     @Test
     void stopOnStopped() {
         applicationProcess.start();
-        reset(terminator, lifecycleConsumingListener, parameterlessListener);
+        reset(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
         stopOn().stopped(applicationServer);
 
         applicationProcess.stop();
@@ -296,7 +391,7 @@ class ApplicationProcessTest {
     @Test
     void stopWithStoppingListenerThrowingException() {
         applicationProcess.start();
-        reset(terminator, lifecycleConsumingListener, parameterlessListener);
+        reset(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
         RuntimeException expected = new RuntimeException("bad");
         throwGivenExceptionOnListenerMethod(expected).stopping();
 
@@ -317,7 +412,7 @@ class ApplicationProcessTest {
     @Test
     void stopWithStoppedListenerThrowingException() {
         applicationProcess.start();
-        reset(terminator, lifecycleConsumingListener, parameterlessListener);
+        reset(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
         RuntimeException expected = new RuntimeException("bad");
         throwGivenExceptionOnListenerMethod(expected).stopped();
 
@@ -377,6 +472,12 @@ class ApplicationProcessTest {
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void constructWithNullAsDrainerArgument() {
+        assertThatThrownBy(() -> new ApplicationProcess(applicationServer, starter, null, terminator))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     private void verifyStartProcedure() {
         InOrder order = inOrder(starter, lifecycleConsumingListener, parameterlessListener);
         order.verify(lifecycleConsumingListener).starting(applicationServer);
@@ -388,9 +489,10 @@ class ApplicationProcessTest {
     }
 
     private void verifyStopProcedure() {
-        InOrder order = inOrder(terminator, lifecycleConsumingListener, parameterlessListener);
+        InOrder order = inOrder(drainer, terminator, lifecycleConsumingListener, parameterlessListener);
         order.verify(lifecycleConsumingListener).stopping(applicationServer);
         order.verify(parameterlessListener).stopping();
+        order.verify(drainer).run();
         order.verify(terminator).run();
         order.verify(lifecycleConsumingListener).stopped(applicationServer);
         order.verify(parameterlessListener).stopped();
@@ -438,6 +540,10 @@ class ApplicationProcessTest {
         return null;
     }
 
+    private static long deadlineIn(Duration timeout) {
+        return System.nanoTime() + timeout.toNanos();
+    }
+
     private static ApplicationServer stubApplicationServer() {
         ApplicationServer result = mock(ApplicationServer.class);
         when(result.getIdentifier()).thenReturn(IDENTIFIER);
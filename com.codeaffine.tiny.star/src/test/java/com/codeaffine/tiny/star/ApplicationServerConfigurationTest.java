@@ -8,6 +8,7 @@
 package com.codeaffine.tiny.star;
 
 import com.codeaffine.tiny.star.spi.FilterDefinition;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
 import com.codeaffine.tiny.star.spi.SecureSocketLayerConfiguration;
 import com.codeaffine.tiny.star.spi.ServerConfigurationAssert;
 import jakarta.servlet.Filter;
@@ -35,6 +36,7 @@ class ApplicationServerConfigurationTest {
     private static final int PORT = 8080;
     private static final SecureSocketLayerConfiguration SECURE_SOCKET_LAYER_CONFIGURATION = mock(SecureSocketLayerConfiguration.class);
     private static final int SESSION_TIMEOUT = 42;
+    private static final int RESOURCE_CACHE_SIZE = 1024;
 
     @Test
     void construct() {
@@ -45,6 +47,10 @@ class ApplicationServerConfigurationTest {
             .withFilterDefinition(filterDefinition)
             .withSecureSocketLayerConfiguration(SECURE_SOCKET_LAYER_CONFIGURATION)
             .withSessionTimeout(SESSION_TIMEOUT)
+            .useVirtualThreads()
+            .enableHttp2()
+            .withResourceCacheSize(RESOURCE_CACHE_SIZE)
+            .disableResourcePrecompression()
             .build();
         ApplicationServerConfiguration actual = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
 
@@ -57,7 +63,132 @@ class ApplicationServerConfigurationTest {
             .hasServletContextListenerInstanceOf(ServletContextListenerAdapter.class)
             .hasEntryPointPaths(Set.of("/app"))
             .hasFilterDefinitions(List.of(filterDefinition))
-            .hasSessionTimeout(SESSION_TIMEOUT);
+            .hasSessionTimeout(SESSION_TIMEOUT)
+            .hasVirtualThreadsEnabled(true)
+            .hasHttp2Enabled(true)
+            .hasResourceCacheSize(RESOURCE_CACHE_SIZE)
+            .hasResourcePrecompressionEnabled(false)
+            .hasNoHealthCheck();
+    }
+
+    @Test
+    void getHealthCheckWithHealthEndpointsEnabled() {
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION)
+            .enableHealthEndpoints()
+            .build();
+        ApplicationServerConfiguration actual = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        ServerConfigurationAssert.assertThat(actual)
+            .hasHealthCheckInstanceOf(ApplicationServerHealthCheck.class);
+        assertThat(actual.getHealthCheck()).isSameAs(actual.getHealthCheck());
+    }
+
+    @Test
+    void getMetricsCollector() {
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION).build();
+        DelegatingMetricsCollector metricsCollector = new DelegatingMetricsCollector(List.of(mock(MetricsCollector.class)));
+        server.setMetricsCollector(metricsCollector);
+        ApplicationServerConfiguration configuration = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        MetricsCollector actual = configuration.getMetricsCollector();
+
+        assertThat(actual).isSameAs(metricsCollector);
+    }
+
+    @Test
+    void getMetricsCollectorWithoutMetricsCollectorFactories() {
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION).build();
+        server.setMetricsCollector(new DelegatingMetricsCollector(List.of()));
+        ApplicationServerConfiguration configuration = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        MetricsCollector actual = configuration.getMetricsCollector();
+
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void getFilterDefinitionsWithResponseCompressionEnabled() {
+        FilterDefinition filterDefinition = FilterDefinition.of(mock(Filter.class));
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION)
+            .withFilterDefinition(filterDefinition)
+            .enableResponseCompression("/app")
+            .build();
+        ApplicationServerConfiguration configuration = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        List<FilterDefinition> actual = configuration.getFilterDefinitions();
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual.get(0).getFilterName()).isEqualTo(ResponseCompressionFilter.FILTER_NAME);
+        assertThat(actual.get(0).getFilter()).isInstanceOf(ResponseCompressionFilter.class);
+        assertThat(actual.get(0).getUrlPatterns()).containsExactly("/app" + ApplicationServerConfiguration.ALL_SUB_PATHS_PATTERN);
+        assertThat(actual.get(1)).isSameAs(filterDefinition);
+    }
+
+    @Test
+    void getFilterDefinitionsWithResponseCompressionEnabledForAllEntryPoints() {
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION)
+            .enableResponseCompression()
+            .build();
+        ApplicationServerConfiguration configuration = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        List<FilterDefinition> actual = configuration.getFilterDefinitions();
+
+        assertThat(actual)
+            .hasSize(1)
+            .allSatisfy(definition -> assertThat(definition.getUrlPatterns()).isEmpty());
+    }
+
+    @Test
+    void getFilterDefinitionsWithResourceMaxAge() {
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION)
+            .withResourceMaxAge(3600)
+            .build();
+        ApplicationServerConfiguration configuration = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        List<FilterDefinition> actual = configuration.getFilterDefinitions();
+
+        assertThat(actual)
+            .hasSize(1)
+            .allSatisfy(definition -> assertThat(definition.getFilter()).isInstanceOf(ResourceCachePolicyFilter.class))
+            .allSatisfy(definition -> assertThat(definition.getUrlPatterns()).containsExactly(ApplicationServerConfiguration.RESOURCES_PATTERN));
+    }
+
+    @Test
+    void getFilterDefinitionsWithFlightRecorderEventsEnabled() {
+        Filter filter = mock(Filter.class);
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION)
+            .withFilterDefinition(FilterDefinition.of("filterName", filter, "/app"))
+            .withResourceMaxAge(3600)
+            .enableFlightRecorderEvents()
+            .build();
+        ApplicationServerConfiguration configuration = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        List<FilterDefinition> actual = configuration.getFilterDefinitions();
+
+        assertThat(actual).hasSize(3);
+        assertThat(actual.get(0).getFilterName()).isEqualTo(RequestEventFilter.FILTER_NAME);
+        assertThat(actual.get(0).getFilter()).isInstanceOf(RequestEventFilter.class);
+        assertThat(actual.get(0).getUrlPatterns()).isEmpty();
+        assertThat(actual.get(1).getFilterName()).isEqualTo(ResourceCachePolicyFilter.FILTER_NAME);
+        assertThat(actual.get(1).getFilter()).isInstanceOf(FilterEventFilter.class);
+        assertThat(((FilterEventFilter) actual.get(1).getFilter()).getDelegate()).isInstanceOf(ResourceCachePolicyFilter.class);
+        assertThat(actual.get(1).getUrlPatterns()).containsExactly(ApplicationServerConfiguration.RESOURCES_PATTERN);
+        assertThat(actual.get(2).getFilterName()).isEqualTo("filterName");
+        assertThat(((FilterEventFilter) actual.get(2).getFilter()).getDelegate()).isSameAs(filter);
+        assertThat(actual.get(2).getUrlPatterns()).containsExactly("/app");
+    }
+
+    @Test
+    void getFilterDefinitionsMoreThanOnce() {
+        ApplicationServer server = ApplicationServer.newApplicationServerBuilder(APPLICATION_CONFIGURATION)
+            .enableResponseCompression()
+            .build();
+        ApplicationServerConfiguration configuration = new ApplicationServerConfiguration(WORKING_DIRECTORY, server);
+
+        List<FilterDefinition> actual1 = configuration.getFilterDefinitions();
+        List<FilterDefinition> actual2 = configuration.getFilterDefinitions();
+
+        assertThat(actual1).isSameAs(actual2);
     }
 
     @Test
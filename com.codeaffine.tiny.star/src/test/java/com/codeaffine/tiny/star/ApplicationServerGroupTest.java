@@ -0,0 +1,270 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.TimeoutException;
+
+import static com.codeaffine.tiny.star.ApplicationServer.State.HALTED;
+import static com.codeaffine.tiny.star.ApplicationServer.State.STARTING;
+import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static com.codeaffine.tiny.star.ApplicationServerGroup.*;
+import static com.codeaffine.tiny.star.ShutdownHookHandler.ExecutionMode.PARALLEL;
+import static com.codeaffine.tiny.star.Texts.INFO_GROUP_SHUTDOWN_CONFIRMATION;
+import static com.codeaffine.tiny.star.Texts.INFO_GROUP_STARTUP_CONFIRMATION;
+import static java.util.concurrent.CompletableFuture.completedFuture;
+import static java.util.concurrent.CompletableFuture.failedFuture;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@UseLoggerSpy(ApplicationServerGroup.class)
+class ApplicationServerGroupTest {
+
+    private static final Duration TIMEOUT = Duration.ofMillis(50);
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
+
+    private ApplicationServer applicationServer1;
+    private ApplicationServer applicationServer2;
+    private ApplicationServerGroup applicationServerGroup;
+
+    @BeforeEach
+    void setUp() {
+        applicationServer1 = mock(ApplicationServer.class);
+        applicationServer2 = mock(ApplicationServer.class);
+        applicationServerGroup = newApplicationServerGroup(applicationServer1, applicationServer2);
+    }
+
+    @Test
+    void start() {
+        when(applicationServer1.startAsync()).thenReturn(completedFuture(applicationServer1));
+        when(applicationServer2.startAsync()).thenReturn(completedFuture(applicationServer2));
+
+        ApplicationServerGroup actual = applicationServerGroup.start();
+
+        assertThat(actual).isSameAs(applicationServerGroup);
+        verify(applicationServer1).startAsync();
+        verify(applicationServer2).startAsync();
+        verify(logger).info(eq(INFO_GROUP_STARTUP_CONFIRMATION), eq(2), anyLong());
+    }
+
+    @Test
+    void startIfServerFails() {
+        IllegalStateException expected = new IllegalStateException("bad");
+        when(applicationServer1.startAsync()).thenReturn(completedFuture(applicationServer1));
+        when(applicationServer2.startAsync()).thenReturn(failedFuture(expected));
+        when(applicationServer1.stopAsync()).thenReturn(completedFuture(applicationServer1));
+        when(applicationServer2.stopAsync()).thenReturn(completedFuture(applicationServer2));
+
+        Exception actual = catchException(() -> applicationServerGroup.start());
+
+        assertThat(actual).isSameAs(expected);
+        InOrder order = inOrder(applicationServer1);
+        order.verify(applicationServer1).startAsync();
+        order.verify(applicationServer1).stopAsync();
+        verify(applicationServer2).stopAsync();
+        verify(logger, never()).info(eq(INFO_GROUP_STARTUP_CONFIRMATION), anyInt(), anyLong());
+    }
+
+    @Test
+    void startIfServerFailsAndStopFails() {
+        IllegalStateException expected = new IllegalStateException("bad start");
+        IllegalStateException stopProblem = new IllegalStateException("bad stop");
+        when(applicationServer1.startAsync()).thenReturn(completedFuture(applicationServer1));
+        when(applicationServer2.startAsync()).thenReturn(failedFuture(expected));
+        when(applicationServer1.stopAsync()).thenReturn(failedFuture(stopProblem));
+        when(applicationServer2.stopAsync()).thenReturn(completedFuture(applicationServer2));
+
+        Exception actual = catchException(() -> applicationServerGroup.start());
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(actual.getSuppressed()).containsExactly(stopProblem);
+    }
+
+    @Test
+    void startIfServerFailsStopsStartedServers() {
+        ApplicationServer server = newApplicationServerBuilder(application -> {}, "server").build();
+        ApplicationServer failingServer = newApplicationServerBuilder(application -> {}, "failing")
+            .withLifecycleListener(new Object() {
+                @ApplicationServer.Starting
+                void starting() {
+                    throw new IllegalStateException("bad");
+                }
+            })
+            .build();
+        ApplicationServerGroup group = newApplicationServerGroup(server, failingServer);
+
+        Exception actual = catchException(() -> group.start(AWAIT_TIMEOUT));
+
+        assertThat(actual).hasMessage("bad");
+        assertThat(server.getState()).isSameAs(HALTED);
+        assertThat(failingServer.getState()).isSameAs(HALTED);
+    }
+
+    @Test
+    void startIfDeadlineElapses() {
+        when(applicationServer1.startAsync()).thenReturn(completedFuture(applicationServer1));
+        CompletableFuture<ApplicationServer> pendingStart = new CompletableFuture<>();
+        when(applicationServer2.startAsync()).thenReturn(pendingStart);
+
+        Exception actual = catchException(() -> applicationServerGroup.start(TIMEOUT));
+
+        assertThat(actual)
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(TimeoutException.class)
+            .hasMessageContaining(OPERATION_START)
+            .hasMessageContaining(String.valueOf(TIMEOUT.toMillis()));
+        assertThat(pendingStart).isCancelled();
+        verify(applicationServer1).stopAsync();
+        verify(applicationServer2).stopAsync();
+    }
+
+    @Test
+    void startIfDeadlineElapsesStopsServerOnceItsStartHasFinished() {
+        CompletableFuture<Void> startingCompletion = new CompletableFuture<>();
+        ApplicationServer server = newApplicationServerBuilder(application -> {}, "server")
+            .withLifecycleListener(new Object() {
+                @ApplicationServer.Starting
+                CompletionStage<Void> starting() {
+                    return startingCompletion;
+                }
+            })
+            .build();
+        ApplicationServerGroup group = newApplicationServerGroup(server);
+
+        Exception actual = catchException(() -> group.start(TIMEOUT));
+        boolean startPending = server.awaitState(STARTING, AWAIT_TIMEOUT);
+        startingCompletion.complete(null);
+
+        assertThat(actual).hasCauseInstanceOf(TimeoutException.class);
+        assertThat(startPending).isTrue();
+        assertThat(server.awaitState(HALTED, AWAIT_TIMEOUT)).isTrue();
+        assertThat(server.getState()).isSameAs(HALTED);
+    }
+
+    @Test
+    void stop() {
+        when(applicationServer1.stopAsync()).thenReturn(completedFuture(applicationServer1));
+        when(applicationServer2.stopAsync()).thenReturn(completedFuture(applicationServer2));
+
+        ApplicationServerGroup actual = applicationServerGroup.stop();
+
+        assertThat(actual).isSameAs(applicationServerGroup);
+        verify(applicationServer1).stopAsync();
+        verify(applicationServer2).stopAsync();
+        verify(logger).info(eq(INFO_GROUP_SHUTDOWN_CONFIRMATION), eq(2), anyLong());
+    }
+
+    @Test
+    void stopIfServerFails() {
+        IllegalStateException expected = new IllegalStateException("bad");
+        when(applicationServer1.stopAsync()).thenReturn(failedFuture(expected));
+        when(applicationServer2.stopAsync()).thenReturn(completedFuture(applicationServer2));
+
+        Exception actual = catchException(() -> applicationServerGroup.stop());
+
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    void stopIfDeadlineElapses() {
+        when(applicationServer1.stopAsync()).thenReturn(new CompletableFuture<>());
+        when(applicationServer2.stopAsync()).thenReturn(completedFuture(applicationServer2));
+
+        Exception actual = catchException(() -> applicationServerGroup.stop(TIMEOUT));
+
+        assertThat(actual)
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(TimeoutException.class)
+            .hasMessageContaining(OPERATION_STOP);
+    }
+
+    @Test
+    void getApplicationServers() {
+        List<ApplicationServer> actual = applicationServerGroup.getApplicationServers();
+
+        assertThat(actual).containsExactly(applicationServer1, applicationServer2);
+        assertThatThrownBy(() -> actual.add(applicationServer1))
+            .isInstanceOf(UnsupportedOperationException.class);
+    }
+
+    @Test
+    void newApplicationServerGroupSharesShutdownHookHandler() {
+        ApplicationServer server1 = newApplicationServerBuilder(application -> {}, "server1").build();
+        ApplicationServer server2 = newApplicationServerBuilder(application -> {}, "server2").build();
+
+        newApplicationServerGroup(List.of(server1, server2));
+
+        assertThat(server1.getShutdownHookHandler()).isSameAs(server2.getShutdownHookHandler());
+    }
+
+    @Test
+    void newApplicationServerGroupUsesLargestShutdownTimeoutOfServers() {
+        ApplicationServer server1 = newApplicationServerBuilder(application -> {}, "server1").withShutdownTimeout(10).build();
+        ApplicationServer server2 = newApplicationServerBuilder(application -> {}, "server2").withShutdownTimeout(20).build();
+
+        newApplicationServerGroup(server1, server2);
+
+        assertThat(server1.getShutdownHookHandler().getExecutionMode()).isSameAs(PARALLEL);
+        assertThat(server1.getShutdownHookHandler().getShutdownTimeout()).isEqualTo(Duration.ofSeconds(20));
+    }
+
+    @Test
+    void getShutdownHookHandlerOfServerWithoutGroup() {
+        ApplicationServer server = newApplicationServerBuilder(application -> {}).build();
+
+        ShutdownHookHandler actual = server.getShutdownHookHandler();
+
+        assertThat(actual).isNotSameAs(server.getShutdownHookHandler());
+    }
+
+    @Test
+    void newApplicationServerGroupWithNullAsServerArrayArgument() {
+        assertThatThrownBy(() -> newApplicationServerGroup((ApplicationServer[]) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void newApplicationServerGroupWithNullAsServerListArgument() {
+        assertThatThrownBy(() -> newApplicationServerGroup((List<ApplicationServer>) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void newApplicationServerGroupWithNullElement() {
+        assertThatThrownBy(() -> newApplicationServerGroup(applicationServer1, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void startWithNullAsTimeoutArgument() {
+        assertThatThrownBy(() -> applicationServerGroup.start(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void stopWithNullAsTimeoutArgument() {
+        assertThatThrownBy(() -> applicationServerGroup.stop(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsShutdownHookHandlerArgument() {
+        List<ApplicationServer> applicationServers = List.of(applicationServer1);
+
+        assertThatThrownBy(() -> new ApplicationServerGroup(applicationServers, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,144 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.ApplicationServer.State;
+import com.codeaffine.tiny.star.spi.HealthCheck.Response;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static com.codeaffine.tiny.star.ApplicationServer.State.RUNNING;
+import static com.codeaffine.tiny.star.ApplicationServer.State.STOPPING;
+import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static com.codeaffine.tiny.star.ApplicationServerHealthCheck.*;
+import static com.codeaffine.tiny.star.ApplicationServerTestContext.CURRENT_SERVER;
+import static com.codeaffine.tiny.star.spi.HealthCheck.LIVENESS_PATH;
+import static com.codeaffine.tiny.star.spi.HealthCheck.READINESS_PATH;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(ApplicationServerTestContext.class)
+class ApplicationServerHealthCheckTest {
+
+    private ApplicationServer applicationServer;
+    private ApplicationServerHealthCheck healthCheck;
+
+    @BeforeEach
+    void setUp() {
+        applicationServer = mock(ApplicationServer.class);
+        healthCheck = new ApplicationServerHealthCheck(applicationServer);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "STARTING, 200, UP",
+        "RUNNING, 200, UP",
+        "STOPPING, 200, UP",
+        "HALTED, 503, DOWN"
+    })
+    void checkLiveness(State state, int expectedStatusCode, String expectedStatus) {
+        when(applicationServer.getState()).thenReturn(state);
+
+        Response actual = healthCheck.check(LIVENESS_PATH);
+
+        assertThat(actual.statusCode()).isEqualTo(expectedStatusCode);
+        assertThat(actual.body()).isEqualTo(format(BODY_PATTERN, expectedStatus, state));
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "STARTING, 503, DOWN",
+        "RUNNING, 200, UP",
+        "STOPPING, 503, DOWN",
+        "HALTED, 503, DOWN"
+    })
+    void checkReadiness(State state, int expectedStatusCode, String expectedStatus) {
+        when(applicationServer.getState()).thenReturn(state);
+
+        Response actual = healthCheck.check(READINESS_PATH);
+
+        assertThat(actual.statusCode()).isEqualTo(expectedStatusCode);
+        assertThat(actual.body()).isEqualTo(format(BODY_PATTERN, expectedStatus, state));
+    }
+
+    @Test
+    void checkReadinessWhileDrained() {
+        when(applicationServer.getState()).thenReturn(RUNNING);
+        when(applicationServer.isDrained()).thenReturn(true);
+
+        Response actual = healthCheck.check(READINESS_PATH);
+
+        assertThat(actual).isEqualTo(new Response(503, format(BODY_PATTERN, STATUS_DOWN, RUNNING)));
+    }
+
+    @Test
+    void checkReadinessAfterDrainAndResume() {
+        ApplicationServer server = newApplicationServerBuilder(application -> {}).build();
+        server.start();
+        ApplicationServerHealthCheck serverHealthCheck = new ApplicationServerHealthCheck(server);
+
+        server.drain(CURRENT_SERVER.get(), Duration.ZERO);
+        Response whileDrained = serverHealthCheck.check(READINESS_PATH);
+        server.resume(CURRENT_SERVER.get());
+        Response afterResume = serverHealthCheck.check(READINESS_PATH);
+        server.stop();
+
+        assertThat(whileDrained).isEqualTo(new Response(503, format(BODY_PATTERN, STATUS_DOWN, RUNNING)));
+        assertThat(afterResume).isEqualTo(new Response(200, format(BODY_PATTERN, STATUS_UP, RUNNING)));
+    }
+
+    @Test
+    void checkWhileDraining() {
+        ApplicationServer server = newApplicationServerBuilder(application -> {})
+            .withDrainTimeout(1)
+            .build();
+        server.start();
+        ApplicationServerHealthCheck serverHealthCheck = new ApplicationServerHealthCheck(server);
+        List<Response> responses = new ArrayList<>();
+        CURRENT_SERVER.get().setDrainOperation(() -> {
+            responses.add(serverHealthCheck.check(LIVENESS_PATH));
+            responses.add(serverHealthCheck.check(READINESS_PATH));
+        });
+
+        server.stop();
+
+        assertThat(responses).containsExactly(
+            new Response(200, format(BODY_PATTERN, STATUS_UP, STOPPING)),
+            new Response(503, format(BODY_PATTERN, STATUS_DOWN, STOPPING))
+        );
+    }
+
+    @Test
+    void checkWithNonHealthCheckPath() {
+        Response actual = healthCheck.check("/ui");
+
+        assertThat(actual).isNull();
+        verify(applicationServer, never()).getState();
+    }
+
+    @Test
+    void checkWithNullAsRequestPathArgument() {
+        assertThatThrownBy(() -> healthCheck.check(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new ApplicationServerHealthCheck(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,214 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import com.codeaffine.tiny.star.spi.RuntimeTunables;
+import com.codeaffine.tiny.star.spi.Server;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.codeaffine.tiny.star.ApplicationServer.State.HALTED;
+import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static com.codeaffine.tiny.star.ApplicationServerMXBean.UNAVAILABLE;
+import static com.codeaffine.tiny.star.Texts.ERROR_INVALID_TUNABLE_VALUE;
+import static com.codeaffine.tiny.star.spi.MetricsCollector.*;
+import static java.lang.String.format;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ApplicationServerManagementTest {
+
+    private static final String APPLICATION_IDENTIFIER = "applicationIdentifier";
+
+    private ApplicationServerManagement management;
+    private ApplicationServer applicationServer;
+    private RuntimeTunables runtimeTunables;
+    private Server server;
+
+    @BeforeEach
+    void setUp() {
+        applicationServer = newApplicationServerBuilder(application -> {}, APPLICATION_IDENTIFIER).build();
+        runtimeTunables = mock(RuntimeTunables.class);
+        server = mock(Server.class);
+        when(server.getRuntimeTunables()).thenReturn(runtimeTunables);
+        management = new ApplicationServerManagement(applicationServer, server);
+    }
+
+    @Test
+    void getIdentifier() {
+        assertThat(management.getIdentifier()).isEqualTo(APPLICATION_IDENTIFIER);
+    }
+
+    @Test
+    void getState() {
+        assertThat(management.getState()).isEqualTo(HALTED.name());
+    }
+
+    @Test
+    void getUrls() {
+        assertThat(management.getUrls()).isEmpty();
+    }
+
+    @Test
+    void getLifecyclePhaseDurations() {
+        applicationServer.metricsRegistry.lifecyclePhaseCompleted(LIFECYCLE_PHASE_CREATE, Duration.ofMillis(1L));
+        applicationServer.metricsRegistry.lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, Duration.ofMillis(2L));
+
+        assertThat(management.getCreateDuration()).isEqualTo(1L);
+        assertThat(management.getStartDuration()).isEqualTo(2L);
+        assertThat(management.getStopDuration()).isEqualTo(UNAVAILABLE);
+    }
+
+    @Test
+    void getSessionCounts() {
+        applicationServer.metricsRegistry.bindContainerStatistics(() -> new ContainerStatistics(3L, 5L, 1L, 1L, 1L, 1L, 1L));
+
+        assertThat(management.getActiveSessions()).isEqualTo(3L);
+        assertThat(management.getCreatedSessions()).isEqualTo(5L);
+    }
+
+    @Test
+    void getSessionCountsWithoutContainerStatistics() {
+        assertThat(management.getActiveSessions()).isEqualTo(UNAVAILABLE);
+        assertThat(management.getCreatedSessions()).isEqualTo(UNAVAILABLE);
+    }
+
+    @Test
+    void getRequestStatistics() {
+        applicationServer.metricsRegistry.requestCompleted("/ui", 200, Duration.ofMillis(10L));
+        applicationServer.metricsRegistry.requestCompleted("/ui", 500, Duration.ofMillis(10L));
+        applicationServer.metricsRegistry.requestCompleted(OTHER_PATHS, 503, Duration.ofMillis(10L));
+        applicationServer.metricsRegistry.requestCompleted(OTHER_PATHS, 404, Duration.ofMillis(10L));
+
+        assertThat(management.getRequestCount()).isEqualTo(4L);
+        assertThat(management.getServerErrorCount()).isEqualTo(2L);
+        assertThat(management.getMeanRequestDuration()).isEqualTo(10.0);
+        assertThat(management.getRequestDuration99thPercentile()).isEqualTo(10.0);
+    }
+
+    @Test
+    void getRequestStatisticsWithoutRequests() {
+        assertThat(management.getRequestCount()).isZero();
+        assertThat(management.getServerErrorCount()).isZero();
+        assertThat(management.getMeanRequestDuration()).isZero();
+        assertThat(management.getRequestDuration99thPercentile()).isZero();
+    }
+
+    @Test
+    void getMaximumWorkerPoolSize() {
+        when(runtimeTunables.getMaximumWorkerPoolSize()).thenReturn(200);
+
+        assertThat(management.getMaximumWorkerPoolSize()).isEqualTo(200);
+    }
+
+    @Test
+    void setMaximumWorkerPoolSize() {
+        management.setMaximumWorkerPoolSize(100);
+
+        verify(runtimeTunables).setMaximumWorkerPoolSize(100);
+    }
+
+    @Test
+    void setMaximumWorkerPoolSizeWithInvalidValue() {
+        assertThatThrownBy(() -> management.setMaximumWorkerPoolSize(0))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(format(ERROR_INVALID_TUNABLE_VALUE, "MaximumWorkerPoolSize", 0));
+        verify(runtimeTunables, never()).setMaximumWorkerPoolSize(anyInt());
+    }
+
+    @Test
+    void getSessionTimeout() {
+        when(runtimeTunables.getSessionTimeout()).thenReturn(15);
+
+        assertThat(management.getSessionTimeout()).isEqualTo(15);
+    }
+
+    @Test
+    void setSessionTimeout() {
+        management.setSessionTimeout(30);
+
+        verify(runtimeTunables).setSessionTimeout(30);
+    }
+
+    @Test
+    void setSessionTimeoutWithInvalidValue() {
+        assertThatThrownBy(() -> management.setSessionTimeout(-1))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessage(format(ERROR_INVALID_TUNABLE_VALUE, "SessionTimeout", -1));
+        verify(runtimeTunables, never()).setSessionTimeout(anyInt());
+    }
+
+    @Test
+    void stop() {
+        ApplicationServer applicationServerMock = mock(ApplicationServer.class);
+        ApplicationServerManagement actual = new ApplicationServerManagement(applicationServerMock, server);
+
+        actual.stop();
+
+        verify(applicationServerMock).stop();
+    }
+
+    @Test
+    void drain() {
+        when(server.drain(Duration.ofMillis(500L))).thenReturn(2);
+
+        int actual = management.drain(500L);
+
+        assertThat(actual).isEqualTo(2);
+    }
+
+    @Test
+    void drainWithNegativeTimeout() {
+        management.drain(-1L);
+
+        verify(server).drain(Duration.ZERO);
+    }
+
+    @Test
+    void drainIsRoutedThroughApplicationServer() {
+        ApplicationServer applicationServerMock = mock(ApplicationServer.class);
+        ApplicationServerManagement actual = new ApplicationServerManagement(applicationServerMock, server);
+
+        actual.drain(500L);
+
+        verify(applicationServerMock).drain(server, Duration.ofMillis(500L));
+    }
+
+    @Test
+    void resume() {
+        management.resume();
+
+        verify(server).resume();
+    }
+
+    @Test
+    void resumeIsRoutedThroughApplicationServer() {
+        ApplicationServer applicationServerMock = mock(ApplicationServer.class);
+        ApplicationServerManagement actual = new ApplicationServerManagement(applicationServerMock, server);
+
+        actual.resume();
+
+        verify(applicationServerMock).resume(server);
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new ApplicationServerManagement(null, server))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsServerArgument() {
+        assertThatThrownBy(() -> new ApplicationServerManagement(applicationServer, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
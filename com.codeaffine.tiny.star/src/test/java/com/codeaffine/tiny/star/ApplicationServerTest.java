@@ -7,6 +7,8 @@
  */
 package com.codeaffine.tiny.star;
 
+import com.codeaffine.tiny.star.spi.HealthCheck;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
 import com.codeaffine.tiny.star.spi.ServerConfigurationAssert;
 import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
 import jakarta.servlet.ServletContext;
@@ -24,6 +26,8 @@ import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.InOrder;
 
+import javax.management.MalformedObjectNameException;
+import javax.management.ObjectName;
 import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.IOException;
@@ -32,7 +36,11 @@ import java.net.URI;
 import java.net.URISyntaxException;
 import java.net.URL;
 import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.codeaffine.tiny.shared.IoUtils.deleteDirectory;
 import static com.codeaffine.tiny.shared.IoUtils.findFreePort;
@@ -40,11 +48,14 @@ import static com.codeaffine.tiny.star.ApplicationServer.*;
 import static com.codeaffine.tiny.star.ApplicationServer.State.*;
 import static com.codeaffine.tiny.star.ApplicationServerTestContext.CURRENT_SERVER;
 import static com.codeaffine.tiny.star.ApplicationServerTestContext.getCurrentServerConfiguration;
-import static com.codeaffine.tiny.star.EntrypointPathCaptor.captureEntrypointPaths;
+import static com.codeaffine.tiny.star.ApplicationModelCaptor.captureApplicationModel;
 import static com.codeaffine.tiny.star.Texts.*;
 import static java.lang.String.format;
 import static java.lang.System.getProperty;
+import static java.lang.management.ManagementFactory.getPlatformMBeanServer;
 import static java.util.Objects.nonNull;
+import static java.util.zip.Deflater.BEST_COMPRESSION;
+import static java.util.zip.Deflater.BEST_SPEED;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.ArgumentCaptor.forClass;
 import static org.mockito.Mockito.*;
@@ -59,6 +70,7 @@ class ApplicationServerTest {
     private static final String ENTRY_POINT_PATH_1 = "/ep1";
     private static final String ENTRY_POINT_PATH_2 = "/ep2";
     private static final String SCHEME = "http";
+    private static final Duration AWAIT_TIMEOUT = Duration.ofSeconds(10);
     private static final ApplicationConfiguration MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION = application -> {
         application.addEntryPoint(ENTRY_POINT_PATH_1, () -> null, null);
         application.addEntryPoint(ENTRY_POINT_PATH_2, () -> null, null);
@@ -96,6 +108,36 @@ class ApplicationServerTest {
         );
     }
 
+    @Test
+    void getApplicationModel() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        ApplicationModel actual = applicationServer.getApplicationModel();
+
+        assertThat(actual.entryPointPaths()).containsExactly(ENTRY_POINT_PATH_1, ENTRY_POINT_PATH_2);
+        assertThat(applicationServer.getApplicationModel()).isSameAs(actual);
+    }
+
+    @Test
+    void startCapturesApplicationConfigurationOnlyOnce() {
+        AtomicInteger configureCount = new AtomicInteger();
+        ApplicationConfiguration applicationConfiguration = application -> {
+            configureCount.incrementAndGet();
+            MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION.configure(application);
+        };
+        applicationServer = newApplicationServerBuilder(applicationConfiguration)
+            .build();
+
+        applicationServer.getUrls();
+        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+        applicationServer.getUrls();
+
+        assertThat(configureCount).hasValue(1);
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration())
+            .hasEntryPointPaths(applicationServer.getApplicationModel().entryPointPaths());
+    }
+
     @Test
     void start() {
         applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
@@ -117,14 +159,66 @@ class ApplicationServerTest {
             .hasHost(DEFAULT_HOST)
             .hasNonNegativePort()
             .hasContextClassLoader(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION.getClass().getClassLoader())
-            .hasEntryPointPaths(captureEntrypointPaths(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION))
+            .hasEntryPointPaths(captureApplicationModel(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION).entryPointPaths())
             .hasSessionTimeout(DEFAULT_SESSION_TIMEOUT)
+            .hasVirtualThreadsEnabled(DEFAULT_VIRTUAL_THREADS)
+            .hasHttp2Enabled(DEFAULT_HTTP2)
+            .hasResourceCacheSize(DEFAULT_RESOURCE_CACHE_SIZE)
+            .hasResourcePrecompressionEnabled(DEFAULT_PRECOMPRESS_RESOURCES)
             .hasWorkingDirectory(workingDirectory)
             .hasExistingWorkingDirectory();
         assertThat(applicationIdentifierCaptor.getAllValues())
             .allMatch(DEFAULT_APPLICATION_IDENTIFIER::equals);
     }
 
+    @Test
+    void getStartupProfile() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withWorkingDirectory(tempDir)
+            .build();
+        applicationServer.start();
+
+        StartupProfile actual = applicationServer.getStartupProfile();
+
+        assertThat(actual.getPhases())
+            .extracting(StartupProfile.Phase::getName)
+            .contains(
+                StartupProfile.PHASE_WORKING_DIRECTORY_PREPARATION,
+                StartupProfile.PHASE_LOGGING_FRAMEWORK_CONFIGURATION,
+                StartupProfile.PHASE_SERVER_FACTORY_LOOKUP,
+                StartupProfile.PHASE_SERVER_CREATION,
+                StartupProfile.PHASE_CONTAINER_START
+            );
+        assertThat(actual.getTotalDuration()).isPositive();
+        assertThat(new File(tempDir, StartupProfileWriter.STARTUP_PROFILE_FILE_NAME)).exists();
+    }
+
+    @Test
+    void startAndStopWithMetricsCollector() {
+        MetricsCollector metricsCollector = mock(MetricsCollector.class);
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION).build();
+        applicationServer.setMetricsCollector(new DelegatingMetricsCollector(List.of(metricsCollector)));
+
+        applicationServer.start();
+        applicationServer.stop();
+
+        verify(metricsCollector).lifecyclePhaseCompleted(eq(MetricsCollector.LIFECYCLE_PHASE_CREATE), any(Duration.class));
+        verify(metricsCollector).lifecyclePhaseCompleted(eq(MetricsCollector.LIFECYCLE_PHASE_START), any(Duration.class));
+        verify(metricsCollector).lifecyclePhaseCompleted(eq(StartupProfile.PHASE_CONTAINER_START), any(Duration.class));
+        verify(metricsCollector).lifecyclePhaseCompleted(eq(MetricsCollector.LIFECYCLE_PHASE_STOP), any(Duration.class));
+        assertThat(getCurrentServerConfiguration().getMetricsCollector()).isNotNull();
+    }
+
+    @Test
+    void getStartupProfileBeforeStart() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION).build();
+
+        StartupProfile actual = applicationServer.getStartupProfile();
+
+        assertThat(actual.getPhases()).isEmpty();
+        assertThat(actual.getTotalDuration()).isZero();
+    }
+
     @Test
     void startWithWorkingDirectoryThatExists() {
         File givenWorkingDirectory = new File(tempDir, "workingDirectory");
@@ -218,106 +312,915 @@ class ApplicationServerTest {
     }
 
     @Test
-    void startWithoutDeletingWorkingDirectoryOnShutdown() {
+    void startWithVirtualThreads() {
         applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
-            .keepWorkingDirectoryOnShutdown()
+            .useVirtualThreads()
             .build();
-        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
-        persistentWorkingDirectory = new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()));
 
-        applicationServer.stop();
+        applicationServer.start();
 
-        assertThat(getProperty(applicationServer.getWorkingDirectorSystemProperty())).isNull();
-        assertThat(getCurrentServerConfiguration().getWorkingDirectory())
-            .exists()
-            .isEqualTo(persistentWorkingDirectory);
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasVirtualThreadsEnabled(true);
     }
 
     @Test
-    void startWithApplicationIdentifier() {
-        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION, APPLICATION_IDENTIFIER)
+    void startWithPlatformThreads() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .useVirtualThreads()
+            .usePlatformThreads()
             .build();
 
-        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+        applicationServer.start();
 
-        File workingDirectory = new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()));
-        ArgumentCaptor<String> captor = forClass(String.class);
-        InOrder order = inOrder(logger, ApplicationProcessFactory.logger);
-        verifyServerStartupLogMessages(order, captor, INFO_STARTUP_CONFIRMATION);
-        order.verifyNoMoreInteractions();
-        assertThat(captor.getValue()).isEqualTo(APPLICATION_IDENTIFIER);
-        assertThat(workingDirectory.getName()).startsWith(APPLICATION_IDENTIFIER);
-        assertThat(getCurrentServerConfiguration().getWorkingDirectory())
-            .isEqualTo(workingDirectory)
-            .isDirectory()
-            .exists();
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasVirtualThreadsEnabled(false);
     }
 
     @Test
-    void startWithLifecycleListener() {
-        StateCaptor stateCaptor = spy(new StateCaptor());
+    void startWithHttp2Enabled() {
         applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
-            .withLifecycleListener(stateCaptor)
+            .enableHttp2()
             .build();
 
-        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+        applicationServer.start();
 
-        InOrder order = inOrder(stateCaptor);
-        order.verify(stateCaptor).captureStarting(applicationServer);
-        order.verify(stateCaptor).captureStarted(applicationServer);
-        order.verifyNoMoreInteractions();
-        assertThat(stateCaptor.getHalted()).isNull();
-        assertThat(stateCaptor.getStarting()).isSameAs(STARTING);
-        assertThat(stateCaptor.getStarted()).isSameAs(RUNNING);
-        assertThat(stateCaptor.getStopping()).isNull();
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasHttp2Enabled(true);
     }
 
     @Test
-    void startWithMultipleLifecycleListeners() {
-        StateCaptor stateCaptor1 = spy(new StateCaptor());
-        StateCaptor stateCaptor2 = spy(new StateCaptor());
+    void startWithHttp2Disabled() {
         applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
-            .withLifecycleListener(stateCaptor1)
-            .withLifecycleListener(stateCaptor2)
+            .enableHttp2()
+            .disableHttp2()
             .build();
 
-        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+        applicationServer.start();
 
-        InOrder order = inOrder(stateCaptor1, stateCaptor2);
-        order.verify(stateCaptor1).captureStarting(applicationServer);
-        order.verify(stateCaptor2).captureStarting(applicationServer);
-        order.verify(stateCaptor1).captureStarted(applicationServer);
-        order.verify(stateCaptor2).captureStarted(applicationServer);
-        order.verifyNoMoreInteractions();
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasHttp2Enabled(false);
+    }
+
+    @ParameterizedTest
+    @CsvSource({
+        "0, 0",
+        "1, 1",
+        "4096, 4096",
+        "-1, 0"
+    })
+    void startWithResourceCacheSize(int resourceCacheSize, int expectedResourceCacheSize) {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withResourceCacheSize(resourceCacheSize)
+            .build();
+
+        applicationServer.start();
+
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasResourceCacheSize(expectedResourceCacheSize);
     }
 
     @Test
-    void startWithMultipleLifecycleListenersRegisteredAtOnce() {
-        StateCaptor stateCaptor1 = spy(new StateCaptor());
-        StateCaptor stateCaptor2 = spy(new StateCaptor());
+    void startWithResourcePrecompressionEnabled() {
         applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
-            .withLifecycleListeners(List.of(stateCaptor1, stateCaptor2))
+            .disableResourcePrecompression()
+            .enableResourcePrecompression()
             .build();
 
-        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+        applicationServer.start();
 
-        InOrder order = inOrder(stateCaptor1, stateCaptor2);
-        order.verify(stateCaptor1).captureStarting(applicationServer);
-        order.verify(stateCaptor2).captureStarting(applicationServer);
-        order.verify(stateCaptor1).captureStarted(applicationServer);
-        order.verify(stateCaptor2).captureStarted(applicationServer);
-        order.verifyNoMoreInteractions();
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasResourcePrecompressionEnabled(true);
     }
 
     @Test
-    void startWithConfigurationWithJsonString() {
+    void startWithResourcePrecompressionDisabled() {
         applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
-            .withConfiguration(format("{\"port\": %s}", CUSTOM_PORT))
+            .enableResourcePrecompression()
+            .disableResourcePrecompression()
             .build();
 
         applicationServer.start();
 
-        assertThat(getCurrentServerConfiguration().getPort()).isEqualTo(CUSTOM_PORT);
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasResourcePrecompressionEnabled(false);
+    }
+
+    @Test
+    void startWithResponseCompressionEnabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableResponseCompression(ENTRY_POINT_PATH_1)
+            .withResponseCompressionMinimumSize(-1)
+            .withResponseCompressionLevel(42)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(getCurrentServerConfiguration().getFilterDefinitions())
+            .hasSize(1)
+            .allSatisfy(definition -> assertThat(definition.getFilter()).isInstanceOf(ResponseCompressionFilter.class))
+            .allSatisfy(definition -> assertThat(definition.getUrlPatterns()).containsExactly(ENTRY_POINT_PATH_1 + "/*"));
+        assertThat(applicationServer.responseCompressionMinimumSize).isZero();
+        assertThat(applicationServer.responseCompressionLevel).isEqualTo(BEST_COMPRESSION);
+    }
+
+    @Test
+    void startWithResponseCompressionDisabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableResponseCompression()
+            .disableResponseCompression()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(getCurrentServerConfiguration().getFilterDefinitions()).isEmpty();
+    }
+
+    @Test
+    void startWithResourceMaxAge() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withResourceMaxAge(3600)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(getCurrentServerConfiguration().getFilterDefinitions())
+            .hasSize(1)
+            .allSatisfy(definition -> assertThat(definition.getFilter()).isInstanceOf(ResourceCachePolicyFilter.class));
+    }
+
+    @Test
+    void startWithNegativeResourceMaxAge() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withResourceMaxAge(-1)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.resourceMaxAge).isZero();
+        assertThat(getCurrentServerConfiguration().getFilterDefinitions()).isEmpty();
+    }
+
+    @Test
+    void startWithDrainTimeout() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withDrainTimeout(30)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.drainTimeout).isEqualTo(30);
+    }
+
+    @Test
+    void startWithDefaultDrainTimeout() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION).build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.drainTimeout).isEqualTo(DEFAULT_DRAIN_TIMEOUT);
+    }
+
+    @Test
+    void startWithNegativeDrainTimeout() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withDrainTimeout(-1)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.drainTimeout).isZero();
+    }
+
+    @Test
+    void startAsync() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        CompletableFuture<ApplicationServer> actual = applicationServer.startAsync();
+
+        assertThat(applicationServer.awaitState(RUNNING, AWAIT_TIMEOUT)).isTrue();
+        assertThat(actual).succeedsWithin(AWAIT_TIMEOUT).isSameAs(applicationServer);
+        assertThat(CURRENT_SERVER.get().isStarted()).isTrue();
+    }
+
+    @Test
+    void stopAsync() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+        applicationServer.start();
+
+        CompletableFuture<ApplicationServer> actual = applicationServer.stopAsync();
+
+        assertThat(actual).succeedsWithin(AWAIT_TIMEOUT).isSameAs(applicationServer);
+        assertThat(applicationServer.awaitState(HALTED, AWAIT_TIMEOUT)).isTrue();
+        assertThat(CURRENT_SERVER.get().isStopped()).isTrue();
+    }
+
+    @Test
+    void stopAsyncWhileStarting() {
+        CompletableFuture<Void> startingCompletion = new CompletableFuture<>();
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withLifecycleListener(new Object() {
+                @Starting
+                CompletionStage<Void> starting() {
+                    return startingCompletion;
+                }
+            })
+            .build();
+        CompletableFuture<ApplicationServer> start = applicationServer.startAsync();
+        assertThat(applicationServer.awaitState(STARTING, AWAIT_TIMEOUT)).isTrue();
+
+        CompletableFuture<ApplicationServer> actual = applicationServer.stopAsync();
+        startingCompletion.complete(null);
+
+        assertThat(start).succeedsWithin(AWAIT_TIMEOUT);
+        assertThat(actual).succeedsWithin(AWAIT_TIMEOUT).isSameAs(applicationServer);
+        assertThat(applicationServer.getState()).isSameAs(HALTED);
+        assertThat(CURRENT_SERVER.get().isStopped()).isTrue();
+    }
+
+    @Test
+    void awaitStateWhileStopping() {
+        CompletableFuture<Void> stoppingCompletion = new CompletableFuture<>();
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withLifecycleListener(new Object() {
+                @Stopping
+                CompletionStage<Void> stopping() {
+                    return stoppingCompletion;
+                }
+            })
+            .build();
+        applicationServer.start();
+
+        CompletableFuture<ApplicationServer> stop = applicationServer.stopAsync();
+        boolean stopping = applicationServer.awaitState(STOPPING, AWAIT_TIMEOUT);
+        State stateWhileStopping = applicationServer.getState();
+        boolean haltedWhileStopping = applicationServer.awaitState(HALTED, Duration.ZERO);
+        boolean containerStoppedWhileStopping = CURRENT_SERVER.get().isStopped();
+        stoppingCompletion.complete(null);
+
+        assertThat(stopping).isTrue();
+        assertThat(stateWhileStopping).isSameAs(STOPPING);
+        assertThat(haltedWhileStopping).isFalse();
+        assertThat(containerStoppedWhileStopping).isFalse();
+        assertThat(stop).succeedsWithin(AWAIT_TIMEOUT);
+        assertThat(applicationServer.awaitState(HALTED, AWAIT_TIMEOUT)).isTrue();
+        assertThat(CURRENT_SERVER.get().isStopped()).isTrue();
+    }
+
+    @Test
+    void awaitStateOnHaltedServer() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        boolean actual = applicationServer.awaitState(HALTED, Duration.ZERO);
+
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void awaitStateIfTimeoutElapses() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        boolean actual = applicationServer.awaitState(RUNNING, Duration.ofMillis(10));
+
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void awaitStateWithNullAsStateArgument() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        assertThatThrownBy(() -> applicationServer.awaitState(null, AWAIT_TIMEOUT))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void awaitStateWithNullAsTimeoutArgument() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        assertThatThrownBy(() -> applicationServer.awaitState(RUNNING, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void startWithConcurrentStartup() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableConcurrentStartup()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.concurrentStartup).isTrue();
+        assertThat(applicationServer.getState()).isSameAs(RUNNING);
+        assertThat(CURRENT_SERVER.get().isStarted()).isTrue();
+    }
+
+    @Test
+    void startWithConcurrentStartupDisabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableConcurrentStartup()
+            .disableConcurrentStartup()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.concurrentStartup).isFalse();
+    }
+
+    @Test
+    void startWithConcurrentLifecycleNotification() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableConcurrentLifecycleNotification()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.concurrentLifecycleNotification).isTrue();
+        assertThat(applicationServer.getState()).isSameAs(RUNNING);
+    }
+
+    @Test
+    void startWithConcurrentLifecycleNotificationDisabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableConcurrentLifecycleNotification()
+            .disableConcurrentLifecycleNotification()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.concurrentLifecycleNotification).isFalse();
+    }
+
+    @Test
+    void startWithShutdownTimeout() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withShutdownTimeout(30)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.shutdownTimeout).isEqualTo(30);
+        assertThat(applicationServer.getShutdownHookHandler().getExecutionMode()).isSameAs(ShutdownHookHandler.ExecutionMode.PARALLEL);
+        assertThat(applicationServer.getShutdownHookHandler().getShutdownTimeout()).isEqualTo(Duration.ofSeconds(30));
+    }
+
+    @Test
+    void startWithDefaultShutdownTimeout() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.shutdownTimeout).isEqualTo(DEFAULT_SHUTDOWN_TIMEOUT);
+        assertThat(applicationServer.getShutdownHookHandler().getExecutionMode()).isSameAs(ShutdownHookHandler.ExecutionMode.SEQUENTIAL);
+    }
+
+    @Test
+    void startWithNegativeShutdownTimeout() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withShutdownTimeout(-1)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.shutdownTimeout).isZero();
+    }
+
+    @Test
+    void startWithBackgroundWorkingDirectoryDeletion() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableBackgroundWorkingDirectoryDeletion()
+            .build();
+        applicationServer.start();
+        File workingDirectory = new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()));
+
+        applicationServer.stop();
+
+        assertThat(applicationServer.backgroundWorkingDirectoryDeletion).isTrue();
+        assertThat(workingDirectory).doesNotExist();
+    }
+
+    @Test
+    void startWithBackgroundWorkingDirectoryDeletionDisabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableBackgroundWorkingDirectoryDeletion()
+            .disableBackgroundWorkingDirectoryDeletion()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.backgroundWorkingDirectoryDeletion).isFalse();
+    }
+
+    @Test
+    void startWithMemoryBackedWorkingDirectory() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableMemoryBackedWorkingDirectory()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.memoryBackedWorkingDirectory).isTrue();
+        assertThat(applicationServer.getState()).isSameAs(RUNNING);
+        assertThat(new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()))).exists();
+    }
+
+    @Test
+    void startWithMemoryBackedWorkingDirectoryDisabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableMemoryBackedWorkingDirectory()
+            .disableMemoryBackedWorkingDirectory()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.memoryBackedWorkingDirectory).isFalse();
+    }
+
+    @Test
+    void startWithResourceCacheDirectory() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withResourceCacheDirectory(tempDir)
+            .build();
+        applicationServer.start();
+        File workingDirectory = new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()));
+        applicationServer.stop();
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withResourceCacheDirectory(tempDir)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.isUsingResourceCache()).isTrue();
+        assertThat(workingDirectory)
+            .exists()
+            .hasParent(tempDir);
+        assertThat(new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()))).isEqualTo(workingDirectory);
+    }
+
+    @Test
+    void startWithWarmUpRequests() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withWarmUpRequests(1)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.warmUpRequests).isEqualTo(1);
+        assertThat(applicationServer.getState()).isSameAs(RUNNING);
+        assertThat(applicationServer.getStartupProfile().getPhases())
+            .extracting(StartupProfile.Phase::getName)
+            .containsSubsequence(StartupProfile.PHASE_CONTAINER_START, StartupProfile.PHASE_WARM_UP);
+    }
+
+    @Test
+    void startWithDefaultWarmUpRequests() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.warmUpRequests).isEqualTo(DEFAULT_WARM_UP_REQUESTS);
+        assertThat(applicationServer.getStartupProfile().getPhases())
+            .extracting(StartupProfile.Phase::getName)
+            .doesNotContain(StartupProfile.PHASE_WARM_UP);
+    }
+
+    @Test
+    void startWithNegativeWarmUpRequests() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withWarmUpRequests(-1)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.warmUpRequests).isZero();
+    }
+
+    @Test
+    void startWithHealthEndpoints() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableHealthEndpoints()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.healthEndpoints).isTrue();
+        assertThat(getCurrentServerConfiguration().getHealthCheck().check(HealthCheck.READINESS_PATH).statusCode()).isEqualTo(200);
+    }
+
+    @Test
+    void startWithHealthEndpointsDisabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableHealthEndpoints()
+            .disableHealthEndpoints()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.healthEndpoints).isFalse();
+        assertThat(getCurrentServerConfiguration().getHealthCheck()).isNull();
+    }
+
+    @Test
+    void startWithAdminPort() {
+        int adminPort = findFreePort();
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withAdminPort(adminPort)
+            .withAdminHost(DEFAULT_HOST)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.adminPort).isEqualTo(adminPort);
+        assertThat(applicationServer.adminHost).isEqualTo(DEFAULT_HOST);
+        assertThat(applicationServer.metricsRegistry.getLifecyclePhaseDurations()).containsKey(MetricsCollector.LIFECYCLE_PHASE_START);
+    }
+
+    @Test
+    void startWithoutAdminPort() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withAdminPort(-1)
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.adminPort).isEqualTo(DEFAULT_ADMIN_PORT);
+        assertThat(applicationServer.adminHost).isEqualTo(DEFAULT_ADMIN_HOST);
+        assertThat(applicationServer.metricsRegistry.getLifecyclePhaseDurations()).isEmpty();
+    }
+
+    @Test
+    void startAndStopWithJmx() throws MalformedObjectNameException {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableJmx()
+            .build();
+        ObjectName objectName = new ObjectName(format(ApplicationServerMXBean.OBJECT_NAME_PATTERN, ObjectName.quote(DEFAULT_APPLICATION_IDENTIFIER)));
+
+        applicationServer.start();
+        boolean registeredWhileRunning = getPlatformMBeanServer().isRegistered(objectName);
+        applicationServer.stop();
+
+        assertThat(applicationServer.jmx).isTrue();
+        assertThat(registeredWhileRunning).isTrue();
+        assertThat(getPlatformMBeanServer().isRegistered(objectName)).isFalse();
+        assertThat(applicationServer.metricsRegistry.getLifecyclePhaseDurations()).containsKey(MetricsCollector.LIFECYCLE_PHASE_STOP);
+    }
+
+    @Test
+    void startWithJmxDisabled() throws MalformedObjectNameException {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableJmx()
+            .disableJmx()
+            .build();
+        ObjectName objectName = new ObjectName(format(ApplicationServerMXBean.OBJECT_NAME_PATTERN, ObjectName.quote(DEFAULT_APPLICATION_IDENTIFIER)));
+
+        applicationServer.start();
+
+        assertThat(applicationServer.jmx).isFalse();
+        assertThat(getPlatformMBeanServer().isRegistered(objectName)).isFalse();
+    }
+
+    @Test
+    void startWithFlightRecorderEvents() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableFlightRecorderEvents()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.flightRecorderEvents).isTrue();
+        assertThat(getCurrentServerConfiguration().getFilterDefinitions())
+            .hasSize(1)
+            .allSatisfy(definition -> assertThat(definition.getFilter()).isInstanceOf(RequestEventFilter.class));
+    }
+
+    @Test
+    void startWithFlightRecorderEventsDisabled() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .enableFlightRecorderEvents()
+            .disableFlightRecorderEvents()
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.flightRecorderEvents).isFalse();
+        assertThat(getCurrentServerConfiguration().getFilterDefinitions()).isEmpty();
+    }
+
+    @Test
+    void startWithoutDeletingWorkingDirectoryOnShutdown() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .keepWorkingDirectoryOnShutdown()
+            .build();
+        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+        persistentWorkingDirectory = new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()));
+
+        applicationServer.stop();
+
+        assertThat(getProperty(applicationServer.getWorkingDirectorSystemProperty())).isNull();
+        assertThat(getCurrentServerConfiguration().getWorkingDirectory())
+            .exists()
+            .isEqualTo(persistentWorkingDirectory);
+    }
+
+    @Test
+    void startWithApplicationIdentifier() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION, APPLICATION_IDENTIFIER)
+            .build();
+
+        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+
+        File workingDirectory = new File(getProperty(applicationServer.getWorkingDirectorSystemProperty()));
+        ArgumentCaptor<String> captor = forClass(String.class);
+        InOrder order = inOrder(logger, ApplicationProcessFactory.logger);
+        verifyServerStartupLogMessages(order, captor, INFO_STARTUP_CONFIRMATION);
+        order.verifyNoMoreInteractions();
+        assertThat(captor.getValue()).isEqualTo(APPLICATION_IDENTIFIER);
+        assertThat(workingDirectory.getName()).startsWith(APPLICATION_IDENTIFIER);
+        assertThat(getCurrentServerConfiguration().getWorkingDirectory())
+            .isEqualTo(workingDirectory)
+            .isDirectory()
+            .exists();
+    }
+
+    @Test
+    void startWithLifecycleListener() {
+        StateCaptor stateCaptor = spy(new StateCaptor());
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withLifecycleListener(stateCaptor)
+            .build();
+
+        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+
+        InOrder order = inOrder(stateCaptor);
+        order.verify(stateCaptor).captureStarting(applicationServer);
+        order.verify(stateCaptor).captureStarted(applicationServer);
+        order.verifyNoMoreInteractions();
+        assertThat(stateCaptor.getHalted()).isNull();
+        assertThat(stateCaptor.getStarting()).isSameAs(STARTING);
+        assertThat(stateCaptor.getStarted()).isSameAs(RUNNING);
+        assertThat(stateCaptor.getStopping()).isNull();
+    }
+
+    @Test
+    void startWithMultipleLifecycleListeners() {
+        StateCaptor stateCaptor1 = spy(new StateCaptor());
+        StateCaptor stateCaptor2 = spy(new StateCaptor());
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withLifecycleListener(stateCaptor1)
+            .withLifecycleListener(stateCaptor2)
+            .build();
+
+        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+
+        InOrder order = inOrder(stateCaptor1, stateCaptor2);
+        order.verify(stateCaptor1).captureStarting(applicationServer);
+        order.verify(stateCaptor2).captureStarting(applicationServer);
+        order.verify(stateCaptor1).captureStarted(applicationServer);
+        order.verify(stateCaptor2).captureStarted(applicationServer);
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void startWithMultipleLifecycleListenersRegisteredAtOnce() {
+        StateCaptor stateCaptor1 = spy(new StateCaptor());
+        StateCaptor stateCaptor2 = spy(new StateCaptor());
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withLifecycleListeners(List.of(stateCaptor1, stateCaptor2))
+            .build();
+
+        applicationServer.startInternal(new ApplicationProcessFactory(applicationServer));
+
+        InOrder order = inOrder(stateCaptor1, stateCaptor2);
+        order.verify(stateCaptor1).captureStarting(applicationServer);
+        order.verify(stateCaptor2).captureStarting(applicationServer);
+        order.verify(stateCaptor1).captureStarted(applicationServer);
+        order.verify(stateCaptor2).captureStarted(applicationServer);
+        order.verifyNoMoreInteractions();
+    }
+
+    @Test
+    void startWithConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"port\": %s}", CUSTOM_PORT))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(getCurrentServerConfiguration().getPort()).isEqualTo(CUSTOM_PORT);
+    }
+
+    @Test
+    void startWithVirtualThreadsConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_VIRTUAL_THREADS))
+            .build();
+
+        applicationServer.start();
+
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasVirtualThreadsEnabled(true);
+    }
+
+    @Test
+    void startWithHttp2ConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_HTTP2))
+            .build();
+
+        applicationServer.start();
+
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasHttp2Enabled(true);
+    }
+
+    @Test
+    void startWithResourceCacheSizeConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": 0}", CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_SIZE))
+            .build();
+
+        applicationServer.start();
+
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasResourceCacheSize(0);
+    }
+
+    @Test
+    void startWithResourcePrecompressionConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_PRECOMPRESS_RESOURCES))
+            .build();
+
+        applicationServer.start();
+
+        ServerConfigurationAssert.assertThat(getCurrentServerConfiguration()).hasResourcePrecompressionEnabled(true);
+    }
+
+    @Test
+    void startWithResponseCompressionConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true, \"%s\": 2048, \"%s\": 0, \"%s\": [\"%s\"]}",
+                CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION,
+                CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_MINIMUM_SIZE,
+                CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_LEVEL,
+                CONFIGURATION_ATTRIBUTE_RESPONSE_COMPRESSION_ENTRYPOINTS,
+                ENTRY_POINT_PATH_2))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(getCurrentServerConfiguration().getFilterDefinitions())
+            .hasSize(1)
+            .allSatisfy(definition -> assertThat(definition.getUrlPatterns()).containsExactly(ENTRY_POINT_PATH_2 + "/*"));
+        assertThat(applicationServer.responseCompressionMinimumSize).isEqualTo(2048);
+        assertThat(applicationServer.responseCompressionLevel).isEqualTo(BEST_SPEED);
+    }
+
+    @Test
+    void startWithResourceMaxAgeConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": 86400}", CONFIGURATION_ATTRIBUTE_RESOURCE_MAX_AGE))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.resourceMaxAge).isEqualTo(86400);
+    }
+
+    @Test
+    void startWithDrainTimeoutConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": 60}", CONFIGURATION_ATTRIBUTE_DRAIN_TIMEOUT))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.drainTimeout).isEqualTo(60);
+    }
+
+    @Test
+    void startWithConcurrentStartupConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_CONCURRENT_STARTUP))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.concurrentStartup).isTrue();
+    }
+
+    @Test
+    void startWithConcurrentLifecycleNotificationConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_CONCURRENT_LIFECYCLE_NOTIFICATION))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.concurrentLifecycleNotification).isTrue();
+    }
+
+    @Test
+    void startWithShutdownTimeoutConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": 60}", CONFIGURATION_ATTRIBUTE_SHUTDOWN_TIMEOUT))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.shutdownTimeout).isEqualTo(60);
+    }
+
+    @Test
+    void startWithBackgroundWorkingDirectoryDeletionConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_BACKGROUND_WORKING_DIRECTORY_DELETION))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.backgroundWorkingDirectoryDeletion).isTrue();
+    }
+
+    @Test
+    void startWithMemoryBackedWorkingDirectoryConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_MEMORY_BACKED_WORKING_DIRECTORY))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.memoryBackedWorkingDirectory).isTrue();
+    }
+
+    @Test
+    void startWithResourceCacheDirectoryConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": \"%s\"}", CONFIGURATION_ATTRIBUTE_RESOURCE_CACHE_DIRECTORY, tempDir.getAbsolutePath().replace("\\", "\\\\")))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.resourceCacheDirectory).isEqualTo(tempDir);
+    }
+
+    @Test
+    void startWithWarmUpRequestsConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": 3}", CONFIGURATION_ATTRIBUTE_WARM_UP_REQUESTS))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.warmUpRequests).isEqualTo(3);
+    }
+
+    @Test
+    void startWithHealthEndpointsConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_HEALTH_ENDPOINTS))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.healthEndpoints).isTrue();
+    }
+
+    @Test
+    void startWithAdminListenerConfigurationWithJsonString() {
+        int adminPort = findFreePort();
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format(
+                "{\"%s\": %s, \"%s\": \"%s\"}",
+                CONFIGURATION_ATTRIBUTE_ADMIN_PORT,
+                adminPort,
+                CONFIGURATION_ATTRIBUTE_ADMIN_HOST,
+                DEFAULT_HOST
+            ))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.adminPort).isEqualTo(adminPort);
+        assertThat(applicationServer.adminHost).isEqualTo(DEFAULT_HOST);
+    }
+
+    @Test
+    void startWithJmxConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_JMX))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.jmx).isTrue();
+    }
+
+    @Test
+    void startWithFlightRecorderEventsConfigurationWithJsonString() {
+        applicationServer = newApplicationServerBuilder(MULTI_ENTRYPOINT_APPLICATION_CONFIGURATION)
+            .withConfiguration(format("{\"%s\": true}", CONFIGURATION_ATTRIBUTE_FLIGHT_RECORDER_EVENTS))
+            .build();
+
+        applicationServer.start();
+
+        assertThat(applicationServer.flightRecorderEvents).isTrue();
     }
 
     @Test
@@ -462,7 +1365,7 @@ class ApplicationServerTest {
         assertThat(stateCaptor.getHalted()).isSameAs(HALTED);
         assertThat(stateCaptor.getStarting()).isNull();
         assertThat(stateCaptor.getStarted()).isNull();
-        assertThat(stateCaptor.getStopping()).isSameAs(HALTED);
+        assertThat(stateCaptor.getStopping()).isSameAs(STOPPING);
     }
 
     @Test
@@ -11,11 +11,13 @@ import com.codeaffine.tiny.star.spi.Server;
 import com.codeaffine.tiny.star.spi.ServerConfiguration;
 import com.codeaffine.tiny.star.spi.ServerFactory;
 import lombok.Getter;
+import lombok.Setter;
 import org.junit.jupiter.api.extension.ExtensionContext;
 import org.junit.jupiter.api.extension.InvocationInterceptor;
 import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
 
 import java.lang.reflect.Method;
+import java.time.Duration;
 import java.util.concurrent.atomic.AtomicReference;
 
 @Getter
@@ -27,6 +29,8 @@ public class ApplicationServerTestContext implements ServerFactory, Server, Invo
     private ServerConfiguration configuration;
     private boolean started;
     private boolean stopped;
+    @Setter
+    private Runnable drainOperation = () -> {};
 
     public ApplicationServerTestContext() {
         CURRENT_SERVER.set(this);
@@ -42,6 +46,12 @@ public class ApplicationServerTestContext implements ServerFactory, Server, Invo
         stopped = true;
     }
 
+    @Override
+    public int drain(Duration timeout) {
+        drainOperation.run();
+        return 0;
+    }
+
     @Override
     public String getName() {
         return TEST_SERVER;
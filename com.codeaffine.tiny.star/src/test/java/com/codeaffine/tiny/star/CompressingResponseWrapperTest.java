@@ -0,0 +1,132 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.codeaffine.tiny.star.CompressingResponseWrapper.HEADER_CONTENT_LENGTH;
+import static com.codeaffine.tiny.star.ResponseCompressionFilterTest.decompress;
+import static com.codeaffine.tiny.star.ResponseCompressionFilterTest.stubResponse;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CompressingResponseWrapperTest {
+
+    private static final int MINIMUM_SIZE = 8;
+    private static final String CONTENT = "compressible content";
+
+    private ByteArrayOutputStream responseBody;
+    private HttpServletResponse response;
+    private CompressingResponseWrapper wrapper;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        responseBody = new ByteArrayOutputStream();
+        response = stubResponse(responseBody);
+        wrapper = new CompressingResponseWrapper(response, MINIMUM_SIZE, BEST_SPEED);
+    }
+
+    @Test
+    void getWriter() throws IOException {
+        wrapper.getWriter().write(CONTENT);
+
+        wrapper.finishResponse();
+
+        assertThat(decompress(responseBody.toByteArray())).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void getWriterMoreThanOnce() {
+        assertThat(wrapper.getWriter()).isSameAs(wrapper.getWriter());
+    }
+
+    @Test
+    void getOutputStream() throws IOException {
+        wrapper.getOutputStream().write(CONTENT.getBytes(UTF_8));
+
+        wrapper.finishResponse();
+
+        assertThat(decompress(responseBody.toByteArray())).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void getWriterAfterGetOutputStream() {
+        wrapper.getOutputStream();
+
+        assertThatThrownBy(() -> wrapper.getWriter())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void getOutputStreamAfterGetWriter() {
+        wrapper.getWriter();
+
+        assertThatThrownBy(() -> wrapper.getOutputStream())
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void setContentLength() {
+        wrapper.setContentLength(1);
+        wrapper.setContentLengthLong(1L);
+        wrapper.setHeader(HEADER_CONTENT_LENGTH, "1");
+        wrapper.addHeader(HEADER_CONTENT_LENGTH.toLowerCase(), "1");
+        wrapper.setIntHeader(HEADER_CONTENT_LENGTH, 1);
+        wrapper.addIntHeader(HEADER_CONTENT_LENGTH, 1);
+
+        verify(response, never()).setContentLength(anyInt());
+        verify(response, never()).setContentLengthLong(anyLong());
+        verify(response, never()).setHeader(anyString(), anyString());
+        verify(response, never()).addHeader(anyString(), anyString());
+        verify(response, never()).setIntHeader(anyString(), anyInt());
+        verify(response, never()).addIntHeader(anyString(), anyInt());
+    }
+
+    @Test
+    void setHeader() {
+        wrapper.setHeader("name", "value");
+
+        verify(response).setHeader("name", "value");
+    }
+
+    @Test
+    void flushBufferBeforeMinimumSizeIsReached() throws IOException {
+        wrapper.getOutputStream().write('1');
+
+        wrapper.flushBuffer();
+
+        verify(response, never()).flushBuffer();
+    }
+
+    @Test
+    void flushBufferAfterMinimumSizeIsReached() throws IOException {
+        wrapper.getOutputStream().write(CONTENT.getBytes(UTF_8));
+
+        wrapper.flushBuffer();
+
+        verify(response).flushBuffer();
+    }
+
+    @Test
+    void finishResponseWithoutContent() throws IOException {
+        wrapper.finishResponse();
+
+        verify(response, never()).getOutputStream();
+    }
+}
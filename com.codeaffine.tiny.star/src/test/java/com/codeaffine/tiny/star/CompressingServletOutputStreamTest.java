@@ -0,0 +1,190 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import static com.codeaffine.tiny.star.CompressingServletOutputStream.GZIP;
+import static com.codeaffine.tiny.star.CompressingServletOutputStream.HEADER_CONTENT_ENCODING;
+import static com.codeaffine.tiny.star.ResponseCompressionFilterTest.decompress;
+import static com.codeaffine.tiny.star.ResponseCompressionFilterTest.stubResponse;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+class CompressingServletOutputStreamTest {
+
+    private static final int MINIMUM_SIZE = 8;
+    private static final byte[] SMALL_CONTENT = "1234".getBytes(UTF_8);
+    private static final byte[] LARGE_CONTENT = "1234567890".getBytes(UTF_8);
+
+    private ByteArrayOutputStream responseBody;
+    private HttpServletResponse response;
+    private CompressingServletOutputStream stream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        responseBody = new ByteArrayOutputStream();
+        response = stubResponse(responseBody);
+        stream = new CompressingServletOutputStream(response, MINIMUM_SIZE, BEST_SPEED);
+    }
+
+    @Test
+    void writeBelowMinimumSize() throws IOException {
+        stream.write(SMALL_CONTENT);
+        stream.flush();
+
+        assertThat(stream.isCompressing()).isFalse();
+        assertThat(responseBody.size()).isZero();
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    void writeExceedingMinimumSize() throws IOException {
+        stream.write(SMALL_CONTENT);
+        stream.write(SMALL_CONTENT);
+        stream.write('!');
+        stream.close();
+
+        assertThat(stream.isCompressing()).isTrue();
+        assertThat(decompress(responseBody.toByteArray())).isEqualTo("12341234!");
+        verify(response).setHeader(HEADER_CONTENT_ENCODING, GZIP);
+    }
+
+    @Test
+    void flushWhileCompressing() throws IOException {
+        stream.write(LARGE_CONTENT);
+
+        stream.flush();
+
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(responseBody.toByteArray()))) {
+            assertThat(in.readNBytes(LARGE_CONTENT.length)).isEqualTo(LARGE_CONTENT);
+        }
+    }
+
+    @Test
+    void writeExceedingMinimumSizeIfContentEncodingIsAlreadySet() throws IOException {
+        when(response.containsHeader(HEADER_CONTENT_ENCODING)).thenReturn(true);
+
+        stream.write(LARGE_CONTENT);
+        stream.close();
+
+        assertThat(responseBody.toByteArray()).isEqualTo(LARGE_CONTENT);
+        verify(response, never()).setHeader(eq(HEADER_CONTENT_ENCODING), anyString());
+    }
+
+    @Test
+    void close() throws IOException {
+        stream.write(SMALL_CONTENT);
+
+        stream.close();
+
+        assertThat(responseBody.toByteArray()).isEqualTo(SMALL_CONTENT);
+        verify(response).setContentLength(SMALL_CONTENT.length);
+    }
+
+    @Test
+    void closeWithCommittedResponse() throws IOException {
+        when(response.isCommitted()).thenReturn(true);
+        stream.write(SMALL_CONTENT);
+
+        stream.close();
+
+        assertThat(responseBody.toByteArray()).isEqualTo(SMALL_CONTENT);
+        verify(response, never()).setContentLength(anyInt());
+    }
+
+    @Test
+    void closeMoreThanOnce() throws IOException {
+        stream.write(SMALL_CONTENT);
+
+        stream.close();
+        stream.close();
+
+        assertThat(responseBody.toByteArray()).isEqualTo(SMALL_CONTENT);
+    }
+
+    @Test
+    void writeAfterClose() throws IOException {
+        stream.close();
+
+        assertThatThrownBy(() -> stream.write(SMALL_CONTENT))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void resetBuffer() throws IOException {
+        stream.write(SMALL_CONTENT);
+
+        stream.resetBuffer();
+        stream.close();
+
+        assertThat(responseBody.size()).isZero();
+    }
+
+    @Test
+    void isReady() throws IOException {
+        boolean actual = stream.isReady();
+
+        assertThat(actual).isTrue();
+        verify(response, never()).getOutputStream();
+    }
+
+    @Test
+    void setWriteListener() throws IOException {
+        ServletOutputStream responseStream = stubResponseStream();
+        WriteListener writeListener = mock(WriteListener.class);
+
+        stream.setWriteListener(writeListener);
+
+        verify(responseStream).setWriteListener(writeListener);
+    }
+
+    @Test
+    void isReadyWithWriteListener() throws IOException {
+        ServletOutputStream responseStream = stubResponseStream();
+        when(responseStream.isReady()).thenReturn(false);
+        stream.setWriteListener(mock(WriteListener.class));
+
+        boolean actual = stream.isReady();
+
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void setWriteListenerWithNullAsWriteListenerArgument() {
+        assertThatThrownBy(() -> stream.setWriteListener(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsResponseArgument() {
+        assertThatThrownBy(() -> new CompressingServletOutputStream(null, MINIMUM_SIZE, BEST_SPEED))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private ServletOutputStream stubResponseStream() throws IOException {
+        ServletOutputStream result = mock(ServletOutputStream.class);
+        when(response.getOutputStream()).thenReturn(result);
+        return result;
+    }
+}
@@ -0,0 +1,73 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+
+import static com.codeaffine.tiny.star.ResponseCompressionFilterTest.decompress;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class CompressionLevelGzipOutputStreamTest {
+
+    private static final String CONTENT = "content";
+
+    private ByteArrayOutputStream target;
+    private CompressionLevelGzipOutputStream stream;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        target = spy(new ByteArrayOutputStream());
+        stream = new CompressionLevelGzipOutputStream(target, BEST_SPEED);
+    }
+
+    @Test
+    void close() throws IOException {
+        stream.write(CONTENT.getBytes(UTF_8));
+
+        stream.close();
+
+        assertThat(decompress(target.toByteArray())).isEqualTo(CONTENT);
+        verify(target, never()).close();
+    }
+
+    @Test
+    void closeMoreThanOnce() throws IOException {
+        stream.write(CONTENT.getBytes(UTF_8));
+
+        stream.close();
+        stream.close();
+
+        assertThat(decompress(target.toByteArray())).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void writeAfterClose() throws IOException {
+        stream.close();
+
+        assertThatThrownBy(() -> stream.write(CONTENT.getBytes(UTF_8)))
+            .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void flush() throws IOException {
+        stream.write(CONTENT.getBytes(UTF_8));
+        int sizeBeforeFlush = target.size();
+
+        stream.flush();
+
+        assertThat(target.size()).isGreaterThan(sizeBeforeFlush);
+    }
+}
@@ -0,0 +1,193 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.ApplicationProcessFactory.ProcessComponents;
+import com.codeaffine.tiny.star.spi.LoggingFrameworkControl;
+import com.codeaffine.tiny.star.spi.Server;
+import com.codeaffine.tiny.star.spi.ServerFactory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.InOrder;
+
+import java.io.File;
+
+import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static java.lang.System.getProperty;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class ConcurrentStartupTest {
+
+    @TempDir
+    private File tempDir;
+    private WorkingDirectoryPreparer workingDirectoryPreparer;
+    private LoggingFrameworkConfigurator loggingFrameworkConfigurator;
+    private LoggingFrameworkControl loggingFrameworkControl;
+    private DelegatingServerFactory delegatingServerFactory;
+    private ServerFactory serverFactory;
+    private ApplicationServer applicationServer;
+    private File workingDirectory;
+    private Server server;
+
+    @BeforeEach
+    void setUp() {
+        applicationServer = newApplicationServerBuilder(application -> {}).build();
+        workingDirectory = new File(tempDir, "workingDirectory");
+        workingDirectoryPreparer = mock(WorkingDirectoryPreparer.class);
+        when(workingDirectoryPreparer.prepareWorkingDirectory()).thenAnswer(invocation -> prepareWorkingDirectory());
+        loggingFrameworkControl = mock(LoggingFrameworkControl.class);
+        loggingFrameworkConfigurator = mock(LoggingFrameworkConfigurator.class);
+        when(loggingFrameworkConfigurator.configureLoggingFramework()).thenReturn(loggingFrameworkControl);
+        server = mock(Server.class);
+        serverFactory = mock(ServerFactory.class);
+        delegatingServerFactory = mock(DelegatingServerFactory.class);
+        when(delegatingServerFactory.lookupServerFactory()).thenReturn(serverFactory);
+        when(delegatingServerFactory.create(serverFactory, workingDirectory)).thenReturn(server);
+    }
+
+    @AfterEach
+    void tearDown() {
+        System.getProperties().remove(applicationServer.getWorkingDirectorSystemProperty());
+    }
+
+    @Test
+    void createProcessComponents() {
+        ConcurrentStartup concurrentStartup = newConcurrentStartup();
+
+        ProcessComponents actual = concurrentStartup.createProcessComponents();
+
+        assertThat(actual).isEqualTo(new ProcessComponents(workingDirectory, loggingFrameworkControl, server));
+        InOrder order = inOrder(workingDirectoryPreparer, loggingFrameworkConfigurator);
+        order.verify(workingDirectoryPreparer).prepareWorkingDirectory();
+        order.verify(loggingFrameworkConfigurator).configureLoggingFramework();
+    }
+
+    @Test
+    void createProcessComponentsIfServerFactoryLookupFails() {
+        IllegalStateException expected = new IllegalStateException();
+        when(delegatingServerFactory.lookupServerFactory()).thenThrow(expected);
+        ConcurrentStartup concurrentStartup = newConcurrentStartup();
+
+        Exception actual = catchException(concurrentStartup::createProcessComponents);
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(workingDirectory).doesNotExist();
+        assertThat(getProperty(applicationServer.getWorkingDirectorSystemProperty())).isNull();
+    }
+
+    @Test
+    void createProcessComponentsIfLoggingFrameworkConfigurationFails() {
+        IllegalArgumentException expected = new IllegalArgumentException();
+        when(loggingFrameworkConfigurator.configureLoggingFramework()).thenThrow(expected);
+        ConcurrentStartup concurrentStartup = newConcurrentStartup();
+
+        Exception actual = catchException(concurrentStartup::createProcessComponents);
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(workingDirectory).doesNotExist();
+        verify(server).stop();
+    }
+
+    @Test
+    void createProcessComponentsIfLoggingFrameworkConfigurationAndServerStopFail() {
+        IllegalArgumentException expected = new IllegalArgumentException();
+        IllegalStateException stopProblem = new IllegalStateException();
+        when(loggingFrameworkConfigurator.configureLoggingFramework()).thenThrow(expected);
+        doThrow(stopProblem).when(server).stop();
+        ConcurrentStartup concurrentStartup = newConcurrentStartup();
+
+        Exception actual = catchException(concurrentStartup::createProcessComponents);
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(actual.getSuppressed()).containsExactly(stopProblem);
+        assertThat(workingDirectory).doesNotExist();
+    }
+
+    @Test
+    void createProcessComponentsIfWorkingDirectoryPreparationFails() {
+        IllegalArgumentException expected = new IllegalArgumentException();
+        when(workingDirectoryPreparer.prepareWorkingDirectory()).thenThrow(expected);
+        ConcurrentStartup concurrentStartup = newConcurrentStartup();
+
+        Exception actual = catchException(concurrentStartup::createProcessComponents);
+
+        assertThat(actual).isSameAs(expected);
+        verify(delegatingServerFactory, never()).create(any(ServerFactory.class), any(File.class));
+        verifyNoInteractions(loggingFrameworkConfigurator);
+    }
+
+    @Test
+    void createProcessComponentsIfServerCreationFailsWithGivenWorkingDirectory() {
+        applicationServer = newApplicationServerBuilder(application -> {})
+            .withWorkingDirectory(tempDir)
+            .build();
+        workingDirectory = tempDir;
+        IllegalStateException expected = new IllegalStateException();
+        when(delegatingServerFactory.create(serverFactory, workingDirectory)).thenThrow(expected);
+        ConcurrentStartup concurrentStartup = newConcurrentStartup();
+
+        Exception actual = catchException(concurrentStartup::createProcessComponents);
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(workingDirectory).exists();
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new ConcurrentStartup(null, workingDirectoryPreparer, loggingFrameworkConfigurator, delegatingServerFactory))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsWorkingDirectoryPreparerArgument() {
+        assertThatThrownBy(() -> new ConcurrentStartup(applicationServer, null, loggingFrameworkConfigurator, delegatingServerFactory))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsLoggingFrameworkConfiguratorArgument() {
+        assertThatThrownBy(() -> new ConcurrentStartup(applicationServer, workingDirectoryPreparer, null, delegatingServerFactory))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsDelegatingServerFactoryArgument() {
+        assertThatThrownBy(() -> new ConcurrentStartup(applicationServer, workingDirectoryPreparer, loggingFrameworkConfigurator, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+    @Test
+    void createProcessComponentsIfServerCreationFailsWithResourceCache() {
+        applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(tempDir)
+            .build();
+        IllegalStateException expected = new IllegalStateException();
+        when(delegatingServerFactory.create(serverFactory, workingDirectory)).thenThrow(expected);
+        ConcurrentStartup concurrentStartup = newConcurrentStartup();
+
+        Exception actual = catchException(concurrentStartup::createProcessComponents);
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(workingDirectory).exists();
+        assertThat(getProperty(applicationServer.getWorkingDirectorSystemProperty())).isNull();
+    }
+
+    private ConcurrentStartup newConcurrentStartup() {
+        return new ConcurrentStartup(applicationServer, workingDirectoryPreparer, loggingFrameworkConfigurator, delegatingServerFactory);
+    }
+
+    private File prepareWorkingDirectory() {
+        if (!workingDirectory.exists() && !workingDirectory.mkdirs()) {
+            throw new IllegalStateException("Unable to create working directory " + workingDirectory);
+        }
+        System.setProperty(applicationServer.getWorkingDirectorSystemProperty(), workingDirectory.getAbsolutePath());
+        return workingDirectory;
+    }
+}
@@ -0,0 +1,75 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.shared.ServiceLoaderAdapter;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import com.codeaffine.tiny.star.spi.MetricsCollectorFactory;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.codeaffine.tiny.shared.test.test.fixtures.ServiceLoaderAdapterTestHelper.stubServiceLoaderAdapter;
+import static com.codeaffine.tiny.star.spi.MetricsCollector.LIFECYCLE_PHASE_START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class DelegatingMetricsCollectorFactoryTest {
+
+    private static final String APPLICATION_IDENTIFIER = "application-identifier";
+
+    @Test
+    void create() {
+        MetricsCollector collector1 = mock(MetricsCollector.class);
+        MetricsCollector collector2 = mock(MetricsCollector.class);
+        MetricsCollectorFactory factory1 = stubMetricsCollectorFactory(collector1);
+        MetricsCollectorFactory factory2 = stubMetricsCollectorFactory(collector2);
+        ServiceLoaderAdapter<MetricsCollectorFactory> serviceLoaderAdapter = stubServiceLoaderAdapter(factory1, factory2);
+        DelegatingMetricsCollectorFactory factory = new DelegatingMetricsCollectorFactory(serviceLoaderAdapter);
+
+        DelegatingMetricsCollector actual = factory.create(APPLICATION_IDENTIFIER);
+        actual.lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, Duration.ZERO);
+
+        assertThat(actual.isEmpty()).isFalse();
+        verify(factory1).create(APPLICATION_IDENTIFIER);
+        verify(factory2).create(APPLICATION_IDENTIFIER);
+        verify(collector1).lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, Duration.ZERO);
+        verify(collector2).lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, Duration.ZERO);
+    }
+
+    @Test
+    void createIfNoFactoryIsAvailableOnClasspath() {
+        ServiceLoaderAdapter<MetricsCollectorFactory> serviceLoaderAdapter = stubServiceLoaderAdapter();
+        DelegatingMetricsCollectorFactory factory = new DelegatingMetricsCollectorFactory(serviceLoaderAdapter);
+
+        DelegatingMetricsCollector actual = factory.create(APPLICATION_IDENTIFIER);
+
+        assertThat(actual.isEmpty()).isTrue();
+    }
+
+    @Test
+    void createWithNullAsApplicationIdentifierArgument() {
+        DelegatingMetricsCollectorFactory factory = new DelegatingMetricsCollectorFactory(stubServiceLoaderAdapter());
+
+        assertThatThrownBy(() -> factory.create(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsServiceLoaderAdapterArgument() {
+        assertThatThrownBy(() -> new DelegatingMetricsCollectorFactory(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private static MetricsCollectorFactory stubMetricsCollectorFactory(MetricsCollector metricsCollector) {
+        MetricsCollectorFactory result = mock(MetricsCollectorFactory.class);
+        when(result.create(APPLICATION_IDENTIFIER)).thenReturn(metricsCollector);
+        return result;
+    }
+}
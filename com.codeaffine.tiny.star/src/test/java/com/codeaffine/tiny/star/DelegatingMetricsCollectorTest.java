@@ -0,0 +1,104 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import com.codeaffine.tiny.star.spi.MetricsCollector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.codeaffine.tiny.star.spi.MetricsCollector.LIFECYCLE_PHASE_STOP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class DelegatingMetricsCollectorTest {
+
+    private static final Duration DURATION = Duration.ofMillis(42L);
+
+    private DelegatingMetricsCollector delegatingCollector;
+    private MetricsCollector collector1;
+    private MetricsCollector collector2;
+
+    @BeforeEach
+    void setUp() {
+        collector1 = mock(MetricsCollector.class);
+        collector2 = mock(MetricsCollector.class);
+        delegatingCollector = new DelegatingMetricsCollector(List.of(collector1, collector2));
+    }
+
+    @Test
+    void requestCompleted() {
+        delegatingCollector.requestCompleted("/ui", 200, DURATION);
+
+        verify(collector1).requestCompleted("/ui", 200, DURATION);
+        verify(collector2).requestCompleted("/ui", 200, DURATION);
+    }
+
+    @Test
+    void lifecyclePhaseCompleted() {
+        delegatingCollector.lifecyclePhaseCompleted(LIFECYCLE_PHASE_STOP, DURATION);
+
+        verify(collector1).lifecyclePhaseCompleted(LIFECYCLE_PHASE_STOP, DURATION);
+        verify(collector2).lifecyclePhaseCompleted(LIFECYCLE_PHASE_STOP, DURATION);
+    }
+
+    @Test
+    void bindContainerStatistics() {
+        Supplier<ContainerStatistics> containerStatistics = () -> null;
+
+        delegatingCollector.bindContainerStatistics(containerStatistics);
+
+        verify(collector1).bindContainerStatistics(containerStatistics);
+        verify(collector2).bindContainerStatistics(containerStatistics);
+    }
+
+    @Test
+    void unbindContainerStatistics() {
+        delegatingCollector.unbindContainerStatistics();
+
+        verify(collector1).unbindContainerStatistics();
+        verify(collector2).unbindContainerStatistics();
+    }
+
+    @Test
+    void isEmpty() {
+        assertThat(delegatingCollector.isEmpty()).isFalse();
+        assertThat(new DelegatingMetricsCollector(List.of()).isEmpty()).isTrue();
+    }
+
+    @Test
+    void with() {
+        MetricsCollector collector3 = mock(MetricsCollector.class);
+
+        DelegatingMetricsCollector actual = delegatingCollector.with(collector3);
+        actual.requestCompleted("/ui", 200, DURATION);
+
+        verify(collector1).requestCompleted("/ui", 200, DURATION);
+        verify(collector2).requestCompleted("/ui", 200, DURATION);
+        verify(collector3).requestCompleted("/ui", 200, DURATION);
+        assertThat(actual).isNotSameAs(delegatingCollector);
+    }
+
+    @Test
+    void withNullAsCollectorArgument() {
+        assertThatThrownBy(() -> delegatingCollector.with(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsCollectorsArgument() {
+        assertThatThrownBy(() -> new DelegatingMetricsCollector(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
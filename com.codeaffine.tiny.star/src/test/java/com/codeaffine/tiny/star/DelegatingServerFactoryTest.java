@@ -21,9 +21,10 @@ import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBui
 import static com.codeaffine.tiny.star.ApplicationServerTestContext.CURRENT_SERVER;
 import static com.codeaffine.tiny.shared.test.test.fixtures.ServiceLoaderAdapterTestHelper.stubServiceLoaderAdapter;
 import static com.codeaffine.tiny.star.ApplicationServerTestContext.getCurrentServerConfiguration;
-import static com.codeaffine.tiny.star.EntrypointPathCaptor.captureEntrypointPaths;
+import static com.codeaffine.tiny.star.ApplicationModelCaptor.captureApplicationModel;
 import static com.codeaffine.tiny.star.Texts.ERROR_NO_SERVER_FACTORY_FOUND;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.mock;
 
 @ExtendWith(ApplicationServerTestContext.class)
 class DelegatingServerFactoryTest {
@@ -49,7 +50,42 @@ class DelegatingServerFactoryTest {
         assertThat(getCurrentServerConfiguration().getPort()).isEqualTo(PORT);
         assertThat(getCurrentServerConfiguration().getHost()).isEqualTo(HOST);
         assertThat(getCurrentServerConfiguration().getWorkingDirectory()).isEqualTo(workingDirectory);
-        assertThat(getCurrentServerConfiguration().getEntryPointPaths()).isEqualTo(captureEntrypointPaths(APPLICATION_CONFIGURATION));
+        assertThat(getCurrentServerConfiguration().getEntryPointPaths()).isEqualTo(captureApplicationModel(APPLICATION_CONFIGURATION).entryPointPaths());
+    }
+
+    @Test
+    void createWithServerFactory() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(APPLICATION_CONFIGURATION).build();
+        Server server = mock(Server.class);
+        ServerFactory serverFactory = configuration -> server;
+        DelegatingServerFactory factory = new DelegatingServerFactory(applicationServer, stubServiceLoaderAdapter());
+
+        Server actual = factory.create(serverFactory, workingDirectory);
+
+        assertThat(actual).isSameAs(server);
+    }
+
+    @Test
+    void lookupServerFactory() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(APPLICATION_CONFIGURATION).build();
+        ServerFactory serverFactory = configuration -> null;
+        DelegatingServerFactory factory = new DelegatingServerFactory(applicationServer, stubServiceLoaderAdapter(serverFactory));
+
+        ServerFactory actual = factory.lookupServerFactory();
+
+        assertThat(actual).isSameAs(serverFactory);
+    }
+
+    @Test
+    void lookupServerFactoryIfNoServerFactoryIsRegisteredOnClasspath() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(APPLICATION_CONFIGURATION).build();
+        DelegatingServerFactory factory = new DelegatingServerFactory(applicationServer, stubServiceLoaderAdapter());
+
+        Exception actual = catchException(factory::lookupServerFactory);
+
+        assertThat(actual)
+            .isInstanceOf(IllegalStateException.class)
+            .hasMessage(ERROR_NO_SERVER_FACTORY_FOUND);
     }
 
     @Test
@@ -0,0 +1,150 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.FilterDefinition;
+import jakarta.servlet.Filter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.FilterConfig;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.List;
+
+import static com.codeaffine.tiny.star.FlightRecordingTestHelper.record;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class FilterEventFilterTest {
+
+    private static final String FILTER_NAME = "filterName";
+    private static final String REQUEST_URI = "/ui";
+    private static final String URL_PATTERN = "/ui/*";
+    private static final Duration CHAIN_DELAY = Duration.ofMillis(20);
+
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private FilterChain chain;
+    private Filter delegate;
+    private FilterEventFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        request = mock(HttpServletRequest.class);
+        when(request.getRequestURI()).thenReturn(REQUEST_URI);
+        response = mock(HttpServletResponse.class);
+        chain = mock(FilterChain.class);
+        delegate = mock(Filter.class);
+        filter = new FilterEventFilter(FILTER_NAME, delegate);
+    }
+
+    @Test
+    void doFilter() throws Exception {
+        List<RecordedEvent> actual = record(FilterEvent.NAME, () -> filter.doFilter(request, response, chain));
+
+        verify(delegate).doFilter(eq(request), eq(response), any(FilterChain.class));
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getString("filterName")).isEqualTo(FILTER_NAME);
+        assertThat(actual.get(0).getString("requestUri")).isEqualTo(REQUEST_URI);
+        assertThat(actual.get(0).getDuration()).isNotNegative();
+    }
+
+    @Test
+    void doFilterExcludesRemainderOfChainFromFilterDuration() throws Exception {
+        doAnswer(invocation -> {
+            invocation.getArgument(2, FilterChain.class).doFilter(request, response);
+            return null;
+        }).when(delegate).doFilter(eq(request), eq(response), any(FilterChain.class));
+        doAnswer(invocation -> {
+            Thread.sleep(CHAIN_DELAY.toMillis());
+            return null;
+        }).when(chain).doFilter(request, response);
+
+        List<RecordedEvent> actual = record(FilterEvent.NAME, () -> filter.doFilter(request, response, chain));
+
+        verify(chain).doFilter(request, response);
+        assertThat(actual).hasSize(1);
+        Duration chainDuration = actual.get(0).getDuration("chainDuration");
+        Duration filterDuration = actual.get(0).getDuration("filterDuration");
+        assertThat(chainDuration).isGreaterThanOrEqualTo(CHAIN_DELAY);
+        assertThat(filterDuration).isNotNegative().isLessThan(CHAIN_DELAY);
+    }
+
+    @Test
+    void doFilterWithNonHttpRequest() throws Exception {
+        ServletRequest servletRequest = mock(ServletRequest.class);
+        ServletResponse servletResponse = mock(ServletResponse.class);
+
+        List<RecordedEvent> actual = record(FilterEvent.NAME, () -> filter.doFilter(servletRequest, servletResponse, chain));
+
+        verify(delegate).doFilter(eq(servletRequest), eq(servletResponse), any(FilterChain.class));
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getString("requestUri")).isNull();
+    }
+
+    @Test
+    void doFilterWithoutRecording() throws Exception {
+        filter.doFilter(request, response, chain);
+
+        verify(delegate).doFilter(request, response, chain);
+        verifyNoInteractions(request);
+    }
+
+    @Test
+    void init() throws Exception {
+        FilterConfig filterConfig = mock(FilterConfig.class);
+
+        filter.init(filterConfig);
+
+        verify(delegate).init(filterConfig);
+    }
+
+    @Test
+    void destroy() {
+        filter.destroy();
+
+        verify(delegate).destroy();
+    }
+
+    @Test
+    void decorate() {
+        FilterDefinition filterDefinition = FilterDefinition.of(FILTER_NAME, delegate, URL_PATTERN);
+
+        FilterDefinition actual = FilterEventFilter.decorate(filterDefinition);
+
+        assertThat(actual.getFilterName()).isEqualTo(FILTER_NAME);
+        assertThat(actual.getUrlPatterns()).containsExactly(URL_PATTERN);
+        assertThat(actual.getFilter()).isInstanceOf(FilterEventFilter.class);
+        assertThat(((FilterEventFilter) actual.getFilter()).getDelegate()).isSameAs(delegate);
+    }
+
+    @Test
+    void decorateWithNullAsFilterDefinitionArgument() {
+        assertThatThrownBy(() -> FilterEventFilter.decorate(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsFilterNameArgument() {
+        assertThatThrownBy(() -> new FilterEventFilter(null, delegate))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsDelegateArgument() {
+        assertThatThrownBy(() -> new FilterEventFilter(FILTER_NAME, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,53 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import lombok.NoArgsConstructor;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+
+import static java.nio.file.Files.createTempFile;
+import static java.nio.file.Files.deleteIfExists;
+import static lombok.AccessLevel.PRIVATE;
+
+@NoArgsConstructor(access = PRIVATE)
+class FlightRecordingTestHelper {
+
+    interface RecordedAction {
+        void run() throws Exception;
+    }
+
+    static List<RecordedEvent> record(String eventName, RecordedAction action) throws Exception {
+        Path recordingFile = createTempFile("tiny-star-", ".jfr");
+        try (Recording recording = new Recording()) {
+            recording.enable(eventName).withoutThreshold();
+            recording.start();
+            try {
+                action.run();
+            } finally {
+                recording.stop();
+            }
+            recording.dump(recordingFile);
+            return readEvents(eventName, recordingFile);
+        } finally {
+            deleteIfExists(recordingFile);
+        }
+    }
+
+    private static List<RecordedEvent> readEvents(String eventName, Path recordingFile) throws IOException {
+        return RecordingFile.readAllEvents(recordingFile)
+            .stream()
+            .filter(event -> eventName.equals(event.getEventType().getName()))
+            .toList();
+    }
+}
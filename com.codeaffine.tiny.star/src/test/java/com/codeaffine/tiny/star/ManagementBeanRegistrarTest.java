@@ -0,0 +1,178 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.Server;
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import javax.management.InstanceNotFoundException;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static com.codeaffine.tiny.star.ManagementBeanRegistrar.logger;
+import static com.codeaffine.tiny.star.Texts.WARN_REGISTERING_MANAGEMENT_BEAN;
+import static com.codeaffine.tiny.star.Texts.WARN_UNREGISTERING_MANAGEMENT_BEAN;
+import static javax.management.MBeanServerFactory.newMBeanServer;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@UseLoggerSpy(ManagementBeanRegistrar.class)
+class ManagementBeanRegistrarTest {
+
+    private static final String APPLICATION_IDENTIFIER = "application:identifier";
+
+    private ApplicationServer applicationServer;
+    private MBeanServer mBeanServer;
+    private Server server;
+
+    @BeforeEach
+    void setUp() {
+        applicationServer = newApplicationServerBuilder(application -> {}, APPLICATION_IDENTIFIER)
+            .enableJmx()
+            .build();
+        mBeanServer = newMBeanServer();
+        server = mock(Server.class);
+    }
+
+    @Test
+    void register() throws JMException {
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+
+        registrar.register(server);
+
+        ObjectName objectName = registrar.createObjectName();
+        assertThat(objectName.getKeyProperty("name")).isEqualTo(ObjectName.quote(APPLICATION_IDENTIFIER));
+        assertThat(mBeanServer.isRegistered(objectName)).isTrue();
+        assertThat(mBeanServer.getAttribute(objectName, "Identifier")).isEqualTo(APPLICATION_IDENTIFIER);
+    }
+
+    @Test
+    void registerIfJmxIsDisabled() throws JMException {
+        applicationServer = newApplicationServerBuilder(application -> {}, APPLICATION_IDENTIFIER).build();
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+
+        registrar.register(server);
+
+        assertThat(mBeanServer.isRegistered(registrar.createObjectName())).isFalse();
+    }
+
+    @Test
+    void registerTwice() {
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+        registrar.register(server);
+
+        registrar.register(server);
+
+        verify(logger).warn(eq(WARN_REGISTERING_MANAGEMENT_BEAN), eq(APPLICATION_IDENTIFIER), any(JMException.class));
+    }
+
+    @Test
+    void unregister() throws JMException {
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+        registrar.register(server);
+
+        registrar.unregister();
+
+        assertThat(mBeanServer.isRegistered(registrar.createObjectName())).isFalse();
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void unregisterBeanRegisteredByOtherRegistrar() throws JMException {
+        new ManagementBeanRegistrar(applicationServer, mBeanServer).register(server);
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+
+        registrar.unregister();
+
+        assertThat(mBeanServer.isRegistered(registrar.createObjectName())).isTrue();
+    }
+
+    @Test
+    void unregisterIfRegistrationFailed() throws JMException {
+        new ManagementBeanRegistrar(applicationServer, mBeanServer).register(server);
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+        registrar.register(server);
+
+        registrar.unregister();
+
+        assertThat(mBeanServer.isRegistered(registrar.createObjectName())).isTrue();
+    }
+
+    @Test
+    void unregisterTwice() throws JMException {
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+        registrar.register(server);
+        registrar.unregister();
+
+        registrar.unregister();
+
+        assertThat(mBeanServer.isRegistered(registrar.createObjectName())).isFalse();
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void unregisterIfNotRegistered() throws JMException {
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+
+        registrar.unregister();
+
+        assertThat(mBeanServer.isRegistered(registrar.createObjectName())).isFalse();
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void unregisterIfMBeanServerFails() throws JMException {
+        MBeanServer failingMBeanServer = mock(MBeanServer.class);
+        InstanceNotFoundException problem = new InstanceNotFoundException();
+        doThrow(problem).when(failingMBeanServer).unregisterMBean(any(ObjectName.class));
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, failingMBeanServer);
+        registrar.register(server);
+
+        registrar.unregister();
+
+        verify(logger).warn(WARN_UNREGISTERING_MANAGEMENT_BEAN, APPLICATION_IDENTIFIER, problem);
+    }
+
+    @Test
+    void unregisterIfJmxIsDisabled() {
+        applicationServer = newApplicationServerBuilder(application -> {}, APPLICATION_IDENTIFIER).build();
+        MBeanServer mBeanServerMock = mock(MBeanServer.class);
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServerMock);
+
+        registrar.unregister();
+
+        verifyNoInteractions(mBeanServerMock);
+    }
+
+    @Test
+    void registerWithNullAsServerArgument() {
+        ManagementBeanRegistrar registrar = new ManagementBeanRegistrar(applicationServer, mBeanServer);
+
+        assertThatThrownBy(() -> registrar.register(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new ManagementBeanRegistrar(null, mBeanServer))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsMBeanServerArgument() {
+        assertThatThrownBy(() -> new ManagementBeanRegistrar(applicationServer, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,150 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.MetricsRegistry.RequestMetrics;
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Map;
+
+import static com.codeaffine.tiny.star.spi.MetricsCollector.LIFECYCLE_PHASE_START;
+import static com.codeaffine.tiny.star.spi.MetricsCollector.LIFECYCLE_PHASE_STOP;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MetricsRegistryTest {
+
+    private static final String ENTRY_POINT_PATH = "/ui";
+    private static final Duration DURATION = Duration.ofMillis(42L);
+
+    private MetricsRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        registry = new MetricsRegistry();
+    }
+
+    @Test
+    void requestCompleted() {
+        registry.requestCompleted(ENTRY_POINT_PATH, 200, DURATION);
+        registry.requestCompleted(ENTRY_POINT_PATH, 204, DURATION);
+        registry.requestCompleted(ENTRY_POINT_PATH, 404, DURATION);
+        registry.requestCompleted(ENTRY_POINT_PATH, 503, DURATION);
+
+        Map<String, RequestMetrics> actual = registry.getRequestMetrics();
+
+        assertThat(actual).containsOnlyKeys(ENTRY_POINT_PATH);
+        RequestMetrics metrics = actual.get(ENTRY_POINT_PATH);
+        assertThat(metrics.getCount("1xx")).isZero();
+        assertThat(metrics.getCount("2xx")).isEqualTo(2L);
+        assertThat(metrics.getCount("3xx")).isZero();
+        assertThat(metrics.getCount("4xx")).isEqualTo(1L);
+        assertThat(metrics.getCount("5xx")).isEqualTo(1L);
+        assertThat(metrics.getLatencies().getCount()).isEqualTo(4L);
+        assertThat(metrics.getLatencies().getSum()).isEqualTo(4L * DURATION.toNanos());
+    }
+
+    @Test
+    void requestCompletedWithStatusCodeOutOfRange() {
+        registry.requestCompleted(ENTRY_POINT_PATH, 0, DURATION);
+        registry.requestCompleted(ENTRY_POINT_PATH, 600, DURATION);
+
+        RequestMetrics actual = registry.getRequestMetrics().get(ENTRY_POINT_PATH);
+
+        assertThat(actual.getCount("1xx")).isEqualTo(1L);
+        assertThat(actual.getCount("5xx")).isEqualTo(1L);
+    }
+
+    @Test
+    void getCountOfUnknownStatusClass() {
+        registry.requestCompleted(ENTRY_POINT_PATH, 200, DURATION);
+
+        long actual = registry.getRequestMetrics().get(ENTRY_POINT_PATH).getCount("unknown");
+
+        assertThat(actual).isZero();
+    }
+
+    @Test
+    void getRequestMetricsIsSortedByEntryPointPath() {
+        registry.requestCompleted("/b", 200, DURATION);
+        registry.requestCompleted("/a", 200, DURATION);
+
+        Map<String, RequestMetrics> actual = registry.getRequestMetrics();
+
+        assertThat(actual).containsOnlyKeys("/a", "/b");
+        assertThat(actual.keySet()).containsExactly("/a", "/b");
+    }
+
+    @Test
+    void lifecyclePhaseCompleted() {
+        registry.lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, DURATION);
+        registry.lifecyclePhaseCompleted(LIFECYCLE_PHASE_STOP, DURATION);
+        registry.lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, Duration.ofMillis(1L));
+
+        Map<String, Duration> actual = registry.getLifecyclePhaseDurations();
+
+        assertThat(actual)
+            .containsEntry(LIFECYCLE_PHASE_START, Duration.ofMillis(1L))
+            .containsEntry(LIFECYCLE_PHASE_STOP, DURATION)
+            .hasSize(2);
+    }
+
+    @Test
+    void bindContainerStatistics() {
+        ContainerStatistics expected = new ContainerStatistics(1L, 2L, 3L, 4L, 5L, 6L, 7L);
+
+        registry.bindContainerStatistics(() -> expected);
+        ContainerStatistics actual = registry.getContainerStatistics();
+
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    void unbindContainerStatistics() {
+        registry.bindContainerStatistics(() -> new ContainerStatistics(1L, 2L, 3L, 4L, 5L, 6L, 7L));
+
+        registry.unbindContainerStatistics();
+        ContainerStatistics actual = registry.getContainerStatistics();
+
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void getContainerStatisticsIfNotBound() {
+        ContainerStatistics actual = registry.getContainerStatistics();
+
+        assertThat(actual).isNull();
+    }
+
+    @Test
+    void requestCompletedWithNullAsEntryPointPathArgument() {
+        assertThatThrownBy(() -> registry.requestCompleted(null, 200, DURATION))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void requestCompletedWithNullAsDurationArgument() {
+        assertThatThrownBy(() -> registry.requestCompleted(ENTRY_POINT_PATH, 200, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void lifecyclePhaseCompletedWithNullAsPhaseArgument() {
+        assertThatThrownBy(() -> registry.lifecyclePhaseCompleted(null, DURATION))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void bindContainerStatisticsWithNullAsContainerStatisticsArgument() {
+        assertThatThrownBy(() -> registry.bindContainerStatistics(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -7,6 +7,7 @@
  */
 package com.codeaffine.tiny.star;
 
+import jdk.jfr.consumer.RecordedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -16,13 +17,24 @@ import org.mockito.InOrder;
 import java.lang.annotation.Annotation;
 import java.lang.annotation.Retention;
 import java.lang.annotation.Target;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
 import java.util.stream.Stream;
 
 import static com.codeaffine.tiny.shared.Reflections.extractExceptionToReport;
+import static com.codeaffine.tiny.star.FlightRecordingTestHelper.record;
+import static com.codeaffine.tiny.star.ObserverRegistry.NotificationMode.CONCURRENT;
 import static com.codeaffine.tiny.shared.Threads.sleepFor;
+import static java.lang.Thread.currentThread;
 import static java.lang.annotation.ElementType.METHOD;
 import static java.lang.annotation.RetentionPolicy.RUNTIME;
+import static java.util.concurrent.CompletableFuture.runAsync;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
@@ -57,6 +69,29 @@ class ObserverRegistryTest {
         }
     }
 
+    static class ThreadCapturingListener {
+
+        private final AtomicReference<Thread> threadCaptor = new AtomicReference<>();
+
+        @ObserverAnnotation
+        @SuppressWarnings("unused")
+        private String eventFired(Observed observed) {
+            threadCaptor.set(currentThread());
+            return observed.toString();
+        }
+    }
+
+    static class CompletionStageListener {
+
+        private final CompletableFuture<String> completion = new CompletableFuture<>();
+
+        @ObserverAnnotation
+        @SuppressWarnings("unused")
+        public CompletionStage<String> eventFired() {
+            return completion;
+        }
+    }
+
     static class Observed {
 
         private final ObserverRegistry<Observed> observerRegistry;
@@ -99,6 +134,69 @@ class ObserverRegistryTest {
         order.verifyNoMoreInteractions();
     }
 
+    @Test
+    void notifyObserversOnLifecycleExecutor() {
+        ThreadCapturingListener listener = new ThreadCapturingListener();
+        observed.registerObserver(listener);
+
+        observed.fireEvent();
+
+        assertThat(listener.threadCaptor.get()).isNotNull();
+        assertThat(listener.threadCaptor.get().isVirtual()).isTrue();
+        assertThat(listener.threadCaptor.get().getName()).startsWith(ObserverRegistry.LIFECYCLE_THREAD_NAME_PREFIX);
+    }
+
+    @Test
+    void notifyObserversIfListenerThrowsError() {
+        Error expected = new AssertionError();
+        doThrow(expected).when(parameterlessListener).eventFired();
+
+        Exception actual = catchException(() -> observed.fireEvent());
+
+        assertThat(actual)
+            .isInstanceOf(IllegalStateException.class)
+            .hasCause(expected);
+    }
+
+    @Test
+    void notifyObserversWhileRecordingStartupProfile() {
+        StartupProfiler startupProfiler = new StartupProfiler();
+        ObserverRegistry<Observed> observerRegistry
+            = new ObserverRegistry<>(observed, Observed.class, OBSERVER_NOTIFICATION_TIMEOUT, startupProfiler, ObserverAnnotation.class);
+        observerRegistry.registerObserver(parameterlessListener);
+        startupProfiler.startRecording();
+
+        observerRegistry.notifyObservers(ObserverAnnotation.class, exception -> {});
+        StartupProfile actual = startupProfiler.stopRecording();
+
+        String expectedPhaseName = StartupProfile.PHASE_OBSERVER_NOTIFICATION_PREFIX
+            + ObserverAnnotation.class.getSimpleName()
+            + ":"
+            + parameterlessListener.getClass().getName()
+            + "#eventFired";
+        assertThat(actual.getPhase(expectedPhaseName)).isPresent();
+        verify(parameterlessListener).eventFired();
+    }
+
+    @Test
+    void notifyObserversRecordsObserverNotificationEvents() throws Exception {
+        doThrow(new RuntimeException()).when(parameterlessListener).eventFired();
+
+        List<RecordedEvent> actual = record(ObserverNotificationEvent.NAME, () -> catchException(() -> observed.fireEvent()));
+
+        assertThat(actual).hasSize(2);
+        assertThat(actual)
+            .allSatisfy(event -> assertThat(event.getString("notification")).isEqualTo(ObserverAnnotation.class.getSimpleName()))
+            .allSatisfy(event -> assertThat(event.getString("method")).isEqualTo("eventFired"))
+            .allSatisfy(event -> assertThat(event.getDuration()).isNotNegative());
+        assertThat(actual)
+            .extracting(event -> event.getString("observer"), event -> event.getBoolean("successful"))
+            .containsExactlyInAnyOrder(
+                tuple(observedConsumingListener.getClass().getName(), true),
+                tuple(parameterlessListener.getClass().getName(), false)
+            );
+    }
+
     @Test
     void notifyObserversIfListenerThrowsException() {
         RuntimeException expected = new RuntimeException();
@@ -122,6 +220,101 @@ class ObserverRegistryTest {
             .hasMessageContaining("eventFired");
     }
 
+    @Test
+    void notifyObserversWithCompletionStageResult() {
+        CompletionStageListener listener = new CompletionStageListener();
+        observed.registerObserver(listener);
+        runAsync(() -> {
+            sleepFor(OBSERVER_NOTIFICATION_TIMEOUT / 4);
+            listener.completion.complete("done");
+        });
+
+        Exception actual = catchException(() -> observed.fireEvent());
+
+        assertThat(actual).isNull();
+        assertThat(listener.completion).isCompleted();
+    }
+
+    @Test
+    void notifyObserversWithExceptionallyCompletedCompletionStageResult() {
+        CompletionStageListener listener = new CompletionStageListener();
+        observed.registerObserver(listener);
+        RuntimeException expected = new RuntimeException();
+        listener.completion.completeExceptionally(expected);
+
+        Exception actual = catchException(() -> observed.fireEvent());
+
+        assertThat(actual).isSameAs(expected);
+    }
+
+    @Test
+    void notifyObserversWithCompletionStageResultThatExceedsTimeout() {
+        observed.registerObserver(new CompletionStageListener());
+
+        Exception actual = catchException(() -> observed.fireEvent());
+
+        assertThat(actual)
+            .isInstanceOf(IllegalStateException.class)
+            .hasCauseInstanceOf(TimeoutException.class)
+            .hasMessageContaining(CompletionStageListener.class.getName());
+    }
+
+    @Test
+    void notifyObserversConcurrently() {
+        ObserverRegistry<Observed> observerRegistry = newConcurrentObserverRegistry();
+        observerRegistry.registerObserver(observedConsumingListener);
+        observerRegistry.registerObserver(parameterlessListener);
+
+        observerRegistry.notifyObservers(ObserverAnnotation.class, exception -> fail("unexpected exception", exception));
+
+        verify(observedConsumingListener).eventFired(observed);
+        verify(parameterlessListener).eventFired();
+    }
+
+    @Test
+    void notifyObserversConcurrentlyUnderOneCommonDeadline() {
+        ObserverRegistry<Observed> observerRegistry = newConcurrentObserverRegistry();
+        AtomicInteger notificationCounter = new AtomicInteger();
+        Runnable listenerMethod = () -> {
+            sleepFor(OBSERVER_NOTIFICATION_TIMEOUT / 2);
+            notificationCounter.incrementAndGet();
+        };
+        doAnswer(invocation -> { listenerMethod.run(); return null; }).when(observedConsumingListener).eventFired(observed);
+        doAnswer(invocation -> { listenerMethod.run(); return null; }).when(parameterlessListener).eventFired();
+        observerRegistry.registerObserver(observedConsumingListener);
+        observerRegistry.registerObserver(parameterlessListener);
+        observerRegistry.registerObserver(new CompletionStageListener());
+        List<Exception> exceptions = new CopyOnWriteArrayList<>();
+
+        long start = System.nanoTime();
+        observerRegistry.notifyObservers(ObserverAnnotation.class, exceptions::add);
+        long duration = NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        assertThat(notificationCounter).hasValue(2);
+        assertThat(duration).isLessThan(OBSERVER_NOTIFICATION_TIMEOUT * 2L);
+        assertThat(exceptions)
+            .singleElement()
+            .satisfies(exception -> assertThat(exception)
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(TimeoutException.class)
+                .hasMessageContaining(CompletionStageListener.class.getName()));
+    }
+
+    @Test
+    void notifyObserversConcurrentlyWhileRecordingStartupProfile() {
+        StartupProfiler startupProfiler = new StartupProfiler();
+        ObserverRegistry<Observed> observerRegistry
+            = new ObserverRegistry<>(observed, Observed.class, OBSERVER_NOTIFICATION_TIMEOUT, startupProfiler, CONCURRENT, ObserverAnnotation.class);
+        observerRegistry.registerObserver(parameterlessListener);
+        startupProfiler.startRecording();
+
+        observerRegistry.notifyObservers(ObserverAnnotation.class, exception -> {});
+        StartupProfile actual = startupProfiler.stopRecording();
+
+        String expectedPhaseName = StartupProfile.PHASE_OBSERVER_NOTIFICATION_PREFIX + ObserverAnnotation.class.getSimpleName();
+        assertThat(actual.getPhase(expectedPhaseName)).isPresent();
+    }
+
     @ParameterizedTest
     @MethodSource("provideObserversWithIllegalSignature")
     void registerObserverWithIllegalSignature(Object listenerWithIllegalMethodSignature) {
@@ -163,6 +356,18 @@ class ObserverRegistryTest {
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void constructWithNullAsNotificationModeArgument() {
+        StartupProfiler startupProfiler = new StartupProfiler();
+
+        assertThatThrownBy(() -> new ObserverRegistry<>(observed, Observed.class, OBSERVER_NOTIFICATION_TIMEOUT, startupProfiler, null, ObserverAnnotation.class))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private ObserverRegistry<Observed> newConcurrentObserverRegistry() {
+        return new ObserverRegistry<>(observed, Observed.class, OBSERVER_NOTIFICATION_TIMEOUT, new StartupProfiler(), CONCURRENT, ObserverAnnotation.class);
+    }
+
     static Stream<Object> provideObserversWithIllegalSignature() {
         return Stream.of(
             new Object() {
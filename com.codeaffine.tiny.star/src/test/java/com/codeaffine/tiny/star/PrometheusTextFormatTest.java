@@ -0,0 +1,123 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.ContainerStatistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.codeaffine.tiny.star.ApplicationServer.State.RUNNING;
+import static com.codeaffine.tiny.star.PrometheusTextFormat.*;
+import static com.codeaffine.tiny.star.spi.ContainerStatistics.UNAVAILABLE;
+import static com.codeaffine.tiny.star.spi.MetricsCollector.LIFECYCLE_PHASE_START;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class PrometheusTextFormatTest {
+
+    private static final String APPLICATION_IDENTIFIER = "app";
+
+    private MetricsRegistry metricsRegistry;
+    private PrometheusTextFormat format;
+
+    @BeforeEach
+    void setUp() {
+        ApplicationServer applicationServer = mock(ApplicationServer.class);
+        when(applicationServer.getIdentifier()).thenReturn(APPLICATION_IDENTIFIER);
+        when(applicationServer.getState()).thenReturn(RUNNING);
+        metricsRegistry = new MetricsRegistry();
+        format = new PrometheusTextFormat(applicationServer, metricsRegistry);
+    }
+
+    @Test
+    void render() {
+        String actual = format.render();
+
+        assertThat(actual)
+            .contains("# TYPE " + METRIC_STATE + " gauge\n")
+            .contains(METRIC_STATE + "{application=\"app\",state=\"RUNNING\"} 1\n")
+            .contains(METRIC_STATE + "{application=\"app\",state=\"HALTED\"} 0\n")
+            .doesNotContain(METRIC_REQUESTS, METRIC_REQUEST_DURATION, METRIC_LIFECYCLE_PHASE_DURATION, METRIC_ACTIVE_SESSIONS);
+    }
+
+    @Test
+    void renderRequests() {
+        metricsRegistry.requestCompleted("/ui", 200, Duration.ofMillis(20L));
+        metricsRegistry.requestCompleted("/ui", 200, Duration.ofMillis(200L));
+        metricsRegistry.requestCompleted("/ui", 500, Duration.ofSeconds(20L));
+
+        String actual = format.render();
+
+        assertThat(actual)
+            .contains("# TYPE " + METRIC_REQUESTS + " counter\n")
+            .contains(METRIC_REQUESTS + "{application=\"app\",entry_point=\"/ui\",status=\"2xx\"} 2\n")
+            .contains(METRIC_REQUESTS + "{application=\"app\",entry_point=\"/ui\",status=\"4xx\"} 0\n")
+            .contains(METRIC_REQUESTS + "{application=\"app\",entry_point=\"/ui\",status=\"5xx\"} 1\n")
+            .contains("# TYPE " + METRIC_REQUEST_DURATION + " histogram\n")
+            .contains(METRIC_REQUEST_DURATION + "_bucket{application=\"app\",entry_point=\"/ui\",le=\"0.01\"} 0\n")
+            .contains(METRIC_REQUEST_DURATION + "_bucket{application=\"app\",entry_point=\"/ui\",le=\"0.025\"} 1\n")
+            .contains(METRIC_REQUEST_DURATION + "_bucket{application=\"app\",entry_point=\"/ui\",le=\"0.25\"} 2\n")
+            .contains(METRIC_REQUEST_DURATION + "_bucket{application=\"app\",entry_point=\"/ui\",le=\"10.0\"} 2\n")
+            .contains(METRIC_REQUEST_DURATION + "_bucket{application=\"app\",entry_point=\"/ui\",le=\"+Inf\"} 3\n")
+            .contains(METRIC_REQUEST_DURATION + "_sum{application=\"app\",entry_point=\"/ui\"} 20.22\n")
+            .contains(METRIC_REQUEST_DURATION + "_count{application=\"app\",entry_point=\"/ui\"} 3\n");
+    }
+
+    @Test
+    void renderLifecyclePhaseDurations() {
+        metricsRegistry.lifecyclePhaseCompleted(LIFECYCLE_PHASE_START, Duration.ofMillis(1500L));
+
+        String actual = format.render();
+
+        assertThat(actual)
+            .contains("# TYPE " + METRIC_LIFECYCLE_PHASE_DURATION + " gauge\n")
+            .contains(METRIC_LIFECYCLE_PHASE_DURATION + "{application=\"app\",phase=\"start\"} 1.5\n");
+    }
+
+    @Test
+    void renderContainerStatistics() {
+        metricsRegistry.bindContainerStatistics(() -> new ContainerStatistics(1L, 2L, 3L, 4L, 5L, 6L, UNAVAILABLE));
+
+        String actual = format.render();
+
+        assertThat(actual)
+            .contains(METRIC_ACTIVE_SESSIONS + "{application=\"app\"} 1\n")
+            .contains("# TYPE " + METRIC_CREATED_SESSIONS + " counter\n")
+            .contains(METRIC_CREATED_SESSIONS + "{application=\"app\"} 2\n")
+            .contains(METRIC_ACTIVE_CONNECTIONS + "{application=\"app\"} 3\n")
+            .contains(METRIC_BUSY_WORKER_THREADS + "{application=\"app\"} 4\n")
+            .contains(METRIC_WORKER_POOL_SIZE + "{application=\"app\"} 5\n")
+            .contains(METRIC_MAXIMUM_WORKER_POOL_SIZE + "{application=\"app\"} 6\n")
+            .doesNotContain(METRIC_WORKER_QUEUE_DEPTH);
+    }
+
+    @Test
+    void label() {
+        String actual = PrometheusTextFormat.label("name", "a\"b\\c\nd");
+
+        assertThat(actual).isEqualTo("name=\"a\\\"b\\\\c\\nd\"");
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new PrometheusTextFormat(null, metricsRegistry))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsMetricsRegistryArgument() {
+        ApplicationServer applicationServer = mock(ApplicationServer.class);
+
+        assertThatThrownBy(() -> new PrometheusTextFormat(applicationServer, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,104 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.Server;
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.codeaffine.tiny.star.ApplicationServer.DEFAULT_DRAIN_TIMEOUT;
+import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static com.codeaffine.tiny.star.RequestDrainer.logger;
+import static com.codeaffine.tiny.star.Texts.*;
+import static java.time.Duration.ofSeconds;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@UseLoggerSpy(RequestDrainer.class)
+class RequestDrainerTest {
+
+    private static final int DRAIN_TIMEOUT = 10;
+
+    private ApplicationServer applicationServer;
+    private Server server;
+
+    @BeforeEach
+    void setUp() {
+        applicationServer = newApplicationServerBuilder(application -> {}).withDrainTimeout(DRAIN_TIMEOUT).build();
+        server = mock(Server.class);
+    }
+
+    @Test
+    void run() {
+        RequestDrainer drainer = new RequestDrainer(server, applicationServer);
+
+        drainer.run();
+
+        verify(server).drain(ofSeconds(DRAIN_TIMEOUT));
+        verify(logger).debug(eq(DEBUG_REQUESTS_DRAINED), eq(applicationServer.getIdentifier()), anyLong());
+    }
+
+    @Test
+    void runWithAbortedRequests() {
+        when(server.drain(any(Duration.class))).thenReturn(3);
+        RequestDrainer drainer = new RequestDrainer(server, applicationServer);
+
+        drainer.run();
+
+        verify(logger).warn(eq(WARN_REQUESTS_ABORTED), eq(3), eq(applicationServer.getIdentifier()), anyLong());
+    }
+
+    @Test
+    void runWithDrainingDisabled() {
+        applicationServer = newApplicationServerBuilder(application -> {}).withDrainTimeout(0).build();
+        RequestDrainer drainer = new RequestDrainer(server, applicationServer);
+
+        drainer.run();
+
+        verify(server, never()).drain(any(Duration.class));
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void runWithDefaultDrainTimeout() {
+        applicationServer = newApplicationServerBuilder(application -> {}).build();
+        RequestDrainer drainer = new RequestDrainer(server, applicationServer);
+
+        drainer.run();
+
+        assertThat(DEFAULT_DRAIN_TIMEOUT).isZero();
+        verify(server, never()).drain(any(Duration.class));
+    }
+
+    @Test
+    void runWithProblem() {
+        IllegalStateException problem = new IllegalStateException();
+        when(server.drain(any(Duration.class))).thenThrow(problem);
+        RequestDrainer drainer = new RequestDrainer(server, applicationServer);
+
+        drainer.run();
+
+        verify(logger).warn(WARN_REQUEST_DRAINING, applicationServer.getIdentifier(), problem);
+    }
+
+    @Test
+    void constructWithNullAsServerArgument() {
+        assertThatThrownBy(() -> new RequestDrainer(null, applicationServer))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new RequestDrainer(server, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
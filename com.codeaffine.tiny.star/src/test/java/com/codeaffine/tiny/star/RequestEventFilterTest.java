@@ -0,0 +1,123 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import jdk.jfr.consumer.RecordedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static com.codeaffine.tiny.star.FlightRecordingTestHelper.record;
+import static com.codeaffine.tiny.star.RequestEventFilter.NO_SESSION;
+import static com.codeaffine.tiny.star.RequestEventFilter.hashSessionId;
+import static jakarta.servlet.http.HttpServletResponse.SC_OK;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class RequestEventFilterTest {
+
+    private static final String ENTRY_POINT_PATH = "/ui";
+    private static final String SESSION_ID = "sessionId";
+
+    private HttpServletRequest request;
+    private HttpServletResponse response;
+    private FilterChain chain;
+    private RequestEventFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        request = mock(HttpServletRequest.class);
+        when(request.getServletPath()).thenReturn(ENTRY_POINT_PATH);
+        response = mock(HttpServletResponse.class);
+        when(response.getStatus()).thenReturn(SC_OK);
+        chain = mock(FilterChain.class);
+        filter = new RequestEventFilter();
+    }
+
+    @Test
+    void doFilter() throws Exception {
+        stubSession(SESSION_ID);
+
+        List<RecordedEvent> actual = record(RequestEvent.NAME, () -> filter.doFilter(request, response, chain));
+
+        verify(chain).doFilter(request, response);
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getString("entryPoint")).isEqualTo(ENTRY_POINT_PATH);
+        assertThat(actual.get(0).getInt("sessionIdHash")).isEqualTo(SESSION_ID.hashCode());
+        assertThat(actual.get(0).getInt("status")).isEqualTo(SC_OK);
+        assertThat(actual.get(0).getDuration()).isNotNegative();
+    }
+
+    @Test
+    void doFilterIfChainFails() throws Exception {
+        IllegalStateException expected = new IllegalStateException("bad");
+        doThrow(expected).when(chain).doFilter(request, response);
+
+        List<RecordedEvent> actual = record(RequestEvent.NAME, () -> {
+            try {
+                filter.doFilter(request, response, chain);
+            } catch (IllegalStateException ignore) {
+                // expected
+            }
+        });
+
+        assertThat(actual).hasSize(1);
+        assertThat(actual.get(0).getInt("sessionIdHash")).isEqualTo(NO_SESSION);
+    }
+
+    @Test
+    void doFilterWithoutRecording() throws Exception {
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verifyNoInteractions(response);
+        verify(request, never()).getSession(anyBoolean());
+    }
+
+    @Test
+    void doFilterWithNonHttpRequest() throws Exception {
+        ServletRequest servletRequest = mock(ServletRequest.class);
+        ServletResponse servletResponse = mock(ServletResponse.class);
+
+        List<RecordedEvent> actual = record(RequestEvent.NAME, () -> filter.doFilter(servletRequest, servletResponse, chain));
+
+        verify(chain).doFilter(servletRequest, servletResponse);
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void hashSessionIdWithoutSession() {
+        int actual = hashSessionId(request);
+
+        assertThat(actual).isEqualTo(NO_SESSION);
+    }
+
+    @Test
+    void hashSessionIdWithInvalidatedSession() {
+        HttpSession session = stubSession(SESSION_ID);
+        when(session.getId()).thenThrow(new IllegalStateException("invalidated"));
+
+        int actual = hashSessionId(request);
+
+        assertThat(actual).isEqualTo(NO_SESSION);
+    }
+
+    private HttpSession stubSession(String sessionId) {
+        HttpSession result = mock(HttpSession.class);
+        when(result.getId()).thenReturn(sessionId);
+        when(request.getSession(false)).thenReturn(result);
+        return result;
+    }
+}
@@ -0,0 +1,82 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import org.eclipse.rap.rwt.application.ApplicationConfiguration;
+import org.junit.jupiter.api.Test;
+
+import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static com.codeaffine.tiny.star.ResourceCacheKey.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceCacheKeyTest {
+
+    private static final String IDENTIFIER = "tiny/application";
+    private static final String ENCODED_IDENTIFIER = "tiny_application";
+    private static final String ENTRY_POINT_PATH_1 = "/ep1";
+    private static final String ENTRY_POINT_PATH_2 = "/ep2";
+    private static final String ATTRIBUTE_NAME = "attribute";
+    private static final ApplicationConfiguration APPLICATION_CONFIGURATION = application -> {
+        application.addEntryPoint(ENTRY_POINT_PATH_1, () -> null, null);
+        application.setAttribute(ATTRIBUTE_NAME, new Object());
+    };
+
+    @Test
+    void computeResourceCacheKey() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(APPLICATION_CONFIGURATION, IDENTIFIER).build();
+
+        String actual = ResourceCacheKey.computeResourceCacheKey(applicationServer);
+
+        assertThat(actual)
+            .startsWith(ENCODED_IDENTIFIER + "-" + UNKNOWN_VERSION + "-")
+            .matches(".*-\\p{XDigit}{" + HASH_LENGTH * 2 + "}");
+    }
+
+    @Test
+    void computeResourceCacheKeyIsStableForSameApplicationConfiguration() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(APPLICATION_CONFIGURATION, IDENTIFIER).build();
+        ApplicationServer other = newApplicationServerBuilder(APPLICATION_CONFIGURATION, IDENTIFIER).build();
+
+        String actual = ResourceCacheKey.computeResourceCacheKey(applicationServer);
+
+        assertThat(actual).isEqualTo(ResourceCacheKey.computeResourceCacheKey(other));
+    }
+
+    @Test
+    void computeResourceCacheKeyDiffersForChangedApplicationConfiguration() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(APPLICATION_CONFIGURATION, IDENTIFIER).build();
+        ApplicationServer changed = newApplicationServerBuilder(application -> {
+            APPLICATION_CONFIGURATION.configure(application);
+            application.addEntryPoint(ENTRY_POINT_PATH_2, () -> null, null);
+        }, IDENTIFIER).build();
+
+        String actual = ResourceCacheKey.computeResourceCacheKey(applicationServer);
+
+        assertThat(actual).isNotEqualTo(ResourceCacheKey.computeResourceCacheKey(changed));
+    }
+
+    @Test
+    void getApplicationVersionWithoutImplementationVersion() {
+        String actual = getApplicationVersion(APPLICATION_CONFIGURATION);
+
+        assertThat(actual).isEqualTo(UNKNOWN_VERSION);
+    }
+
+    @Test
+    void computeResourceCacheKeyWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> ResourceCacheKey.computeResourceCacheKey(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void getApplicationVersionWithNullAsApplicationConfigurationArgument() {
+        assertThatThrownBy(() -> getApplicationVersion(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,101 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+
+import static com.codeaffine.tiny.star.ResourceCacheLock.LOCK_FILE_NAME;
+import static com.codeaffine.tiny.star.ResourceCacheLock.hasLockFile;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ResourceCacheLockTest {
+
+    private static final String OWNER = "owner";
+
+    @TempDir
+    private File directory;
+
+    @Test
+    void tryAcquire() {
+        ResourceCacheLock actual = ResourceCacheLock.tryAcquire(directory);
+
+        assertThat(actual).isNotNull();
+        assertThat(new File(directory, LOCK_FILE_NAME)).isFile();
+        assertThat(hasLockFile(directory)).isTrue();
+        actual.release();
+    }
+
+    @Test
+    void tryAcquireIfAlreadyLocked() {
+        ResourceCacheLock lock = ResourceCacheLock.tryAcquire(directory);
+
+        ResourceCacheLock actual = ResourceCacheLock.tryAcquire(directory);
+
+        assertThat(actual).isNull();
+        lock.release();
+    }
+
+    @Test
+    void tryAcquireAfterRelease() {
+        ResourceCacheLock.tryAcquire(directory).release();
+
+        ResourceCacheLock actual = ResourceCacheLock.tryAcquire(directory);
+
+        assertThat(actual).isNotNull();
+        actual.release();
+    }
+
+    @Test
+    void tryAcquireWithNonExistingDirectory() {
+        File nonExisting = new File(directory, "does-not-exist");
+
+        assertThatThrownBy(() -> ResourceCacheLock.tryAcquire(nonExisting))
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(nonExisting.getAbsolutePath());
+    }
+
+    @Test
+    void writeAndReadOwner() {
+        ResourceCacheLock lock = ResourceCacheLock.tryAcquire(directory);
+        lock.writeOwner("previous-and-longer-owner");
+        lock.writeOwner(OWNER);
+        lock.release();
+        ResourceCacheLock other = ResourceCacheLock.tryAcquire(directory);
+
+        String actual = other.readOwner();
+
+        assertThat(actual).isEqualTo(OWNER);
+        other.release();
+    }
+
+    @Test
+    void hasLockFileWithoutLockFile() {
+        boolean actual = hasLockFile(directory);
+
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void tryAcquireWithNullAsDirectoryArgument() {
+        assertThatThrownBy(() -> ResourceCacheLock.tryAcquire(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void writeOwnerWithNullAsOwnerArgument() {
+        ResourceCacheLock lock = ResourceCacheLock.tryAcquire(directory);
+
+        assertThatThrownBy(() -> lock.writeOwner(null))
+            .isInstanceOf(NullPointerException.class);
+        lock.release();
+    }
+}
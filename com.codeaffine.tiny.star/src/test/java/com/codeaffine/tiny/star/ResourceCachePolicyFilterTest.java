@@ -0,0 +1,266 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import static com.codeaffine.tiny.star.ResourceCachePolicyFilter.*;
+import static com.codeaffine.tiny.star.ResourcePrecompressor.toPrecompressedResource;
+import static com.codeaffine.tiny.star.ResponseCompressionFilter.HEADER_ACCEPT_ENCODING;
+import static com.codeaffine.tiny.star.ResponseCompressionFilter.HEADER_VARY;
+import static jakarta.servlet.http.HttpServletResponse.SC_NOT_MODIFIED;
+import static java.lang.String.format;
+import static java.nio.file.Files.*;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.singleton;
+import static java.util.Collections.singletonList;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ResourceCachePolicyFilterTest {
+
+    private static final int MAX_AGE = 3600;
+    private static final String SERVLET_PATH = "/rwt-resources";
+    private static final String RESOURCE_PATH = "/rap-client.js";
+    private static final String HASHED_RESOURCE_PATH = "/themes/images/4d3a2e1f.png";
+
+    @TempDir
+    private Path contextDirectory;
+    private ServletContext servletContext;
+    private HttpServletResponse response;
+    private FilterChain chain;
+    private ResourceCachePolicyFilter filter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        createDirectories(contextDirectory.resolve("rwt-resources"));
+        writeString(resolve(RESOURCE_PATH), "content");
+        servletContext = mock(ServletContext.class);
+        when(servletContext.getRealPath(anyString())).thenAnswer(invocation -> contextDirectory + invocation.getArgument(0, String.class));
+        response = mock(HttpServletResponse.class);
+        chain = mock(FilterChain.class);
+        filter = new ResourceCachePolicyFilter(MAX_AGE);
+    }
+
+    @Test
+    void doFilterWithContentHashedResource() throws Exception {
+        HttpServletRequest request = stubRequest(HASHED_RESOURCE_PATH, null, null);
+
+        filter.doFilter(request, response, chain);
+
+        verify(response).setHeader(HEADER_CACHE_CONTROL, format(CACHE_CONTROL_IMMUTABLE, MAX_AGE));
+        verify(response, never()).setHeader(eq(HEADER_ETAG), anyString());
+        verify(chain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilter() throws Exception {
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, null, null);
+
+        filter.doFilter(request, response, chain);
+
+        String entityTag = captureEntityTag();
+        assertThat(entityTag).matches("\"\\p{XDigit}{32}\"");
+        verify(response).setHeader(HEADER_CACHE_CONTROL, CACHE_CONTROL_REVALIDATE);
+        verify(response, never()).setStatus(anyInt());
+        verify(chain).doFilter(eq(request), any(HttpServletResponse.class));
+    }
+
+    @Test
+    void doFilterWithMatchingIfNoneMatchHeader() throws Exception {
+        filter.doFilter(stubRequest(RESOURCE_PATH, null, null), response, chain);
+        String entityTag = captureEntityTag();
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, "\"other\", " + entityTag, null);
+        reset(response, chain);
+
+        filter.doFilter(request, response, chain);
+
+        verify(response).setStatus(SC_NOT_MODIFIED);
+        verify(response).setHeader(HEADER_ETAG, entityTag);
+        verify(response, never()).addHeader(eq(HEADER_VARY), anyString());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void doFilterWithMatchingIfNoneMatchHeaderOfPrecompressedResource() throws Exception {
+        writeString(toPrecompressedResource(resolve(RESOURCE_PATH)), "compressed");
+        filter.doFilter(stubRequest(RESOURCE_PATH, null, "gzip"), response, chain);
+        String entityTag = captureEntityTag();
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, entityTag, "gzip");
+        reset(response, chain);
+
+        filter.doFilter(request, response, chain);
+
+        InOrder order = inOrder(response);
+        order.verify(response).addHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+        order.verify(response).setStatus(SC_NOT_MODIFIED);
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void doFilterWithMatchingIfNoneMatchHeaderOfPrecompressedResourceIfVaryIsPresent() throws Exception {
+        writeString(toPrecompressedResource(resolve(RESOURCE_PATH)), "compressed");
+        filter.doFilter(stubRequest(RESOURCE_PATH, null, "gzip"), response, chain);
+        String entityTag = captureEntityTag();
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, entityTag, "gzip");
+        reset(response, chain);
+        when(response.getHeaders(HEADER_VARY)).thenReturn(singleton("Origin, accept-encoding"));
+
+        filter.doFilter(request, response, chain);
+
+        verify(response).setStatus(SC_NOT_MODIFIED);
+        verify(response, never()).addHeader(eq(HEADER_VARY), anyString());
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void doFilterWithWeakMatchingIfNoneMatchHeader() throws Exception {
+        filter.doFilter(stubRequest(RESOURCE_PATH, null, null), response, chain);
+        String entityTag = captureEntityTag();
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, "W/" + entityTag, null);
+        reset(response, chain);
+
+        filter.doFilter(request, response, chain);
+
+        verify(response).setStatus(SC_NOT_MODIFIED);
+        verifyNoInteractions(chain);
+    }
+
+    @Test
+    void doFilterWithChangedResource() throws Exception {
+        filter.doFilter(stubRequest(RESOURCE_PATH, null, null), response, chain);
+        String entityTag = captureEntityTag();
+        writeString(resolve(RESOURCE_PATH), "changed content");
+        setLastModifiedTime(resolve(RESOURCE_PATH), FileTime.fromMillis(getLastModifiedTime(resolve(RESOURCE_PATH)).toMillis() + 1000L));
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, entityTag, null);
+        reset(response, chain);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(captureEntityTag()).isNotEqualTo(entityTag);
+        verify(response, never()).setStatus(anyInt());
+        verify(chain).doFilter(eq(request), any(HttpServletResponse.class));
+    }
+
+    @Test
+    void doFilterWithPrecompressedResource() throws Exception {
+        filter.doFilter(stubRequest(RESOURCE_PATH, null, null), response, chain);
+        String entityTag = captureEntityTag();
+        writeString(toPrecompressedResource(resolve(RESOURCE_PATH)), "compressed");
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, null, "gzip");
+        reset(response, chain);
+
+        filter.doFilter(request, response, chain);
+
+        assertThat(captureEntityTag())
+            .isNotEqualTo(entityTag)
+            .endsWith(PRECOMPRESSED_ENTITY_TAG_SUFFIX + "\"");
+    }
+
+    @Test
+    void doFilterPreservesEntityTag() throws Exception {
+        HttpServletRequest request = stubRequest(RESOURCE_PATH, null, null);
+        doAnswer(invocation -> {
+            HttpServletResponse wrapped = invocation.getArgument(1);
+            wrapped.setHeader(HEADER_ETAG, "W/\"container\"");
+            wrapped.addHeader(HEADER_ETAG, "W/\"container\"");
+            return null;
+        }).when(chain).doFilter(any(), any());
+
+        filter.doFilter(request, response, chain);
+
+        verify(response, times(1)).setHeader(eq(HEADER_ETAG), anyString());
+        verify(response, never()).addHeader(eq(HEADER_ETAG), anyString());
+    }
+
+    @Test
+    void doFilterWithMissingResource() throws Exception {
+        HttpServletRequest request = stubRequest("/unknown.js", null, null);
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+        verifyNoInteractions(response);
+    }
+
+    @Test
+    void doFilterWithNonHttpRequest() throws Exception {
+        ServletRequest request = mock(ServletRequest.class);
+        ServletResponse nonHttpResponse = mock(ServletResponse.class);
+
+        filter.doFilter(request, nonHttpResponse, chain);
+
+        verify(chain).doFilter(request, nonHttpResponse);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/rwt-resources/themes/images/4d3a2e1f.png",
+        "/rwt-resources/theme-4d3a2e1f.css",
+        "/rwt-resources/rap.4d3a2e1f.js"
+    })
+    void isContentHashed(String path) {
+        assertThat(ResourceCachePolicyFilter.isContentHashed(path)).isTrue();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+        "/rwt-resources/rap-client.js",
+        "/rwt-resources/themes/theme.css",
+        "/rwt-resources/4d3a2e1.js",
+        "/rwt-resources/themes/images/4d3a2e1f0b9c.png",
+        "/rwt-resources/4d3a2e1f/rap-client.js",
+        "/rwt-resources/deadbeef.js",
+        "/rwt-resources/x4d3a2e1f.js"
+    })
+    void isContentHashedWithoutContentHash(String path) {
+        assertThat(ResourceCachePolicyFilter.isContentHashed(path)).isFalse();
+    }
+
+    private Path resolve(String resourcePath) {
+        return Path.of(contextDirectory + SERVLET_PATH + resourcePath);
+    }
+
+    private String captureEntityTag() {
+        ArgumentCaptor<String> captor = ArgumentCaptor.forClass(String.class);
+        verify(response).setHeader(eq(HEADER_ETAG), captor.capture());
+        return captor.getValue();
+    }
+
+    private HttpServletRequest stubRequest(String pathInfo, String ifNoneMatch, String acceptEncoding) {
+        HttpServletRequest result = mock(HttpServletRequest.class);
+        when(result.getServletContext()).thenReturn(servletContext);
+        when(result.getServletPath()).thenReturn(SERVLET_PATH);
+        when(result.getPathInfo()).thenReturn(pathInfo);
+        if (ifNoneMatch != null) {
+            when(result.getHeaders(HEADER_IF_NONE_MATCH)).thenReturn(enumeration(singletonList(ifNoneMatch)));
+        }
+        if (acceptEncoding != null) {
+            when(result.getHeaders(HEADER_ACCEPT_ENCODING)).thenReturn(enumeration(singletonList(acceptEncoding)));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,166 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import jakarta.servlet.ServletContext;
+import jakarta.servlet.ServletContextEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.zip.GZIPInputStream;
+
+import static com.codeaffine.tiny.star.ResourcePrecompressor.*;
+import static com.codeaffine.tiny.star.Texts.DEBUG_RESOURCE_PRECOMPRESSION;
+import static com.codeaffine.tiny.star.Texts.WARN_RESOURCE_PRECOMPRESSION;
+import static java.nio.file.Files.*;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@UseLoggerSpy(ResourcePrecompressor.class)
+class ResourcePrecompressorTest {
+
+    private static final String CONTENT = "function f() { return 'compressible'; }\n".repeat(100);
+    private static final String SMALL_CONTENT = "function f() {}";
+
+    @TempDir
+    private Path contextDirectory;
+    private Path resourcesDirectory;
+    private ResourcePrecompressor precompressor;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        resourcesDirectory = createDirectories(contextDirectory.resolve(RESOURCES_DIRECTORY));
+        precompressor = new ResourcePrecompressor();
+    }
+
+    @Test
+    void contextInitialized() throws IOException {
+        Path resource = writeString(resourcesDirectory.resolve("rap-client.js"), CONTENT);
+
+        precompressor.contextInitialized(stubServletContextEvent(contextDirectory.toString()));
+
+        assertThat(toPrecompressedResource(resource)).exists();
+        assertThat(decompress(toPrecompressedResource(resource))).isEqualTo(CONTENT);
+        verify(logger).debug(eq(DEBUG_RESOURCE_PRECOMPRESSION), eq(1L), eq(resourcesDirectory), anyLong());
+    }
+
+    @Test
+    void contextInitializedWithoutRealPath() {
+        precompressor.contextInitialized(stubServletContextEvent(null));
+
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void contextInitializedWithoutResourcesDirectory() throws IOException {
+        delete(resourcesDirectory);
+
+        precompressor.contextInitialized(stubServletContextEvent(contextDirectory.toString()));
+
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void precompress() throws IOException {
+        Path nested = createDirectories(resourcesDirectory.resolve("themes"));
+        Path script = writeString(resourcesDirectory.resolve("rap-client.js"), CONTENT);
+        Path styleSheet = writeString(nested.resolve("theme.css"), CONTENT);
+
+        long actual = precompressor.precompress(resourcesDirectory);
+
+        assertThat(actual).isEqualTo(2L);
+        assertThat(decompress(toPrecompressedResource(script))).isEqualTo(CONTENT);
+        assertThat(decompress(toPrecompressedResource(styleSheet))).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void precompressSkipsResourcesBelowMinimumSize() throws IOException {
+        Path resource = writeString(resourcesDirectory.resolve("small.js"), SMALL_CONTENT);
+
+        long actual = precompressor.precompress(resourcesDirectory);
+
+        assertThat(actual).isZero();
+        assertThat(toPrecompressedResource(resource)).doesNotExist();
+    }
+
+    @Test
+    void precompressSkipsIncompressibleResources() throws IOException {
+        Path resource = writeString(resourcesDirectory.resolve("image.png"), CONTENT);
+
+        long actual = precompressor.precompress(resourcesDirectory);
+
+        assertThat(actual).isZero();
+        assertThat(toPrecompressedResource(resource)).doesNotExist();
+    }
+
+    @Test
+    void precompressSkipsUpToDatePrecompressedResources() throws IOException {
+        Path resource = writeString(resourcesDirectory.resolve("rap-client.js"), CONTENT);
+        precompressor.precompress(resourcesDirectory);
+        FileTime lastModified = getLastModifiedTime(toPrecompressedResource(resource));
+
+        long actual = precompressor.precompress(resourcesDirectory);
+
+        assertThat(actual).isZero();
+        assertThat(getLastModifiedTime(toPrecompressedResource(resource))).isEqualTo(lastModified);
+    }
+
+    @Test
+    void precompressReplacesOutdatedPrecompressedResources() throws IOException {
+        Path resource = writeString(resourcesDirectory.resolve("rap-client.js"), CONTENT);
+        Path precompressedResource = writeString(toPrecompressedResource(resource), "outdated");
+        setLastModifiedTime(precompressedResource, FileTime.fromMillis(getLastModifiedTime(resource).toMillis() - 1000L));
+
+        long actual = precompressor.precompress(resourcesDirectory);
+
+        assertThat(actual).isEqualTo(1L);
+        assertThat(decompress(precompressedResource)).isEqualTo(CONTENT);
+    }
+
+    @Test
+    void precompressSkipsPrecompressedResourcesWithContentHash() throws IOException {
+        Path resource = writeString(resourcesDirectory.resolve("rap-client-3e4f5a60.js"), CONTENT);
+        Path precompressedResource = writeString(toPrecompressedResource(resource), "kept");
+        setLastModifiedTime(precompressedResource, FileTime.fromMillis(getLastModifiedTime(resource).toMillis() - 1000L));
+
+        long actual = precompressor.precompress(resourcesDirectory);
+
+        assertThat(actual).isZero();
+        assertThat(readString(precompressedResource)).isEqualTo("kept");
+    }
+
+    @Test
+    void precompressWithNonExistingResourcesDirectory() throws IOException {
+        delete(resourcesDirectory);
+
+        long actual = precompressor.precompress(resourcesDirectory);
+
+        assertThat(actual).isZero();
+        verify(logger).warn(eq(WARN_RESOURCE_PRECOMPRESSION), eq(resourcesDirectory), any(IOException.class));
+    }
+
+    private static ServletContextEvent stubServletContextEvent(String realPath) {
+        ServletContext servletContext = mock(ServletContext.class);
+        when(servletContext.getRealPath("/")).thenReturn(realPath);
+        ServletContextEvent result = mock(ServletContextEvent.class);
+        when(result.getServletContext()).thenReturn(servletContext);
+        return result;
+    }
+
+    private static String decompress(Path precompressedResource) throws IOException {
+        try (InputStream in = new GZIPInputStream(newInputStream(precompressedResource))) {
+            return new String(in.readAllBytes());
+        }
+    }
+}
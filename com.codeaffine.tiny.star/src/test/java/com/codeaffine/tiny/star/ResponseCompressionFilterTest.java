@@ -0,0 +1,196 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.ServletRequest;
+import jakarta.servlet.ServletResponse;
+import jakarta.servlet.WriteListener;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.zip.GZIPInputStream;
+
+import static com.codeaffine.tiny.star.CompressingServletOutputStream.GZIP;
+import static com.codeaffine.tiny.star.CompressingServletOutputStream.HEADER_CONTENT_ENCODING;
+import static com.codeaffine.tiny.star.ResponseCompressionFilter.*;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.Collections.enumeration;
+import static java.util.Collections.singletonList;
+import static java.util.zip.Deflater.BEST_SPEED;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchThrowable;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.*;
+
+class ResponseCompressionFilterTest {
+
+    private static final int MINIMUM_SIZE = 64;
+    private static final String LARGE_BODY = "{\"head\":{},\"operations\":[]}".repeat(20);
+    private static final String SMALL_BODY = "{}";
+
+    private ByteArrayOutputStream responseBody;
+    private HttpServletResponse response;
+    private ResponseCompressionFilter filter;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        responseBody = new ByteArrayOutputStream();
+        response = stubResponse(responseBody);
+        filter = new ResponseCompressionFilter(MINIMUM_SIZE, BEST_SPEED);
+    }
+
+    @Test
+    void doFilter() throws Exception {
+        HttpServletRequest request = stubRequest("POST", "gzip, deflate, br");
+
+        filter.doFilter(request, response, writing(LARGE_BODY));
+
+        assertThat(decompress(responseBody.toByteArray())).isEqualTo(LARGE_BODY);
+        verify(response).addHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+        verify(response).setHeader(HEADER_CONTENT_ENCODING, GZIP);
+        verify(response, never()).setContentLength(anyInt());
+    }
+
+    @Test
+    void doFilterWithProblem() throws Exception {
+        HttpServletRequest request = stubRequest("POST", "gzip");
+        IllegalStateException problem = new IllegalStateException();
+        FilterChain chain = mock(FilterChain.class);
+        doAnswer(invocation -> {
+            ServletResponse wrapped = invocation.getArgument(1);
+            wrapped.getWriter().write(LARGE_BODY);
+            throw problem;
+        }).when(chain).doFilter(any(), any());
+
+        Throwable actual = catchThrowable(() -> filter.doFilter(request, response, chain));
+
+        assertThat(actual).isSameAs(problem);
+        assertThat(decompress(responseBody.toByteArray())).isEqualTo(LARGE_BODY);
+    }
+
+    @Test
+    void doFilterWithResponseBelowMinimumSize() throws Exception {
+        HttpServletRequest request = stubRequest("POST", "gzip");
+
+        filter.doFilter(request, response, writing(SMALL_BODY));
+
+        assertThat(responseBody.toString(UTF_8)).isEqualTo(SMALL_BODY);
+        verify(response).setContentLength(SMALL_BODY.length());
+        verify(response, never()).setHeader(HEADER_CONTENT_ENCODING, GZIP);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "deflate, br", "gzip;q=0", "gzip; q=0.000, deflate", "identity" })
+    void doFilterIfClientDoesNotAcceptGzip(String acceptEncoding) throws Exception {
+        HttpServletRequest request = stubRequest("POST", acceptEncoding);
+
+        filter.doFilter(request, response, writing(LARGE_BODY));
+
+        assertThat(responseBody.toString(UTF_8)).isEqualTo(LARGE_BODY);
+        verify(response).addHeader(HEADER_VARY, HEADER_ACCEPT_ENCODING);
+        verify(response, never()).setHeader(HEADER_CONTENT_ENCODING, GZIP);
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = { "gzip", "GZIP", "deflate, gzip;q=0.8", "*" })
+    void acceptsGzip(String acceptEncoding) {
+        HttpServletRequest request = stubRequest("POST", acceptEncoding);
+
+        boolean actual = ResponseCompressionFilter.acceptsGzip(request);
+
+        assertThat(actual).isTrue();
+    }
+
+    @Test
+    void acceptsGzipWithoutAcceptEncodingHeader() {
+        HttpServletRequest request = mock(HttpServletRequest.class);
+
+        boolean actual = ResponseCompressionFilter.acceptsGzip(request);
+
+        assertThat(actual).isFalse();
+    }
+
+    @Test
+    void doFilterWithHeadRequest() throws Exception {
+        HttpServletRequest request = stubRequest(METHOD_HEAD, "gzip");
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, response, chain);
+
+        verify(chain).doFilter(request, response);
+    }
+
+    @Test
+    void doFilterWithNonHttpRequest() throws Exception {
+        ServletRequest request = mock(ServletRequest.class);
+        ServletResponse nonHttpResponse = mock(ServletResponse.class);
+        FilterChain chain = mock(FilterChain.class);
+
+        filter.doFilter(request, nonHttpResponse, chain);
+
+        verify(chain).doFilter(request, nonHttpResponse);
+        verifyNoInteractions(nonHttpResponse);
+    }
+
+    static HttpServletResponse stubResponse(ByteArrayOutputStream body) throws IOException {
+        HttpServletResponse result = mock(HttpServletResponse.class);
+        ServletOutputStream outputStream = new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                throw new UnsupportedOperationException();
+            }
+
+            @Override
+            public void write(int value) {
+                body.write(value);
+            }
+        };
+        when(result.getOutputStream()).thenReturn(outputStream);
+        when(result.getCharacterEncoding()).thenReturn(UTF_8.name());
+        return result;
+    }
+
+    static String decompress(byte[] compressed) throws IOException {
+        try (InputStream in = new GZIPInputStream(new ByteArrayInputStream(compressed))) {
+            return new String(in.readAllBytes(), UTF_8);
+        }
+    }
+
+    private static HttpServletRequest stubRequest(String method, String acceptEncoding) {
+        HttpServletRequest result = mock(HttpServletRequest.class);
+        when(result.getMethod()).thenReturn(method);
+        when(result.getHeaders(HEADER_ACCEPT_ENCODING)).thenReturn(enumeration(singletonList(acceptEncoding)));
+        return result;
+    }
+
+    private static FilterChain writing(String body) throws Exception {
+        FilterChain result = mock(FilterChain.class);
+        doAnswer(invocation -> {
+            ServletResponse wrapped = invocation.getArgument(1);
+            wrapped.getWriter().write(body);
+            return null;
+        }).when(result).doFilter(any(), any());
+        return result;
+    }
+}
@@ -15,7 +15,9 @@ import org.mockito.InOrder;
 
 import java.util.List;
 
+import static com.codeaffine.tiny.star.StartupProfile.PHASE_SERVLET_DEPLOYMENT;
 import static java.util.Collections.emptyList;
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
@@ -45,6 +47,18 @@ class ServletContextListenerAdapterTest {
         order.verifyNoMoreInteractions();
     }
 
+    @Test
+    void contextInitializedWhileRecordingStartupProfile() {
+        StartupProfiler startupProfiler = new StartupProfiler();
+        adapter = new ServletContextListenerAdapter(tinyStarServletContextListener, List.of(applicationServletContextListener), startupProfiler);
+        startupProfiler.startRecording();
+
+        adapter.contextInitialized(servletContextEvent);
+        StartupProfile actual = startupProfiler.stopRecording();
+
+        assertThat(actual.getPhase(PHASE_SERVLET_DEPLOYMENT)).isPresent();
+    }
+
     @Test
     void contextDestroyed() {
         adapter.contextDestroyed(servletContextEvent);
@@ -68,4 +82,12 @@ class ServletContextListenerAdapterTest {
         assertThatThrownBy(() -> new ServletContextListenerAdapter(mock(TinyStarServletContextListener.class), null))
             .isInstanceOf(NullPointerException.class);
     }
+
+    @Test
+    void constructWithNullAsStartupProfilerArgument() {
+        List<ServletContextListener> applicationServletContextListeners = emptyList();
+
+        assertThatThrownBy(() -> new ServletContextListenerAdapter(tinyStarServletContextListener, applicationServletContextListeners, null))
+            .isInstanceOf(NullPointerException.class);
+    }
 }
@@ -16,17 +16,26 @@ import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 import org.mockito.InOrder;
 
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+
 import static com.codeaffine.tiny.shared.test.test.fixtures.SynchronizerTestHelper.fakeSynchronizer;
 import static com.codeaffine.tiny.star.ApplicationServer.State;
 import static com.codeaffine.tiny.star.ApplicationServer.State.RUNNING;
+import static com.codeaffine.tiny.star.ShutdownHookHandler.ExecutionMode.PARALLEL;
 import static com.codeaffine.tiny.star.ShutdownHookHandler.RuntimeSupplier;
 import static com.codeaffine.tiny.star.ShutdownHookHandler.beforeProcessShutdown;
+import static java.lang.Thread.currentThread;
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 class ShutdownHookHandlerTest {
 
     static final String ERROR_SHUTDOWN_IN_PROGRESS = "Shutdown in progress";
+    static final String IDENTIFIER = "identifier";
+    static final String EXCEEDING_IDENTIFIER = "exceeding";
 
     private ShutdownHookHandler shutdownHookHandler;
     private Synchronizer synchronizer;
@@ -43,7 +52,7 @@ class ShutdownHookHandlerTest {
     void register() throws InterruptedException {
         Runnable shutdownOperation = mock(Runnable.class);
 
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
         simulateShutdownHandlerInvocation();
 
         InOrder order = inOrder(runtime, shutdownOperation);
@@ -57,8 +66,8 @@ class ShutdownHookHandlerTest {
         Runnable shutdownOperation1 = mock(Runnable.class);
         Runnable shutdownOperation2 = mock(Runnable.class);
 
-        shutdownHookHandler.register(shutdownOperation1);
-        shutdownHookHandler.register(shutdownOperation2);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation1);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation2);
         simulateShutdownHandlerInvocation();
 
         verify(shutdownOperation1).run();
@@ -72,8 +81,41 @@ class ShutdownHookHandlerTest {
         Runnable shutdownOperation2 = mock(Runnable.class);
         RuntimeException expected = stubOperationWithException(shutdownOperation2);
 
-        shutdownHookHandler.register(shutdownOperation1);
-        shutdownHookHandler.register(shutdownOperation2);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation1);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation2);
+        simulateShutdownHandlerInvocation();
+
+        verify(shutdownOperation1).run();
+        verify(shutdownOperation2).run();
+        assertThat(systemErrCaptor.getLog()).contains(expected.getMessage());
+    }
+
+    @Test
+    void registerMultipleShutdownOperationsInParallelExecutionMode() throws InterruptedException {
+        shutdownHookHandler = new ShutdownHookHandler(stubRuntimeSupplier(runtime), synchronizer, PARALLEL);
+        CountDownLatch latch = new CountDownLatch(2);
+        Runnable shutdownOperation1 = spyRunnable(() -> awaitOtherOperation(latch));
+        Runnable shutdownOperation2 = spyRunnable(() -> awaitOtherOperation(latch));
+
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation1);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation2);
+        simulateShutdownHandlerInvocation();
+
+        verify(shutdownOperation1).run();
+        verify(shutdownOperation2).run();
+        assertThat(latch.getCount()).isZero();
+    }
+
+    @Test
+    @ExtendWith(SystemErrCaptor.class)
+    void registerErrorProneOperationInParallelExecutionMode(SystemErrCaptor systemErrCaptor) throws InterruptedException {
+        shutdownHookHandler = new ShutdownHookHandler(stubRuntimeSupplier(runtime), synchronizer, PARALLEL);
+        Runnable shutdownOperation1 = mock(Runnable.class);
+        Runnable shutdownOperation2 = mock(Runnable.class);
+        RuntimeException expected = stubOperationWithException(shutdownOperation2);
+
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation1);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation2);
         simulateShutdownHandlerInvocation();
 
         verify(shutdownOperation1).run();
@@ -81,14 +123,39 @@ class ShutdownHookHandlerTest {
         assertThat(systemErrCaptor.getLog()).contains(expected.getMessage());
     }
 
+    @Test
+    @ExtendWith(SystemErrCaptor.class)
+    void registerOperationThatExceedsShutdownTimeout(SystemErrCaptor systemErrCaptor) throws InterruptedException {
+        Duration shutdownTimeout = Duration.ofMillis(50);
+        shutdownHookHandler = new ShutdownHookHandler(stubRuntimeSupplier(runtime), synchronizer, PARALLEL, shutdownTimeout);
+        CountDownLatch blocker = new CountDownLatch(1);
+        Runnable shutdownOperation1 = mock(Runnable.class);
+        Runnable shutdownOperation2 = spyRunnable(() -> awaitRelease(blocker));
+
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation1);
+        shutdownHookHandler.register(EXCEEDING_IDENTIFIER, shutdownOperation2);
+        long start = System.nanoTime();
+        simulateShutdownHandlerInvocation();
+        long duration = NANOSECONDS.toMillis(System.nanoTime() - start);
+
+        verify(shutdownOperation1).run();
+        verify(shutdownOperation2).run();
+        assertThat(duration).isLessThan(SECONDS.toMillis(5));
+        assertThat(systemErrCaptor.getLog())
+            .contains(IllegalStateException.class.getName())
+            .contains(EXCEEDING_IDENTIFIER)
+            .contains(String.valueOf(shutdownTimeout.toMillis()));
+        blocker.countDown();
+    }
+
     @Test
     void registerIfShutdownIsRunning() throws InterruptedException {
         Runnable shutdownOperation1 = mock(Runnable.class);
         Runnable shutdownOperation2 = mock(Runnable.class);
-        Runnable shutdownOperation3 = spyRunnable(() -> shutdownHookHandler.register(shutdownOperation2));
+        Runnable shutdownOperation3 = spyRunnable(() -> shutdownHookHandler.register(IDENTIFIER, shutdownOperation2));
 
-        shutdownHookHandler.register(shutdownOperation1);
-        shutdownHookHandler.register(shutdownOperation3);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation1);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation3);
         simulateShutdownHandlerInvocation();
 
         verify(shutdownOperation1).run();
@@ -101,7 +168,7 @@ class ShutdownHookHandlerTest {
         stubShutdownInProgress();
         Runnable shutdownOperation = mock(Runnable.class);
 
-        Exception actual = catchException(() -> shutdownHookHandler.register(shutdownOperation));
+        Exception actual = catchException(() -> shutdownHookHandler.register(IDENTIFIER, shutdownOperation));
 
         assertThat(actual)
             .isInstanceOf(IllegalStateException.class)
@@ -113,7 +180,7 @@ class ShutdownHookHandlerTest {
         reset(synchronizer);
         Runnable shutdownOperation = mock(Runnable.class);
 
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
 
         verify(runtime, never()).addShutdownHook(shutdownHookHandler.getShutdownHookThread());
     }
@@ -122,7 +189,7 @@ class ShutdownHookHandlerTest {
     @ExtendWith(SystemErrCaptor.class)
     void runHookWithoutSynchronization(SystemErrCaptor systemErrCaptor) throws InterruptedException {
         Runnable shutdownOperation = mock(Runnable.class);
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
         reset(synchronizer);
 
         simulateShutdownHandlerInvocation();
@@ -136,7 +203,7 @@ class ShutdownHookHandlerTest {
     void deregister() throws InterruptedException {
         Runnable shutdownOperation = mock(Runnable.class);
 
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
         shutdownHookHandler.deregister(shutdownOperation);
         simulateShutdownHandlerInvocation();
 
@@ -152,9 +219,9 @@ class ShutdownHookHandlerTest {
         Runnable shutdownOperation2 = spyRunnable(() -> shutdownHookHandler.deregister(shutdownOperation1));
         Runnable shutdownOperation3 = mock(Runnable.class);
 
-        shutdownHookHandler.register(shutdownOperation1);
-        shutdownHookHandler.register(shutdownOperation2);
-        shutdownHookHandler.register(shutdownOperation3);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation1);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation2);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation3);
         simulateShutdownHandlerInvocation();
 
         verify(shutdownOperation1).run();
@@ -166,7 +233,7 @@ class ShutdownHookHandlerTest {
     void deregisterIfShutdownHookIsRunning() throws InterruptedException {
         Runnable shutdownOperation = newSelfUnregisteringOperation(shutdownHookHandler);
 
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
         simulateShutdownHandlerInvocation();
 
         verify(runtime).addShutdownHook(shutdownHookHandler.getShutdownHookThread());
@@ -176,7 +243,7 @@ class ShutdownHookHandlerTest {
     @Test
     void deregisterIfShutdownIsInProgressBeforeHandlerHasBeenExecuted() {
         Runnable shutdownOperation = mock(Runnable.class);
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
         stubShutdownInProgress();
 
         Exception actual = catchException(() -> shutdownHookHandler.deregister(shutdownOperation));
@@ -189,7 +256,7 @@ class ShutdownHookHandlerTest {
     @Test
     void deregisterIfShutdownIsInProgressAndHandlerHasBeenExecuted() throws InterruptedException {
         Runnable shutdownOperation = mock(Runnable.class);
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
         simulateShutdownHandlerInvocation();
         stubShutdownInProgress();
 
@@ -201,7 +268,7 @@ class ShutdownHookHandlerTest {
     @Test
     void deregisterWithoutSynchronization() {
         Runnable shutdownOperation = mock(Runnable.class);
-        shutdownHookHandler.register(shutdownOperation);
+        shutdownHookHandler.register(IDENTIFIER, shutdownOperation);
 
         reset(synchronizer);
         shutdownHookHandler.deregister(shutdownOperation);
@@ -211,9 +278,17 @@ class ShutdownHookHandlerTest {
         order.verifyNoMoreInteractions();
     }
 
+    @Test
+    void registerWithNullAsIdentifierArgument() {
+        Runnable shutdownOperation = mock(Runnable.class);
+
+        assertThatThrownBy(() -> shutdownHookHandler.register(null, shutdownOperation))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     void registerWithNullAsShutdownOperationArgument() {
-        assertThatThrownBy(() -> shutdownHookHandler.register(null))
+        assertThatThrownBy(() -> shutdownHookHandler.register(IDENTIFIER, null))
             .isInstanceOf(NullPointerException.class);
     }
 
@@ -223,6 +298,22 @@ class ShutdownHookHandlerTest {
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void constructWithNullAsExecutionModeArgument() {
+        RuntimeSupplier runtimeSupplier = stubRuntimeSupplier(runtime);
+
+        assertThatThrownBy(() -> new ShutdownHookHandler(runtimeSupplier, synchronizer, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsShutdownTimeoutArgument() {
+        RuntimeSupplier runtimeSupplier = stubRuntimeSupplier(runtime);
+
+        assertThatThrownBy(() -> new ShutdownHookHandler(runtimeSupplier, synchronizer, PARALLEL, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
     @Test
     void getRuntime() {
         Runtime expected = Runtime.getRuntime();
@@ -315,6 +406,27 @@ class ShutdownHookHandlerTest {
         });
     }
 
+    private static void awaitOtherOperation(CountDownLatch latch) {
+        latch.countDown();
+        try {
+            if (!latch.await(5, SECONDS)) {
+                throw new IllegalStateException("shutdown operations were not executed in parallel");
+            }
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+            throw new IllegalStateException(cause);
+        }
+    }
+
+    @SuppressWarnings("ResultOfMethodCallIgnored")
+    private static void awaitRelease(CountDownLatch blocker) {
+        try {
+            blocker.await(5, SECONDS);
+        } catch (InterruptedException cause) {
+            currentThread().interrupt();
+        }
+    }
+
     private void simulateShutdownHandlerInvocation() throws InterruptedException {
         shutdownHookHandler.getShutdownHookThread().start();
         shutdownHookHandler.getShutdownHookThread().join();
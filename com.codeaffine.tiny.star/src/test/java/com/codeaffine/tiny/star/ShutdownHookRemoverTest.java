@@ -10,9 +10,11 @@ package com.codeaffine.tiny.star;
 import com.codeaffine.tiny.star.spi.LoggingFrameworkControl;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
 
+import java.io.File;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
@@ -59,6 +61,23 @@ class ShutdownHookRemoverTest {
         verify(shutdownHookHandler, times(expectedNumberOfInvocations)).deregister(shutdownHookOperation);
     }
 
+    @Test
+    void runWithResourceCacheDirectory(@TempDir File resourceCacheDirectory) {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(resourceCacheDirectory)
+            .build();
+        stubLoggingFrameworkControlIsBlockingWorkingDirectory(true);
+        ShutdownHookRemover shutdownHookRemover = new ShutdownHookRemover(
+            applicationServer,
+            loggingFrameworkControl,
+            shutdownHookHandler,
+            shutdownHookOperationHolder);
+
+        shutdownHookRemover.run();
+
+        verify(shutdownHookHandler).deregister(shutdownHookOperation);
+    }
+
     @Test
     void constructWithNullAsApplicationServerArgument() {
         assertThatThrownBy(() -> new ShutdownHookRemover(null, loggingFrameworkControl, shutdownHookHandler, shutdownHookOperationHolder))
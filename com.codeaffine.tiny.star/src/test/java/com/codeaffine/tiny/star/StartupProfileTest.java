@@ -0,0 +1,55 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.StartupProfile.Phase;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class StartupProfileTest {
+
+    private static final Phase PHASE = new Phase("phase", 0L, 10L);
+    private static final Phase OTHER_PHASE = new Phase("other-phase", 10L, 5L);
+
+    @Test
+    void getPhase() {
+        StartupProfile profile = new StartupProfile(List.of(PHASE, OTHER_PHASE), 15L);
+
+        Optional<Phase> actual = profile.getPhase(OTHER_PHASE.getName());
+
+        assertThat(actual).contains(OTHER_PHASE);
+    }
+
+    @Test
+    void getPhaseIfUnknown() {
+        StartupProfile profile = new StartupProfile(List.of(PHASE), 10L);
+
+        Optional<Phase> actual = profile.getPhase("unknown");
+
+        assertThat(actual).isEmpty();
+    }
+
+    @Test
+    void getPhaseWithNullAsNameArgument() {
+        StartupProfile profile = new StartupProfile(List.of(PHASE), 10L);
+
+        assertThatThrownBy(() -> profile.getPhase(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsPhasesArgument() {
+        assertThatThrownBy(() -> new StartupProfile(null, 0L))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
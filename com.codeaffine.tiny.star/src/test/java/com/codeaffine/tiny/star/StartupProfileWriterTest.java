@@ -0,0 +1,89 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.StartupProfile.Phase;
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.List;
+
+import static com.codeaffine.tiny.star.StartupProfileWriter.*;
+import static com.codeaffine.tiny.star.Texts.DEBUG_STARTUP_PROFILE_WRITTEN;
+import static com.codeaffine.tiny.star.Texts.WARN_WRITING_STARTUP_PROFILE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+
+@UseLoggerSpy(StartupProfileWriter.class)
+class StartupProfileWriterTest {
+
+    private static final String IDENTIFIER = "identifier";
+    private static final StartupProfile PROFILE = new StartupProfile(List.of(new Phase("phase", 1L, 2L)), 3L);
+
+    @TempDir
+    private File directory;
+    private StartupProfileWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        writer = new StartupProfileWriter();
+    }
+
+    @Test
+    void write() throws IOException {
+        writer.write(IDENTIFIER, PROFILE, directory);
+
+        File reportFile = new File(directory, STARTUP_PROFILE_FILE_NAME);
+        JsonNode actual = new ObjectMapper().readTree(reportFile);
+        assertThat(actual.get(ATTRIBUTE_IDENTIFIER).asText()).isEqualTo(IDENTIFIER);
+        assertThat(actual.get(ATTRIBUTE_TOTAL_DURATION).asLong()).isEqualTo(3L);
+        assertThat(actual.get(ATTRIBUTE_PHASES)).hasSize(1);
+        JsonNode phase = actual.get(ATTRIBUTE_PHASES).get(0);
+        assertThat(phase.get(ATTRIBUTE_NAME).asText()).isEqualTo("phase");
+        assertThat(phase.get(ATTRIBUTE_OFFSET).asLong()).isEqualTo(1L);
+        assertThat(phase.get(ATTRIBUTE_DURATION).asLong()).isEqualTo(2L);
+        verify(logger).debug(DEBUG_STARTUP_PROFILE_WRITTEN, reportFile.getAbsolutePath());
+    }
+
+    @Test
+    void writeToNonExistingDirectory() {
+        File nonExistingDirectory = new File(directory, "non-existing");
+
+        writer.write(IDENTIFIER, PROFILE, nonExistingDirectory);
+
+        String reportFile = new File(nonExistingDirectory, STARTUP_PROFILE_FILE_NAME).getAbsolutePath();
+        verify(logger).warn(eq(WARN_WRITING_STARTUP_PROFILE), eq(reportFile), any(IOException.class));
+    }
+
+    @Test
+    void writeWithNullAsIdentifierArgument() {
+        assertThatThrownBy(() -> writer.write(null, PROFILE, directory))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void writeWithNullAsProfileArgument() {
+        assertThatThrownBy(() -> writer.write(IDENTIFIER, null, directory))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void writeWithNullAsDirectoryArgument() {
+        assertThatThrownBy(() -> writer.write(IDENTIFIER, PROFILE, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -0,0 +1,128 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.StartupProfile.Phase;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.function.Supplier;
+
+import static com.codeaffine.tiny.star.StartupProfiler.EMPTY_PROFILE;
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+class StartupProfilerTest {
+
+    private static final String PHASE = "phase";
+    private static final String OTHER_PHASE = "other-phase";
+    private static final String VALUE = "value";
+
+    private StartupProfiler profiler;
+
+    @BeforeEach
+    void setUp() {
+        profiler = new StartupProfiler();
+    }
+
+    @Test
+    void profile() {
+        Runnable operation = mock(Runnable.class);
+        profiler.startRecording();
+
+        profiler.profile(PHASE, operation);
+        profiler.profile(OTHER_PHASE, () -> {});
+        StartupProfile actual = profiler.stopRecording();
+
+        verify(operation).run();
+        assertThat(actual.getPhases())
+            .extracting(Phase::getName)
+            .containsExactly(PHASE, OTHER_PHASE);
+        assertThat(actual.getPhases())
+            .allSatisfy(phase -> assertThat(phase.getOffset()).isNotNegative())
+            .allSatisfy(phase -> assertThat(phase.getDuration()).isNotNegative());
+        assertThat(actual.getTotalDuration())
+            .isGreaterThanOrEqualTo(actual.getPhases().getLast().getOffset() + actual.getPhases().getLast().getDuration());
+    }
+
+    @Test
+    void profileWithReturnValue() {
+        profiler.startRecording();
+
+        String actual = profiler.profile(PHASE, () -> VALUE);
+
+        assertThat(actual).isEqualTo(VALUE);
+        assertThat(profiler.stopRecording().getPhase(PHASE)).isPresent();
+    }
+
+    @Test
+    void profileWithProblem() {
+        RuntimeException expected = new RuntimeException();
+        profiler.startRecording();
+
+        Exception actual = catchException(() -> profiler.profile(PHASE, () -> { throw expected; }));
+
+        assertThat(actual).isSameAs(expected);
+        assertThat(profiler.stopRecording().getPhase(PHASE)).isPresent();
+    }
+
+    @Test
+    void profileIfNotRecording() {
+        String actual = profiler.profile(PHASE, () -> VALUE);
+
+        assertThat(actual).isEqualTo(VALUE);
+        assertThat(profiler.isRecording()).isFalse();
+    }
+
+    @Test
+    void startRecordingDiscardsPreviouslyRecordedPhases() {
+        profiler.startRecording();
+        profiler.profile(PHASE, () -> {});
+        profiler.stopRecording();
+        profiler.startRecording();
+
+        profiler.profile(OTHER_PHASE, () -> {});
+        StartupProfile actual = profiler.stopRecording();
+
+        assertThat(actual.getPhases())
+            .extracting(Phase::getName)
+            .containsExactly(OTHER_PHASE);
+    }
+
+    @Test
+    void stopRecordingIfNotRecording() {
+        StartupProfile actual = profiler.stopRecording();
+
+        assertThat(actual).isSameAs(EMPTY_PROFILE);
+    }
+
+    @Test
+    void isRecording() {
+        boolean before = profiler.isRecording();
+        profiler.startRecording();
+        boolean during = profiler.isRecording();
+        profiler.stopRecording();
+        boolean after = profiler.isRecording();
+
+        assertThat(before).isFalse();
+        assertThat(during).isTrue();
+        assertThat(after).isFalse();
+    }
+
+    @Test
+    void profileWithNullAsPhaseArgument() {
+        assertThatThrownBy(() -> profiler.profile(null, () -> {}))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void profileWithNullAsOperationArgument() {
+        assertThatThrownBy(() -> profiler.profile(PHASE, (Supplier<?>) null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
@@ -26,6 +26,7 @@ class TerminatorFactoryTest {
     private static final File WORKING_DIRECTORY = new File("dir");
     private static final Server SERVER = mock(Server.class);
 
+    private ManagementBeanRegistrar managementBeanRegistrar;
     private Runnable shutdownHookRemover;
     private TerminatorFactory factory;
 
@@ -35,36 +36,43 @@ class TerminatorFactoryTest {
             .build();
         factory = new TerminatorFactory(applicationServer);
         shutdownHookRemover = mock(Runnable.class);
+        managementBeanRegistrar = mock(ManagementBeanRegistrar.class);
     }
 
     @Test
     void create() {
-        Terminator actual = factory.create(WORKING_DIRECTORY, SERVER, LOGGING_FRAMEWORK_CONTROL, shutdownHookRemover);
+        Terminator actual = factory.create(WORKING_DIRECTORY, SERVER, LOGGING_FRAMEWORK_CONTROL, shutdownHookRemover, managementBeanRegistrar);
 
         assertThat(actual).isNotNull();
     }
 
     @Test
     void createWithNullAsWorkingDirectoryArgument() {
-        assertThatThrownBy(() -> factory.create(null, SERVER, LOGGING_FRAMEWORK_CONTROL, shutdownHookRemover))
+        assertThatThrownBy(() -> factory.create(null, SERVER, LOGGING_FRAMEWORK_CONTROL, shutdownHookRemover, managementBeanRegistrar))
             .isInstanceOf(NullPointerException.class);
     }
 
     @Test
     void createWithNullAsServerArgument() {
-        assertThatThrownBy(() -> factory.create(WORKING_DIRECTORY, null, LOGGING_FRAMEWORK_CONTROL, shutdownHookRemover))
+        assertThatThrownBy(() -> factory.create(WORKING_DIRECTORY, null, LOGGING_FRAMEWORK_CONTROL, shutdownHookRemover, managementBeanRegistrar))
             .isInstanceOf(NullPointerException.class);
     }
 
     @Test
     void createWithNullAsLoggingFrameworkControlArgument() {
-        assertThatThrownBy(() -> factory.create(WORKING_DIRECTORY, SERVER, null, shutdownHookRemover))
+        assertThatThrownBy(() -> factory.create(WORKING_DIRECTORY, SERVER, null, shutdownHookRemover, managementBeanRegistrar))
             .isInstanceOf(NullPointerException.class);
     }
 
     @Test
     void createWithNullAsShutdownHookRemoverArgument() {
-        assertThatThrownBy(() -> factory.create(WORKING_DIRECTORY, SERVER, LOGGING_FRAMEWORK_CONTROL, null))
+        assertThatThrownBy(() -> factory.create(WORKING_DIRECTORY, SERVER, LOGGING_FRAMEWORK_CONTROL, null, managementBeanRegistrar))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void createWithNullAsManagementBeanRegistrarArgument() {
+        assertThatThrownBy(() -> factory.create(WORKING_DIRECTORY, SERVER, LOGGING_FRAMEWORK_CONTROL, shutdownHookRemover, null))
             .isInstanceOf(NullPointerException.class);
     }
 
@@ -29,6 +29,7 @@ class TerminatorTest {
 
     private static final String ERROR_MESSAGE = "bad";
 
+    private ManagementBeanRegistrar managementBeanRegistrar;
     private LoggingFrameworkControl loggingFrameworkControl;
     private boolean childOfDirectoryToDeleteHasBeenCreated;
     private ApplicationServer applicationServer;
@@ -45,6 +46,7 @@ class TerminatorTest {
         childOfDirectoryToDelete = new File(workingDirectory, "child");
         childOfDirectoryToDeleteHasBeenCreated = childOfDirectoryToDelete.createNewFile();
         shutDownHookRemover = mock(Runnable.class);
+        managementBeanRegistrar = mock(ManagementBeanRegistrar.class);
         applicationServer = stubApplicationServer();
     }
 
@@ -56,7 +58,7 @@ class TerminatorTest {
     @Test
     void run() {
         System.setProperty(applicationServer.getWorkingDirectorSystemProperty(), workingDirectory.getAbsolutePath());
-        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer);
+        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
 
         terminator.run();
 
@@ -67,13 +69,14 @@ class TerminatorTest {
         verify(server).stop();
         verify(loggingFrameworkControl, never()).halt();
         verify(shutDownHookRemover).run();
+        verify(applicationServer).releaseResourceCacheLock();
     }
 
     @Test
     void runIfLoggingFrameworkIsBlockingWorkingDirectory() {
         System.setProperty(applicationServer.getWorkingDirectorSystemProperty(), workingDirectory.getAbsolutePath());
         stubLoggingFrameworkToUseWorkingDirectory();
-        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer);
+        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
 
         terminator.run();
 
@@ -88,7 +91,7 @@ class TerminatorTest {
     @Test
     void runWithKeepWorkingDirectory() {
         applicationServer.deleteWorkingDirectoryOnShutdown = false;
-        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer);
+        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
 
         terminator.run();
 
@@ -104,7 +107,7 @@ class TerminatorTest {
     @ExtendWith(SystemErrCaptor.class)
     void runIfConstructorArgumentDirectoryToDeleteCannotBeDeleted(SystemErrCaptor systemErrCaptor) {
         File unDeletableFile = fakeFileThatCannotBeDeleted();
-        Terminator terminator = new Terminator(unDeletableFile, server, loggingFrameworkControl, shutDownHookRemover, applicationServer);
+        Terminator terminator = new Terminator(unDeletableFile, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
 
         Exception actual = catchException(terminator::run);
 
@@ -117,7 +120,7 @@ class TerminatorTest {
     @Test
     void runOnShutdownHook() {
         AtomicBoolean directoryExistenceOnPreprocessorExecution = captorWorkingDirectoryExistenceOnLoggingFrameworkControlHalt();
-        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer);
+        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
         terminator.setShutdownHookExecution(true);
 
         terminator.run();
@@ -136,7 +139,7 @@ class TerminatorTest {
     @ExtendWith(SystemErrCaptor.class)
     void runOnShutdownHookWithLoggingFrameworkControlErrorOnHalt(SystemErrCaptor systemErrCaptor) {
         stubLoggingFrameworkControlWithErrorOnHalt();
-        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer);
+        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
         terminator.setShutdownHookExecution(true);
 
         terminator.run();
@@ -149,7 +152,7 @@ class TerminatorTest {
     void deleteWorkingDirectory() {
         System.setProperty(applicationServer.getWorkingDirectorSystemProperty(), workingDirectory.getAbsolutePath());
         AtomicBoolean directoryExistenceOnPreprocessorExecution = captorWorkingDirectoryExistenceOnLoggingFrameworkControlHalt();
-        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer);
+        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
         terminator.setShutdownHookExecution(true);
 
         terminator.deleteWorkingDirectory();
@@ -162,24 +165,117 @@ class TerminatorTest {
         verify(server, never()).stop();
     }
 
+    @Test
+    void runWithResourceCache() {
+        when(applicationServer.isUsingResourceCache()).thenReturn(true);
+        Terminator terminator = new Terminator(workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar);
+
+        terminator.run();
+
+        assertThat(childOfDirectoryToDelete).exists();
+        assertThat(workingDirectory).exists();
+        verify(server).stop();
+    }
+
+    @Test
+    void runWithBackgroundWorkingDirectoryDeletion() {
+        applicationServer.backgroundWorkingDirectoryDeletion = true;
+        WorkingDirectoryCleaner workingDirectoryCleaner = mock(WorkingDirectoryCleaner.class);
+        Terminator terminator = new Terminator(
+            workingDirectory,
+            server,
+            loggingFrameworkControl,
+            shutDownHookRemover,
+            applicationServer,
+            workingDirectoryCleaner,
+            mock(ManagementBeanRegistrar.class)
+        );
+
+        terminator.run();
+
+        InOrder order = inOrder(server, workingDirectoryCleaner);
+        order.verify(server).stop();
+        order.verify(workingDirectoryCleaner).delete(workingDirectory);
+        assertThat(workingDirectory).exists();
+    }
+
+    @Test
+    void runOnShutdownHookWithBackgroundWorkingDirectoryDeletion() {
+        applicationServer.backgroundWorkingDirectoryDeletion = true;
+        WorkingDirectoryCleaner workingDirectoryCleaner = mock(WorkingDirectoryCleaner.class);
+        Terminator terminator = new Terminator(
+            workingDirectory,
+            server,
+            loggingFrameworkControl,
+            shutDownHookRemover,
+            applicationServer,
+            workingDirectoryCleaner,
+            mock(ManagementBeanRegistrar.class)
+        );
+        terminator.setShutdownHookExecution(true);
+
+        terminator.run();
+
+        InOrder order = inOrder(server, loggingFrameworkControl, workingDirectoryCleaner);
+        order.verify(server).stop();
+        order.verify(loggingFrameworkControl).halt();
+        order.verify(workingDirectoryCleaner).deleteAwaitingTermination(workingDirectory);
+        verify(workingDirectoryCleaner, never()).delete(workingDirectory);
+    }
+
+    @Test
+    void runUnregistersManagementBean() {
+        Terminator terminator = new Terminator(
+            workingDirectory,
+            server,
+            loggingFrameworkControl,
+            shutDownHookRemover,
+            applicationServer,
+            mock(WorkingDirectoryCleaner.class),
+            managementBeanRegistrar
+        );
+
+        terminator.run();
+
+        InOrder order = inOrder(server, managementBeanRegistrar);
+        order.verify(managementBeanRegistrar).unregister();
+        order.verify(server).stop();
+    }
+
     @Test
     void constructWithNullAsApplicationWorkingDirectoryArgument() {
-        assertThatThrownBy(() -> new Terminator(null, server, loggingFrameworkControl, shutDownHookRemover, applicationServer))
+        assertThatThrownBy(() -> new Terminator(null, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar))
             .isInstanceOf(NullPointerException.class);
     }
 
     @Test
     void constructWithNullAsServerArgument() {
-        assertThatThrownBy(() -> new Terminator(workingDirectory, null, loggingFrameworkControl, shutDownHookRemover, applicationServer))
+        assertThatThrownBy(() -> new Terminator(workingDirectory, null, loggingFrameworkControl, shutDownHookRemover, applicationServer, managementBeanRegistrar))
             .isInstanceOf(NullPointerException.class);
     }
 
     @Test
     void constructWithNullAsDeleteWorkingDirectoryOnProcessShutdownPreprocessorsArgument() {
-        assertThatThrownBy(() -> new Terminator(workingDirectory, server, null, shutDownHookRemover, applicationServer))
+        assertThatThrownBy(() -> new Terminator(workingDirectory, server, null, shutDownHookRemover, applicationServer, managementBeanRegistrar))
             .isInstanceOf(NullPointerException.class);
     }
 
+    @Test
+    void constructWithNullAsWorkingDirectoryCleanerArgument() {
+        assertThatThrownBy(() -> new Terminator(
+            workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, null, managementBeanRegistrar)
+        ).isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsManagementBeanRegistrarArgument() {
+        WorkingDirectoryCleaner workingDirectoryCleaner = mock(WorkingDirectoryCleaner.class);
+
+        assertThatThrownBy(() -> new Terminator(
+            workingDirectory, server, loggingFrameworkControl, shutDownHookRemover, applicationServer, workingDirectoryCleaner, null)
+        ).isInstanceOf(NullPointerException.class);
+    }
+
     private void stubLoggingFrameworkToUseWorkingDirectory() {
         when(loggingFrameworkControl.isBlockingWorkingDirectory()).thenReturn(true);
     }
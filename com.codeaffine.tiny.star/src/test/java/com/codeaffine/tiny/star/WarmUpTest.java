@@ -0,0 +1,189 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.star.spi.SecureSocketLayerConfiguration;
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.URL;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.List;
+import java.util.function.Supplier;
+
+import static com.codeaffine.tiny.star.Texts.*;
+import static com.codeaffine.tiny.star.WarmUp.*;
+import static java.lang.Thread.currentThread;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentCaptor.forClass;
+import static org.mockito.Mockito.*;
+
+@UseLoggerSpy(WarmUp.class)
+class WarmUpTest {
+
+    private static final String APPLICATION_IDENTIFIER = "application:identifier";
+    private static final String URL_1 = "http://localhost:4711/ep1";
+    private static final String URL_2 = "http://localhost:4711/ep2";
+    private static final int WARM_UP_REQUESTS = 2;
+    private static final int REQUESTS_PER_SESSION = 3 + PROTOCOL_ROUND_TRIPS;
+    private static final String CONNECTION_ID = "7f3a";
+    private static final String INITIALIZE_RESPONSE = "{\"head\":{\"cid\":\"" + CONNECTION_ID + "\"},\"operations\":[]}";
+
+    private ApplicationServer applicationServer;
+    private Supplier<HttpClient> httpClientFactory;
+    private HttpResponse<?> response;
+    private HttpClient httpClient;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        applicationServer = mock(ApplicationServer.class);
+        when(applicationServer.getUrls()).thenReturn(new URL[] { URI.create(URL_1).toURL(), URI.create(URL_2).toURL() });
+        applicationServer.warmUpRequests = WARM_UP_REQUESTS;
+        response = mock(HttpResponse.class);
+        when(response.statusCode()).thenReturn(200);
+        doReturn(INITIALIZE_RESPONSE).when(response).body();
+        httpClient = mock(HttpClient.class);
+        doReturn(response).when(httpClient).send(any(HttpRequest.class), any());
+        httpClientFactory = mock(Supplier.class);
+        when(httpClientFactory.get()).thenReturn(httpClient);
+    }
+
+    @AfterEach
+    void tearDown() {
+        Thread.interrupted(); // reset interrupted flag of tests that interrupt the warm-up
+    }
+
+    @Test
+    void run() throws Exception {
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        ArgumentCaptor<HttpRequest> requestCaptor = forClass(HttpRequest.class);
+        verify(httpClientFactory, times(2 * WARM_UP_REQUESTS)).get();
+        verify(httpClient, times(2 * WARM_UP_REQUESTS)).close();
+        verify(httpClient, times(2 * WARM_UP_REQUESTS * REQUESTS_PER_SESSION)).send(requestCaptor.capture(), any());
+        List<HttpRequest> sessionRequests = requestCaptor.getAllValues().subList(0, REQUESTS_PER_SESSION);
+        assertThat(sessionRequests)
+            .extracting(HttpRequest::method)
+            .containsExactly("GET", "POST", "POST", "POST", "POST", "POST");
+        assertThat(sessionRequests.subList(0, 2))
+            .allMatch(request -> request.uri().toString().equals(URL_1));
+        assertThat(sessionRequests.subList(2, REQUESTS_PER_SESSION))
+            .allMatch(request -> request.uri().toString().equals(URL_1 + "?" + CONNECTION_ID_PARAMETER + CONNECTION_ID));
+        assertThat(sessionRequests.get(1).headers().firstValue(HEADER_CONTENT_TYPE)).hasValue(CONTENT_TYPE_JSON);
+        assertThat(requestCaptor.getAllValues().get(2 * WARM_UP_REQUESTS * REQUESTS_PER_SESSION - 1).uri().toString())
+            .isEqualTo(URL_2 + "?" + CONNECTION_ID_PARAMETER + CONNECTION_ID);
+        verify(logger).debug(eq(DEBUG_WARM_UP), eq(WARM_UP_REQUESTS), eq(2), anyLong());
+    }
+
+    @Test
+    void runWithErrorResponseOnStartupPage() throws Exception {
+        when(response.statusCode()).thenReturn(500);
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        verify(httpClient, times(2 * WARM_UP_REQUESTS)).send(any(HttpRequest.class), any());
+        verify(logger, times(2 * WARM_UP_REQUESTS)).warn(eq(WARN_WARM_UP_RESPONSE), eq("GET"), any(), eq(500));
+    }
+
+    @Test
+    void runWithoutConnectionIdInInitializeResponse() throws Exception {
+        doReturn("{\"head\":{},\"operations\":[]}").when(response).body();
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        verify(httpClient, times(2 * WARM_UP_REQUESTS * 2)).send(any(HttpRequest.class), any());
+        verify(logger, times(WARM_UP_REQUESTS)).warn(WARN_WARM_UP_CONNECTION_ID, URI.create(URL_1).toURL());
+        verify(logger, times(WARM_UP_REQUESTS)).warn(WARN_WARM_UP_CONNECTION_ID, URI.create(URL_2).toURL());
+    }
+
+    @Test
+    void runWithErrorResponseOnRoundTrip() throws Exception {
+        HttpResponse<?> errorResponse = mock(HttpResponse.class);
+        when(errorResponse.statusCode()).thenReturn(400);
+        doReturn(response, response, errorResponse, response).when(httpClient).send(any(HttpRequest.class), any());
+        applicationServer.warmUpRequests = 1;
+        when(applicationServer.getUrls()).thenReturn(new URL[] { URI.create(URL_1).toURL() });
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        ArgumentCaptor<HttpRequest> requestCaptor = forClass(HttpRequest.class);
+        verify(httpClient, times(4)).send(requestCaptor.capture(), any());
+        assertThat(requestCaptor.getAllValues().get(3).uri().toString()).isEqualTo(URL_1 + "?" + CONNECTION_ID_PARAMETER + CONNECTION_ID);
+    }
+
+    @Test
+    void runWithProblemOnSendingRequest() throws Exception {
+        IOException problem = new IOException();
+        doThrow(problem).when(httpClient).send(any(HttpRequest.class), any());
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        verify(httpClient, times(2 * WARM_UP_REQUESTS)).send(any(HttpRequest.class), any());
+        verify(logger, times(2 * WARM_UP_REQUESTS)).warn(eq(WARN_WARM_UP_REQUEST), eq("GET"), any(), eq(problem));
+    }
+
+    @Test
+    void runWithInterruptionOnSendingRequest() throws Exception {
+        doThrow(new InterruptedException()).when(httpClient).send(any(HttpRequest.class), any());
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        assertThat(currentThread().isInterrupted()).isTrue();
+        verify(httpClient).send(any(HttpRequest.class), any());
+    }
+
+    @Test
+    void runWithSecureSocketLayer() {
+        applicationServer.secureSocketLayerConfiguration = mock(SecureSocketLayerConfiguration.class);
+        when(applicationServer.getIdentifier()).thenReturn(APPLICATION_IDENTIFIER);
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        verifyNoInteractions(httpClientFactory);
+        verify(logger).info(INFO_WARM_UP_SKIPPED, APPLICATION_IDENTIFIER);
+    }
+
+    @Test
+    void runWithoutWarmUpRequests() {
+        applicationServer.warmUpRequests = 0;
+        WarmUp warmUp = new WarmUp(applicationServer, httpClientFactory);
+
+        warmUp.run();
+
+        verifyNoInteractions(httpClientFactory);
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new WarmUp(null, httpClientFactory))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsHttpClientFactoryArgument() {
+        assertThatThrownBy(() -> new WarmUp(applicationServer, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+}
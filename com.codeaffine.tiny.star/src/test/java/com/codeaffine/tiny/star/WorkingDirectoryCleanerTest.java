@@ -0,0 +1,203 @@
+/**
+ * <p>Copyright (c) 2022-2024 CA Code Affine GmbH (<a href="https://codeaffine.com">codeaffine.com</a>)</p>
+ * <p>All rights reserved. This program and the accompanying materials
+ * are made available under the terms of the Eclipse Public License v2.0
+ * which accompanies this distribution, and is available at
+ * <a href="https://www.eclipse.org/legal/epl-v20.html">https://www.eclipse.org/legal/epl-v20.html</a></p>
+ */
+package com.codeaffine.tiny.star;
+
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+
+import static com.codeaffine.tiny.star.Texts.DEBUG_SWEEPING_ORPHANED_TOMBSTONES;
+import static com.codeaffine.tiny.star.WorkingDirectoryCleaner.FILES_PER_DELETION_TASK;
+import static com.codeaffine.tiny.star.WorkingDirectoryCleaner.TOMBSTONE_MARKER;
+import static com.codeaffine.tiny.star.WorkingDirectoryCleaner.logger;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@UseLoggerSpy(WorkingDirectoryCleaner.class)
+class WorkingDirectoryCleanerTest {
+
+    private static final String IDENTIFIER = "tiny/application";
+    private static final String ENCODED_IDENTIFIER = "tiny_application";
+
+    @TempDir
+    private File parentDirectory;
+    private File workingDirectory;
+    private List<Runnable> scheduledTasks;
+    private ApplicationServer applicationServer;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        workingDirectory = new File(parentDirectory, "working-directory");
+        File nested = new File(workingDirectory, "nested");
+        assertThat(nested.mkdirs()).isTrue();
+        assertThat(new File(workingDirectory, "child").createNewFile()).isTrue();
+        assertThat(new File(nested, "grand-child").createNewFile()).isTrue();
+        scheduledTasks = new ArrayList<>();
+        applicationServer = mock(ApplicationServer.class);
+        when(applicationServer.getIdentifier()).thenReturn(IDENTIFIER);
+    }
+
+    @Test
+    void delete() {
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, Runnable::run);
+
+        cleaner.delete(workingDirectory);
+
+        assertThat(workingDirectory).doesNotExist();
+        assertThat(parentDirectory.list()).isEmpty();
+    }
+
+    @Test
+    void deleteRenamesWorkingDirectoryToTombstoneBeforeBackgroundDeletion() {
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, scheduledTasks::add);
+
+        cleaner.delete(workingDirectory);
+        String[] tombstonesBeforeBackgroundDeletion = parentDirectory.list();
+        scheduledTasks.forEach(Runnable::run);
+
+        assertThat(workingDirectory).doesNotExist();
+        assertThat(tombstonesBeforeBackgroundDeletion)
+            .hasSize(1)
+            .allMatch(name -> name.startsWith("." + ENCODED_IDENTIFIER + TOMBSTONE_MARKER));
+        assertThat(scheduledTasks).hasSize(1);
+        assertThat(parentDirectory.list()).isEmpty();
+    }
+
+    @Test
+    void deleteWithManyNestedFiles() throws IOException {
+        createNestedFiles(FILES_PER_DELETION_TASK * 3);
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, Runnable::run);
+
+        cleaner.delete(workingDirectory);
+
+        assertThat(workingDirectory).doesNotExist();
+        assertThat(parentDirectory.list()).isEmpty();
+    }
+
+    @Test
+    void deleteAwaitingTermination() throws IOException {
+        createNestedFiles(FILES_PER_DELETION_TASK * 3);
+        Executor executor = mock(Executor.class);
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, executor);
+
+        cleaner.deleteAwaitingTermination(workingDirectory);
+
+        assertThat(workingDirectory).doesNotExist();
+        assertThat(parentDirectory.list()).isEmpty();
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void deleteAwaitingTerminationOfNonExistingWorkingDirectory() {
+        File nonExistingWorkingDirectory = new File(parentDirectory, "does-not-exist");
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, Runnable::run);
+
+        cleaner.deleteAwaitingTermination(nonExistingWorkingDirectory);
+
+        assertThat(nonExistingWorkingDirectory).doesNotExist();
+        assertThat(workingDirectory).exists();
+    }
+
+    @Test
+    void deleteNonExistingWorkingDirectory() {
+        Executor executor = mock(Executor.class);
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, executor);
+
+        cleaner.delete(new File(parentDirectory, "does-not-exist"));
+
+        verifyNoInteractions(executor);
+    }
+
+    @Test
+    void sweepOrphanedTombstones() {
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, Runnable::run);
+        File orphan = new File(parentDirectory, cleaner.getTombstonePrefix() + "orphan");
+        File foreignTombstone = new File(parentDirectory, ".other" + TOMBSTONE_MARKER + "orphan");
+        assertThat(new File(orphan, "nested").mkdirs()).isTrue();
+        assertThat(foreignTombstone.mkdirs()).isTrue();
+
+        cleaner.sweepOrphanedTombstones(workingDirectory);
+
+        assertThat(orphan).doesNotExist();
+        assertThat(foreignTombstone).exists();
+        assertThat(workingDirectory).exists();
+        verify(logger).debug(DEBUG_SWEEPING_ORPHANED_TOMBSTONES, 1, parentDirectory.getAbsoluteFile());
+    }
+
+    @Test
+    void sweepOrphanedTombstonesWithoutOrphans() {
+        Executor executor = mock(Executor.class);
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, executor);
+
+        cleaner.sweepOrphanedTombstones(workingDirectory);
+
+        assertThat(workingDirectory).exists();
+        verifyNoInteractions(executor, logger);
+    }
+
+    @Test
+    void getTombstonePrefix() {
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer);
+
+        String actual = cleaner.getTombstonePrefix();
+
+        assertThat(actual).isEqualTo("." + ENCODED_IDENTIFIER + TOMBSTONE_MARKER);
+    }
+
+    @Test
+    void deleteWithNullAsWorkingDirectoryArgument() {
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, Runnable::run);
+
+        assertThatThrownBy(() -> cleaner.delete(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void deleteAwaitingTerminationWithNullAsWorkingDirectoryArgument() {
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, Runnable::run);
+
+        assertThatThrownBy(() -> cleaner.deleteAwaitingTermination(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void sweepOrphanedTombstonesWithNullAsWorkingDirectoryArgument() {
+        WorkingDirectoryCleaner cleaner = new WorkingDirectoryCleaner(applicationServer, Runnable::run);
+
+        assertThatThrownBy(() -> cleaner.sweepOrphanedTombstones(null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsApplicationServerArgument() {
+        assertThatThrownBy(() -> new WorkingDirectoryCleaner(null, Runnable::run))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    @Test
+    void constructWithNullAsExecutorArgument() {
+        assertThatThrownBy(() -> new WorkingDirectoryCleaner(applicationServer, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private void createNestedFiles(int count) throws IOException {
+        File resources = new File(workingDirectory, "rwt-resources");
+        assertThat(resources.mkdirs()).isTrue();
+        for (int index = 0; index < count; index++) {
+            assertThat(new File(resources, "resource-" + index).createNewFile()).isTrue();
+        }
+    }
+}
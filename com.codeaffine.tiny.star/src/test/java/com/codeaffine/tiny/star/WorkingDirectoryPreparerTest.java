@@ -7,6 +7,7 @@
  */
 package com.codeaffine.tiny.star;
 
+import com.codeaffine.tiny.test.test.fixtures.logging.UseLoggerSpy;
 import org.eclipse.rap.rwt.application.ApplicationConfiguration;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
@@ -18,10 +19,22 @@ import java.io.IOException;
 
 import static com.codeaffine.tiny.shared.IoUtils.deleteDirectory;
 import static com.codeaffine.tiny.star.ApplicationServer.newApplicationServerBuilder;
+import static com.codeaffine.tiny.star.ResourceCacheKey.computeResourceCacheKey;
+import static com.codeaffine.tiny.star.Texts.DEBUG_CREATING_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.DEBUG_MEMORY_BACKED_WORKING_DIRECTORY;
+import static com.codeaffine.tiny.star.Texts.DEBUG_PRUNING_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.DEBUG_RESOURCE_CACHE_IN_USE;
+import static com.codeaffine.tiny.star.Texts.DEBUG_REUSING_RESOURCE_CACHE;
+import static com.codeaffine.tiny.star.Texts.WARN_SHARED_MEMORY_DIRECTORY_NOT_AVAILABLE;
+import static com.codeaffine.tiny.star.WorkingDirectoryPreparer.SLOT_SEPARATOR;
+import static com.codeaffine.tiny.star.WorkingDirectoryPreparer.logger;
 import static java.util.Objects.nonNull;
 import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(ApplicationServerTestContext.class)
+@UseLoggerSpy(WorkingDirectoryPreparer.class)
 class WorkingDirectoryPreparerTest {
 
     public static final String NON_EXISTING_FILE_NAME = "does-not-exist";
@@ -53,6 +66,186 @@ class WorkingDirectoryPreparerTest {
             .doesNotEndWith(applicationServer.getIdentifier().replaceAll(WorkingDirectoryPreparer.ILLEGAL_FILENAME_CHARACTERS, "_"));
     }
 
+    @Test
+    void prepareWorkingDirectoryWithMemoryBackedWorkingDirectory() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .enableMemoryBackedWorkingDirectory()
+            .build();
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer, tempDirectory);
+
+        workingDirectory = preparer.prepareWorkingDirectory();
+
+        assertThat(workingDirectory)
+            .exists()
+            .hasParent(tempDirectory);
+        assertThat(System.getProperty(applicationServer.getWorkingDirectorSystemProperty()))
+            .isEqualTo(workingDirectory.getAbsolutePath());
+        verify(logger).debug(DEBUG_MEMORY_BACKED_WORKING_DIRECTORY, workingDirectory);
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithMemoryBackedWorkingDirectoryIfSharedMemoryIsNotAvailable() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .enableMemoryBackedWorkingDirectory()
+            .build();
+        File sharedMemoryDirectory = new File(tempDirectory, NON_EXISTING_FILE_NAME);
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer, sharedMemoryDirectory);
+
+        workingDirectory = preparer.prepareWorkingDirectory();
+
+        assertThat(workingDirectory)
+            .exists()
+            .hasParent(new File(System.getProperty("java.io.tmpdir")));
+        verify(logger).warn(WARN_SHARED_MEMORY_DIRECTORY_NOT_AVAILABLE, sharedMemoryDirectory);
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithMemoryBackedWorkingDirectoryAndWorkingDirectorySetting() {
+        workingDirectory = tempDirectory;
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withWorkingDirectory(tempDirectory)
+            .enableMemoryBackedWorkingDirectory()
+            .build();
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer, new File(tempDirectory, NON_EXISTING_FILE_NAME));
+
+        File actual = preparer.prepareWorkingDirectory();
+
+        assertThat(actual).isEqualTo(tempDirectory);
+        verifyNoInteractions(logger);
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithResourceCacheDirectory() {
+        File resourceCacheDirectory = new File(tempDirectory, "cache");
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(resourceCacheDirectory)
+            .build();
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer);
+
+        File actual = preparer.prepareWorkingDirectory();
+
+        assertThat(actual)
+            .exists()
+            .isDirectory()
+            .hasParent(resourceCacheDirectory)
+            .hasName(computeResourceCacheKey(applicationServer));
+        assertThat(System.getProperty(applicationServer.getWorkingDirectorSystemProperty()))
+            .isEqualTo(actual.getAbsolutePath());
+        verify(logger).debug(DEBUG_CREATING_RESOURCE_CACHE, actual);
+        applicationServer.releaseResourceCacheLock();
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithExistingResourceCacheDirectory() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(tempDirectory)
+            .build();
+        File expected = new File(tempDirectory, computeResourceCacheKey(applicationServer));
+        boolean created = expected.mkdirs();
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer);
+
+        File actual = preparer.prepareWorkingDirectory();
+
+        assertThat(created).isTrue();
+        assertThat(actual).isEqualTo(expected);
+        verify(logger).debug(DEBUG_REUSING_RESOURCE_CACHE, actual);
+        applicationServer.releaseResourceCacheLock();
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithResourceCacheDirectoryInUse() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(tempDirectory)
+            .build();
+        File inUse = new File(tempDirectory, computeResourceCacheKey(applicationServer));
+        boolean created = inUse.mkdirs();
+        ResourceCacheLock otherInstanceLock = ResourceCacheLock.tryAcquire(inUse);
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer);
+
+        File actual = preparer.prepareWorkingDirectory();
+
+        assertThat(created).isTrue();
+        assertThat(actual)
+            .isDirectory()
+            .hasName(computeResourceCacheKey(applicationServer) + SLOT_SEPARATOR + 1);
+        verify(logger).debug(DEBUG_RESOURCE_CACHE_IN_USE, inUse);
+        verify(logger).debug(DEBUG_CREATING_RESOURCE_CACHE, actual);
+        applicationServer.releaseResourceCacheLock();
+        otherInstanceLock.release();
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithResourceCacheDirectoryMoreThanOnce() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(tempDirectory)
+            .build();
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer);
+        File first = preparer.prepareWorkingDirectory();
+
+        File actual = preparer.prepareWorkingDirectory();
+
+        assertThat(actual).isEqualTo(first);
+        applicationServer.releaseResourceCacheLock();
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithStaleResourceCacheDirectories() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(tempDirectory)
+            .build();
+        File stale = createResourceCacheDirectory("stale", applicationServer.getIdentifier());
+        File foreign = createResourceCacheDirectory("foreign", "other");
+        File unlocked = new File(tempDirectory, "unlocked");
+        boolean created = unlocked.mkdirs();
+        File inUse = createResourceCacheDirectory("in-use", applicationServer.getIdentifier());
+        ResourceCacheLock otherInstanceLock = ResourceCacheLock.tryAcquire(inUse);
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer);
+
+        File actual = preparer.prepareWorkingDirectory();
+
+        assertThat(created).isTrue();
+        assertThat(actual).isDirectory();
+        assertThat(stale).doesNotExist();
+        assertThat(foreign).isDirectory();
+        assertThat(unlocked).isDirectory();
+        assertThat(inUse).isDirectory();
+        verify(logger).debug(DEBUG_PRUNING_RESOURCE_CACHE, stale);
+        applicationServer.releaseResourceCacheLock();
+        otherInstanceLock.release();
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithResourceCacheDirectoryThatCannotBeCreated() throws IOException {
+        File file = new File(tempDirectory, NON_EXISTING_FILE_NAME);
+        boolean created = file.createNewFile();
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withResourceCacheDirectory(file)
+            .build();
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer);
+
+        Exception actual = catchException(preparer::prepareWorkingDirectory);
+
+        assertThat(created).isTrue();
+        assertThat(actual)
+            .isInstanceOf(IllegalArgumentException.class)
+            .hasMessageContaining(NON_EXISTING_FILE_NAME);
+    }
+
+    @Test
+    void prepareWorkingDirectoryWithResourceCacheDirectoryAndWorkingDirectorySetting() {
+        workingDirectory = tempDirectory;
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
+            .withWorkingDirectory(tempDirectory)
+            .withResourceCacheDirectory(new File(tempDirectory, "cache"))
+            .build();
+        WorkingDirectoryPreparer preparer = new WorkingDirectoryPreparer(applicationServer);
+
+        File actual = preparer.prepareWorkingDirectory();
+
+        assertThat(actual).isEqualTo(tempDirectory);
+        assertThat(new File(tempDirectory, "cache")).doesNotExist();
+    }
+
     @Test
     void prepareWorkingDirectoryWithWorkingDirectorySettingThatDoesNotExist() {
         ApplicationServer applicationServer = newApplicationServerBuilder(application -> {})
@@ -94,4 +287,21 @@ class WorkingDirectoryPreparerTest {
         assertThatThrownBy(() -> new WorkingDirectoryPreparer(null))
             .isInstanceOf(NullPointerException.class);
     }
+
+    @Test
+    void constructWithNullAsSharedMemoryDirectoryArgument() {
+        ApplicationServer applicationServer = newApplicationServerBuilder(application -> {}).build();
+
+        assertThatThrownBy(() -> new WorkingDirectoryPreparer(applicationServer, null))
+            .isInstanceOf(NullPointerException.class);
+    }
+
+    private File createResourceCacheDirectory(String name, String owner) {
+        File result = new File(tempDirectory, name);
+        assertThat(result.mkdirs()).isTrue();
+        ResourceCacheLock lock = ResourceCacheLock.tryAcquire(result);
+        lock.writeOwner(owner);
+        lock.release();
+        return result;
+    }
 }
@@ -144,4 +144,66 @@ public class ServerConfigurationAssert extends AbstractAssert<ServerConfiguratio
 
         return this;
     }
+
+    public ServerConfigurationAssert hasVirtualThreadsEnabled(boolean virtualThreadsEnabled) {
+        isNotNull();
+
+        if (actual.isVirtualThreadsEnabled() != virtualThreadsEnabled) {
+            failWithMessage("Expected virtual threads enabled to be <%s> but was <%s>", virtualThreadsEnabled, actual.isVirtualThreadsEnabled());
+        }
+
+        return this;
+    }
+
+    public ServerConfigurationAssert hasHttp2Enabled(boolean http2Enabled) {
+        isNotNull();
+
+        if (actual.isHttp2Enabled() != http2Enabled) {
+            failWithMessage("Expected http2 enabled to be <%s> but was <%s>", http2Enabled, actual.isHttp2Enabled());
+        }
+
+        return this;
+    }
+
+    public ServerConfigurationAssert hasResourceCacheSize(int resourceCacheSize) {
+        isNotNull();
+
+        if (actual.getResourceCacheSize() != resourceCacheSize) {
+            failWithMessage("Expected resource cache size to be <%s> but was <%s>", resourceCacheSize, actual.getResourceCacheSize());
+        }
+
+        return this;
+    }
+
+    public ServerConfigurationAssert hasResourcePrecompressionEnabled(boolean resourcePrecompressionEnabled) {
+        isNotNull();
+
+        if (actual.isResourcePrecompressionEnabled() != resourcePrecompressionEnabled) {
+            failWithMessage("Expected resource precompression enabled to be <%s> but was <%s>",
+                resourcePrecompressionEnabled,
+                actual.isResourcePrecompressionEnabled());
+        }
+
+        return this;
+    }
+
+    public ServerConfigurationAssert hasHealthCheckInstanceOf(Class<? extends HealthCheck> expectedType) {
+        isNotNull();
+
+        if (!expectedType.isInstance(actual.getHealthCheck())) {
+            failWithMessage("Expected health check to be instance of <%s> but was <%s>", expectedType.getName(), actual.getHealthCheck());
+        }
+
+        return this;
+    }
+
+    public ServerConfigurationAssert hasNoHealthCheck() {
+        isNotNull();
+
+        if (actual.getHealthCheck() != null) {
+            failWithMessage("Expected health check to be <null> but was <%s>", actual.getHealthCheck());
+        }
+
+        return this;
+    }
 }
@@ -139,6 +139,28 @@ public interface ApplicationServerCompatibilityContractTest {
         context.verifyServerTrustCheckInvocation(actual1, actual2);
     }
 
+    @RequestApplicationServer
+    default void warmUpWithSimulatedUserSessions() {
+        ResponseStatusRecorder responseStatusRecorder = new ResponseStatusRecorder();
+        ApplicationServer applicationServer = newApplicationServerBuilder(
+                application -> application.addEntryPoint(ENTRY_POINT_PATH, () -> new TestEntryPoint(WARM_UP_TRACKING_ID), null),
+                WARM_UP_TRACKING_ID
+            )
+            .withWarmUpRequests(WARM_UP_REQUESTS)
+            .withFilterDefinition(of(responseStatusRecorder, ENTRY_POINT_PATH))
+            .build();
+
+        applicationServer.start();
+        awaitState(applicationServer, RUNNING);
+        applicationServer.stop();
+        awaitState(applicationServer, HALTED);
+
+        assertThat(responseStatusRecorder.getStatuses())
+            .describedAs("Every warm-up request was expected to succeed.")
+            .hasSize(WARM_UP_REQUESTS * WARM_UP_REQUESTS_PER_SESSION)
+            .allMatch(status -> status >= 200 && status < 300);
+    }
+
     @RequestApplicationServer
     default void requestStaticResources(ApplicationServerContractContext context) {
         ApplicationServer applicationServer = context.getApplicationServer();
@@ -38,6 +38,10 @@ class ApplicationServerCompatibilityContractUtil {
     static final String SCRIPT_REGISTRATION = format("<script type=\"text/javascript\" src=\"%s\"", CLIENT_JS_PATH);
     static final long MAX_RETRY_DURATION = RETRIES * MILLIS_BETWEEN_RETRIES / 1000;
     static final String PATH_SEPARATOR = "/";
+    static final String WARM_UP_TRACKING_ID = "warm-up";
+    static final int WARM_UP_REQUESTS = 2;
+    // startup page, UI session initialization, three protocol round-trips and UI session shutdown
+    static final int WARM_UP_REQUESTS_PER_SESSION = 6;
 
     static void awaitState(ApplicationServer applicationServer, State expectedState) {
         awaitState(applicationServer, expectedState, RETRIES, MILLIS_BETWEEN_RETRIES);